@@ -0,0 +1,69 @@
+package com.algorithmcomparison.benchmark;
+
+/**
+ * The original Trie layout, kept only as a baseline for TrieLayoutBenchmark.
+ *
+ * Every node owns a TrieNode[128] child array and characters at or above 128
+ * share the last slot, exactly as TrieSearch did before TrieIndex became a
+ * radix tree. Metrics are left out so that only the layout is compared.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+final class ArrayTrieBaseline {
+
+    // Object header + children reference + boolean + int, and the 128-slot
+    // reference array, assuming compressed oops
+    private static final long BYTES_PER_NODE = 24 + (16 + 128 * 4);
+
+    private static class TrieNode {
+        final TrieNode[] children = new TrieNode[128];
+        boolean isEndOfWord;
+        int firstIndex = -1;
+    }
+
+    private final TrieNode root = new TrieNode();
+    private int nodeCount = 1;
+
+    static ArrayTrieBaseline build(String[] array) {
+        ArrayTrieBaseline trie = new ArrayTrieBaseline();
+        for (int i = 0; i < array.length; i++) {
+            String word = array[i];
+            if (word == null) continue;
+
+            TrieNode current = trie.root;
+            for (int j = 0; j < word.length(); j++) {
+                int index = slot(word.charAt(j));
+                if (current.children[index] == null) {
+                    current.children[index] = new TrieNode();
+                    trie.nodeCount++;
+                }
+                current = current.children[index];
+            }
+            current.isEndOfWord = true;
+            if (current.firstIndex == -1) {
+                current.firstIndex = i;
+            }
+        }
+        return trie;
+    }
+
+    int find(String target) {
+        TrieNode current = root;
+        for (int i = 0; i < target.length(); i++) {
+            current = current.children[slot(target.charAt(i))];
+            if (current == null) {
+                return -1;
+            }
+        }
+        return current.isEndOfWord ? current.firstIndex : -1;
+    }
+
+    long getMemoryFootprintBytes() {
+        return nodeCount * BYTES_PER_NODE;
+    }
+
+    private static int slot(char ch) {
+        return ch >= 128 ? 127 : ch;
+    }
+}
@@ -0,0 +1,59 @@
+package com.algorithmcomparison.benchmark;
+
+import com.algorithmcomparison.util.DatasetGenerator;
+
+/**
+ * Dataset shapes the JMH benchmarks are parameterized over.
+ * 
+ * Each shape maps onto a DatasetGenerator method for both integer and
+ * string data. Generation is seeded so every run, on every release,
+ * benchmarks exactly the same input.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public enum DatasetShape {
+    RANDOM,
+    SORTED,
+    REVERSE_SORTED,
+    NEARLY_SORTED,
+    DUPLICATE_HEAVY;
+
+    private static final long SEED = 42L;
+    private static final int NEARLY_SORTED_SWAP_PERCENTAGE = 5;
+    private static final int DUPLICATE_UNIQUE_VALUES = 16;
+
+    /**
+     * Generates an integer dataset of this shape.
+     * 
+     * @param size Number of elements
+     * @return Generated data
+     */
+    public int[] generateIntegers(int size) {
+        DatasetGenerator.setSeed(SEED);
+        return switch (this) {
+            case RANDOM -> DatasetGenerator.generateRandom(size);
+            case SORTED -> DatasetGenerator.generateSorted(size);
+            case REVERSE_SORTED -> DatasetGenerator.generateReverseSorted(size);
+            case NEARLY_SORTED -> DatasetGenerator.generateNearlySorted(size, NEARLY_SORTED_SWAP_PERCENTAGE);
+            case DUPLICATE_HEAVY -> DatasetGenerator.generateWithDuplicates(size, DUPLICATE_UNIQUE_VALUES);
+        };
+    }
+
+    /**
+     * Generates a string dataset of this shape.
+     * 
+     * @param size Number of elements
+     * @return Generated data
+     */
+    public String[] generateStrings(int size) {
+        DatasetGenerator.setSeed(SEED);
+        return switch (this) {
+            case RANDOM -> DatasetGenerator.generateRandomStrings(size);
+            case SORTED -> DatasetGenerator.generateSortedStrings(size);
+            case REVERSE_SORTED -> DatasetGenerator.generateReverseSortedStrings(size);
+            case NEARLY_SORTED -> DatasetGenerator.generateNearlySortedStrings(size, NEARLY_SORTED_SWAP_PERCENTAGE);
+            case DUPLICATE_HEAVY -> DatasetGenerator.generateStringsWithDuplicates(size, DUPLICATE_UNIQUE_VALUES);
+        };
+    }
+}
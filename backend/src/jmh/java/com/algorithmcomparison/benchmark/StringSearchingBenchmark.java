@@ -0,0 +1,62 @@
+package com.algorithmcomparison.benchmark;
+
+import com.algorithmcomparison.algorithm.searching.SearchingAlgorithm;
+import com.algorithmcomparison.service.SearchingService;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for every searching algorithm that supports string data.
+ * 
+ * Graph searches are left out because they only accept integer data. See
+ * IntegerSearchingBenchmark for the measurement setup.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringSearchingBenchmark {
+
+    @Param({"Linear Search", "Binary Search", "Trie Search"})
+    public String algorithmName;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATE_HEAVY"})
+    public DatasetShape shape;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    // Override with -p metricsMode=SAMPLED,TIMING_ONLY to measure instrumentation overhead
+    @Param({"COUNTING"})
+    public MetricsCollector.Mode metricsMode;
+
+    private SearchingAlgorithm algorithm;
+    private String[] data;
+    private String target;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        algorithm = SearchingService.createSearchingAlgorithm(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unknown searching algorithm: " + algorithmName);
+        }
+        data = shape.generateStrings(size);
+        target = data[data.length / 2];
+        if (algorithm.requiresSortedArray()) {
+            Arrays.sort(data);
+        }
+    }
+
+    @Benchmark
+    public int search() {
+        return algorithm.search(data, target, MetricsCollector.create(metricsMode));
+    }
+}
@@ -0,0 +1,66 @@
+package com.algorithmcomparison.benchmark;
+
+import com.algorithmcomparison.algorithm.sorting.SortingAlgorithm;
+import com.algorithmcomparison.service.SortingService;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for every sorting algorithm that supports string data.
+ * 
+ * Integer-only algorithms (Heap, Shell and Counting Sort) are left out
+ * because they reject String arrays. See IntegerSortingBenchmark for the
+ * measurement setup.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringSortingBenchmark {
+
+    @Param({"Bubble Sort", "Selection Sort", "Insertion Sort", "Quick Sort", "Intro Sort",
+            "Dual Pivot Quick Sort", "Merge Sort", "Bottom Up Merge Sort", "Parallel Merge Sort",
+            "Parallel Sample Sort"})
+    public String algorithmName;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATE_HEAVY"})
+    public DatasetShape shape;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    // Override with -p metricsMode=SAMPLED,TIMING_ONLY to measure instrumentation overhead
+    @Param({"COUNTING"})
+    public MetricsCollector.Mode metricsMode;
+
+    private SortingAlgorithm algorithm;
+    private String[] original;
+    private String[] working;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        algorithm = SortingService.createSortingAlgorithm(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unknown sorting algorithm: " + algorithmName);
+        }
+        original = shape.generateStrings(size);
+        working = new String[size];
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        System.arraycopy(original, 0, working, 0, original.length);
+        MetricsCollector metrics = MetricsCollector.create(metricsMode);
+        algorithm.sort(working, metrics);
+        blackhole.consume(working);
+        blackhole.consume(metrics.getComparisonCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.algorithmcomparison.benchmark;
+
+import com.algorithmcomparison.algorithm.searching.TrieIndex;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the radix-tree TrieIndex with the original
+ * 128-slot node layout (ArrayTrieBaseline).
+ *
+ * build measures construction; lookup measures one query per invocation,
+ * cycling through present and absent targets. Retained memory is reported
+ * by the footprint auxiliary counter (estimated bytes per built index);
+ * add -prof gc to also see the bytes allocated per build.
+ *
+ * Example: java -jar target/benchmarks.jar TrieLayoutBenchmark -p size=100000
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrieLayoutBenchmark {
+
+    private static final int TARGET_COUNT = 1024;
+
+    public enum Layout { RADIX, ARRAY_128 }
+
+    @Param({"RADIX", "ARRAY_128"})
+    public Layout layout;
+
+    @Param({"RANDOM", "DUPLICATE_HEAVY"})
+    public DatasetShape shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private String[] data;
+    private String[] targets;
+    private TrieIndex radix;
+    private ArrayTrieBaseline baseline;
+    private int next;
+
+    /**
+     * Estimated retained bytes of the index built by the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long footprintBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        data = shape.generateStrings(size);
+
+        // Half the targets are in the dataset, half are missing their last char
+        targets = new String[TARGET_COUNT];
+        for (int i = 0; i < TARGET_COUNT; i++) {
+            String word = data[(int) ((long) i * data.length / TARGET_COUNT)];
+            targets[i] = i % 2 == 0 || word.length() < 2 ? word : word.substring(0, word.length() - 1);
+        }
+
+        radix = TrieIndex.build(data, MetricsCollector.create(MetricsCollector.Mode.TIMING_ONLY));
+        baseline = ArrayTrieBaseline.build(data);
+    }
+
+    @Benchmark
+    public Object build(Footprint footprint) {
+        if (layout == Layout.RADIX) {
+            TrieIndex index = TrieIndex.build(data, MetricsCollector.create(MetricsCollector.Mode.TIMING_ONLY));
+            footprint.footprintBytes = index.getMemoryFootprintBytes();
+            return index;
+        }
+        ArrayTrieBaseline trie = ArrayTrieBaseline.build(data);
+        footprint.footprintBytes = trie.getMemoryFootprintBytes();
+        return trie;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void lookup(Blackhole blackhole) {
+        String target = targets[next];
+        next = (next + 1) & (TARGET_COUNT - 1);
+        if (layout == Layout.RADIX) {
+            blackhole.consume(radix.find(target, MetricsCollector.create(MetricsCollector.Mode.TIMING_ONLY)));
+        } else {
+            blackhole.consume(baseline.find(target));
+        }
+    }
+}
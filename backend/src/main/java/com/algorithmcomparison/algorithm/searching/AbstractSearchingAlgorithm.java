@@ -9,6 +9,7 @@ import com.algorithmcomparison.util.StepCollector;
  * 
  * This class provides:
  * - Generic searching infrastructure using Comparable<T>
+ * - A primitive int[] hook so integer datasets can be searched without boxing
  * - Unified StepCollector integration
  * - Consistent MetricsCollector usage
  * - Template methods for common operations
@@ -48,11 +49,10 @@ public abstract class AbstractSearchingAlgorithm implements SearchingAlgorithm {
 
     /**
      * Internal method to search integer arrays.
-     * Delegates to the generic implementation.
+     * Delegates to the primitive implementation.
      */
     private int searchInternal(int[] array, int target, MetricsCollector metrics, StepCollector stepCollector) {
-        Integer[] boxedArray = boxIntArray(array);
-        return searchGeneric(boxedArray, target, metrics, stepCollector);
+        return searchPrimitive(array, target, metrics, stepCollector);
     }
 
     /**
@@ -80,6 +80,25 @@ public abstract class AbstractSearchingAlgorithm implements SearchingAlgorithm {
         StepCollector stepCollector
     );
 
+    /**
+     * Primitive searching method for integer arrays.
+     * 
+     * Subclasses should override this to search the int[] directly, so a single
+     * query does not pay O(n) boxing before the search even starts. Overrides must
+     * record the same metrics as {@link #searchGeneric}.
+     * The default implementation boxes into Integer[] and delegates to searchGeneric.
+     * 
+     * @param array The integer array to search
+     * @param target The target value to find
+     * @param metrics The metrics collector
+     * @param stepCollector Optional step collector for visualization (can be null)
+     * @return Index of target if found, -1 otherwise
+     */
+    protected int searchPrimitive(int[] array, int target, MetricsCollector metrics, StepCollector stepCollector) {
+        Integer[] boxedArray = boxIntArray(array);
+        return searchGeneric(boxedArray, target, metrics, stepCollector);
+    }
+
     // ==================== Helper Methods ====================
 
     /**
@@ -1,8 +1,15 @@
 package com.algorithmcomparison.algorithm.searching;
 
+import com.algorithmcomparison.model.StringMatch;
+import com.algorithmcomparison.model.StringQuery;
 import com.algorithmcomparison.util.MetricsCollector;
 import com.algorithmcomparison.util.StepCollector;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 
 /**
  * Binary Search implementation.
@@ -30,10 +37,15 @@ import java.util.Arrays;
  * - Multiple searches on the same dataset
  * - When fast search performance is critical
  * 
+ * Prefix, autocomplete and range queries (StringQueryAlgorithm) run on a
+ * sorted copy of a STRING dataset. Matching strings are contiguous, so the
+ * range is found with two binary searches; each distinct match is then
+ * skipped over with another binary search rather than a scan.
+ * 
  * @author Algorithm Comparison Team
- * @version 2.0 (Refactored to use AbstractSearchingAlgorithm)
+ * @version 2.1 (Refactored to use AbstractSearchingAlgorithm)
  */
-public class BinarySearch extends AbstractSearchingAlgorithm {
+public class BinarySearch extends AbstractSearchingAlgorithm implements StringQueryAlgorithm<String[]> {
 
     @Override
     public int searchWithSteps(int[] array, int target, MetricsCollector metrics, StepCollector stepCollector) {
@@ -46,12 +58,7 @@ public class BinarySearch extends AbstractSearchingAlgorithm {
                 "Binary Search requires sorted data. Starting search for target: " + target);
         }
         
-        // Box the array and call searchGeneric with stepCollector
-        Integer[] boxedArray = new Integer[array.length];
-        for (int i = 0; i < array.length; i++) {
-            boxedArray[i] = array[i];
-        }
-        return searchGeneric(boxedArray, target, metrics, stepCollector);
+        return searchPrimitive(array, target, metrics, stepCollector);
     }
 
     @Override
@@ -123,6 +130,110 @@ public class BinarySearch extends AbstractSearchingAlgorithm {
         return -1;
     }
 
+    /**
+     * Primitive int[] version of {@link #searchGeneric}.
+     * Same probes and metrics, but reads the int[] directly so the search stays O(log n)
+     * instead of paying O(n) boxing up front.
+     */
+    @Override
+    protected int searchPrimitive(int[] array, int target, MetricsCollector metrics, StepCollector stepCollector) {
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            
+            metrics.recordArrayAccess(1); // Access array[mid]
+            int midValue = array[mid];
+
+            if (stepCollector != null) {
+                recordRange(array, stepCollector, left, right, mid,
+                    String.format("Searching range [%d, %d]. Checking middle index %d: Is %s == %s?", 
+                        left, right, mid, midValue, target));
+            }
+
+            if (metrics.isEqual(midValue, target)) {
+                recordFound(array, stepCollector, mid,
+                    "Target " + target + " found at index " + mid + "!");
+                return mid;
+            } else if (metrics.isLessThan(midValue, target)) {
+                if (stepCollector != null) {
+                    recordCheck(array, stepCollector, mid,
+                        midValue + " < " + target + ". Target is in the right half. Moving left boundary to " + (mid + 1));
+                }
+                left = mid + 1;
+            } else {
+                if (stepCollector != null) {
+                    recordCheck(array, stepCollector, mid,
+                        midValue + " > " + target + ". Target is in the left half. Moving right boundary to " + (mid - 1));
+                }
+                right = mid - 1;
+            }
+        }
+
+        recordNotFound(array, stepCollector,
+            "Target " + target + " not found in the array. Search space exhausted.");
+        
+        return -1;
+    }
+
+    @Override
+    public StringQueryOutcome findByPrefix(String[] sorted, String prefix, int limit, MetricsCollector metrics) {
+        int low = lowerBound(sorted, 0, sorted.length, prefix, metrics);
+        int high = prefixEnd(sorted, low, prefix, metrics);
+
+        List<StringMatch> matches = new ArrayList<>();
+        for (int i = low; i < high && matches.size() < limit; ) {
+            int next = upperBound(sorted, i, high, sorted[i], metrics);
+            matches.add(new StringMatch(sorted[i], next - i, null));
+            i = next;
+        }
+        return new StringQueryOutcome(high - low, matches);
+    }
+
+    @Override
+    public StringQueryOutcome autocomplete(String[] sorted, String prefix, int k, MetricsCollector metrics) {
+        int low = lowerBound(sorted, 0, sorted.length, prefix, metrics);
+        int high = prefixEnd(sorted, low, prefix, metrics);
+
+        // Keep the k best distinct matches; the worst of them is at the head
+        Comparator<StringMatch> better = Comparator.comparingInt(StringMatch::getCount)
+            .thenComparing(StringMatch::getValue, Comparator.reverseOrder());
+        PriorityQueue<StringMatch> best = new PriorityQueue<>(better);
+        for (int i = low; i < high; ) {
+            int next = upperBound(sorted, i, high, sorted[i], metrics);
+            best.add(new StringMatch(sorted[i], next - i, null));
+            if (best.size() > k) {
+                best.poll();
+            }
+            metrics.recordComparison(1);
+            i = next;
+        }
+
+        List<StringMatch> matches = new ArrayList<>(best);
+        matches.sort(better.reversed());
+        return new StringQueryOutcome(high - low, matches);
+    }
+
+    @Override
+    public StringQueryOutcome countRange(String[] sorted, String from, String to, MetricsCollector metrics) {
+        int low = lowerBound(sorted, 0, sorted.length, from, metrics);
+        int high = upperBound(sorted, low, sorted.length, to, metrics);
+        return StringQueryOutcome.count(Math.max(0, high - low));
+    }
+
+    @Override
+    public String getQueryComplexity(StringQuery.Type type) {
+        switch (type) {
+            case PREFIX:
+                return "O((k + 1) log n)"; // k = distinct strings returned
+            case AUTOCOMPLETE:
+                return "O(d log n)"; // d = distinct strings with the prefix
+            default:
+                return "O(log n)";
+        }
+    }
+
     @Override
     public String getName() {
         return "Binary Search";
@@ -146,6 +257,46 @@ public class BinarySearch extends AbstractSearchingAlgorithm {
 
     // ==================== Helper Methods ====================
 
+    /**
+     * Finds the first index in [low, high) whose string is not less than key.
+     */
+    private int lowerBound(String[] sorted, int low, int high, String key, MetricsCollector metrics) {
+        return firstNotBefore(sorted, low, high, s -> s.compareTo(key) < 0, metrics);
+    }
+
+    /**
+     * Finds the first index in [low, high) whose string is greater than key.
+     */
+    private int upperBound(String[] sorted, int low, int high, String key, MetricsCollector metrics) {
+        return firstNotBefore(sorted, low, high, s -> s.compareTo(key) <= 0, metrics);
+    }
+
+    /**
+     * Finds the end of the run of strings starting with prefix that begins at low.
+     */
+    private int prefixEnd(String[] sorted, int low, String prefix, MetricsCollector metrics) {
+        return firstNotBefore(sorted, low, sorted.length, s -> s.startsWith(prefix), metrics);
+    }
+
+    /**
+     * Binary searches [low, high) for the first string failing a predicate
+     * that holds for a prefix of the range and fails for the rest.
+     */
+    private int firstNotBefore(String[] sorted, int low, int high, Predicate<String> before,
+                               MetricsCollector metrics) {
+        while (low < high) {
+            int mid = low + (high - low) / 2;
+            metrics.recordArrayAccess(1);
+            metrics.recordComparison(1);
+            if (before.test(sorted[mid])) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Checks if integer array is sorted.
      */
@@ -1,14 +1,11 @@
 package com.algorithmcomparison.algorithm.searching;
 
 import com.algorithmcomparison.model.GraphDataset;
-import com.algorithmcomparison.model.GraphDataset.GraphNode;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
 import com.algorithmcomparison.util.GraphConverter;
 import com.algorithmcomparison.util.MetricsCollector;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
  * Breadth First Search (BFS) implementation.
@@ -22,6 +19,9 @@ import java.util.Set;
  * 2. Performs BFS using a queue for level-order traversal
  * 3. Searches for the target value in the graph
  * 
+ * The traversal reads the graph's CSR arrays directly, with an int[] queue
+ * and a BitSet of visited nodes.
+ * 
  * Algorithm Steps:
  * 1. Enqueue root node
  * 2. While queue is not empty:
@@ -45,9 +45,9 @@ import java.util.Set;
  * - DFS uses a Stack (LIFO) → explores depth-first (deep into branches)
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.1
  */
-public class BreadthFirstSearch implements SearchingAlgorithm {
+public class BreadthFirstSearch implements GraphSearchAlgorithm {
 
     @Override
     public int search(int[] array, int target, MetricsCollector metrics) {
@@ -59,12 +59,12 @@ public class BreadthFirstSearch implements SearchingAlgorithm {
         // Complete binary tree is ideal for BFS as it naturally supports level-order traversal
         GraphDataset graph = GraphConverter.convertToCompleteBinaryTree("bfs_temp", array);
 
-        // Perform BFS starting from root (node 0)
-        return bfsIterative(graph, target, metrics);
+        // Perform BFS starting from the root
+        return search(graph, target, metrics);
     }
 
     /**
-     * Performs iterative BFS using a queue.
+     * Performs iterative BFS on a prebuilt graph using a queue.
      * 
      * Queue ensures FIFO (First In First Out) order, which is essential
      * for level-order traversal. All nodes at level k are visited before
@@ -79,74 +79,55 @@ public class BreadthFirstSearch implements SearchingAlgorithm {
      * 
      * Visit order: 1, 2, 3, 4, 5, 6, 7
      * 
-     * @param graph The graph to search
+     * @param graph The graph to search, starting from its root
      * @param target The target value
      * @param metrics Metrics collector
      * @return Index of node containing target, or -1 if not found
      */
-    private int bfsIterative(GraphDataset graph, int target, MetricsCollector metrics) {
-        if (graph.getNodeCount() == 0) {
+    @Override
+    public int search(GraphDataset graph, int target, MetricsCollector metrics) {
+        int nodeCount = graph.getNodeCount();
+        if (nodeCount == 0) {
             return -1;
         }
 
+        int[] values = graph.getValues();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
         // Queue for BFS traversal - stores node IDs
-        // LinkedList provides efficient O(1) enqueue and dequeue operations
-        Queue<Integer> queue = new LinkedList<>();
+        // Every node is enqueued at most once, so a plain array with head/tail indices suffices
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
         
         // Set to track visited nodes (prevents re-visiting)
-        Set<Integer> visited = new HashSet<>();
+        BitSet visited = new BitSet(nodeCount);
 
-        // Start BFS from root node (node ID 0)
-        queue.offer(0);
-        visited.add(0); // Mark root as visited immediately when enqueued
+        // Start BFS from root node
+        int root = graph.getRoot();
+        queue[tail++] = root;
+        visited.set(root); // Mark root as visited immediately when enqueued
 
         // Continue until queue is empty (all reachable nodes explored)
-        while (!queue.isEmpty()) {
+        while (head < tail) {
             // Dequeue next node from front of queue
-            Integer currentNodeId = queue.poll();
+            int currentNodeId = queue[head++];
 
             metrics.recordArrayAccess(1); // Count as a node visit
 
-            // Get the actual node
-            GraphNode currentNode = graph.getNode(currentNodeId);
-            
-            if (currentNode == null) {
-                continue;
-            }
-
             // Compare current node's value with target
-            if (metrics.isEqual(currentNode.getValue(), target)) {
+            if (metrics.isEqual(values[currentNodeId], target)) {
                 // Target found! Return the node ID (which maps to original array index)
                 return currentNodeId;
             }
 
-            // Enqueue all unvisited children for exploration
-            // Process children in left-to-right order for proper level-order traversal
-            
-            // Enqueue left child if it exists and hasn't been visited
-            if (currentNode.getLeftChild() != null) {
-                Integer leftChild = currentNode.getLeftChild();
-                if (!visited.contains(leftChild)) {
-                    queue.offer(leftChild);
-                    visited.add(leftChild); // Mark as visited when enqueued
-                }
-            }
-
-            // Enqueue right child if it exists and hasn't been visited
-            if (currentNode.getRightChild() != null) {
-                Integer rightChild = currentNode.getRightChild();
-                if (!visited.contains(rightChild)) {
-                    queue.offer(rightChild);
-                    visited.add(rightChild); // Mark as visited when enqueued
-                }
-            }
-
-            // For linked list graphs, enqueue next node
-            if (currentNode.getNext() != null) {
-                Integer nextNode = currentNode.getNext();
-                if (!visited.contains(nextNode)) {
-                    queue.offer(nextNode);
-                    visited.add(nextNode); // Mark as visited when enqueued
+            // Enqueue all unvisited neighbours (children left to right, or the next list node)
+            for (int edge = offsets[currentNodeId]; edge < offsets[currentNodeId + 1]; edge++) {
+                int neighbour = targets[edge];
+                if (!visited.get(neighbour)) {
+                    queue[tail++] = neighbour;
+                    visited.set(neighbour); // Mark as visited when enqueued
                 }
             }
         }
@@ -184,9 +165,8 @@ public class BreadthFirstSearch implements SearchingAlgorithm {
     }
 
     @Override
-    public boolean isGraphBased() {
-        // BFS is a graph-based algorithm
-        return true;
+    public GraphType getGraphType() {
+        return GraphType.COMPLETE_BINARY_TREE;
     }
 }
 
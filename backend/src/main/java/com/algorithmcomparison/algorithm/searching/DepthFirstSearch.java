@@ -1,12 +1,11 @@
 package com.algorithmcomparison.algorithm.searching;
 
 import com.algorithmcomparison.model.GraphDataset;
-import com.algorithmcomparison.model.GraphDataset.GraphNode;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
 import com.algorithmcomparison.util.GraphConverter;
 import com.algorithmcomparison.util.MetricsCollector;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
  * Depth First Search (DFS) implementation.
@@ -15,20 +14,28 @@ import java.util.Set;
  * each branch before backtracking. It uses recursion to track the traversal path.
  * 
  * This implementation:
- * 1. Converts the input array to a Binary Search Tree
- * 2. Performs recursive DFS
+ * 1. Converts the input array to a Binary Search Tree (an AVL tree by default)
+ * 2. Performs DFS with an explicit stack
  * 3. Searches for the target value in the graph
  * 
+ * The traversal reads the graph's CSR arrays directly, with an int[] stack
+ * and a BitSet of visited nodes.
+ * 
+ * A plain BST built from sorted or reverse-sorted data is a chain n levels
+ * deep, so by default the tree is kept balanced with AVL rotations and the
+ * stack holds O(log n) nodes on any input. The BST variant to build can be
+ * chosen in the constructor.
+ * 
  * Algorithm Steps:
  * 1. Start at root node
- * 2. If node is null or visited, return
+ * 2. Pop a node; if it was already visited, skip it
  * 3. Mark node as visited
  * 4. Check if node value equals target
- * 5. Recursively visit left child, then right child
- * 6. Return result when target found or all nodes explored
+ * 5. Push right child, then left child, so the left subtree is explored first
+ * 6. Return result when target found or the stack is empty
  * 
  * Time Complexity: O(n) - visits each node once
- * Space Complexity: O(h) where h is the height of the tree (recursion stack)
+ * Space Complexity: O(h) where h is the height of the tree (stack depth)
  * 
  * Best Use Cases:
  * - Finding path existence
@@ -37,15 +44,27 @@ import java.util.Set;
  * - Cycle detection
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.2
  */
-public class DepthFirstSearch implements SearchingAlgorithm {
+public class DepthFirstSearch implements GraphSearchAlgorithm {
+
+    private final GraphType graphType;
+
+    /**
+     * Creates a DFS over an AVL tree.
+     */
+    public DepthFirstSearch() {
+        this(GraphType.AVL_TREE);
+    }
 
-    // Set to track visited nodes (shared across recursive calls)
-    private Set<Integer> visited;
-    private GraphDataset graph;
-    private int target;
-    private MetricsCollector metrics;
+    /**
+     * Creates a DFS over the given graph structure.
+     *
+     * @param graphType The graph the array is converted to
+     */
+    public DepthFirstSearch(GraphType graphType) {
+        this.graphType = graphType;
+    }
 
     @Override
     public int search(int[] array, int target, MetricsCollector metrics) {
@@ -54,80 +73,70 @@ public class DepthFirstSearch implements SearchingAlgorithm {
         }
 
         // Convert array to Binary Search Tree for graph-based search
-        this.graph = GraphConverter.convertToBinarySearchTree("dfs_temp", array);
-        this.target = target;
-        this.metrics = metrics;
-        this.visited = new HashSet<>();
+        GraphDataset graph = GraphConverter.convert("dfs_temp", array, graphType);
 
-        // Perform recursive DFS starting from root (node 0)
-        return dfsRecursive(0);
+        // Perform DFS starting from the root
+        return search(graph, target, metrics);
     }
 
     /**
-     * Performs recursive DFS.
+     * Performs DFS on a prebuilt graph with an explicit stack.
      * 
-     * Recursive approach provides:
-     * - Natural implementation of depth-first exploration
-     * - Implicit use of call stack for backtracking
-     * - Cleaner, more readable code
-     * - Better demonstrates the algorithm's nature
+     * Children are pushed in reverse order so that the left child is popped
+     * (explored) first, giving the same pre-order as recursion. An explicit
+     * stack keeps deep, skewed trees (e.g. a BST built from sorted data)
+     * from overflowing the call stack.
      * 
-     * @param nodeId The current node ID to explore
+     * @param graph The graph to search, starting from its root
+     * @param target The target value
+     * @param metrics Metrics collector
      * @return Index of node containing target, or -1 if not found
      */
-    private int dfsRecursive(Integer nodeId) {
-        // Base case 1: Invalid node ID
-        if (nodeId == null) {
-            return -1;
-        }
-
-        // Base case 2: Already visited this node
-        if (visited.contains(nodeId)) {
+    @Override
+    public int search(GraphDataset graph, int target, MetricsCollector metrics) {
+        int nodeCount = graph.getNodeCount();
+        if (nodeCount == 0) {
             return -1;
         }
 
-        // Mark node as visited
-        visited.add(nodeId);
-        metrics.recordArrayAccess(1); // Count as a node visit
+        int[] values = graph.getValues();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
 
-        // Get the actual node
-        GraphNode currentNode = graph.getNode(nodeId);
-        
-        if (currentNode == null) {
-            return -1;
-        }
+        // Each node is pushed at most once per incoming edge, plus the root
+        int[] stack = new int[graph.getEdgeCount() + 1];
+        int size = 0;
+        BitSet visited = new BitSet(nodeCount);
 
-        // Compare current node's value with target
-        if (metrics.isEqual(currentNode.getValue(), target)) {
-            // Target found! Return the node ID
-            return nodeId;
-        }
+        stack[size++] = graph.getRoot();
+        while (size > 0) {
+            int nodeId = stack[--size];
 
-        // Recursively explore left child
-        if (currentNode.getLeftChild() != null) {
-            int result = dfsRecursive(currentNode.getLeftChild());
-            if (result != -1) {
-                return result; // Found in left subtree
+            // Skip nodes reached again through another edge
+            if (visited.get(nodeId)) {
+                continue;
             }
-        }
 
-        // Recursively explore right child
-        if (currentNode.getRightChild() != null) {
-            int result = dfsRecursive(currentNode.getRightChild());
-            if (result != -1) {
-                return result; // Found in right subtree
+            // Mark node as visited
+            visited.set(nodeId);
+            metrics.recordArrayAccess(1); // Count as a node visit
+
+            // Compare current node's value with target
+            if (metrics.isEqual(values[nodeId], target)) {
+                // Target found! Return the node ID
+                return nodeId;
             }
-        }
 
-        // For linked list graphs, explore next node
-        if (currentNode.getNext() != null) {
-            int result = dfsRecursive(currentNode.getNext());
-            if (result != -1) {
-                return result; // Found in next node
+            // Push neighbours right to left so the leftmost is explored next
+            for (int edge = offsets[nodeId + 1] - 1; edge >= offsets[nodeId]; edge--) {
+                int neighbour = targets[edge];
+                if (!visited.get(neighbour)) {
+                    stack[size++] = neighbour;
+                }
             }
         }
 
-        // Target not found in this branch
+        // Target not found in graph
         return -1;
     }
 
@@ -150,7 +159,7 @@ public class DepthFirstSearch implements SearchingAlgorithm {
 
     @Override
     public String getSpaceComplexity() {
-        return "O(h)"; // h = height of tree
+        return "O(h)"; // h = height of tree, O(log n) for the balanced variants
     }
 
     @Override
@@ -160,9 +169,8 @@ public class DepthFirstSearch implements SearchingAlgorithm {
     }
 
     @Override
-    public boolean isGraphBased() {
-        // DFS is a graph-based algorithm
-        return true;
+    public GraphType getGraphType() {
+        return graphType;
     }
 }
 
@@ -0,0 +1,41 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
+import com.algorithmcomparison.util.MetricsCollector;
+
+/**
+ * Interface for searching algorithms that traverse a graph built from an
+ * INTEGER dataset.
+ *
+ * search(int[], ...) converts the array to getGraphType() on every call.
+ * Callers that search the same dataset repeatedly can convert it once and
+ * call search(GraphDataset, ...) instead, which only traverses.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public interface GraphSearchAlgorithm extends SearchingAlgorithm {
+
+    /**
+     * Searches a prebuilt graph, starting from its root.
+     *
+     * @param graph The graph to search
+     * @param target The value to search for
+     * @param metrics The metrics collector for tracking performance
+     * @return The ID (source array index) of the node holding target, or -1 if not found
+     */
+    int search(GraphDataset graph, int target, MetricsCollector metrics);
+
+    /**
+     * Gets the graph structure this algorithm converts arrays to.
+     *
+     * @return The graph type
+     */
+    GraphType getGraphType();
+
+    @Override
+    default boolean isGraphBased() {
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.algorithmcomparison.algorithm.searching;
 
+import com.algorithmcomparison.model.IntStorage;
 import com.algorithmcomparison.util.MetricsCollector;
 import com.algorithmcomparison.util.StepCollector;
 
@@ -63,6 +64,51 @@ public class LinearSearch extends AbstractSearchingAlgorithm {
         return -1;
     }
 
+    /**
+     * Primitive int[] version of {@link #searchGeneric}.
+     * Same scan and metrics, but reads the int[] directly without boxing.
+     */
+    @Override
+    protected int searchPrimitive(int[] array, int target, MetricsCollector metrics, StepCollector stepCollector) {
+        recordInitial(array, stepCollector, "Starting Linear Search for target: " + target);
+        
+        for (int i = 0; i < array.length; i++) {
+            metrics.recordArrayAccess(1);
+            
+            if (stepCollector != null) {
+                recordCheck(array, stepCollector, i, 
+                    "Checking index " + i + ": Is " + array[i] + " == " + target + "?");
+            }
+            
+            if (metrics.isEqual(array[i], target)) {
+                recordFound(array, stepCollector, i,
+                    "Target " + target + " found at index " + i + "!");
+                return i;
+            }
+        }
+        
+        recordNotFound(array, stepCollector,
+            "Target " + target + " not found in the array");
+        
+        return -1;
+    }
+
+    /**
+     * Scans integer storage in place through its accessor, with the same
+     * metrics as the int[] version. Off-heap data is never copied to the heap.
+     */
+    @Override
+    public int search(IntStorage data, int target, MetricsCollector metrics) {
+        int length = data.length();
+        for (int i = 0; i < length; i++) {
+            metrics.recordArrayAccess(1);
+            if (metrics.isEqual(data.get(i), target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public String getName() {
         return "Linear Search";
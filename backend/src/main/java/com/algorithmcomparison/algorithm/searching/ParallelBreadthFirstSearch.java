@@ -0,0 +1,442 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.model.BfsLevelStatistics;
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
+import com.algorithmcomparison.util.GraphConverter;
+import com.algorithmcomparison.util.MetricsCollector;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel, direction-optimizing Breadth First Search.
+ *
+ * Instead of dequeuing one node at a time, this BFS is level-synchronous:
+ * the whole frontier (every node at distance k from the sources) is
+ * processed at once, split into ranges handled by a ForkJoinPool, and
+ * produces the frontier at distance k + 1.
+ *
+ * Each level takes two steps:
+ * 1. Visit: compare every frontier node with the target. If any matches,
+ *    the search stops and returns the smallest matching node ID, so the
+ *    answer does not depend on thread scheduling.
+ * 2. Expand, in one of two directions:
+ *    - Top-down: each frontier node scans its outgoing edges and claims
+ *      unvisited neighbours with an atomic OR on the visited bitmap.
+ *      Cheap while the frontier is small.
+ *    - Bottom-up: each unvisited node scans its incoming edges until it
+ *      finds a parent in the frontier bitmap. Threads own disjoint words of
+ *      the bitmaps, so no atomics are needed, and most nodes stop at their
+ *      first edge. Cheap once the frontier holds a large part of the graph.
+ *
+ * The direction is chosen per level with Beamer's heuristic: switch to
+ * bottom-up when the frontier's edges exceed 1/14 of the edges still
+ * unexplored, and back to top-down when the frontier shrinks below 1/24 of
+ * the nodes. Bottom-up only pays off when unvisited nodes usually find a
+ * parent among several incoming edges, so it is only considered on graphs
+ * with an average in-degree above 1. On trees (every node has exactly one
+ * parent, as in all graphs GraphConverter builds) a bottom-up level scans
+ * every unvisited node, several times the edges top-down would examine, so
+ * the search stays top-down throughout. The bottom-up direction therefore
+ * never runs on the graphs the application builds today; it only applies to
+ * denser graphs passed to search(GraphDataset, int[], ...) directly.
+ *
+ * Node visits and comparisons are counted per range and added to the
+ * MetricsCollector once per level, so the collector is only used by the
+ * calling thread. On a COMPLETE_BINARY_TREE the result matches
+ * BreadthFirstSearch; the counts include the whole level the target is on,
+ * where the sequential search stops at the target itself.
+ *
+ * Time Complexity: O(n + m) work, O(depth) synchronized levels
+ * Space Complexity: O(n) - bitmaps of n bits plus the frontier list
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.2
+ */
+public class ParallelBreadthFirstSearch implements GraphSearchAlgorithm {
+
+    /** Frontier entries (top-down) or nodes (bottom-up) handled by one task. */
+    public static final int DEFAULT_GRAIN = 16_384;
+
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ForkJoinPool pool;
+    private final int grain;
+
+    /**
+     * Creates a parallel BFS running on the common ForkJoinPool.
+     */
+    public ParallelBreadthFirstSearch() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Creates a parallel BFS running on the given pool.
+     *
+     * @param pool The pool running the per-level tasks
+     * @param grain Frontier entries or nodes below which a range is not split further
+     * @throws IllegalArgumentException if grain is not positive
+     */
+    public ParallelBreadthFirstSearch(ForkJoinPool pool, int grain) {
+        if (grain <= 0) {
+            throw new IllegalArgumentException("Grain must be positive: " + grain);
+        }
+        this.pool = pool;
+        this.grain = grain;
+    }
+
+    @Override
+    public int search(int[] array, int target, MetricsCollector metrics) {
+        if (array == null || array.length == 0) {
+            return -1;
+        }
+
+        // Same graph as the sequential BFS, so the two can be compared directly
+        GraphDataset graph = GraphConverter.convertToCompleteBinaryTree("pbfs_temp", array);
+        return search(graph, target, metrics);
+    }
+
+    @Override
+    public int search(GraphDataset graph, int target, MetricsCollector metrics) {
+        return search(graph, new int[] {graph.getRoot()}, target, metrics, null);
+    }
+
+    /**
+     * Searches a graph level by level from one or more sources.
+     *
+     * All sources form level 0, so the result is a matching node at minimum
+     * distance from the nearest source.
+     *
+     * @param graph The graph to search
+     * @param sources The nodes at level 0 (duplicates are ignored)
+     * @param target The target value
+     * @param metrics Metrics collector, used only by the calling thread
+     * @param levels If not null, receives the statistics of every level processed
+     * @return The smallest matching node ID on the first level holding target, or -1 if not found
+     * @throws IllegalArgumentException if a source is not a node of the graph
+     */
+    public int search(GraphDataset graph, int[] sources, int target, MetricsCollector metrics,
+                      List<BfsLevelStatistics> levels) {
+        int nodeCount = graph.getNodeCount();
+        if (nodeCount == 0) {
+            return -1;
+        }
+
+        Traversal traversal = new Traversal(graph, target);
+        int[] frontier = traversal.seed(sources);
+        int frontierSize = frontier.length;
+        long unexploredEdges = graph.getEdgeCount();
+        long visitedCount = 0;
+        boolean bottomUp = false;
+        // Average in-degree above 1, i.e. more edges than nodes
+        boolean bottomUpAllowed = graph.getEdgeCount() > nodeCount;
+
+        for (int level = 0; frontierSize > 0; level++) {
+            // Visit: compare every frontier node with the target
+            int[] current = frontier;
+            LevelCounts visit = run(frontierSize, (lo, hi) -> traversal.visit(current, lo, hi));
+            visitedCount += frontierSize;
+            metrics.recordArrayAccess(frontierSize); // Count as node visits
+            metrics.recordComparison(frontierSize);
+
+            if (visit.found != -1) {
+                addLevel(levels, level, null, frontierSize, 0, visitedCount);
+                return visit.found;
+            }
+
+            // Choose the direction of this level's expansion
+            unexploredEdges -= visit.edges;
+            if (!bottomUp && bottomUpAllowed && visit.edges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < nodeCount / BETA) {
+                bottomUp = false;
+            }
+
+            // Expand: build the next frontier
+            LevelCounts expand;
+            if (bottomUp) {
+                traversal.markFrontier(current, frontierSize, true);
+                expand = run(traversal.words, grain >>> 6,
+                    (lo, hi) -> traversal.expandBottomUp(lo, hi));
+                traversal.markFrontier(current, frontierSize, false);
+            } else {
+                expand = run(frontierSize, (lo, hi) -> traversal.expandTopDown(current, lo, hi));
+            }
+            addLevel(levels, level, bottomUp ? "BOTTOM_UP" : "TOP_DOWN", frontierSize, expand.edges, visitedCount);
+
+            frontier = expand.nodes;
+            frontierSize = expand.nodeCount;
+        }
+
+        // Target not reachable from the sources
+        return -1;
+    }
+
+    private static void addLevel(List<BfsLevelStatistics> levels, int level, String direction, int frontierSize,
+                                 long edgesExamined, long nodesVisited) {
+        if (levels != null) {
+            levels.add(new BfsLevelStatistics(level, direction, frontierSize, edgesExamined, nodesVisited));
+        }
+    }
+
+    private LevelCounts run(int size, RangeStep step) {
+        return run(size, grain, step);
+    }
+
+    /**
+     * Applies a step to [0, size), in parallel when the range exceeds one grain.
+     */
+    private LevelCounts run(int size, int rangeGrain, RangeStep step) {
+        int threshold = Math.max(1, rangeGrain);
+        if (size <= threshold) {
+            return step.apply(0, size);
+        }
+        return pool.invoke(new RangeTask(step, 0, size, threshold));
+    }
+
+    @FunctionalInterface
+    private interface RangeStep {
+        LevelCounts apply(int lo, int hi);
+    }
+
+    /**
+     * Splits a range in halves down to the grain and merges the results in order.
+     */
+    @SuppressWarnings("serial")
+    private static final class RangeTask extends RecursiveTask<LevelCounts> {
+
+        private final RangeStep step;
+        private final int lo;
+        private final int hi;
+        private final int threshold;
+
+        RangeTask(RangeStep step, int lo, int hi, int threshold) {
+            this.step = step;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected LevelCounts compute() {
+            if (hi - lo <= threshold) {
+                return step.apply(lo, hi);
+            }
+            int mid = (lo + hi) >>> 1;
+            RangeTask left = new RangeTask(step, lo, mid, threshold);
+            left.fork();
+            LevelCounts right = new RangeTask(step, mid, hi, threshold).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Result of one range of a level: a match, edges counted and nodes found.
+     */
+    private static final class LevelCounts {
+
+        private int found = -1;
+        private long edges;
+        private int[] nodes;
+        private int nodeCount;
+
+        LevelCounts(int capacity) {
+            this.nodes = new int[capacity];
+        }
+
+        void add(int node) {
+            if (nodeCount == nodes.length) {
+                nodes = Arrays.copyOf(nodes, Math.max(16, nodeCount * 2));
+            }
+            nodes[nodeCount++] = node;
+        }
+
+        /**
+         * Merges the results of the range following this one.
+         */
+        LevelCounts merge(LevelCounts next) {
+            if (next.found != -1 && (found == -1 || next.found < found)) {
+                found = next.found;
+            }
+            edges += next.edges;
+            if (next.nodeCount > 0) {
+                if (nodeCount + next.nodeCount > nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount + next.nodeCount);
+                }
+                System.arraycopy(next.nodes, 0, nodes, nodeCount, next.nodeCount);
+                nodeCount += next.nodeCount;
+            }
+            return this;
+        }
+    }
+
+    /**
+     * State of one search: the graph arrays and the visited and frontier bitmaps.
+     */
+    private static final class Traversal {
+
+        private final int[] values;
+        private final int[] offsets;
+        private final int[] targets;
+        private final GraphDataset graph;
+        private final int target;
+        private final int nodeCount;
+        private final int words;
+        private final long[] visited;
+        private final long[] frontierBits;
+
+        Traversal(GraphDataset graph, int target) {
+            this.graph = graph;
+            this.values = graph.getValues();
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.target = target;
+            this.nodeCount = graph.getNodeCount();
+            this.words = (nodeCount + 63) >>> 6;
+            this.visited = new long[words];
+            this.frontierBits = new long[words];
+        }
+
+        /**
+         * Marks the sources visited and returns them as the first frontier.
+         */
+        int[] seed(int[] sources) {
+            LevelCounts first = new LevelCounts(sources.length);
+            for (int source : sources) {
+                if (source < 0 || source >= nodeCount) {
+                    throw new IllegalArgumentException("Source " + source + " is not one of the "
+                        + nodeCount + " nodes");
+                }
+                long bit = 1L << source;
+                if ((visited[source >>> 6] & bit) == 0) {
+                    visited[source >>> 6] |= bit;
+                    first.add(source);
+                }
+            }
+            return Arrays.copyOf(first.nodes, first.nodeCount);
+        }
+
+        /**
+         * Compares frontier[lo..hi) with the target and sums their out-degrees.
+         */
+        LevelCounts visit(int[] frontier, int lo, int hi) {
+            LevelCounts counts = new LevelCounts(0);
+            for (int i = lo; i < hi; i++) {
+                int node = frontier[i];
+                if (values[node] == target && (counts.found == -1 || node < counts.found)) {
+                    counts.found = node;
+                }
+                counts.edges += offsets[node + 1] - offsets[node];
+            }
+            return counts;
+        }
+
+        /**
+         * Claims the unvisited neighbours of frontier[lo..hi).
+         */
+        LevelCounts expandTopDown(int[] frontier, int lo, int hi) {
+            LevelCounts counts = new LevelCounts(Math.min(2 * (hi - lo), nodeCount));
+            for (int i = lo; i < hi; i++) {
+                int node = frontier[i];
+                for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                    int neighbour = targets[edge];
+                    int word = neighbour >>> 6;
+                    long bit = 1L << neighbour;
+                    counts.edges++;
+                    // Plain read first to skip the atomic for nodes already visited
+                    if ((visited[word] & bit) == 0
+                            && ((long) WORDS.getAndBitwiseOr(visited, word, bit) & bit) == 0) {
+                        counts.add(neighbour);
+                    }
+                }
+            }
+            return counts;
+        }
+
+        /**
+         * Lets each unvisited node in bitmap words [lo, hi) look for a parent in the frontier.
+         */
+        LevelCounts expandBottomUp(int lo, int hi) {
+            int[] reverseOffsets = graph.getReverseOffsets();
+            int[] reverseSources = graph.getReverseSources();
+            LevelCounts counts = new LevelCounts(0);
+
+            for (int word = lo; word < hi; word++) {
+                long unvisited = ~visited[word];
+                if (word == words - 1 && (nodeCount & 63) != 0) {
+                    unvisited &= (1L << nodeCount) - 1; // Ignore bits past the last node
+                }
+                while (unvisited != 0) {
+                    int node = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+                    unvisited &= unvisited - 1;
+
+                    for (int edge = reverseOffsets[node]; edge < reverseOffsets[node + 1]; edge++) {
+                        int parent = reverseSources[edge];
+                        counts.edges++;
+                        if ((frontierBits[parent >>> 6] & (1L << parent)) != 0) {
+                            // This task owns the word, so a plain write is safe
+                            visited[word] |= 1L << node;
+                            counts.add(node);
+                            break;
+                        }
+                    }
+                }
+            }
+            return counts;
+        }
+
+        /**
+         * Sets or clears the frontier bitmap bits of frontier[0..size).
+         */
+        void markFrontier(int[] frontier, int size, boolean set) {
+            for (int i = 0; i < size; i++) {
+                int node = frontier[i];
+                if (set) {
+                    frontierBits[node >>> 6] |= 1L << node;
+                } else {
+                    frontierBits[node >>> 6] &= ~(1L << node);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int search(String[] array, String target, MetricsCollector metrics) {
+        throw new UnsupportedOperationException(
+            "Parallel BFS is a graph-based algorithm and only supports INTEGER datasets for graph representation. " +
+            "Please use Linear Search, Binary Search, or Trie Search for STRING data.");
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel BFS";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V + E)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+
+    @Override
+    public boolean requiresSortedArray() {
+        return false;
+    }
+
+    @Override
+    public GraphType getGraphType() {
+        return GraphType.COMPLETE_BINARY_TREE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.algorithmcomparison.algorithm.searching;
 
 import com.algorithmcomparison.model.AlgorithmResult;
+import com.algorithmcomparison.model.IntStorage;
 import com.algorithmcomparison.util.MetricsCollector;
 
 /**
@@ -25,6 +26,22 @@ public interface SearchingAlgorithm {
      */
     int search(int[] array, int target, MetricsCollector metrics);
 
+    /**
+     * Searches for a target value in integer storage, which may be off-heap.
+     * 
+     * The default copies the values into an array and calls
+     * search(int[], ...); algorithms that can read through the storage
+     * accessor override this to avoid the copy.
+     * 
+     * @param data The values to search in
+     * @param target The value to search for
+     * @param metrics The metrics collector for tracking performance
+     * @return The index where target was found, or -1 if not found
+     */
+    default int search(IntStorage data, int target, MetricsCollector metrics) {
+        return search(data.toArray(), target, metrics);
+    }
+
     /**
      * Searches for a target string in the given string array.
      * 
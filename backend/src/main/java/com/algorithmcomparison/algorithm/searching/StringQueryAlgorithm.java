@@ -0,0 +1,60 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.model.StringQuery;
+import com.algorithmcomparison.util.MetricsCollector;
+
+/**
+ * Interface for searching algorithms that answer prefix, autocomplete and
+ * lexicographic range queries on STRING datasets.
+ *
+ * Queries run against a prebuilt index (of type I) so that their cost
+ * depends on the query and the size of its answer, not on the dataset size.
+ *
+ * @param <I> The index the queries run against
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public interface StringQueryAlgorithm<I> {
+
+    /**
+     * Finds the distinct strings starting with a prefix, in lexicographic order.
+     *
+     * @param index The prebuilt index
+     * @param prefix The prefix ("" matches every string)
+     * @param limit Maximum number of strings to return
+     * @param metrics The metrics collector for tracking performance
+     * @return Up to limit matches, and the total number of matching strings
+     */
+    StringQueryOutcome findByPrefix(I index, String prefix, int limit, MetricsCollector metrics);
+
+    /**
+     * Finds the k most frequent strings starting with a prefix.
+     * Strings with equal frequency are returned in lexicographic order.
+     *
+     * @param index The prebuilt index
+     * @param prefix The prefix ("" matches every string)
+     * @param k Number of completions to return
+     * @param metrics The metrics collector for tracking performance
+     * @return Up to k matches, and the total number of matching strings
+     */
+    StringQueryOutcome autocomplete(I index, String prefix, int k, MetricsCollector metrics);
+
+    /**
+     * Counts the strings s with from <= s <= to, duplicates included.
+     *
+     * @param index The prebuilt index
+     * @param from Lower bound (inclusive)
+     * @param to Upper bound (inclusive)
+     * @param metrics The metrics collector for tracking performance
+     * @return The count, without matches
+     */
+    StringQueryOutcome countRange(I index, String from, String to, MetricsCollector metrics);
+
+    /**
+     * Gets the Big-O time complexity of a query type.
+     *
+     * @param type The query type
+     * @return The time complexity notation
+     */
+    String getQueryComplexity(StringQuery.Type type);
+}
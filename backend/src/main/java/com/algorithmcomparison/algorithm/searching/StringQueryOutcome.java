@@ -0,0 +1,47 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.model.StringMatch;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Answer of a StringQueryAlgorithm query.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public final class StringQueryOutcome {
+
+    private final long matchCount;
+    private final List<StringMatch> matches;
+
+    /**
+     * Creates an outcome.
+     *
+     * @param matchCount Number of dataset strings matching the query, duplicates included
+     * @param matches Returned strings (empty for range counts)
+     */
+    public StringQueryOutcome(long matchCount, List<StringMatch> matches) {
+        this.matchCount = matchCount;
+        this.matches = matches;
+    }
+
+    /**
+     * Creates an outcome that only carries a count.
+     *
+     * @param matchCount Number of dataset strings matching the query
+     * @return The outcome
+     */
+    public static StringQueryOutcome count(long matchCount) {
+        return new StringQueryOutcome(matchCount, Collections.emptyList());
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public List<StringMatch> getMatches() {
+        return matches;
+    }
+}
@@ -0,0 +1,571 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.util.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Prebuilt Trie (prefix tree) over a String dataset.
+ *
+ * Built once from the dataset's strings, after which each lookup costs O(m)
+ * for a target of length m, independent of the dataset size. Each word keeps
+ * the index of its first occurrence in the source array.
+ *
+ * The trie is stored as a path-compressed radix tree in flat arrays instead
+ * of one object per character:
+ * - chains of single-child nodes collapse into one edge whose label is a
+ *   slice of a shared char pool
+ * - the children of a node occupy a contiguous range of node IDs, sorted by
+ *   the first char of their label, and are found by binary search
+ * Memory is a few dozen bytes per branching node plus two bytes per label
+ * char, instead of a 128-slot pointer array per character. Labels are
+ * matched as UTF-16 code units, so every Unicode string is stored exactly.
+ *
+ * The distinct words are also numbered by rank (their lexicographic
+ * position), and every node knows the rank range [rankLow, rankHigh) of the
+ * words below it. Prefix and range queries therefore reduce to a walk down
+ * the trie plus work proportional to the answer:
+ * - prefixRange and rank locate a rank range in O(m log σ)
+ * - countBetween counts occurrences in a rank range in O(1)
+ * - topRanks picks the k most frequent words of a range in O(k log n)
+ *
+ * Instances are immutable after build and safe to share between threads.
+ *
+ * @author Algorithm Comparison Team
+ * @version 2.1
+ */
+public final class TrieIndex {
+
+    private static final int NOT_FOUND = -1;
+
+    // Per node, indexed by node ID (0 is the root, whose label is empty)
+    private final int[] labelStart;   // offset of the edge label in labels
+    private final int[] labelLength;
+    private final char[] firstChar;   // labels[labelStart], used to search siblings
+    private final int[] childStart;   // ID of the first child
+    private final int[] childCount;
+    private final int[] rankLow;      // first rank in the subtree
+    private final int[] rankHigh;     // one past the last rank in the subtree
+
+    private final char[] labels;
+
+    // Per rank (distinct word in lexicographic order)
+    private final String[] words;
+    private final int[] firstIndex;     // first occurrence in the source array
+    private final int[] cumulative;     // cumulative[r] = occurrences of ranks below r
+    private final int[] frequencyTree;  // segment tree of the most frequent rank
+
+    private final int wordCount;
+
+    private TrieIndex(Builder builder, int wordCount) {
+        int nodes = builder.nodeCount;
+        this.labelStart = Arrays.copyOf(builder.labelStart, nodes);
+        this.labelLength = Arrays.copyOf(builder.labelLength, nodes);
+        this.firstChar = Arrays.copyOf(builder.firstChar, nodes);
+        this.childStart = Arrays.copyOf(builder.childStart, nodes);
+        this.childCount = Arrays.copyOf(builder.childCount, nodes);
+        this.rankLow = Arrays.copyOf(builder.rankLow, nodes);
+        this.rankHigh = Arrays.copyOf(builder.rankHigh, nodes);
+        this.labels = Arrays.copyOf(builder.labels, builder.labelSize);
+        this.words = builder.words;
+        this.firstIndex = builder.positions;
+        this.cumulative = builder.cumulative;
+        this.wordCount = wordCount;
+        this.frequencyTree = buildFrequencyTree();
+    }
+
+    /**
+     * Builds a Trie from the given string array.
+     *
+     * The words are sorted once (O(n log n) comparisons), after which the
+     * tree is laid out breadth-first so that siblings are contiguous.
+     *
+     * @param array The array of strings (null entries are skipped)
+     * @param metrics Metrics collector
+     * @return The built index
+     */
+    public static TrieIndex build(String[] array, MetricsCollector metrics) {
+        // Sort positions by word, then by position, so the first of equal words is the earliest
+        int wordCount = 0;
+        Integer[] order = new Integer[array.length];
+        for (int i = 0; i < array.length; i++) {
+            metrics.recordArrayAccess(1);
+            if (array[i] != null) {
+                order[wordCount++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, wordCount);
+        Arrays.sort(order, (a, b) -> {
+            metrics.recordComparison(1);
+            int cmp = array[a].compareTo(array[b]);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        });
+
+        // Keep the first occurrence of each distinct word and count the rest
+        String[] words = new String[wordCount];
+        int[] positions = new int[wordCount];
+        int[] cumulative = new int[wordCount + 1];
+        int distinct = 0;
+        for (int i = 0; i < wordCount; i++) {
+            String word = array[order[i]];
+            if (distinct == 0 || !word.equals(words[distinct - 1])) {
+                words[distinct] = word;
+                positions[distinct] = order[i];
+                distinct++;
+            }
+            cumulative[distinct] = i + 1;
+        }
+
+        Builder builder = new Builder(
+            Arrays.copyOf(words, distinct),
+            Arrays.copyOf(positions, distinct),
+            Arrays.copyOf(cumulative, distinct + 1));
+        builder.build();
+        return new TrieIndex(builder, wordCount);
+    }
+
+    /**
+     * Searches for a target string in the Trie.
+     *
+     * One comparison is recorded per sibling probed and per label char matched.
+     *
+     * @param target The string to search for
+     * @param metrics Metrics collector
+     * @return Index of first occurrence, or -1 if not found
+     */
+    public int find(String target, MetricsCollector metrics) {
+        int node = 0;
+        int pos = 0;
+        int length = target.length();
+
+        while (pos < length) {
+            node = findChild(node, target.charAt(pos), metrics);
+            if (node < 0) {
+                return NOT_FOUND;
+            }
+
+            // The first char matched in findChild; match the rest of the edge label
+            int start = labelStart[node];
+            int labelLen = labelLength[node];
+            if (length - pos < labelLen) {
+                return NOT_FOUND; // Target ends inside the edge
+            }
+            for (int i = 1; i < labelLen; i++) {
+                metrics.recordComparison(1);
+                if (labels[start + i] != target.charAt(pos + i)) {
+                    return NOT_FOUND;
+                }
+            }
+            pos += labelLen;
+        }
+
+        // Either a stored word, or -1 if the target is only a prefix
+        return endsWord(node, length) ? firstIndex[rankLow[node]] : NOT_FOUND;
+    }
+
+    /**
+     * Finds the ranks of the distinct words starting with a prefix.
+     *
+     * @param prefix The prefix ("" matches every word)
+     * @param metrics Metrics collector
+     * @return {low, high}: the matching ranks are low (inclusive) to high (exclusive)
+     */
+    public int[] prefixRange(String prefix, MetricsCollector metrics) {
+        int node = 0;
+        int pos = 0;
+        int length = prefix.length();
+
+        while (pos < length) {
+            node = findChild(node, prefix.charAt(pos), metrics);
+            if (node < 0) {
+                return new int[] {0, 0};
+            }
+
+            // The prefix may end inside the edge; every word below still matches
+            int start = labelStart[node];
+            int end = Math.min(labelLength[node], length - pos);
+            for (int i = 1; i < end; i++) {
+                metrics.recordComparison(1);
+                if (labels[start + i] != prefix.charAt(pos + i)) {
+                    return new int[] {0, 0};
+                }
+            }
+            pos += labelLength[node];
+        }
+        return new int[] {rankLow[node], rankHigh[node]};
+    }
+
+    /**
+     * Counts the distinct words below a key (or at most the key).
+     *
+     * Walks down the trie along the key; where the key leaves the trie, every
+     * subtree to the left holds smaller words and every subtree to the right
+     * larger ones, so the answer is a rank boundary of the current node.
+     *
+     * @param key The key
+     * @param inclusive Whether a word equal to the key is counted
+     * @param metrics Metrics collector
+     * @return Number of distinct words w with w < key (or w <= key)
+     */
+    public int rank(String key, boolean inclusive, MetricsCollector metrics) {
+        int node = 0;
+        int pos = 0;
+        int length = key.length();
+
+        while (pos < length) {
+            int child = findChild(node, key.charAt(pos), metrics);
+            if (child < 0) {
+                // Words at this node and in children before the insertion point are smaller
+                int insertion = -child - 1;
+                return insertion < childStart[node] + childCount[node] ? rankLow[insertion] : rankHigh[node];
+            }
+            node = child;
+
+            int start = labelStart[node];
+            int labelLen = labelLength[node];
+            for (int i = 1; i < labelLen; i++) {
+                if (pos + i == length) {
+                    return rankLow[node]; // Key is a proper prefix of every word below
+                }
+                metrics.recordComparison(1);
+                char labelChar = labels[start + i];
+                char keyChar = key.charAt(pos + i);
+                if (labelChar != keyChar) {
+                    return labelChar > keyChar ? rankLow[node] : rankHigh[node];
+                }
+            }
+            pos += labelLen;
+        }
+
+        // Key ends at this node: only the word ending here can equal it
+        return inclusive && endsWord(node, length) ? rankLow[node] + 1 : rankLow[node];
+    }
+
+    /**
+     * Picks the most frequent ranks of a range, most frequent first.
+     * Ranks of equal frequency come in lexicographic order.
+     *
+     * Uses a priority queue of sub-ranges, each keyed by its most frequent
+     * rank (a segment tree query), so only O(k) ranges are ever examined.
+     *
+     * @param low First rank of the range (inclusive)
+     * @param high Last rank of the range (exclusive)
+     * @param k Number of ranks to return
+     * @param metrics Metrics collector
+     * @return Up to k ranks
+     */
+    public int[] topRanks(int low, int high, int k, MetricsCollector metrics) {
+        int[] top = new int[Math.max(0, Math.min(k, high - low))];
+        if (top.length == 0) {
+            return top;
+        }
+
+        // Entries are {rangeLow, rangeHigh, bestRank}
+        PriorityQueue<int[]> queue = new PriorityQueue<>(
+            (a, b) -> moreFrequent(a[2], b[2], metrics) == a[2] ? -1 : 1);
+        queue.add(new int[] {low, high, mostFrequent(low, high, metrics)});
+
+        for (int i = 0; i < top.length; i++) {
+            int[] range = queue.poll();
+            int best = range[2];
+            top[i] = best;
+            if (range[0] < best) {
+                queue.add(new int[] {range[0], best, mostFrequent(range[0], best, metrics)});
+            }
+            if (best + 1 < range[1]) {
+                queue.add(new int[] {best + 1, range[1], mostFrequent(best + 1, range[1], metrics)});
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Counts the occurrences of the words in a rank range.
+     *
+     * @param low First rank (inclusive)
+     * @param high Last rank (exclusive)
+     * @return Number of source strings with a rank in the range
+     */
+    public long countBetween(int low, int high) {
+        return high > low ? cumulative[high] - cumulative[low] : 0;
+    }
+
+    /**
+     * Gets the word of a rank.
+     *
+     * @param rank The rank
+     * @return The word
+     */
+    public String wordAt(int rank) {
+        return words[rank];
+    }
+
+    /**
+     * Gets the number of occurrences of the word of a rank.
+     *
+     * @param rank The rank
+     * @return The occurrence count
+     */
+    public int countAt(int rank) {
+        return cumulative[rank + 1] - cumulative[rank];
+    }
+
+    /**
+     * Gets the first position in the source array of the word of a rank.
+     *
+     * @param rank The rank
+     * @return The first index
+     */
+    public int firstIndexAt(int rank) {
+        return firstIndex[rank];
+    }
+
+    /**
+     * Gets the number of words inserted (including duplicates).
+     *
+     * @return The word count
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Gets the number of distinct words.
+     *
+     * @return The distinct word count
+     */
+    public int getDistinctCount() {
+        return words.length;
+    }
+
+    /**
+     * Gets the number of nodes in the Trie, including the root.
+     *
+     * @return The node count
+     */
+    public int getNodeCount() {
+        return rankLow.length;
+    }
+
+    /**
+     * Estimates the heap retained by this index: array payloads plus headers.
+     * The word strings themselves are shared with the dataset and not counted.
+     *
+     * @return Approximate size in bytes
+     */
+    public long getMemoryFootprintBytes() {
+        long nodes = getNodeCount();
+        long ranks = getDistinctCount();
+        long arrayHeader = 16;
+        return 6 * (arrayHeader + nodes * Integer.BYTES)
+             + (arrayHeader + nodes * Character.BYTES)
+             + (arrayHeader + (long) labels.length * Character.BYTES)
+             + (arrayHeader + ranks * 4) // word references, assuming compressed oops
+             + (arrayHeader + ranks * Integer.BYTES)
+             + (arrayHeader + (ranks + 1) * Integer.BYTES)
+             + (arrayHeader + (long) frequencyTree.length * Integer.BYTES)
+             + 64; // the TrieIndex object itself
+    }
+
+    /**
+     * Binary searches the children of a node for the one whose label starts with ch.
+     *
+     * @return The child's node ID, or (-(insertion point) - 1) if there is none
+     */
+    private int findChild(int node, char ch, MetricsCollector metrics) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            metrics.recordComparison(1);
+            char c = firstChar[mid];
+            if (c < ch) {
+                low = mid + 1;
+            } else if (c > ch) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Checks whether a word of the given length ends at a node.
+     * Such a word is the first (smallest) of the node's subtree.
+     */
+    private boolean endsWord(int node, int length) {
+        return rankLow[node] < rankHigh[node] && words[rankLow[node]].length() == length;
+    }
+
+    /**
+     * Builds a bottom-up segment tree whose nodes hold the most frequent rank below them.
+     */
+    private int[] buildFrequencyTree() {
+        int n = words.length;
+        int[] tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = moreFrequent(tree[2 * i], tree[2 * i + 1], null);
+        }
+        return tree;
+    }
+
+    /**
+     * Finds the most frequent rank in [low, high) with a segment tree query.
+     */
+    private int mostFrequent(int low, int high, MetricsCollector metrics) {
+        int n = words.length;
+        int best = NOT_FOUND;
+        for (int l = low + n, r = high + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = moreFrequent(best, frequencyTree[l++], metrics);
+            }
+            if ((r & 1) == 1) {
+                best = moreFrequent(best, frequencyTree[--r], metrics);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the more frequent of two ranks, or the smaller rank on a tie.
+     */
+    private int moreFrequent(int a, int b, MetricsCollector metrics) {
+        if (a == NOT_FOUND) return b;
+        if (b == NOT_FOUND) return a;
+        if (metrics != null) {
+            metrics.recordComparison(1);
+        }
+        int countA = countAt(a);
+        int countB = countAt(b);
+        if (countA != countB) {
+            return countA > countB ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Lays out the radix tree over sorted distinct words.
+     *
+     * Nodes are processed breadth-first from a queue of word ranges. Because
+     * the words are sorted, each node's range is contiguous, the common prefix
+     * of the whole range is the common prefix of its first and last word, and
+     * the children appear in char order.
+     */
+    private static final class Builder {
+        private final String[] words;
+        private final int[] positions;
+        private final int[] cumulative;
+
+        // A tree over k distinct words has at most 2k nodes (plus the root)
+        private final int[] labelStart;
+        private final int[] labelLength;
+        private final char[] firstChar;
+        private final int[] childStart;
+        private final int[] childCount;
+        private final int[] rankLow;
+        private final int[] rankHigh;
+        private char[] labels = new char[64];
+        private int labelSize;
+        private int nodeCount;
+
+        // Pending nodes: node ID, word range [lo, hi), depth of the label start
+        private final int[] queueNode;
+        private final int[] queueLo;
+        private final int[] queueHi;
+        private final int[] queueDepth;
+
+        Builder(String[] words, int[] positions, int[] cumulative) {
+            this.words = words;
+            this.positions = positions;
+            this.cumulative = cumulative;
+            int maxNodes = 2 * words.length + 1;
+            labelStart = new int[maxNodes];
+            labelLength = new int[maxNodes];
+            firstChar = new char[maxNodes];
+            childStart = new int[maxNodes];
+            childCount = new int[maxNodes];
+            rankLow = new int[maxNodes];
+            rankHigh = new int[maxNodes];
+            queueNode = new int[maxNodes];
+            queueLo = new int[maxNodes];
+            queueHi = new int[maxNodes];
+            queueDepth = new int[maxNodes];
+        }
+
+        void build() {
+            int head = 0;
+            int tail = 0;
+            nodeCount = 1;
+            queueNode[tail] = 0;
+            queueLo[tail] = 0;
+            queueHi[tail] = words.length;
+            queueDepth[tail] = 0;
+            tail++;
+
+            while (head < tail) {
+                int node = queueNode[head];
+                int lo = queueLo[head];
+                int hi = queueHi[head];
+                int depth = queueDepth[head];
+                head++;
+
+                // The root keeps an empty label; other nodes absorb the range's common prefix
+                int end = depth;
+                if (node != 0) {
+                    end = commonPrefixEnd(words[lo], words[hi - 1], depth);
+                    setLabel(node, words[lo], depth, end);
+                }
+                rankLow[node] = lo;
+                rankHigh[node] = hi;
+
+                if (lo < hi && words[lo].length() == end) {
+                    lo++; // The word ending here sorts first, before its extensions
+                }
+
+                // Group the remaining words by their next char; each group is a child
+                childStart[node] = nodeCount;
+                int groupStart = lo;
+                while (groupStart < hi) {
+                    char ch = words[groupStart].charAt(end);
+                    int groupEnd = groupStart + 1;
+                    while (groupEnd < hi && words[groupEnd].charAt(end) == ch) {
+                        groupEnd++;
+                    }
+                    queueNode[tail] = nodeCount++;
+                    queueLo[tail] = groupStart;
+                    queueHi[tail] = groupEnd;
+                    queueDepth[tail] = end;
+                    tail++;
+                    groupStart = groupEnd;
+                }
+                childCount[node] = nodeCount - childStart[node];
+            }
+        }
+
+        private void setLabel(int node, String word, int from, int to) {
+            int length = to - from;
+            if (labelSize + length > labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(labels.length * 2, labelSize + length));
+            }
+            word.getChars(from, to, labels, labelSize);
+            labelStart[node] = labelSize;
+            labelLength[node] = length;
+            firstChar[node] = word.charAt(from);
+            labelSize += length;
+        }
+
+        private static int commonPrefixEnd(String a, String b, int from) {
+            int limit = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.algorithmcomparison.algorithm.searching;
 
+import com.algorithmcomparison.model.StringMatch;
+import com.algorithmcomparison.model.StringQuery;
 import com.algorithmcomparison.util.MetricsCollector;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Trie-based Search implementation for String datasets.
  * 
@@ -14,7 +19,8 @@ import com.algorithmcomparison.util.MetricsCollector;
  * 3. Return the first index where the string was found
  * 
  * Time Complexity: 
- * - Build: O(n * m) where n is number of strings, m is average length
+ * - Build: O(n log n * m) where n is number of strings, m is average length
+ *   (the words are sorted to lay out a compact radix tree)
  * - Search: O(m) where m is length of target string
  * Space Complexity: O(n * m) for the Trie structure
  * 
@@ -24,29 +30,18 @@ import com.algorithmcomparison.util.MetricsCollector;
  * - Autocomplete functionality
  * - Dictionary lookups
  * 
- * Note: This implementation builds the Trie for each search.
- * In practice, you'd build once and search multiple times.
+ * Note: search(String[], ...) builds the Trie for each search, which is what
+ * a single comparison run measures. SearchingService instead reuses a
+ * prebuilt TrieIndex per dataset and calls search(TrieIndex, ...).
+ * 
+ * Prefix, autocomplete and range queries (StringQueryAlgorithm) also run on
+ * the prebuilt index: the trie walk locates the range of matching words,
+ * and only the returned words are visited.
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.2
  */
-public class TrieSearch implements SearchingAlgorithm {
-
-    /**
-     * Trie Node class representing each character in the tree.
-     */
-    private static class TrieNode {
-        TrieNode[] children;
-        boolean isEndOfWord;
-        int firstIndex; // Stores the first index where this string appears
-        
-        public TrieNode() {
-            // Support all printable ASCII characters (128 characters)
-            children = new TrieNode[128];
-            isEndOfWord = false;
-            firstIndex = -1;
-        }
-    }
+public class TrieSearch implements SearchingAlgorithm, StringQueryAlgorithm<TrieIndex> {
 
     @Override
     public int search(int[] array, int target, MetricsCollector metrics) {
@@ -62,93 +57,74 @@ public class TrieSearch implements SearchingAlgorithm {
         }
 
         // Build the Trie from the array
-        TrieNode root = buildTrie(array, metrics);
+        TrieIndex index = TrieIndex.build(array, metrics);
         
         // Search for the target in the Trie
-        return searchInTrie(root, target, metrics);
+        return index.find(target, metrics);
     }
 
     /**
-     * Builds a Trie from the given string array.
+     * Searches a prebuilt Trie, costing O(m) for a target of length m.
      * 
-     * @param array The array of strings
+     * @param index Trie built from the dataset
+     * @param target The string to search for
      * @param metrics Metrics collector
-     * @return The root node of the Trie
+     * @return Index of first occurrence, or -1 if not found
      */
-    private TrieNode buildTrie(String[] array, MetricsCollector metrics) {
-        TrieNode root = new TrieNode();
-        
-        for (int i = 0; i < array.length; i++) {
-            String word = array[i];
+    public int search(TrieIndex index, String target, MetricsCollector metrics) {
+        if (index == null || target == null) {
+            return -1;
+        }
+        return index.find(target, metrics);
+    }
+
+    @Override
+    public StringQueryOutcome findByPrefix(TrieIndex index, String prefix, int limit, MetricsCollector metrics) {
+        int[] range = index.prefixRange(prefix, metrics);
+        int end = (int) Math.min(range[1], (long) range[0] + limit);
+
+        List<StringMatch> matches = new ArrayList<>(Math.max(0, end - range[0]));
+        for (int rank = range[0]; rank < end; rank++) {
             metrics.recordArrayAccess(1);
-            
-            if (word == null) continue;
-            
-            TrieNode current = root;
-            
-            // Insert each character of the word into the Trie
-            for (int j = 0; j < word.length(); j++) {
-                char ch = word.charAt(j);
-                int index = (int) ch;
-                
-                // Ensure character is within our supported range
-                if (index >= 128) {
-                    index = 127; // Use last slot for unsupported characters
-                }
-                
-                if (current.children[index] == null) {
-                    current.children[index] = new TrieNode();
-                }
-                
-                current = current.children[index];
-            }
-            
-            // Mark end of word and store the first occurrence index
-            current.isEndOfWord = true;
-            if (current.firstIndex == -1) {
-                current.firstIndex = i;
-            }
+            matches.add(toMatch(index, rank));
         }
-        
-        return root;
+        return new StringQueryOutcome(index.countBetween(range[0], range[1]), matches);
     }
 
-    /**
-     * Searches for a target string in the Trie.
-     * 
-     * @param root The root node of the Trie
-     * @param target The string to search for
-     * @param metrics Metrics collector
-     * @return Index of first occurrence, or -1 if not found
-     */
-    private int searchInTrie(TrieNode root, String target, MetricsCollector metrics) {
-        TrieNode current = root;
-        
-        // Traverse the Trie following the characters of the target
-        for (int i = 0; i < target.length(); i++) {
-            char ch = target.charAt(i);
-            int index = (int) ch;
-            
-            metrics.recordComparison(1); // Count each character comparison
-            
-            if (index >= 128) {
-                index = 127;
-            }
-            
-            if (current.children[index] == null) {
-                // Character not found - target doesn't exist in Trie
-                return -1;
-            }
-            
-            current = current.children[index];
+    @Override
+    public StringQueryOutcome autocomplete(TrieIndex index, String prefix, int k, MetricsCollector metrics) {
+        int[] range = index.prefixRange(prefix, metrics);
+        int[] top = index.topRanks(range[0], range[1], k, metrics);
+
+        List<StringMatch> matches = new ArrayList<>(top.length);
+        for (int rank : top) {
+            metrics.recordArrayAccess(1);
+            matches.add(toMatch(index, rank));
         }
-        
-        // Check if we've reached the end of a valid word
-        if (current.isEndOfWord) {
-            return current.firstIndex;
+        return new StringQueryOutcome(index.countBetween(range[0], range[1]), matches);
+    }
+
+    @Override
+    public StringQueryOutcome countRange(TrieIndex index, String from, String to, MetricsCollector metrics) {
+        int low = index.rank(from, false, metrics);
+        int high = index.rank(to, true, metrics);
+        return StringQueryOutcome.count(index.countBetween(low, high));
+    }
+
+    @Override
+    public String getQueryComplexity(StringQuery.Type type) {
+        switch (type) {
+            case PREFIX:
+                return "O(m + k)"; // m = prefix length, k = strings returned
+            case AUTOCOMPLETE:
+                return "O(m + k log n)";
+            default:
+                return "O(m)";
         }
-        
-        return -1; // Target is a prefix but not a complete word
+    }
+
+    private static StringMatch toMatch(TrieIndex index, int rank) {
+        return new StringMatch(index.wordAt(rank), index.countAt(rank), index.firstIndexAt(rank));
     }
 
     @Override
@@ -10,6 +10,7 @@ import java.util.function.BiPredicate;
  * 
  * This class provides:
  * - Generic sorting infrastructure using Comparable<T>
+ * - A primitive int[] hook so integer datasets can be sorted without boxing
  * - Unified StepCollector integration
  * - Consistent MetricsCollector usage
  * - Template methods for common operations
@@ -49,12 +50,10 @@ public abstract class AbstractSortingAlgorithm implements SortingAlgorithm {
 
     /**
      * Internal method to sort integer arrays.
-     * Delegates to the generic implementation.
+     * Delegates to the primitive implementation.
      */
     private void sortInternal(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
-        Integer[] boxedArray = boxIntArray(array);
-        sortGeneric(boxedArray, metrics, stepCollector, (a, b) -> a.compareTo(b) > 0);
-        unboxIntArray(boxedArray, array);
+        sortPrimitive(array, metrics, stepCollector);
     }
 
     /**
@@ -81,6 +80,24 @@ public abstract class AbstractSortingAlgorithm implements SortingAlgorithm {
         BiPredicate<T, T> isGreater
     );
 
+    /**
+     * Primitive sorting method for integer arrays.
+     * 
+     * Subclasses should override this to sort the int[] in place without boxing.
+     * Overrides must record the same comparison, swap and array access counts as
+     * {@link #sortGeneric} so results stay comparable between the two paths.
+     * The default implementation boxes into Integer[] and delegates to sortGeneric.
+     * 
+     * @param array The integer array to sort (modified in place)
+     * @param metrics The metrics collector
+     * @param stepCollector Optional step collector for visualization (can be null)
+     */
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        Integer[] boxedArray = boxIntArray(array);
+        sortGeneric(boxedArray, metrics, stepCollector, (a, b) -> a.compareTo(b) > 0);
+        unboxIntArray(boxedArray, array);
+    }
+
     // ==================== Helper Methods ====================
 
     /**
@@ -239,6 +256,18 @@ public abstract class AbstractSortingAlgorithm implements SortingAlgorithm {
         }
     }
 
+    /**
+     * Primitive swap method.
+     * Records the same counts as the generic swap does for Integer[].
+     */
+    protected void swap(int[] array, int i, int j, MetricsCollector metrics) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        metrics.recordSwap(1);
+        metrics.recordArrayAccess(2); // Two array accesses for the swap
+    }
+
     // ==================== Boxing/Unboxing Utilities ====================
 
     /**
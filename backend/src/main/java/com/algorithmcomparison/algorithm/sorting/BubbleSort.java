@@ -65,6 +65,45 @@ public class BubbleSort extends AbstractSortingAlgorithm {
         recordComplete(array, stepCollector, "Sorting complete!");
     }
 
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same passes and metrics, but works on the array in place without boxing.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        int n = array.length;
+        
+        recordInitialState(array, stepCollector, "Initial array state");
+        
+        for (int i = 0; i < n - 1; i++) {
+            boolean swapped = false;
+            
+            for (int j = 0; j < n - i - 1; j++) {
+                if (stepCollector != null) {
+                    recordComparison(array, stepCollector, j, j + 1, 
+                        "Comparing elements at index " + j + " and " + (j + 1));
+                }
+                
+                if (metrics.isGreaterThan(array[j], array[j + 1])) {
+                    swap(array, j, j + 1, metrics);
+                    swapped = true;
+                    
+                    if (stepCollector != null) {
+                        recordSwap(array, stepCollector, j, j + 1,
+                            "Swapped elements at index " + j + " and " + (j + 1));
+                    }
+                }
+            }
+            
+            // Optimization: If no swaps occurred, array is already sorted
+            if (!swapped) {
+                break;
+            }
+        }
+        
+        recordComplete(array, stepCollector, "Sorting complete!");
+    }
+
     @Override
     public String getName() {
         return "Bubble Sort";
@@ -0,0 +1,314 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.StepCollector;
+import java.util.function.BiPredicate;
+
+/**
+ * Dual-Pivot Quick Sort (Yaroslavskiy), the algorithm behind
+ * Arrays.sort(int[]) since Java 7, instrumented through MetricsCollector.
+ *
+ * Two pivots p <= q, the 2nd and 4th of five evenly spaced sorted samples,
+ * split each range into three parts: less than p, between p and q, and
+ * at least q. A single left-to-right scan classifies every element,
+ * swapping it to the left part or exchanging it with an element from the
+ * right end.
+ *
+ * Compared with single-pivot Quick Sort using Hoare partitioning it makes
+ * about the same number of comparisons (1.9 n ln n vs 2 n ln n) and more
+ * swaps (0.6 n ln n vs 0.33 n ln n), yet runs faster: the recursion has
+ * log₃ instead of log₂ levels, so the pointers read each element fewer
+ * times (about 1.6 n ln n vs 2 n ln n element scans) and the sort moves
+ * less data through the cache. Those are textbook figures; the bundled
+ * Quick Sort's CLASSIC variant partitions with Lomuto, which swaps about
+ * n ln n times, so next to it the swap count of this sort comes out lower,
+ * not higher. Cache behaviour is not measured directly: elapsed benchmark
+ * time next to the counts stands in for it.
+ *
+ * Like the JDK version, ranges shorter than 47 elements are insertion
+ * sorted, and when the middle part is large the keys equal to either pivot
+ * are moved to its ends first, so inputs with many duplicates stay fast.
+ *
+ * Time Complexity: O(n log n) average case, O(n²) worst case (very unlikely with sampled pivots)
+ * Space Complexity: O(log n) due to recursion stack
+ * Stable: No - may change relative order of equal elements
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public class DualPivotQuickSort extends AbstractSortingAlgorithm {
+
+    /**
+     * Ranges shorter than this are insertion sorted (the JDK 7 value).
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 47;
+
+    // ==================== Generic (Comparable) Version ====================
+
+    @Override
+    protected <T extends Comparable<T>> void sortGeneric(
+            T[] array,
+            MetricsCollector metrics,
+            StepCollector stepCollector,
+            BiPredicate<T, T> isGreater) {
+
+        if (array.length > 1) {
+            dualPivotQuickSort(array, 0, array.length - 1, metrics, isGreater);
+        }
+    }
+
+    /**
+     * Sorts array[left...right].
+     */
+    private <T extends Comparable<T>> void dualPivotQuickSort(
+            T[] array, int left, int right,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int length = right - left + 1;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right, metrics, isGreater);
+            return;
+        }
+
+        // Five evenly spaced samples around the middle, sorted in place
+        int seventh = (length >> 3) + (length >> 6) + 1;
+        int e3 = (left + right) >>> 1;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+        int[] samples = {e1, e2, e3, e4, e5};
+        for (int i = 1; i < samples.length; i++) {
+            for (int j = i; j > 0 && isGreaterThan(array[samples[j - 1]], array[samples[j]], metrics, isGreater); j--) {
+                swap(array, samples[j - 1], samples[j], metrics);
+            }
+        }
+
+        // The 2nd and 4th samples become the pivots at the range's ends
+        swap(array, left, e2, metrics);
+        swap(array, right, e4, metrics);
+        T p = array[left];
+        T q = array[right];
+        metrics.recordArrayAccess(2);
+
+        // [left+1...less-1] < p, [less...k-1] between, [great+1...right-1] >= q
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; k++) {
+            if (isGreaterThan(p, array[k], metrics, isGreater)) {
+                if (k != less) {
+                    swap(array, k, less, metrics);
+                }
+                less++;
+            } else if (!isGreaterThan(q, array[k], metrics, isGreater)) {
+                // array[k] >= q: find an element from the right that is not greater than q
+                while (k < great && isGreaterThan(array[great], q, metrics, isGreater)) {
+                    great--;
+                }
+                swap(array, k, great--, metrics);
+                if (isGreaterThan(p, array[k], metrics, isGreater)) {
+                    swap(array, k, less++, metrics);
+                }
+            }
+        }
+
+        // Move the pivots between the parts
+        swap(array, left, --less, metrics);
+        swap(array, right, ++great, metrics);
+
+        dualPivotQuickSort(array, left, less - 1, metrics, isGreater);
+        dualPivotQuickSort(array, great + 1, right, metrics, isGreater);
+
+        if (!isGreaterThan(q, p, metrics, isGreater)) {
+            // p == q: the middle part holds only keys equal to the pivots
+            return;
+        }
+        less++;
+        great--;
+        if (less < e1 && e5 < great) {
+            // A large middle part: swap keys equal to p to its front and keys
+            // equal to q to its back, then sort only what lies between
+            while (less <= great && !isGreaterThan(array[less], p, metrics, isGreater)) {
+                less++;
+            }
+            while (less <= great && !isGreaterThan(q, array[great], metrics, isGreater)) {
+                great--;
+            }
+            for (int k = less; k <= great; k++) {
+                if (!isGreaterThan(array[k], p, metrics, isGreater)) {
+                    if (k != less) {
+                        swap(array, k, less, metrics);
+                    }
+                    less++;
+                } else if (!isGreaterThan(q, array[k], metrics, isGreater)) {
+                    while (k < great && !isGreaterThan(q, array[great], metrics, isGreater)) {
+                        great--;
+                    }
+                    swap(array, k, great--, metrics);
+                    if (!isGreaterThan(array[k], p, metrics, isGreater)) {
+                        swap(array, k, less++, metrics);
+                    }
+                }
+            }
+        }
+        dualPivotQuickSort(array, less, great, metrics, isGreater);
+    }
+
+    /**
+     * Insertion sort for array[left...right], shifting instead of swapping.
+     */
+    private <T extends Comparable<T>> void insertionSort(
+            T[] array, int left, int right,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        for (int i = left + 1; i <= right; i++) {
+            T key = array[i];
+            int j = i - 1;
+            while (j >= left && isGreaterThan(array[j], key, metrics, isGreater)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+    }
+
+    // ==================== Primitive int[] Version ====================
+
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same partitioning and metrics, but works on the array in place without boxing.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        if (array.length > 1) {
+            dualPivotQuickSort(array, 0, array.length - 1, metrics);
+        }
+    }
+
+    private void dualPivotQuickSort(int[] array, int left, int right, MetricsCollector metrics) {
+        int length = right - left + 1;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right, metrics);
+            return;
+        }
+
+        int seventh = (length >> 3) + (length >> 6) + 1;
+        int e3 = (left + right) >>> 1;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+        int[] samples = {e1, e2, e3, e4, e5};
+        for (int i = 1; i < samples.length; i++) {
+            for (int j = i; j > 0 && metrics.isGreaterThan(array[samples[j - 1]], array[samples[j]]); j--) {
+                swap(array, samples[j - 1], samples[j], metrics);
+            }
+        }
+
+        swap(array, left, e2, metrics);
+        swap(array, right, e4, metrics);
+        int p = array[left];
+        int q = array[right];
+        metrics.recordArrayAccess(2);
+
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; k++) {
+            if (metrics.isLessThan(array[k], p)) {
+                if (k != less) {
+                    swap(array, k, less, metrics);
+                }
+                less++;
+            } else if (!metrics.isLessThan(array[k], q)) {
+                while (k < great && metrics.isGreaterThan(array[great], q)) {
+                    great--;
+                }
+                swap(array, k, great--, metrics);
+                if (metrics.isLessThan(array[k], p)) {
+                    swap(array, k, less++, metrics);
+                }
+            }
+        }
+
+        swap(array, left, --less, metrics);
+        swap(array, right, ++great, metrics);
+
+        dualPivotQuickSort(array, left, less - 1, metrics);
+        dualPivotQuickSort(array, great + 1, right, metrics);
+
+        if (!metrics.isLessThan(p, q)) {
+            return;
+        }
+        less++;
+        great--;
+        if (less < e1 && e5 < great) {
+            while (less <= great && metrics.isEqual(array[less], p)) {
+                less++;
+            }
+            while (less <= great && metrics.isEqual(array[great], q)) {
+                great--;
+            }
+            for (int k = less; k <= great; k++) {
+                if (metrics.isEqual(array[k], p)) {
+                    if (k != less) {
+                        swap(array, k, less, metrics);
+                    }
+                    less++;
+                } else if (metrics.isEqual(array[k], q)) {
+                    while (k < great && metrics.isEqual(array[great], q)) {
+                        great--;
+                    }
+                    swap(array, k, great--, metrics);
+                    if (metrics.isEqual(array[k], p)) {
+                        swap(array, k, less++, metrics);
+                    }
+                }
+            }
+        }
+        dualPivotQuickSort(array, less, great, metrics);
+    }
+
+    private void insertionSort(int[] array, int left, int right, MetricsCollector metrics) {
+        for (int i = left + 1; i <= right; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= left && metrics.isGreaterThan(array[j], key)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Dual Pivot Quick Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false;
+    }
+}
@@ -76,6 +76,53 @@ public class InsertionSort extends AbstractSortingAlgorithm {
         recordComplete(array, stepCollector, "Sorting complete!");
     }
 
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same shifts and metrics, but works on the array in place without boxing.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        int n = array.length;
+        
+        recordInitialState(array, stepCollector, "Initial array state");
+        
+        for (int i = 1; i < n; i++) {
+            int key = array[i];
+            int j = i - 1;
+            
+            if (stepCollector != null) {
+                recordComparison(array, stepCollector, i, i, 
+                    "Picking element " + key + " at index " + i + " to insert into sorted portion");
+            }
+            
+            while (j >= 0 && metrics.isGreaterThan(array[j], key)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                
+                if (stepCollector != null) {
+                    recordSwap(array, stepCollector, j + 1, j + 1,
+                        "Shifting " + array[j + 1] + " right to position " + (j + 1));
+                }
+                
+                j--;
+            }
+            
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            
+            if (stepCollector != null) {
+                recordSwap(array, stepCollector, j + 1, j + 1,
+                    "Inserted " + key + " at position " + (j + 1));
+            }
+            
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+        
+        recordComplete(array, stepCollector, "Sorting complete!");
+    }
+
     @Override
     public String getName() {
         return "Insertion Sort";
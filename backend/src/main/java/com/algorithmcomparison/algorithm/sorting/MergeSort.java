@@ -2,199 +2,457 @@ package com.algorithmcomparison.algorithm.sorting;
 
 import com.algorithmcomparison.util.MetricsCollector;
 import com.algorithmcomparison.util.StepCollector;
+import java.util.Arrays;
 import java.util.function.BiPredicate;
-import java.lang.reflect.Array;
 
 /**
  * Merge Sort implementation.
- * 
+ *
  * Merge Sort is a divide-and-conquer algorithm that divides the array into
  * two halves, recursively sorts them, and then merges the sorted halves.
- * 
+ *
+ * A single auxiliary buffer is allocated per sort. The top-down variant
+ * ping-pongs between the array and the buffer: each level of recursion
+ * sorts its halves into one of them and merges into the other, so no level
+ * copies data before merging. The bottom-up variant merges runs of width
+ * 1, 2, 4, ... in passes that alternate between the two buffers, without
+ * recursion. Either variant can sort runs shorter than an insertion cutoff
+ * with insertion sort instead of merging down to single elements.
+ *
+ * The default configuration (top-down, no cutoff) splits and merges exactly
+ * as the textbook recursion does, so it makes the same comparisons and
+ * moves; only the array accesses for copying into temporaries are gone.
+ *
+ * When steps are collected for visualization, every merge copies its range
+ * into the buffer and merges back into the array instead, so each recorded
+ * step shows the array's real state.
+ *
  * Time Complexity: O(n log n) in all cases
  * Space Complexity: O(n) - requires auxiliary array for merging
  * Stable: Yes - maintains relative order of equal elements
- * 
+ *
  * Best Performance: Guaranteed O(n log n) performance, works well on linked lists
- * 
+ *
  * @author Algorithm Comparison Team
- * @version 2.0 (Refactored to use AbstractSortingAlgorithm)
+ * @version 3.1
  */
 public class MergeSort extends AbstractSortingAlgorithm {
 
+    /**
+     * Run length below which the bottom-up variant registered as
+     * "Bottom Up Merge Sort" uses insertion sort.
+     */
+    public static final int DEFAULT_INSERTION_CUTOFF = 16;
+
+    /**
+     * Order in which runs are merged.
+     */
+    public enum Strategy {
+        TOP_DOWN,  // Recursive halving
+        BOTTOM_UP  // Iterative passes over runs of doubling width
+    }
+
+    private final Strategy strategy;
+    private final int insertionCutoff;
+
+    /**
+     * Creates the classic top-down merge sort without an insertion cutoff.
+     */
+    public MergeSort() {
+        this(Strategy.TOP_DOWN, 0);
+    }
+
+    /**
+     * Creates a merge sort.
+     *
+     * @param strategy Top-down or bottom-up merging
+     * @param insertionCutoff Runs of at most this many elements are insertion sorted (0 or 1 = never)
+     */
+    public MergeSort(Strategy strategy, int insertionCutoff) {
+        this.strategy = strategy;
+        this.insertionCutoff = Math.max(insertionCutoff, 1);
+    }
+
+    // ==================== Generic (Comparable) Version ====================
+
     @Override
     protected <T extends Comparable<T>> void sortGeneric(
-            T[] array, 
-            MetricsCollector metrics, 
+            T[] array,
+            MetricsCollector metrics,
             StepCollector stepCollector,
             BiPredicate<T, T> isGreater) {
-        
+
         if (array.length > 1) {
             // Record initial state
-            recordInitialState(array, stepCollector, "Starting Merge Sort");
-            
-            mergeSort(array, 0, array.length - 1, metrics, stepCollector, isGreater);
-            
+            recordInitialState(array, stepCollector, "Starting " + getName());
+
+            T[] buffer = Arrays.copyOf(array, array.length);
+            metrics.recordArrayAccess(array.length);
+            if (strategy == Strategy.BOTTOM_UP) {
+                bottomUp(array, buffer, metrics, stepCollector, isGreater);
+            } else if (stepCollector == null) {
+                pingPong(buffer, array, 0, array.length - 1, metrics, isGreater);
+            } else {
+                mergeSort(array, buffer, 0, array.length - 1, metrics, stepCollector, isGreater);
+            }
+
             // Record final sorted state
-            recordComplete(array, stepCollector, "Merge Sort Complete");
+            recordComplete(array, stepCollector, getName() + " Complete");
         }
     }
 
     /**
-     * Recursive merge sort method with visualization support.
-     * 
-     * @param array The array to sort
-     * @param left Starting index
-     * @param right Ending index
-     * @param metrics Metrics collector
-     * @param stepCollector Step collector for visualization
-     * @param isGreater Comparison function
+     * Sorts source[left...right] into target[left...right], sorting each half
+     * into source first. On entry both arrays hold the same values in this
+     * range, which is why a single element needs no work. Package-private
+     * so ParallelMergeSort can sort its sequential runs the same way.
+     */
+    <T extends Comparable<T>> void pingPong(
+            T[] source, T[] target, int left, int right,
+            MetricsCollector metrics, BiPredicate<T, T> isGreater) {
+
+        if (right - left < insertionCutoff) {
+            insertionSort(target, left, right, metrics, isGreater);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        pingPong(target, source, left, mid, metrics, isGreater);
+        pingPong(target, source, mid + 1, right, metrics, isGreater);
+        merge(source, target, left, mid, right, metrics, null, isGreater);
+    }
+
+    /**
+     * Recursive merge sort that keeps the array's state up to date for
+     * visualization.
      */
     private <T extends Comparable<T>> void mergeSort(
-            T[] array, int left, int right, 
+            T[] array, T[] buffer, int left, int right,
             MetricsCollector metrics,
             StepCollector stepCollector,
             BiPredicate<T, T> isGreater) {
-        
-        if (left < right) {
-            // Find the middle point to divide the array into two halves
-            int mid = left + (right - left) / 2;
-            
-            // Show division step with active region highlighting
-            if (stepCollector != null) {
-                int[] highlightIndices = new int[right - left + 1];
-                for (int i = 0; i < highlightIndices.length; i++) {
-                    highlightIndices[i] = left + i;
+
+        if (right - left < insertionCutoff) {
+            insertionSort(array, left, right, metrics, isGreater);
+            return;
+        }
+        // Find the middle point to divide the array into two halves
+        int mid = left + (right - left) / 2;
+
+        // Show division step with active region highlighting
+        recordRegionStep(array, stepCollector, left, right, rangeIndices(left, right),
+            String.format("Dividing region [%d...%d] at mid=%d", left, right, mid));
+
+        mergeSort(array, buffer, left, mid, metrics, stepCollector, isGreater);
+        mergeSort(array, buffer, mid + 1, right, metrics, stepCollector, isGreater);
+
+        System.arraycopy(array, left, buffer, left, right - left + 1);
+        metrics.recordArrayAccess(right - left + 1);
+        merge(buffer, array, left, mid, right, metrics, stepCollector, isGreater);
+    }
+
+    /**
+     * Merges runs of doubling width, alternating between the array and the
+     * buffer (or, when collecting steps, always merging back into the array).
+     */
+    private <T extends Comparable<T>> void bottomUp(
+            T[] array, T[] buffer,
+            MetricsCollector metrics,
+            StepCollector stepCollector,
+            BiPredicate<T, T> isGreater) {
+
+        int n = array.length;
+        for (int left = 0; left < n; left += insertionCutoff) {
+            insertionSort(array, left, Math.min(left + insertionCutoff, n) - 1, metrics, isGreater);
+        }
+
+        T[] source = array;
+        T[] target = buffer;
+        for (int width = insertionCutoff; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width, n) - 1;
+                int right = Math.min(left + 2 * width, n) - 1;
+                if (stepCollector != null) {
+                    if (mid < right) {
+                        System.arraycopy(array, left, buffer, left, right - left + 1);
+                        metrics.recordArrayAccess(right - left + 1);
+                        merge(buffer, array, left, mid, right, metrics, stepCollector, isGreater);
+                    }
+                } else if (mid < right) {
+                    merge(source, target, left, mid, right, metrics, null, isGreater);
+                } else {
+                    // Unpaired last run: carry it over to the target pass
+                    System.arraycopy(source, left, target, left, right - left + 1);
+                    metrics.recordArrayAccess(right - left + 1);
                 }
-                recordRegionStep(array, stepCollector, left, right, highlightIndices, 
-                    String.format("Dividing region [%d...%d] at mid=%d", left, right, mid));
             }
-            
-            // Recursively sort first half
-            mergeSort(array, left, mid, metrics, stepCollector, isGreater);
-            
-            // Recursively sort second half
-            mergeSort(array, mid + 1, right, metrics, stepCollector, isGreater);
-            
-            // Merge the sorted halves
-            merge(array, left, mid, right, metrics, stepCollector, isGreater);
+            if (stepCollector == null) {
+                T[] swap = source;
+                source = target;
+                target = swap;
+            }
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            metrics.recordArrayAccess(n);
         }
     }
 
     /**
-     * Merges two sorted subarrays into a single sorted array with visualization support.
-     * 
-     * This is the core operation of Merge Sort:
-     * 1. Create temporary arrays for left and right halves
-     * 2. Compare elements from both halves and place smaller one in main array
-     * 3. Copy any remaining elements
-     * 
-     * @param array The array containing the subarrays
-     * @param left Starting index of left subarray
-     * @param mid Ending index of left subarray (mid+1 is start of right)
-     * @param right Ending index of right subarray
-     * @param metrics Metrics collector
-     * @param stepCollector Step collector for visualization
-     * @param isGreater Comparison function
+     * Merges the sorted runs source[left...mid] and source[mid+1...right]
+     * into target[left...right].
+     *
+     * Takes from the left run on ties, which keeps the sort stable. Every
+     * element placed while both runs are non-empty counts as one move.
      */
-    @SuppressWarnings("unchecked")
     private <T extends Comparable<T>> void merge(
-            T[] array, int left, int mid, int right, 
+            T[] source, T[] target, int left, int mid, int right,
             MetricsCollector metrics,
             StepCollector stepCollector,
             BiPredicate<T, T> isGreater) {
-        
-        // Calculate sizes of two subarrays to be merged
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
-        
+
         // Show merge start with active region
         if (stepCollector != null) {
-            int[] mergeIndices = new int[right - left + 1];
-            for (int i = 0; i < mergeIndices.length; i++) {
-                mergeIndices[i] = left + i;
-            }
-            recordRegionStep(array, stepCollector, left, right, mergeIndices, 
+            recordRegionStep(target, stepCollector, left, right, rangeIndices(left, right),
                 String.format("Merging [%d...%d] and [%d...%d]", left, mid, mid + 1, right));
         }
-        
-        // Create temporary arrays using reflection to handle generics
-        T[] leftArray = (T[]) Array.newInstance(array.getClass().getComponentType(), n1);
-        T[] rightArray = (T[]) Array.newInstance(array.getClass().getComponentType(), n2);
-        
-        // Copy data to temporary arrays
-        for (int i = 0; i < n1; i++) {
-            leftArray[i] = array[left + i];
-            metrics.recordArrayAccess(1);
-        }
-        for (int j = 0; j < n2; j++) {
-            rightArray[j] = array[mid + 1 + j];
-            metrics.recordArrayAccess(1);
-        }
-        
-        // Merge the temporary arrays back into array[left...right]
-        int i = 0; // Initial index of first subarray
-        int j = 0; // Initial index of second subarray
-        int k = left; // Initial index of merged subarray
-        
-        // Compare elements from both subarrays and place smaller one in main array
-        while (i < n1 && j < n2) {
-            // Compare elements from left and right subarrays
-            if (isLessThanOrEqual(leftArray[i], rightArray[j], metrics)) {
-                array[k] = leftArray[i];
-                i++;
+
+        int i = left; // Next element of the left run
+        int j = mid + 1; // Next element of the right run
+        int k = left; // Next position in target
+
+        // Compare elements from both runs and place the smaller one
+        while (i <= mid && j <= right) {
+            if (isLessThanOrEqual(source[i], source[j], metrics)) {
+                target[k] = source[i++];
             } else {
-                array[k] = rightArray[j];
-                j++;
+                target[k] = source[j++];
             }
             metrics.recordArrayAccess(1); // Writing to array
             metrics.recordSwap(1); // Consider this a move operation
-            
+
             // Record merge step with active region
-            recordRegionStep(array, stepCollector, left, right, new int[]{k}, 
-                String.format("Placed element at position %d during merge", k));
-            
+            if (stepCollector != null) {
+                recordRegionStep(target, stepCollector, left, right, new int[]{k},
+                    String.format("Placed element at position %d during merge", k));
+            }
+
             k++;
         }
-        
-        // Copy remaining elements of leftArray, if any
-        while (i < n1) {
-            array[k] = leftArray[i];
-            metrics.recordArrayAccess(1);
-            
-            recordRegionStep(array, stepCollector, left, right, new int[]{k}, 
-                String.format("Copied remaining left element to position %d", k));
-            
-            i++;
-            k++;
+
+        // Copy whichever run has elements left
+        copyRemaining(source, target, i, mid, j, right, k, left, metrics, stepCollector);
+
+        // Show merge complete with active region
+        if (stepCollector != null) {
+            recordRegionStep(target, stepCollector, left, right, rangeIndices(left, right),
+                String.format("Merged region [%d...%d] complete", left, right));
+        }
+    }
+
+    /**
+     * Copies the rest of whichever run is not exhausted into target[k...right].
+     * Only the visualization path copies element by element, so each copy
+     * gets its own step.
+     */
+    private void copyRemaining(Object source, Object target, int i, int mid, int j, int right, int k,
+                               int left, MetricsCollector metrics, StepCollector stepCollector) {
+        boolean fromLeft = i <= mid;
+        int from = fromLeft ? i : j;
+        int remaining = fromLeft ? mid - i + 1 : right - j + 1;
+        metrics.recordArrayAccess(remaining);
+        if (stepCollector == null) {
+            System.arraycopy(source, from, target, k, remaining);
+            return;
+        }
+        for (int n = 0; n < remaining; n++, k++) {
+            System.arraycopy(source, from + n, target, k, 1);
+            recordRegionStep(target, stepCollector, left, right, new int[]{k},
+                String.format("Copied remaining %s element to position %d", fromLeft ? "left" : "right", k));
         }
-        
-        // Copy remaining elements of rightArray, if any
-        while (j < n2) {
-            array[k] = rightArray[j];
+    }
+
+    /**
+     * Insertion sorts array[left...right] (a no-op for a single element).
+     */
+    private <T extends Comparable<T>> void insertionSort(
+            T[] array, int left, int right,
+            MetricsCollector metrics, BiPredicate<T, T> isGreater) {
+
+        for (int i = left + 1; i <= right; i++) {
+            T key = array[i];
+            int j = i - 1;
+            while (j >= left && isGreaterThan(array[j], key, metrics, isGreater)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
             metrics.recordArrayAccess(1);
-            
-            recordRegionStep(array, stepCollector, left, right, new int[]{k}, 
-                String.format("Copied remaining right element to position %d", k));
-            
-            j++;
-            k++;
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
         }
-        
-        // Show merge complete with active region
+    }
+
+    // ==================== Primitive int[] Version ====================
+
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same merges and metrics, but on int[] buffers instead of Integer[] ones.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        if (array.length > 1) {
+            recordInitialState(array, stepCollector, "Starting " + getName());
+
+            int[] buffer = Arrays.copyOf(array, array.length);
+            metrics.recordArrayAccess(array.length);
+            if (strategy == Strategy.BOTTOM_UP) {
+                bottomUp(array, buffer, metrics, stepCollector);
+            } else if (stepCollector == null) {
+                pingPong(buffer, array, 0, array.length - 1, metrics);
+            } else {
+                mergeSort(array, buffer, 0, array.length - 1, metrics, stepCollector);
+            }
+
+            recordComplete(array, stepCollector, getName() + " Complete");
+        }
+    }
+
+    void pingPong(int[] source, int[] target, int left, int right, MetricsCollector metrics) {
+        if (right - left < insertionCutoff) {
+            insertionSort(target, left, right, metrics);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        pingPong(target, source, left, mid, metrics);
+        pingPong(target, source, mid + 1, right, metrics);
+        merge(source, target, left, mid, right, metrics, null);
+    }
+
+    private void mergeSort(int[] array, int[] buffer, int left, int right,
+                           MetricsCollector metrics, StepCollector stepCollector) {
+        if (right - left < insertionCutoff) {
+            insertionSort(array, left, right, metrics);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+
+        recordRegionStep(array, stepCollector, left, right, rangeIndices(left, right),
+            String.format("Dividing region [%d...%d] at mid=%d", left, right, mid));
+
+        mergeSort(array, buffer, left, mid, metrics, stepCollector);
+        mergeSort(array, buffer, mid + 1, right, metrics, stepCollector);
+
+        System.arraycopy(array, left, buffer, left, right - left + 1);
+        metrics.recordArrayAccess(right - left + 1);
+        merge(buffer, array, left, mid, right, metrics, stepCollector);
+    }
+
+    private void bottomUp(int[] array, int[] buffer, MetricsCollector metrics, StepCollector stepCollector) {
+        int n = array.length;
+        for (int left = 0; left < n; left += insertionCutoff) {
+            insertionSort(array, left, Math.min(left + insertionCutoff, n) - 1, metrics);
+        }
+
+        int[] source = array;
+        int[] target = buffer;
+        for (int width = insertionCutoff; width < n; width *= 2) {
+            for (int left = 0; left < n; left += 2 * width) {
+                int mid = Math.min(left + width, n) - 1;
+                int right = Math.min(left + 2 * width, n) - 1;
+                if (stepCollector != null) {
+                    if (mid < right) {
+                        System.arraycopy(array, left, buffer, left, right - left + 1);
+                        metrics.recordArrayAccess(right - left + 1);
+                        merge(buffer, array, left, mid, right, metrics, stepCollector);
+                    }
+                } else if (mid < right) {
+                    merge(source, target, left, mid, right, metrics, null);
+                } else {
+                    System.arraycopy(source, left, target, left, right - left + 1);
+                    metrics.recordArrayAccess(right - left + 1);
+                }
+            }
+            if (stepCollector == null) {
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            metrics.recordArrayAccess(n);
+        }
+    }
+
+    private void merge(int[] source, int[] target, int left, int mid, int right,
+                       MetricsCollector metrics, StepCollector stepCollector) {
         if (stepCollector != null) {
-            int[] mergedIndices = new int[right - left + 1];
-            for (int idx = 0; idx < mergedIndices.length; idx++) {
-                mergedIndices[idx] = left + idx;
+            recordRegionStep(target, stepCollector, left, right, rangeIndices(left, right),
+                String.format("Merging [%d...%d] and [%d...%d]", left, mid, mid + 1, right));
+        }
+
+        int i = left;
+        int j = mid + 1;
+        int k = left;
+
+        while (i <= mid && j <= right) {
+            if (metrics.isLessThanOrEqual(source[i], source[j])) {
+                target[k] = source[i++];
+            } else {
+                target[k] = source[j++];
+            }
+            metrics.recordArrayAccess(1); // Writing to array
+            metrics.recordSwap(1); // Consider this a move operation
+
+            if (stepCollector != null) {
+                recordRegionStep(target, stepCollector, left, right, new int[]{k},
+                    String.format("Placed element at position %d during merge", k));
             }
-            recordRegionStep(array, stepCollector, left, right, mergedIndices, 
+
+            k++;
+        }
+
+        copyRemaining(source, target, i, mid, j, right, k, left, metrics, stepCollector);
+
+        if (stepCollector != null) {
+            recordRegionStep(target, stepCollector, left, right, rangeIndices(left, right),
                 String.format("Merged region [%d...%d] complete", left, right));
         }
     }
 
+    private void insertionSort(int[] array, int left, int right, MetricsCollector metrics) {
+        for (int i = left + 1; i <= right; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= left && metrics.isGreaterThan(array[j], key)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+    }
+
+    /**
+     * Builds the list of indices [left...right] for region highlighting.
+     */
+    private int[] rangeIndices(int left, int right) {
+        int[] indices = new int[right - left + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = left + i;
+        }
+        return indices;
+    }
+
     @Override
     public String getName() {
-        return "Merge Sort";
+        return strategy == Strategy.BOTTOM_UP ? "Bottom Up Merge Sort" : "Merge Sort";
     }
 
     @Override
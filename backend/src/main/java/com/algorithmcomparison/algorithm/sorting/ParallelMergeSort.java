@@ -0,0 +1,474 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.StepCollector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiPredicate;
+
+/**
+ * Parallel Merge Sort on a ForkJoinPool.
+ *
+ * The array is split in halves recursively, like the top-down MergeSort,
+ * and both halves are sorted as parallel subtasks. Ranges of at most
+ * threshold elements are sorted sequentially by MergeSort. As in MergeSort,
+ * one auxiliary buffer is allocated up front and each level sorts its halves
+ * into one buffer and merges into the other.
+ *
+ * The merge is parallel too, otherwise the final merge alone would take
+ * O(n) time on one thread. To merge two sorted ranges, the middle element of
+ * the larger one is placed directly at its final position, found by binary
+ * search in the smaller range, and the parts on either side are merged as two
+ * independent subtasks. Ties go to the left range, so the sort is stable.
+ *
+ * Comparisons and moves are counted per thread (see ParallelWork) and added
+ * to the caller's MetricsCollector when the sort finishes. Counts are close
+ * to MergeSort's; the binary searches of the parallel merge add a few
+ * comparisons.
+ *
+ * Time Complexity: O(n log n) work, O(log³ n) span
+ * Space Complexity: O(n) - one auxiliary array
+ * Stable: Yes
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class ParallelMergeSort extends AbstractSortingAlgorithm implements ParallelSortingAlgorithm {
+
+    /** Ranges of at most this many elements are sorted or merged on one thread. */
+    public static final int DEFAULT_THRESHOLD = 8_192;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final MergeSort sequential = new MergeSort();
+
+    /**
+     * Creates a parallel merge sort running on the common ForkJoinPool.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel merge sort running on the given pool.
+     *
+     * @param pool The pool running the sort and merge tasks
+     * @param threshold Ranges of at most this many elements are not split further
+     * @throws IllegalArgumentException if threshold is less than 2
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(int[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics) {
+        if (array.length > 1) {
+            int[] buffer = Arrays.copyOf(array, array.length);
+            metrics.recordArrayAccess(array.length);
+            ParallelWork work = new ParallelWork(metrics);
+            run(new IntSortTask(work, buffer, array, 0, array.length - 1), array.length);
+            work.finish(threadStatistics);
+        }
+    }
+
+    @Override
+    public void sort(String[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics) {
+        sortObjects(array, metrics, threadStatistics, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    private <T extends Comparable<T>> void sortObjects(T[] array, MetricsCollector metrics,
+                                                       List<ThreadWorkStatistics> threadStatistics,
+                                                       BiPredicate<T, T> isGreater) {
+        if (array.length > 1) {
+            T[] buffer = Arrays.copyOf(array, array.length);
+            metrics.recordArrayAccess(array.length);
+            ParallelWork work = new ParallelWork(metrics);
+            run(new SortTask<>(work, buffer, array, 0, array.length - 1, isGreater), array.length);
+            work.finish(threadStatistics);
+        }
+    }
+
+    /**
+     * Runs small inputs on the calling thread and everything else in the pool.
+     */
+    private void run(RecursiveAction task, int length) {
+        if (length <= threshold) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Sorts sequentially when steps are collected, so the visualization
+     * shows the same merges as MergeSort.
+     */
+    @Override
+    protected <T extends Comparable<T>> void sortGeneric(
+            T[] array,
+            MetricsCollector metrics,
+            StepCollector stepCollector,
+            BiPredicate<T, T> isGreater) {
+
+        if (stepCollector != null) {
+            sequential.sortGeneric(array, metrics, stepCollector, isGreater);
+        } else {
+            sortObjects(array, metrics, null, isGreater);
+        }
+    }
+
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        if (stepCollector != null) {
+            sequential.sortPrimitive(array, metrics, stepCollector);
+        } else {
+            sort(array, metrics, null);
+        }
+    }
+
+    // ==================== Primitive int[] Tasks ====================
+
+    /**
+     * Sorts source[lo...hi] into target[lo...hi]. On entry both arrays hold
+     * the same values in this range (see MergeSort.pingPong).
+     */
+    @SuppressWarnings("serial")
+    private final class IntSortTask extends RecursiveAction {
+
+        private final ParallelWork work;
+        private final int[] source;
+        private final int[] target;
+        private final int lo;
+        private final int hi;
+
+        IntSortTask(ParallelWork work, int[] source, int[] target, int lo, int hi) {
+            this.work = work;
+            this.source = source;
+            this.target = target;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < threshold) {
+                work.checkCancelled();
+                ParallelWork.ThreadWork thread = work.current();
+                long start = System.nanoTime();
+                sequential.pingPong(source, target, lo, hi, thread.metrics);
+                thread.sorted(hi - lo + 1, start);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new IntSortTask(work, target, source, lo, mid),
+                      new IntSortTask(work, target, source, mid + 1, hi));
+            new IntMergeTask(work, source, lo, mid, mid + 1, hi, target, lo).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted ranges source[aLo...aHi] and source[bLo...bHi]
+     * (either may be empty) into target starting at index to.
+     */
+    @SuppressWarnings("serial")
+    private final class IntMergeTask extends RecursiveAction {
+
+        private final ParallelWork work;
+        private final int[] source;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final int[] target;
+        private final int to;
+
+        IntMergeTask(ParallelWork work, int[] source, int aLo, int aHi, int bLo, int bHi, int[] target, int to) {
+            this.work = work;
+            this.source = source;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.target = target;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int aLength = aHi - aLo + 1;
+            int bLength = bHi - bLo + 1;
+            if (aLength + bLength <= threshold) {
+                work.checkCancelled();
+                ParallelWork.ThreadWork thread = work.current();
+                long start = System.nanoTime();
+                merge(thread.metrics);
+                thread.merged(aLength + bLength, start);
+                return;
+            }
+
+            MetricsCollector metrics = work.current().metrics;
+            int aSplit;
+            int bSplit;
+            int pivotIndex;
+            if (aLength >= bLength) {
+                // Left elements go before equal right elements: split b before the first one >= pivot
+                pivotIndex = (aLo + aHi) >>> 1;
+                aSplit = pivotIndex;
+                bSplit = firstNotLess(source, bLo, bHi, source[pivotIndex], metrics);
+            } else {
+                // Split a after the last element <= pivot
+                pivotIndex = (bLo + bHi) >>> 1;
+                bSplit = pivotIndex;
+                aSplit = firstGreater(source, aLo, aHi, source[pivotIndex], metrics);
+            }
+            int pivotTarget = to + (aSplit - aLo) + (bSplit - bLo);
+            target[pivotTarget] = source[pivotIndex];
+            metrics.recordArrayAccess(1);
+            metrics.recordSwap(1);
+
+            int aNext = aLength >= bLength ? aSplit + 1 : aSplit;
+            int bNext = aLength >= bLength ? bSplit : bSplit + 1;
+            invokeAll(new IntMergeTask(work, source, aLo, aSplit - 1, bLo, bSplit - 1, target, to),
+                      new IntMergeTask(work, source, aNext, aHi, bNext, bHi, target, pivotTarget + 1));
+        }
+
+        private void merge(MetricsCollector metrics) {
+            int i = aLo;
+            int j = bLo;
+            int k = to;
+            while (i <= aHi && j <= bHi) {
+                if (metrics.isLessThanOrEqual(source[i], source[j])) {
+                    target[k++] = source[i++];
+                } else {
+                    target[k++] = source[j++];
+                }
+                metrics.recordArrayAccess(1); // Writing to array
+                metrics.recordSwap(1); // Consider this a move operation
+            }
+            int from = i <= aHi ? i : j;
+            int remaining = i <= aHi ? aHi - i + 1 : bHi - j + 1;
+            System.arraycopy(source, from, target, k, remaining);
+            metrics.recordArrayAccess(remaining);
+        }
+    }
+
+    /**
+     * Finds the first index in array[lo...hi] whose value is not less than key.
+     */
+    private static int firstNotLess(int[] array, int lo, int hi, int key, MetricsCollector metrics) {
+        int end = hi + 1;
+        while (lo < end) {
+            int mid = (lo + end) >>> 1;
+            if (metrics.isLessThan(array[mid], key)) {
+                lo = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Finds the first index in array[lo...hi] whose value is greater than key.
+     */
+    private static int firstGreater(int[] array, int lo, int hi, int key, MetricsCollector metrics) {
+        int end = hi + 1;
+        while (lo < end) {
+            int mid = (lo + end) >>> 1;
+            if (metrics.isLessThanOrEqual(array[mid], key)) {
+                lo = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return lo;
+    }
+
+    // ==================== Generic (Comparable) Tasks ====================
+
+    /**
+     * Generic version of {@link IntSortTask}.
+     */
+    @SuppressWarnings("serial")
+    private final class SortTask<T extends Comparable<T>> extends RecursiveAction {
+
+        private final ParallelWork work;
+        private final T[] source;
+        private final T[] target;
+        private final int lo;
+        private final int hi;
+        private final BiPredicate<T, T> isGreater;
+
+        SortTask(ParallelWork work, T[] source, T[] target, int lo, int hi, BiPredicate<T, T> isGreater) {
+            this.work = work;
+            this.source = source;
+            this.target = target;
+            this.lo = lo;
+            this.hi = hi;
+            this.isGreater = isGreater;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < threshold) {
+                work.checkCancelled();
+                ParallelWork.ThreadWork thread = work.current();
+                long start = System.nanoTime();
+                sequential.pingPong(source, target, lo, hi, thread.metrics, isGreater);
+                thread.sorted(hi - lo + 1, start);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new SortTask<>(work, target, source, lo, mid, isGreater),
+                      new SortTask<>(work, target, source, mid + 1, hi, isGreater));
+            new MergeTask<>(work, source, lo, mid, mid + 1, hi, target, lo).compute();
+        }
+    }
+
+    /**
+     * Generic version of {@link IntMergeTask}.
+     */
+    @SuppressWarnings("serial")
+    private final class MergeTask<T extends Comparable<T>> extends RecursiveAction {
+
+        private final ParallelWork work;
+        private final T[] source;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final T[] target;
+        private final int to;
+
+        MergeTask(ParallelWork work, T[] source, int aLo, int aHi, int bLo, int bHi, T[] target, int to) {
+            this.work = work;
+            this.source = source;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.target = target;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int aLength = aHi - aLo + 1;
+            int bLength = bHi - bLo + 1;
+            if (aLength + bLength <= threshold) {
+                work.checkCancelled();
+                ParallelWork.ThreadWork thread = work.current();
+                long start = System.nanoTime();
+                merge(thread.metrics);
+                thread.merged(aLength + bLength, start);
+                return;
+            }
+
+            MetricsCollector metrics = work.current().metrics;
+            int aSplit;
+            int bSplit;
+            int pivotIndex;
+            if (aLength >= bLength) {
+                pivotIndex = (aLo + aHi) >>> 1;
+                aSplit = pivotIndex;
+                bSplit = firstNotLess(source, bLo, bHi, source[pivotIndex], metrics);
+            } else {
+                pivotIndex = (bLo + bHi) >>> 1;
+                bSplit = pivotIndex;
+                aSplit = firstGreater(source, aLo, aHi, source[pivotIndex], metrics);
+            }
+            int pivotTarget = to + (aSplit - aLo) + (bSplit - bLo);
+            target[pivotTarget] = source[pivotIndex];
+            metrics.recordArrayAccess(1);
+            metrics.recordSwap(1);
+
+            int aNext = aLength >= bLength ? aSplit + 1 : aSplit;
+            int bNext = aLength >= bLength ? bSplit : bSplit + 1;
+            invokeAll(new MergeTask<>(work, source, aLo, aSplit - 1, bLo, bSplit - 1, target, to),
+                      new MergeTask<>(work, source, aNext, aHi, bNext, bHi, target, pivotTarget + 1));
+        }
+
+        private void merge(MetricsCollector metrics) {
+            int i = aLo;
+            int j = bLo;
+            int k = to;
+            while (i <= aHi && j <= bHi) {
+                if (isLessThanOrEqual(source[i], source[j], metrics)) {
+                    target[k++] = source[i++];
+                } else {
+                    target[k++] = source[j++];
+                }
+                metrics.recordArrayAccess(1);
+                metrics.recordSwap(1);
+            }
+            int from = i <= aHi ? i : j;
+            int remaining = i <= aHi ? aHi - i + 1 : bHi - j + 1;
+            System.arraycopy(source, from, target, k, remaining);
+            metrics.recordArrayAccess(remaining);
+        }
+
+        private int firstNotLess(T[] array, int lo, int hi, T key, MetricsCollector metrics) {
+            int end = hi + 1;
+            while (lo < end) {
+                int mid = (lo + end) >>> 1;
+                if (isLessThan(array[mid], key, metrics)) {
+                    lo = mid + 1;
+                } else {
+                    end = mid;
+                }
+            }
+            return lo;
+        }
+
+        private int firstGreater(T[] array, int lo, int hi, T key, MetricsCollector metrics) {
+            int end = hi + 1;
+            while (lo < end) {
+                int mid = (lo + end) >>> 1;
+                if (isLessThanOrEqual(array[mid], key, metrics)) {
+                    lo = mid + 1;
+                } else {
+                    end = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    @Override
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public String getSequentialBaseline() {
+        return sequential.getName();
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Merge Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+}
@@ -0,0 +1,734 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.StepCollector;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
+
+/**
+ * Parallel in-place Sample Sort on a ForkJoinPool.
+ *
+ * Each region is sorted in three steps:
+ * 1. Sample: up to 64 bucket boundaries are picked from a sorted random
+ *    sample of the region (8 samples per bucket).
+ * 2. Distribute: the region is partitioned around the middle boundary, then
+ *    each side around the middle boundary of its half, and so on, until
+ *    every element sits in its bucket. Partitioning swaps in place, so no
+ *    O(n) buffer is needed. Large ranges are partitioned in parallel: chunks
+ *    are partitioned independently, then the elements left on the wrong
+ *    side of the overall split are swapped across in parallel.
+ * 3. Sort the buckets concurrently, recursively with the same steps, down
+ *    to insertion sort for the smallest ranges.
+ *
+ * A value picked as a boundary more than once is frequent in the region, so
+ * it gets a bucket of its own that needs no sorting. So does a boundary
+ * equal to the smallest sampled value; every other boundary has a sampled
+ * element on each side, so every split makes progress and inputs with many
+ * duplicates (even a single value) finish quickly. If the recursion gets deeper than
+ * 2·log₂(n) (only with very unlucky samples), the region is heap sorted.
+ *
+ * Regions of at most threshold elements are sorted entirely by one thread.
+ * Each thread counts into its own MetricsCollector (see ParallelWork), and
+ * the counts are added to the caller's collector when the sort finishes.
+ *
+ * Time Complexity: O(n log n) expected work, O(n log n) worst case (heap sort fallback)
+ * Space Complexity: O(log n) - samples and boundaries of the regions in progress
+ * Stable: No
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public class ParallelSampleSort extends AbstractSortingAlgorithm implements ParallelSortingAlgorithm {
+
+    /** Regions of at most this many elements are sorted on one thread. */
+    public static final int DEFAULT_THRESHOLD = 16_384;
+
+    private static final int MAX_BUCKETS = 64;
+    private static final int OVERSAMPLING = 8; // Samples per bucket
+    private static final int ELEMENTS_PER_BUCKET = 128; // Smaller regions use fewer buckets
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a parallel sample sort running on the common ForkJoinPool.
+     */
+    public ParallelSampleSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel sample sort running on the given pool.
+     *
+     * @param pool The pool running the distribution and bucket tasks
+     * @param threshold Regions of at most this many elements are not split across threads
+     * @throws IllegalArgumentException if threshold is less than 2
+     */
+    public ParallelSampleSort(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(int[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics) {
+        if (array.length > 1) {
+            run(new IntKeys(array), metrics, threadStatistics);
+        }
+    }
+
+    @Override
+    public void sort(String[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics) {
+        sortObjects(array, metrics, threadStatistics, (a, b) -> a.compareTo(b) > 0);
+    }
+
+    private <T extends Comparable<T>> void sortObjects(T[] array, MetricsCollector metrics,
+                                                       List<ThreadWorkStatistics> threadStatistics,
+                                                       BiPredicate<T, T> isGreater) {
+        if (array.length > 1) {
+            run(new ObjectKeys<>(array, isGreater), metrics, threadStatistics);
+        }
+    }
+
+    /**
+     * Sorts small inputs on the calling thread and everything else in the pool.
+     */
+    private void run(Keys keys, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics) {
+        int length = keys.length();
+        ParallelWork work = new ParallelWork(metrics);
+        SortTask task = new SortTask(keys, work, 0, length, 2 * (32 - Integer.numberOfLeadingZeros(length)));
+        if (length <= threshold) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        work.finish(threadStatistics);
+    }
+
+    /**
+     * Only the initial and final states are recorded: the interleaving of
+     * parallel tasks has no meaningful step-by-step order.
+     */
+    @Override
+    protected <T extends Comparable<T>> void sortGeneric(
+            T[] array,
+            MetricsCollector metrics,
+            StepCollector stepCollector,
+            BiPredicate<T, T> isGreater) {
+
+        recordInitialState(array, stepCollector, "Starting " + getName());
+        sortObjects(array, metrics, null, isGreater);
+        recordComplete(array, stepCollector, getName() + " Complete");
+    }
+
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        recordInitialState(array, stepCollector, "Starting " + getName());
+        sort(array, metrics, null);
+        recordComplete(array, stepCollector, getName() + " Complete");
+    }
+
+    // ==================== Sequential Engine ====================
+
+    private static int bucketCount(int size) {
+        return Math.max(2, Math.min(MAX_BUCKETS, Integer.highestOneBit(size / ELEMENTS_PER_BUCKET)));
+    }
+
+    /**
+     * Sorts keys[lo...hi) on the current thread.
+     */
+    private static void sortSequential(Keys keys, int lo, int hi, int depthLimit, MetricsCollector metrics) {
+        int size = hi - lo;
+        if (size <= INSERTION_SORT_THRESHOLD) {
+            keys.insertionSort(lo, hi, metrics);
+        } else if (depthLimit == 0) {
+            keys.heapSort(lo, hi, metrics);
+        } else {
+            Boundaries boundaries = keys.sample(lo, hi, bucketCount(size), metrics);
+            distributeSequential(keys, boundaries, lo, hi, 0, boundaries.count - 1, depthLimit - 1, metrics);
+        }
+    }
+
+    /**
+     * Moves the elements of keys[lo...hi) into the buckets between boundaries
+     * first - 1 and last + 1, then sorts each bucket.
+     */
+    private static void distributeSequential(Keys keys, Boundaries boundaries, int lo, int hi, int first, int last,
+                                             int depthLimit, MetricsCollector metrics) {
+        if (first > last) {
+            // A single bucket, between boundaries first - 1 and first
+            if (hi - lo > 1 && !boundaries.isEqualityBucket(first - 1)) {
+                sortSequential(keys, lo, hi, depthLimit, metrics);
+            }
+            return;
+        }
+        int middle = (first + last) >>> 1;
+        int split = keys.partition(lo, hi, boundaries, middle, metrics);
+        distributeSequential(keys, boundaries, lo, split, first, middle - 1, depthLimit, metrics);
+        distributeSequential(keys, boundaries, split, hi, middle + 1, last, depthLimit, metrics);
+    }
+
+    // ==================== Parallel Tasks ====================
+
+    /**
+     * Sorts keys[lo...hi): on this thread up to the threshold, otherwise by
+     * sampling and distributing in parallel.
+     */
+    @SuppressWarnings("serial")
+    private final class SortTask extends RecursiveAction {
+
+        private final Keys keys;
+        private final ParallelWork work;
+        private final int lo;
+        private final int hi;
+        private final int depthLimit;
+
+        SortTask(Keys keys, ParallelWork work, int lo, int hi, int depthLimit) {
+            this.keys = keys;
+            this.work = work;
+            this.lo = lo;
+            this.hi = hi;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            work.checkCancelled();
+            ParallelWork.ThreadWork thread = work.current();
+            int size = hi - lo;
+            if (size <= threshold || depthLimit == 0) {
+                long start = System.nanoTime();
+                sortSequential(keys, lo, hi, depthLimit, thread.metrics);
+                thread.sorted(size, start);
+                return;
+            }
+            Boundaries boundaries = keys.sample(lo, hi, bucketCount(size), thread.metrics);
+            new DistributeTask(keys, work, boundaries, lo, hi, 0, boundaries.count - 1, depthLimit - 1).compute();
+        }
+    }
+
+    /**
+     * Parallel version of {@link #distributeSequential}.
+     */
+    @SuppressWarnings("serial")
+    private final class DistributeTask extends RecursiveAction {
+
+        private final Keys keys;
+        private final ParallelWork work;
+        private final Boundaries boundaries;
+        private final int lo;
+        private final int hi;
+        private final int first;
+        private final int last;
+        private final int depthLimit;
+
+        DistributeTask(Keys keys, ParallelWork work, Boundaries boundaries, int lo, int hi, int first, int last,
+                       int depthLimit) {
+            this.keys = keys;
+            this.work = work;
+            this.boundaries = boundaries;
+            this.lo = lo;
+            this.hi = hi;
+            this.first = first;
+            this.last = last;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            if (first > last) {
+                if (hi - lo > 1 && !boundaries.isEqualityBucket(first - 1)) {
+                    new SortTask(keys, work, lo, hi, depthLimit).compute();
+                }
+                return;
+            }
+            if (hi - lo <= threshold) {
+                work.checkCancelled();
+                ParallelWork.ThreadWork thread = work.current();
+                long start = System.nanoTime();
+                distributeSequential(keys, boundaries, lo, hi, first, last, depthLimit, thread.metrics);
+                thread.sorted(hi - lo, start);
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+            int split = partitionInParallel(middle);
+            invokeAll(new DistributeTask(keys, work, boundaries, lo, split, first, middle - 1, depthLimit),
+                      new DistributeTask(keys, work, boundaries, split, hi, middle + 1, last, depthLimit));
+        }
+
+        /**
+         * Partitions chunks of keys[lo...hi) independently, then swaps the
+         * elements each chunk left on the wrong side of the overall split.
+         */
+        private int partitionInParallel(int boundary) {
+            int size = hi - lo;
+            int chunks = (int) Math.max(1, Math.min(size / threshold, 4L * pool.getParallelism()));
+            int[] bounds = new int[chunks + 1];
+            for (int c = 0; c <= chunks; c++) {
+                bounds[c] = lo + (int) ((long) size * c / chunks);
+            }
+
+            int[] splits = new int[chunks];
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    work.checkCancelled();
+                    ParallelWork.ThreadWork thread = work.current();
+                    long start = System.nanoTime();
+                    splits[chunk] = keys.partition(bounds[chunk], bounds[chunk + 1], boundaries, boundary,
+                        thread.metrics);
+                    thread.partitioned(bounds[chunk + 1] - bounds[chunk], start);
+                }));
+            }
+            invokeAll(tasks);
+
+            int split = lo;
+            for (int c = 0; c < chunks; c++) {
+                split += splits[c] - bounds[c];
+            }
+
+            // Right elements before the split and left elements after it; there are as many of each
+            Intervals rightBeforeSplit = new Intervals(chunks);
+            Intervals leftAfterSplit = new Intervals(chunks);
+            for (int c = 0; c < chunks; c++) {
+                if (splits[c] < split) {
+                    rightBeforeSplit.add(splits[c], Math.min(bounds[c + 1], split));
+                } else if (splits[c] > split) {
+                    leftAfterSplit.add(Math.max(bounds[c], split), splits[c]);
+                }
+            }
+
+            int misplaced = rightBeforeSplit.total();
+            int pieces = (int) Math.min(chunks, ((long) misplaced + threshold - 1) / threshold);
+            tasks.clear();
+            for (int p = 0; p < pieces; p++) {
+                int from = (int) ((long) misplaced * p / pieces);
+                int to = (int) ((long) misplaced * (p + 1) / pieces);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    ParallelWork.ThreadWork thread = work.current();
+                    long start = System.nanoTime();
+                    exchange(rightBeforeSplit, leftAfterSplit, from, to, thread.metrics);
+                    thread.partitioned(to - from, start);
+                }));
+            }
+            invokeAll(tasks);
+            return split;
+        }
+
+        /**
+         * Swaps the k-th element of one interval list with the k-th of the other, for k in [from, to).
+         */
+        private void exchange(Intervals a, Intervals b, int from, int to, MetricsCollector metrics) {
+            int i = a.find(from);
+            int j = b.find(from);
+            for (int k = from; k < to; k++) {
+                while (k >= a.offsets[i + 1]) {
+                    i++;
+                }
+                while (k >= b.offsets[j + 1]) {
+                    j++;
+                }
+                keys.swap(a.starts[i] + k - a.offsets[i], b.starts[j] + k - b.offsets[j], metrics);
+            }
+        }
+    }
+
+    /**
+     * Disjoint index ranges, in order, addressed as one sequence.
+     */
+    private static final class Intervals {
+
+        private final int[] starts;
+        private final int[] offsets; // offsets[i] = elements in the intervals before interval i
+        private int count;
+
+        Intervals(int capacity) {
+            this.starts = new int[capacity];
+            this.offsets = new int[capacity + 1];
+        }
+
+        void add(int start, int end) {
+            starts[count] = start;
+            offsets[count + 1] = offsets[count] + (end - start);
+            count++;
+        }
+
+        int total() {
+            return offsets[count];
+        }
+
+        /**
+         * Finds the interval holding the k-th element of the sequence.
+         */
+        int find(int k) {
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (offsets[mid] <= k) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    // ==================== Element Access ====================
+
+    /**
+     * Bucket boundaries picked from a sample, in increasing order.
+     *
+     * Boundary b sends an element left if it is less than the boundary value,
+     * or less than or equal to it when inclusive[b] is set. An inclusive
+     * boundary always directly follows an exclusive one on the same value, so
+     * the bucket between the two holds only that value.
+     */
+    private static final class Boundaries {
+
+        private final int[] intValues; // For int[] arrays
+        private final Object[] objectValues; // For Comparable[] arrays
+        private final boolean[] inclusive;
+        private final int count;
+
+        Boundaries(int[] intValues, Object[] objectValues, boolean[] inclusive, int count) {
+            this.intValues = intValues;
+            this.objectValues = objectValues;
+            this.inclusive = inclusive;
+            this.count = count;
+        }
+
+        /**
+         * Whether the bucket right after boundary lower holds a single value.
+         */
+        boolean isEqualityBucket(int lower) {
+            return lower >= 0 && lower + 1 < count && !inclusive[lower] && inclusive[lower + 1];
+        }
+    }
+
+    /**
+     * The array being sorted, accessed by index so that the distribution
+     * logic is shared by int[] and Comparable[] arrays.
+     */
+    private abstract static class Keys {
+
+        abstract int length();
+
+        /**
+         * Picks the boundaries of at most buckets buckets from a random sample of [lo, hi).
+         */
+        abstract Boundaries sample(int lo, int hi, int buckets, MetricsCollector metrics);
+
+        /**
+         * Partitions [lo, hi) so the elements going left of the boundary come first.
+         *
+         * @return Index of the first element that does not go left
+         */
+        abstract int partition(int lo, int hi, Boundaries boundaries, int boundary, MetricsCollector metrics);
+
+        abstract void swap(int i, int j, MetricsCollector metrics);
+
+        abstract void insertionSort(int lo, int hi, MetricsCollector metrics);
+
+        abstract void heapSort(int lo, int hi, MetricsCollector metrics);
+    }
+
+    private static final class IntKeys extends Keys {
+
+        private final int[] array;
+
+        IntKeys(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        Boundaries sample(int lo, int hi, int buckets, MetricsCollector metrics) {
+            int size = Math.min(hi - lo, buckets * OVERSAMPLING);
+            int[] sample = new int[size];
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < size; i++) {
+                sample[i] = array[random.nextInt(lo, hi)];
+            }
+            metrics.recordArrayAccess(size);
+            heapSort(sample, 0, size, metrics);
+
+            int[] values = new int[2 * (buckets - 1)];
+            boolean[] inclusive = new boolean[values.length];
+            int count = 0;
+            for (int b = 1; b < buckets; b++) {
+                int splitter = sample[b * size / buckets];
+                if (count == 0 || !metrics.isEqual(values[count - 1], splitter)) {
+                    values[count++] = splitter;
+                    if (metrics.isEqual(sample[0], splitter)) {
+                        // The smallest sampled value: alone, its exclusive boundary could leave the
+                        // left side empty, so the value gets a bucket of its own
+                        values[count] = splitter;
+                        inclusive[count++] = true;
+                    }
+                } else if (!inclusive[count - 1]) {
+                    // Picked twice: give the value a bucket of its own
+                    values[count] = splitter;
+                    inclusive[count++] = true;
+                }
+            }
+            return new Boundaries(values, null, inclusive, count);
+        }
+
+        @Override
+        int partition(int lo, int hi, Boundaries boundaries, int boundary, MetricsCollector metrics) {
+            int value = boundaries.intValues[boundary];
+            boolean inclusive = boundaries.inclusive[boundary];
+            int i = lo;
+            int j = hi - 1;
+            while (true) {
+                while (i <= j && (inclusive ? metrics.isLessThanOrEqual(array[i], value)
+                                            : metrics.isLessThan(array[i], value))) {
+                    i++;
+                }
+                while (i <= j && !(inclusive ? metrics.isLessThanOrEqual(array[j], value)
+                                             : metrics.isLessThan(array[j], value))) {
+                    j--;
+                }
+                if (i >= j) {
+                    return i;
+                }
+                metrics.swap(array, i++, j--);
+            }
+        }
+
+        @Override
+        void swap(int i, int j, MetricsCollector metrics) {
+            metrics.swap(array, i, j);
+        }
+
+        @Override
+        void insertionSort(int lo, int hi, MetricsCollector metrics) {
+            for (int i = lo + 1; i < hi; i++) {
+                int key = array[i];
+                int j = i - 1;
+                while (j >= lo && metrics.isGreaterThan(array[j], key)) {
+                    array[j + 1] = array[j];
+                    metrics.recordArrayAccess(2); // One read, one write
+                    j--;
+                }
+                array[j + 1] = key;
+                metrics.recordArrayAccess(1);
+                if (j + 1 != i) {
+                    metrics.recordSwap(1);
+                }
+            }
+        }
+
+        @Override
+        void heapSort(int lo, int hi, MetricsCollector metrics) {
+            heapSort(array, lo, hi, metrics);
+        }
+
+        private static void heapSort(int[] array, int lo, int hi, MetricsCollector metrics) {
+            int size = hi - lo;
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(array, lo, i, size, metrics);
+            }
+            for (int end = size - 1; end > 0; end--) {
+                metrics.swap(array, lo, lo + end);
+                siftDown(array, lo, 0, end, metrics);
+            }
+        }
+
+        private static void siftDown(int[] array, int lo, int node, int size, MetricsCollector metrics) {
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && metrics.isLessThan(array[lo + child], array[lo + child + 1])) {
+                    child++;
+                }
+                if (!metrics.isLessThan(array[lo + node], array[lo + child])) {
+                    return;
+                }
+                metrics.swap(array, lo + node, lo + child);
+                node = child;
+            }
+        }
+    }
+
+    private final class ObjectKeys<T extends Comparable<T>> extends Keys {
+
+        private final T[] array;
+        private final BiPredicate<T, T> isGreater;
+
+        ObjectKeys(T[] array, BiPredicate<T, T> isGreater) {
+            this.array = array;
+            this.isGreater = isGreater;
+        }
+
+        @Override
+        int length() {
+            return array.length;
+        }
+
+        @Override
+        Boundaries sample(int lo, int hi, int buckets, MetricsCollector metrics) {
+            int size = Math.min(hi - lo, buckets * OVERSAMPLING);
+            T[] sample = newArray(size);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < size; i++) {
+                sample[i] = array[random.nextInt(lo, hi)];
+            }
+            metrics.recordArrayAccess(size);
+            heapSort(sample, 0, size, metrics);
+
+            T[] values = newArray(2 * (buckets - 1));
+            boolean[] inclusive = new boolean[values.length];
+            int count = 0;
+            for (int b = 1; b < buckets; b++) {
+                T splitter = sample[b * size / buckets];
+                if (count == 0 || !isEqual(values[count - 1], splitter, metrics)) {
+                    values[count++] = splitter;
+                    if (isEqual(sample[0], splitter, metrics)) {
+                        values[count] = splitter;
+                        inclusive[count++] = true;
+                    }
+                } else if (!inclusive[count - 1]) {
+                    values[count] = splitter;
+                    inclusive[count++] = true;
+                }
+            }
+            return new Boundaries(null, values, inclusive, count);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T[] newArray(int length) {
+            return (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int partition(int lo, int hi, Boundaries boundaries, int boundary, MetricsCollector metrics) {
+            T value = (T) boundaries.objectValues[boundary];
+            boolean inclusive = boundaries.inclusive[boundary];
+            int i = lo;
+            int j = hi - 1;
+            while (true) {
+                while (i <= j && (inclusive ? isLessThanOrEqual(array[i], value, metrics)
+                                            : isLessThan(array[i], value, metrics))) {
+                    i++;
+                }
+                while (i <= j && !(inclusive ? isLessThanOrEqual(array[j], value, metrics)
+                                             : isLessThan(array[j], value, metrics))) {
+                    j--;
+                }
+                if (i >= j) {
+                    return i;
+                }
+                ParallelSampleSort.this.swap(array, i++, j--, metrics);
+            }
+        }
+
+        @Override
+        void swap(int i, int j, MetricsCollector metrics) {
+            ParallelSampleSort.this.swap(array, i, j, metrics);
+        }
+
+        @Override
+        void insertionSort(int lo, int hi, MetricsCollector metrics) {
+            for (int i = lo + 1; i < hi; i++) {
+                T key = array[i];
+                int j = i - 1;
+                while (j >= lo && isGreaterThan(array[j], key, metrics, isGreater)) {
+                    array[j + 1] = array[j];
+                    metrics.recordArrayAccess(2); // One read, one write
+                    j--;
+                }
+                array[j + 1] = key;
+                metrics.recordArrayAccess(1);
+                if (j + 1 != i) {
+                    metrics.recordSwap(1);
+                }
+            }
+        }
+
+        @Override
+        void heapSort(int lo, int hi, MetricsCollector metrics) {
+            heapSort(array, lo, hi, metrics);
+        }
+
+        private void heapSort(T[] array, int lo, int hi, MetricsCollector metrics) {
+            int size = hi - lo;
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(array, lo, i, size, metrics);
+            }
+            for (int end = size - 1; end > 0; end--) {
+                ParallelSampleSort.this.swap(array, lo, lo + end, metrics);
+                siftDown(array, lo, 0, end, metrics);
+            }
+        }
+
+        private void siftDown(T[] array, int lo, int node, int size, MetricsCollector metrics) {
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && isLessThan(array[lo + child], array[lo + child + 1], metrics)) {
+                    child++;
+                }
+                if (!isLessThan(array[lo + node], array[lo + child], metrics)) {
+                    return;
+                }
+                ParallelSampleSort.this.swap(array, lo + node, lo + child, metrics);
+                node = child;
+            }
+        }
+    }
+
+    @Override
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public String getSequentialBaseline() {
+        return "Quick Sort";
+    }
+
+    @Override
+    public String getName() {
+        return "Parallel Sample Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean isStable() {
+        return false;
+    }
+}
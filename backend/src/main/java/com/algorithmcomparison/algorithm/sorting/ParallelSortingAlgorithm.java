@@ -0,0 +1,54 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.MetricsCollector;
+
+import java.util.List;
+
+/**
+ * A sorting algorithm that splits its work across several threads.
+ *
+ * The MetricsCollector passed in is only used by the calling thread: worker
+ * threads count into their own collectors, which are added to it once the
+ * sort is done. Besides the totals, each sort can report the work every
+ * thread did, and names the sequential algorithm its speedup should be
+ * measured against.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public interface ParallelSortingAlgorithm extends SortingAlgorithm {
+
+    /**
+     * Sorts an integer array and reports the work done by each thread.
+     *
+     * @param array The integer array to sort (will be modified)
+     * @param metrics The metrics collector, used only by the calling thread
+     * @param threadStatistics If not null, receives one entry per thread that did work
+     */
+    void sort(int[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics);
+
+    /**
+     * Sorts a string array and reports the work done by each thread.
+     *
+     * @param array The string array to sort (will be modified)
+     * @param metrics The metrics collector, used only by the calling thread
+     * @param threadStatistics If not null, receives one entry per thread that did work
+     */
+    void sort(String[] array, MetricsCollector metrics, List<ThreadWorkStatistics> threadStatistics);
+
+    /**
+     * Gets the number of worker threads the sort can use.
+     *
+     * @return The target parallelism of the underlying pool
+     */
+    int getParallelism();
+
+    /**
+     * Gets the name of the sequential algorithm doing the same work on one
+     * thread, for computing speedup and efficiency.
+     *
+     * @return Name of the sequential algorithm (e.g., "Merge Sort")
+     */
+    String getSequentialBaseline();
+}
@@ -0,0 +1,142 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.SampledMetricsCollector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Per-thread bookkeeping for one run of a parallel sort.
+ *
+ * MetricsCollector implementations are not thread-safe, so every thread
+ * taking part gets its own collector of the caller's mode. A thread only
+ * ever updates its own entry; finish() reads them after the pool has joined
+ * all tasks, then adds the totals to the caller's collector.
+ *
+ * Worker threads are not interrupted when the caller is, so tasks call
+ * checkCancelled() to stop once the caller has been interrupted.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+final class ParallelWork {
+
+    private final MetricsCollector metrics;
+    private final Thread caller;
+    private final Map<Thread, ThreadWork> threads = new ConcurrentHashMap<>();
+
+    /**
+     * @param metrics The caller's collector, which receives the totals
+     */
+    ParallelWork(MetricsCollector metrics) {
+        this.metrics = metrics;
+        this.caller = Thread.currentThread();
+    }
+
+    /**
+     * Gets the current thread's entry, creating it on first use.
+     */
+    ThreadWork current() {
+        return threads.computeIfAbsent(Thread.currentThread(), thread -> new ThreadWork(thread.getName(), newCollector()));
+    }
+
+    private MetricsCollector newCollector() {
+        if (metrics instanceof SampledMetricsCollector) {
+            return MetricsCollector.create(MetricsCollector.Mode.SAMPLED,
+                ((SampledMetricsCollector) metrics).getSampleInterval());
+        }
+        return MetricsCollector.create(metrics.getMode());
+    }
+
+    /**
+     * @throws CancellationException if the thread that started the sort has been interrupted
+     */
+    void checkCancelled() {
+        if (caller.isInterrupted()) {
+            throw new CancellationException("Algorithm execution cancelled");
+        }
+    }
+
+    /**
+     * Adds every thread's counts to the caller's collector.
+     *
+     * @param statistics If not null, receives one entry per thread, ordered by thread name
+     */
+    void finish(List<ThreadWorkStatistics> statistics) {
+        List<ThreadWork> work = new ArrayList<>(threads.values());
+        work.sort(Comparator.comparing(entry -> entry.threadName));
+        for (ThreadWork entry : work) {
+            record(entry.metrics.getComparisonCount(), metrics::recordComparison);
+            record(entry.metrics.getSwapCount(), metrics::recordSwap);
+            record(entry.metrics.getArrayAccessCount(), metrics::recordArrayAccess);
+            if (statistics != null) {
+                statistics.add(new ThreadWorkStatistics(entry.threadName, entry.tasks, entry.elementsSorted,
+                    entry.elementsMerged, entry.elementsPartitioned, entry.metrics.getComparisonCount(),
+                    entry.metrics.getSwapCount(), entry.busyNanos));
+            }
+        }
+    }
+
+    private static void record(long count, IntConsumer recorder) {
+        while (count > 0) {
+            int chunk = (int) Math.min(count, Integer.MAX_VALUE);
+            recorder.accept(chunk);
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Counts of one thread. Only touched by that thread until finish().
+     */
+    static final class ThreadWork {
+
+        final MetricsCollector metrics;
+        private final String threadName;
+        private int tasks;
+        private long elementsSorted;
+        private long elementsMerged;
+        private long elementsPartitioned;
+        private long busyNanos;
+
+        ThreadWork(String threadName, MetricsCollector metrics) {
+            this.threadName = threadName;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Records a sequential piece that sorted a run of the given length.
+         */
+        void sorted(int elements, long startNanos) {
+            elementsSorted += elements;
+            finished(startNanos);
+        }
+
+        /**
+         * Records a sequential piece that placed the given number of elements while merging.
+         */
+        void merged(int elements, long startNanos) {
+            elementsMerged += elements;
+            finished(startNanos);
+        }
+
+        /**
+         * Records a sequential piece that scanned the given number of elements while partitioning.
+         */
+        void partitioned(int elements, long startNanos) {
+            elementsPartitioned += elements;
+            finished(startNanos);
+        }
+
+        private void finished(long startNanos) {
+            tasks++;
+            busyNanos += System.nanoTime() - startNanos;
+        }
+    }
+}
@@ -12,19 +12,69 @@ import java.util.function.BiPredicate;
  * and partitions the array around the pivot, placing smaller elements before it
  * and larger elements after it. It then recursively sorts the sub-arrays.
  * 
- * Time Complexity: O(n log n) average case, O(n²) worst case (already sorted with bad pivot)
- * Space Complexity: O(log n) due to recursion stack
+ * Two variants are available:
+ * - CLASSIC: Lomuto partitioning around a random pivot, recursing into both
+ *   sides. Every element equal to the pivot lands on the same side, so inputs
+ *   with few distinct values approach O(n²) and deep recursion.
+ * - INTROSORT: pivot is the median of three elements (Tukey's ninther, a
+ *   median of three medians, for ranges of 40 or more). Partitioning is
+ *   Hoare's: both ends are scanned towards each other and stop on keys equal
+ *   to the pivot, so duplicates split evenly. When the pivot equals the
+ *   element just before the range (which no element of the range is less
+ *   than), every key equal to the pivot is moved to the front in one pass
+ *   and the range continues after them, so runs of duplicates finish in
+ *   linear time. This is not a three-way (Dutch flag) partition; equal keys
+ *   are only grouped by that separate pass. Recursion goes into the smaller
+ *   side and loops on the larger one, ranges of at most 16 elements are
+ *   insertion sorted, and a range is heap sorted
+ *   once the recursion is 2·log₂(n) levels deep.
+ * 
+ * Time Complexity: O(n log n) average case, O(n²) worst case for CLASSIC (O(n log n) for INTROSORT)
+ * Space Complexity: O(log n) due to recursion stack (guaranteed for INTROSORT)
  * Stable: No - may change relative order of equal elements
  * 
  * Note: Using randomized pivot selection helps avoid O(n²) worst case on sorted data
  * 
  * @author Algorithm Comparison Team
- * @version 2.0 (Refactored to use AbstractSortingAlgorithm)
+ * @version 2.2
  */
 public class QuickSort extends AbstractSortingAlgorithm {
 
+    /**
+     * Ranges of at most this many elements are insertion sorted by the
+     * INTROSORT variant.
+     */
+    public static final int INSERTION_CUTOFF = 16;
+
+    private static final int NINTHER_THRESHOLD = 40; // Smaller ranges use median of three
+
+    /**
+     * Partitioning scheme and safeguards.
+     */
+    public enum Variant {
+        CLASSIC,  // Random pivot, Lomuto partition
+        INTROSORT // Ninther pivot, Hoare partition plus an equal-key pass, insertion and heap sort fallbacks
+    }
+
+    private final Variant variant;
     private Random random = new Random();
 
+    /**
+     * Creates the classic randomized quick sort.
+     */
+    public QuickSort() {
+        this(Variant.CLASSIC);
+    }
+
+    /**
+     * Creates a quick sort.
+     *
+     * @param variant Classic or introspective partitioning
+     */
+    public QuickSort(Variant variant) {
+        this.variant = variant;
+    }
+
     @Override
     protected <T extends Comparable<T>> void sortGeneric(
             T[] array, 
@@ -32,7 +82,9 @@ public class QuickSort extends AbstractSortingAlgorithm {
             StepCollector stepCollector,
             BiPredicate<T, T> isGreater) {
         
-        if (array.length > 0) {
+        if (variant == Variant.INTROSORT) {
+            introSort(array, 0, array.length - 1, depthLimit(array.length), metrics, isGreater);
+        } else if (array.length > 0) {
             quickSort(array, 0, array.length - 1, metrics, isGreater);
         }
     }
@@ -109,9 +161,416 @@ public class QuickSort extends AbstractSortingAlgorithm {
         return i + 1; // Return the partitioning index
     }
 
+    // ==================== Introsort Variant ====================
+
+    /**
+     * Recursion depth after which a range is heap sorted: 2·⌊log₂(n)⌋.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    /**
+     * Sorts array[low...high], recursing into the smaller side of each
+     * partition and looping on the larger one, so the stack stays O(log n).
+     */
+    private <T extends Comparable<T>> void introSort(
+            T[] array, int low, int high, int depthLimit,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        while (high - low >= INSERTION_CUTOFF) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high, metrics, isGreater);
+                return;
+            }
+            depthLimit--;
+
+            int pivotIndex = selectPivot(array, low, high, metrics, isGreater);
+            if (pivotIndex != low) {
+                swap(array, low, pivotIndex, metrics);
+            }
+            T pivot = array[low];
+            metrics.recordArrayAccess(1);
+
+            // Nothing in the range is less than array[low - 1], so if the
+            // pivot is not greater than it, the keys equal to the pivot are
+            // the smallest in the range and are already in place once moved
+            // to the front
+            if (low > 0 && !isGreaterThan(pivot, array[low - 1], metrics, isGreater)) {
+                low = partitionEqual(array, low, high, pivot, metrics, isGreater);
+                continue;
+            }
+
+            int split = partition(array, low, high, pivot, metrics, isGreater);
+            if (split - low < high - split) {
+                introSort(array, low, split - 1, depthLimit, metrics, isGreater);
+                low = split + 1;
+            } else {
+                introSort(array, split + 1, high, depthLimit, metrics, isGreater);
+                high = split - 1;
+            }
+        }
+        insertionSort(array, low, high, metrics, isGreater);
+    }
+
+    /**
+     * Hoare partition of array[low...high] around the pivot stored at
+     * array[low]. Both scans stop on keys equal to the pivot.
+     *
+     * @return Final index of the pivot: everything before it is at most the
+     *         pivot and everything after it at least the pivot
+     */
+    private <T extends Comparable<T>> int partition(
+            T[] array, int low, int high, T pivot,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int i = low;
+        int j = high + 1;
+        while (true) {
+            while (isGreaterThan(pivot, array[++i], metrics, isGreater)) {
+                if (i == high) {
+                    break;
+                }
+            }
+            // Stops at array[low] at the latest, which is the pivot
+            while (isGreaterThan(array[--j], pivot, metrics, isGreater)) {
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j, metrics);
+        }
+        swap(array, low, j, metrics);
+        return j;
+    }
+
+    /**
+     * Moves the keys of array[low...high] that are not greater than the pivot
+     * to the front.
+     *
+     * @return Index of the first key greater than the pivot (high + 1 if none)
+     */
+    private <T extends Comparable<T>> int partitionEqual(
+            T[] array, int low, int high, T pivot,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int i = low + 1; // array[low] is the pivot
+        int j = high;
+        while (true) {
+            while (i <= j && !isGreaterThan(array[i], pivot, metrics, isGreater)) {
+                i++;
+            }
+            while (i <= j && isGreaterThan(array[j], pivot, metrics, isGreater)) {
+                j--;
+            }
+            if (i > j) {
+                return i;
+            }
+            swap(array, i++, j--, metrics);
+        }
+    }
+
+    /**
+     * Picks the pivot index: median of the first, middle and last elements,
+     * or for larger ranges Tukey's ninther (the median of three such medians
+     * taken from evenly spaced triples). Deterministic, unlike the classic
+     * random pivot; adversarial inputs are caught by the heap sort fallback.
+     */
+    private <T extends Comparable<T>> int selectPivot(
+            T[] array, int low, int high,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 < NINTHER_THRESHOLD) {
+            return median(array, low, mid, high, metrics, isGreater);
+        }
+        int step = (high - low + 1) / 8;
+        int first = median(array, low, low + step, low + 2 * step, metrics, isGreater);
+        int middle = median(array, mid - step, mid, mid + step, metrics, isGreater);
+        int last = median(array, high - 2 * step, high - step, high, metrics, isGreater);
+        return median(array, first, middle, last, metrics, isGreater);
+    }
+
+    /**
+     * Returns the index of the median of array[a], array[b] and array[c].
+     */
+    private <T extends Comparable<T>> int median(
+            T[] array, int a, int b, int c,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        if (isGreaterThan(array[b], array[a], metrics, isGreater)) {
+            if (isGreaterThan(array[c], array[b], metrics, isGreater)) {
+                return b;
+            }
+            return isGreaterThan(array[c], array[a], metrics, isGreater) ? c : a;
+        }
+        if (isGreaterThan(array[b], array[c], metrics, isGreater)) {
+            return b;
+        }
+        return isGreaterThan(array[a], array[c], metrics, isGreater) ? c : a;
+    }
+
+    /**
+     * Heap sorts array[low...high] in place; the fallback once partitioning
+     * has gone too deep.
+     */
+    private <T extends Comparable<T>> void heapSort(
+            T[] array, int low, int high,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int size = high - low + 1;
+        for (int root = size / 2 - 1; root >= 0; root--) {
+            siftDown(array, low, root, size, metrics, isGreater);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, low, low + end, metrics);
+            siftDown(array, low, 0, end, metrics, isGreater);
+        }
+    }
+
+    /**
+     * Restores the max heap property below root in the heap stored at
+     * array[offset...offset+size-1].
+     */
+    private <T extends Comparable<T>> void siftDown(
+            T[] array, int offset, int root, int size,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        int child = 2 * root + 1;
+        while (child < size) {
+            if (child + 1 < size
+                    && isGreaterThan(array[offset + child + 1], array[offset + child], metrics, isGreater)) {
+                child++;
+            }
+            if (!isGreaterThan(array[offset + child], array[offset + root], metrics, isGreater)) {
+                return;
+            }
+            swap(array, offset + root, offset + child, metrics);
+            root = child;
+            child = 2 * root + 1;
+        }
+    }
+
+    /**
+     * Insertion sort for array[low...high], shifting instead of swapping.
+     */
+    private <T extends Comparable<T>> void insertionSort(
+            T[] array, int low, int high,
+            MetricsCollector metrics,
+            BiPredicate<T, T> isGreater) {
+
+        for (int i = low + 1; i <= high; i++) {
+            T key = array[i];
+            int j = i - 1;
+            while (j >= low && isGreaterThan(array[j], key, metrics, isGreater)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+    }
+
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same partitioning and metrics, but works on the array in place without boxing.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        if (variant == Variant.INTROSORT) {
+            introSort(array, 0, array.length - 1, depthLimit(array.length), metrics);
+        } else if (array.length > 0) {
+            quickSort(array, 0, array.length - 1, metrics);
+        }
+    }
+
+    /**
+     * Recursive quick sort method for primitive arrays.
+     */
+    private void quickSort(int[] array, int low, int high, MetricsCollector metrics) {
+        if (low < high) {
+            int pivotIndex = partition(array, low, high, metrics);
+            quickSort(array, low, pivotIndex - 1, metrics);
+            quickSort(array, pivotIndex + 1, high, metrics);
+        }
+    }
+
+    /**
+     * Lomuto partition with randomized pivot for primitive arrays.
+     */
+    private int partition(int[] array, int low, int high, MetricsCollector metrics) {
+        int randomIndex = low + random.nextInt(high - low + 1);
+        swap(array, randomIndex, high, metrics);
+        
+        int pivot = array[high];
+        metrics.recordArrayAccess(1);
+        
+        int i = low - 1;
+        for (int j = low; j < high; j++) {
+            if (metrics.isLessThanOrEqual(array[j], pivot)) {
+                i++;
+                swap(array, i, j, metrics);
+            }
+        }
+        
+        swap(array, i + 1, high, metrics);
+        return i + 1;
+    }
+
+    /**
+     * Introsort loop for primitive arrays.
+     */
+    private void introSort(int[] array, int low, int high, int depthLimit, MetricsCollector metrics) {
+        while (high - low >= INSERTION_CUTOFF) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high, metrics);
+                return;
+            }
+            depthLimit--;
+
+            int pivotIndex = selectPivot(array, low, high, metrics);
+            if (pivotIndex != low) {
+                swap(array, low, pivotIndex, metrics);
+            }
+            int pivot = array[low];
+            metrics.recordArrayAccess(1);
+
+            if (low > 0 && !metrics.isGreaterThan(pivot, array[low - 1])) {
+                low = partitionEqual(array, low, high, pivot, metrics);
+                continue;
+            }
+
+            int split = partition(array, low, high, pivot, metrics);
+            if (split - low < high - split) {
+                introSort(array, low, split - 1, depthLimit, metrics);
+                low = split + 1;
+            } else {
+                introSort(array, split + 1, high, depthLimit, metrics);
+                high = split - 1;
+            }
+        }
+        insertionSort(array, low, high, metrics);
+    }
+
+    private int partition(int[] array, int low, int high, int pivot, MetricsCollector metrics) {
+        int i = low;
+        int j = high + 1;
+        while (true) {
+            while (metrics.isLessThan(array[++i], pivot)) {
+                if (i == high) {
+                    break;
+                }
+            }
+            while (metrics.isGreaterThan(array[--j], pivot)) {
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(array, i, j, metrics);
+        }
+        swap(array, low, j, metrics);
+        return j;
+    }
+
+    private int partitionEqual(int[] array, int low, int high, int pivot, MetricsCollector metrics) {
+        int i = low + 1;
+        int j = high;
+        while (true) {
+            while (i <= j && !metrics.isGreaterThan(array[i], pivot)) {
+                i++;
+            }
+            while (i <= j && metrics.isGreaterThan(array[j], pivot)) {
+                j--;
+            }
+            if (i > j) {
+                return i;
+            }
+            swap(array, i++, j--, metrics);
+        }
+    }
+
+    private int selectPivot(int[] array, int low, int high, MetricsCollector metrics) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 < NINTHER_THRESHOLD) {
+            return median(array, low, mid, high, metrics);
+        }
+        int step = (high - low + 1) / 8;
+        int first = median(array, low, low + step, low + 2 * step, metrics);
+        int middle = median(array, mid - step, mid, mid + step, metrics);
+        int last = median(array, high - 2 * step, high - step, high, metrics);
+        return median(array, first, middle, last, metrics);
+    }
+
+    private int median(int[] array, int a, int b, int c, MetricsCollector metrics) {
+        if (metrics.isGreaterThan(array[b], array[a])) {
+            if (metrics.isGreaterThan(array[c], array[b])) {
+                return b;
+            }
+            return metrics.isGreaterThan(array[c], array[a]) ? c : a;
+        }
+        if (metrics.isGreaterThan(array[b], array[c])) {
+            return b;
+        }
+        return metrics.isGreaterThan(array[a], array[c]) ? c : a;
+    }
+
+    private void heapSort(int[] array, int low, int high, MetricsCollector metrics) {
+        int size = high - low + 1;
+        for (int root = size / 2 - 1; root >= 0; root--) {
+            siftDown(array, low, root, size, metrics);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(array, low, low + end, metrics);
+            siftDown(array, low, 0, end, metrics);
+        }
+    }
+
+    private void siftDown(int[] array, int offset, int root, int size, MetricsCollector metrics) {
+        int child = 2 * root + 1;
+        while (child < size) {
+            if (child + 1 < size && metrics.isGreaterThan(array[offset + child + 1], array[offset + child])) {
+                child++;
+            }
+            if (!metrics.isGreaterThan(array[offset + child], array[offset + root])) {
+                return;
+            }
+            swap(array, offset + root, offset + child, metrics);
+            root = child;
+            child = 2 * root + 1;
+        }
+    }
+
+    private void insertionSort(int[] array, int low, int high, MetricsCollector metrics) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= low && metrics.isGreaterThan(array[j], key)) {
+                array[j + 1] = array[j];
+                metrics.recordArrayAccess(2); // One read, one write
+                j--;
+            }
+            array[j + 1] = key;
+            metrics.recordArrayAccess(1);
+            if (j + 1 != i) {
+                metrics.recordSwap(1);
+            }
+        }
+    }
+
     @Override
     public String getName() {
-        return "Quick Sort";
+        return variant == Variant.INTROSORT ? "Intro Sort" : "Quick Sort";
     }
 
     @Override
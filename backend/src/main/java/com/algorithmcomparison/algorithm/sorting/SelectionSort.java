@@ -72,6 +72,53 @@ public class SelectionSort extends AbstractSortingAlgorithm {
         recordComplete(array, stepCollector, "Sorting complete!");
     }
 
+    /**
+     * Primitive int[] version of {@link #sortGeneric}.
+     * Same passes and metrics, but works on the array in place without boxing.
+     */
+    @Override
+    protected void sortPrimitive(int[] array, MetricsCollector metrics, StepCollector stepCollector) {
+        int n = array.length;
+        
+        recordInitialState(array, stepCollector, "Initial array state");
+        
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            
+            if (stepCollector != null) {
+                recordComparison(array, stepCollector, i, i,
+                    "Starting pass " + (i + 1) + ", looking for minimum in unsorted region");
+            }
+            
+            for (int j = i + 1; j < n; j++) {
+                if (stepCollector != null) {
+                    recordComparison(array, stepCollector, j, minIndex,
+                        "Comparing " + array[j] + " with current minimum " + array[minIndex]);
+                }
+                
+                if (metrics.isLessThan(array[j], array[minIndex])) {
+                    minIndex = j;
+                }
+            }
+            
+            if (minIndex != i) {
+                swap(array, i, minIndex, metrics);
+                
+                if (stepCollector != null) {
+                    recordSwap(array, stepCollector, i, minIndex,
+                        "Swapping minimum " + array[i] + " to sorted position " + i);
+                }
+            } else {
+                if (stepCollector != null) {
+                    recordComparison(array, stepCollector, i, i,
+                        "Element " + array[i] + " already in correct position");
+                }
+            }
+        }
+        
+        recordComplete(array, stepCollector, "Sorting complete!");
+    }
+
     @Override
     public String getName() {
         return "Selection Sort";
@@ -3,6 +3,8 @@ package com.algorithmcomparison.controller;
 import com.algorithmcomparison.model.AlgorithmRecommendation;
 import com.algorithmcomparison.model.AlgorithmResult;
 import com.algorithmcomparison.model.ComparisonRequest;
+import com.algorithmcomparison.model.CompactVisualization;
+import com.algorithmcomparison.model.StringQuery;
 import com.algorithmcomparison.model.VisualizationStep;
 import com.algorithmcomparison.service.*;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +22,12 @@ import java.util.Map;
  * Endpoints:
  * - POST /api/algorithms/sort/compare - Compare sorting algorithms
  * - POST /api/algorithms/search/compare - Compare searching algorithms
+ * - POST /api/algorithms/search/prefix - Strings starting with a prefix (STRING datasets)
+ * - POST /api/algorithms/search/autocomplete - Most frequent completions of a prefix
+ * - POST /api/algorithms/search/range-count - Count strings in a lexicographic range
  * - POST /api/algorithms/visualize - Get visualization steps
+ * - POST /api/algorithms/visualize/compact - Get delta-encoded visualization steps
+ * - POST /api/algorithms/visualize/steps - Get a page of delta-encoded visualization steps
  * - POST /api/algorithms/recommend - Get algorithm recommendations
  * - GET /api/algorithms/sort - List available sorting algorithms
  * - GET /api/algorithms/search - List available searching algorithms
@@ -32,6 +39,16 @@ import java.util.Map;
 @RequestMapping("/api/algorithms")
 public class AlgorithmController {
 
+    // Page sizes for /visualize/steps
+    private static final int DEFAULT_STEP_PAGE_SIZE = 500;
+    private static final int MAX_STEP_PAGE_SIZE = 5000;
+
+    // Result sizes and algorithms for STRING queries
+    private static final int DEFAULT_PREFIX_LIMIT = 100;
+    private static final int DEFAULT_AUTOCOMPLETE_K = 10;
+    private static final int MAX_QUERY_LIMIT = 10000;
+    private static final List<String> DEFAULT_QUERY_ALGORITHMS = List.of("Trie Search", "Binary Search");
+
     private final SortingService sortingService;
     private final SearchingService searchingService;
     private final VisualizationService visualizationService;
@@ -173,6 +190,89 @@ public class AlgorithmController {
         }
     }
 
+    /**
+     * Finds the distinct strings starting with a prefix.
+     * 
+     * Request body example:
+     * {
+     *   "datasetId": "dataset-1",
+     *   "prefix": "ab",
+     *   "limit": 100,                                      // Optional (default 100, max 10000)
+     *   "algorithmNames": ["Trie Search", "Binary Search"] // Optional (default both)
+     * }
+     * 
+     * @param request Map containing datasetId, prefix and optional limit/algorithmNames
+     * @param session HTTP session for user isolation
+     * @return One result per algorithm with matches (lexicographic order) and matchCount
+     */
+    @PostMapping("/search/prefix")
+    public ResponseEntity<?> searchByPrefix(
+            @RequestBody Map<String, Object> request,
+            HttpSession session) {
+        try {
+            StringQuery query = StringQuery.prefix(
+                (String) request.get("prefix"), queryLimit(request, "limit", DEFAULT_PREFIX_LIMIT));
+            return ResponseEntity.ok(runStringQuery(request, query, session));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * Finds the most frequent completions of a prefix.
+     * 
+     * Request body example:
+     * {
+     *   "datasetId": "dataset-1",
+     *   "prefix": "ab",
+     *   "k": 10,                                           // Optional (default 10, max 10000)
+     *   "algorithmNames": ["Trie Search", "Binary Search"] // Optional (default both)
+     * }
+     * 
+     * @param request Map containing datasetId, prefix and optional k/algorithmNames
+     * @param session HTTP session for user isolation
+     * @return One result per algorithm with matches (most frequent first) and matchCount
+     */
+    @PostMapping("/search/autocomplete")
+    public ResponseEntity<?> autocomplete(
+            @RequestBody Map<String, Object> request,
+            HttpSession session) {
+        try {
+            StringQuery query = StringQuery.autocomplete(
+                (String) request.get("prefix"), queryLimit(request, "k", DEFAULT_AUTOCOMPLETE_K));
+            return ResponseEntity.ok(runStringQuery(request, query, session));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * Counts the strings in an inclusive lexicographic range.
+     * 
+     * Request body example:
+     * {
+     *   "datasetId": "dataset-1",
+     *   "from": "apple",
+     *   "to": "banana",
+     *   "algorithmNames": ["Trie Search", "Binary Search"] // Optional (default both)
+     * }
+     * 
+     * @param request Map containing datasetId, from, to and optional algorithmNames
+     * @param session HTTP session for user isolation
+     * @return One result per algorithm with matchCount
+     */
+    @PostMapping("/search/range-count")
+    public ResponseEntity<?> countRange(
+            @RequestBody Map<String, Object> request,
+            HttpSession session) {
+        try {
+            StringQuery query = StringQuery.rangeCount((String) request.get("from"), (String) request.get("to"));
+            return ResponseEntity.ok(runStringQuery(request, query, session));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
     /**
      * Gets visualization steps for an algorithm.
      * 
@@ -207,6 +307,80 @@ public class AlgorithmController {
         }
     }
 
+    /**
+     * Gets delta-encoded visualization steps for an algorithm.
+     * 
+     * Takes the same request body as /visualize. The response holds the
+     * initial array state and, per step, only the changed elements plus a
+     * full keyframe every keyframeInterval steps.
+     * 
+     * @param request Map containing datasetId, algorithmName, and optional target/sortOrder
+     * @param session HTTP session for user isolation
+     * @return Compact visualization
+     */
+    @PostMapping("/visualize/compact")
+    public ResponseEntity<?> visualizeAlgorithmCompact(
+            @RequestBody Map<String, String> request,
+            HttpSession session) {
+        try {
+            String sessionId = session.getId();
+            String datasetId = request.get("datasetId");
+            String algorithmName = request.get("algorithmName");
+            String target = request.get("target");
+            String sortOrder = request.getOrDefault("sortOrder", "ASCENDING");
+            
+            CompactVisualization visualization = visualizationService.visualizeAlgorithmCompact(
+                sessionId, datasetId, algorithmName, target, sortOrder);
+            
+            return ResponseEntity.ok(visualization);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Gets a page of delta-encoded visualization steps.
+     * 
+     * The algorithm runs on the first request and its step log is cached in
+     * the session; following pages are served from the cache.
+     * 
+     * Request body example:
+     * {
+     *   "datasetId": "dataset-1",
+     *   "algorithmName": "Bubble Sort",
+     *   "sortOrder": "ASCENDING",  // Optional for sorting algorithms
+     *   "offset": 0,               // Optional: first step to return (default 0)
+     *   "limit": 500               // Optional: steps to return (default 500, max 5000)
+     * }
+     * 
+     * @param request Map containing datasetId, algorithmName, optional target/sortOrder and step range
+     * @param session HTTP session for user isolation
+     * @return Page of the compact visualization, including totalSteps
+     */
+    @PostMapping("/visualize/steps")
+    public ResponseEntity<?> getVisualizationSteps(
+            @RequestBody Map<String, Object> request,
+            HttpSession session) {
+        try {
+            String sessionId = session.getId();
+            String datasetId = (String) request.get("datasetId");
+            String algorithmName = (String) request.get("algorithmName");
+            Object target = request.get("target");
+            String sortOrder = (String) request.getOrDefault("sortOrder", "ASCENDING");
+            int offset = ((Number) request.getOrDefault("offset", 0)).intValue();
+            int limit = Math.min(MAX_STEP_PAGE_SIZE,
+                ((Number) request.getOrDefault("limit", DEFAULT_STEP_PAGE_SIZE)).intValue());
+            
+            CompactVisualization page = visualizationService.getVisualizationSteps(
+                sessionId, datasetId, algorithmName, target != null ? target.toString() : null,
+                sortOrder, offset, limit);
+            
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
     /**
      * Gets algorithm recommendations for a dataset.
      * 
@@ -259,5 +433,23 @@ public class AlgorithmController {
         List<String> algorithms = searchingService.getAvailableAlgorithms();
         return ResponseEntity.ok(algorithms);
     }
-}
 
+    /**
+     * Runs a STRING query with the requested (or default) algorithms.
+     */
+    @SuppressWarnings("unchecked")
+    private List<AlgorithmResult> runStringQuery(Map<String, Object> request, StringQuery query,
+                                                 HttpSession session) {
+        String datasetId = (String) request.get("datasetId");
+        List<String> algorithmNames = (List<String>) request.getOrDefault("algorithmNames", DEFAULT_QUERY_ALGORITHMS);
+        return searchingService.compareStringQuery(session.getId(), datasetId, algorithmNames, query);
+    }
+
+    /**
+     * Reads a result size from the request, capped at MAX_QUERY_LIMIT.
+     */
+    private static int queryLimit(Map<String, Object> request, String key, int defaultValue) {
+        int limit = ((Number) request.getOrDefault(key, defaultValue)).intValue();
+        return Math.min(limit, MAX_QUERY_LIMIT);
+    }
+}
@@ -2,8 +2,11 @@ package com.algorithmcomparison.controller;
 
 import com.algorithmcomparison.model.Dataset;
 import com.algorithmcomparison.model.DatasetCharacteristics;
+import com.algorithmcomparison.model.DatasetStoreStatistics;
 import com.algorithmcomparison.model.AlgorithmRecommendation;
+import com.algorithmcomparison.model.IntStorage;
 import com.algorithmcomparison.service.DatasetService;
+import com.algorithmcomparison.service.VisualizationService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,23 +27,27 @@ import java.util.Map;
  * - GET /api/datasets - Get all datasets for current session
  * - GET /api/datasets/{id} - Get specific dataset
  * - DELETE /api/datasets/{id} - Delete dataset
+ * - GET /api/datasets/store/statistics - Memory use and evictions of the dataset store
  * 
  * @author Algorithm Comparison Team
- * @version 2.0
+ * @version 2.1
  */
 @RestController
 @RequestMapping("/api/datasets")
 public class DatasetController {
 
     private final DatasetService datasetService;
+    private final VisualizationService visualizationService;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param datasetService Service for dataset management
+     * @param visualizationService Service holding cached step logs
      */
-    public DatasetController(DatasetService datasetService) {
+    public DatasetController(DatasetService datasetService, VisualizationService visualizationService) {
         this.datasetService = datasetService;
+        this.visualizationService = visualizationService;
     }
     
     /**
@@ -60,9 +67,13 @@ public class DatasetController {
      *   "size": 1000,
      *   "minValue": 1,
      *   "maxValue": 10000,
-     *   "dataType": "INTEGER"
+     *   "dataType": "INTEGER",
+     *   "storage": "MAPPED"
      * }
      * 
+     * "storage" is optional (HEAP, DIRECT or MAPPED); by default INTEGER
+     * datasets above dataset.storage.offheap-threshold are stored off-heap.
+     * 
      * @param request Map containing generation parameters
      * @param session HTTP session for user isolation
      * @return Generated dataset
@@ -76,13 +87,17 @@ public class DatasetController {
             int size = (Integer) request.get("size");
             String dataType = (String) request.getOrDefault("dataType", "INTEGER");
             
+            IntStorage.Kind storage = request.containsKey("storage")
+                ? DatasetService.parseStorageKind((String) request.get("storage"))
+                : null;
+            
             Dataset dataset;
             if (request.containsKey("minValue") && request.containsKey("maxValue")) {
                 int minValue = (Integer) request.get("minValue");
                 int maxValue = (Integer) request.get("maxValue");
-                dataset = datasetService.generateDataset(sessionId, type, size, minValue, maxValue, dataType);
+                dataset = datasetService.generateDataset(sessionId, type, size, minValue, maxValue, dataType, storage);
             } else {
-                dataset = datasetService.generateDataset(sessionId, type, size, 1, 10000, dataType);
+                dataset = datasetService.generateDataset(sessionId, type, size, 1, 10000, dataType, storage);
             }
             
             return ResponseEntity.ok(dataset);
@@ -194,6 +209,17 @@ public class DatasetController {
         return ResponseEntity.ok(datasets);
     }
 
+    /**
+     * Gets the memory use, budgets and eviction counts of the dataset store
+     * and the visualization step log cache (all sessions).
+     * 
+     * @return Store statistics
+     */
+    @GetMapping("/store/statistics")
+    public ResponseEntity<DatasetStoreStatistics> getStoreStatistics() {
+        return ResponseEntity.ok(visualizationService.addStepLogStatistics(datasetService.getStoreStatistics()));
+    }
+
     /**
      * Gets a specific dataset by ID from the current session.
      * 
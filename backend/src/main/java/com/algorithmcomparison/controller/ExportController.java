@@ -1,13 +1,22 @@
 package com.algorithmcomparison.controller;
 
 import com.algorithmcomparison.model.AlgorithmResult;
+import com.algorithmcomparison.model.BenchmarkJob;
 import com.algorithmcomparison.model.BenchmarkReport;
+import com.algorithmcomparison.service.BenchmarkExecutor;
+import com.algorithmcomparison.service.BenchmarkJobService;
+import com.algorithmcomparison.service.BenchmarkRunOptions;
 import com.algorithmcomparison.service.BenchmarkService;
+import com.algorithmcomparison.service.BenchmarkStreamService;
 import com.algorithmcomparison.service.ExportService;
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.SampledMetricsCollector;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.servlet.http.HttpSession;
 import java.util.List;
@@ -20,6 +29,11 @@ import java.util.Map;
  * - POST /api/benchmark/run - Run comprehensive benchmark
  * - GET /api/benchmark/results/{id} - Get benchmark results
  * - GET /api/benchmark/results - Get all benchmarks
+ * - POST /api/benchmark/stream - Run benchmark, streaming results as Server-Sent Events
+ * - POST /api/benchmark/jobs - Submit benchmark as background job
+ * - GET /api/benchmark/jobs/{id} - Get job status and progress
+ * - GET /api/benchmark/jobs - Get all jobs
+ * - DELETE /api/benchmark/jobs/{id} - Cancel job
  * - GET /api/results/export/{format} - Export results
  * - POST /api/results/export - Export with custom data
  * 
@@ -32,13 +46,19 @@ public class ExportController {
 
     private final ExportService exportService;
     private final BenchmarkService benchmarkService;
+    private final BenchmarkJobService benchmarkJobService;
+    private final BenchmarkStreamService benchmarkStreamService;
 
     /**
      * Constructor with dependency injection.
      */
-    public ExportController(ExportService exportService, BenchmarkService benchmarkService) {
+    public ExportController(ExportService exportService, BenchmarkService benchmarkService,
+                            BenchmarkJobService benchmarkJobService,
+                            BenchmarkStreamService benchmarkStreamService) {
         this.exportService = exportService;
         this.benchmarkService = benchmarkService;
+        this.benchmarkJobService = benchmarkJobService;
+        this.benchmarkStreamService = benchmarkStreamService;
     }
 
     /**
@@ -49,7 +69,12 @@ public class ExportController {
      *   "operationType": "SORT",
      *   "algorithmNames": ["Quick Sort", "Merge Sort"],
      *   "datasetSizes": [100, 1000, 5000],
-     *   "datasetType": "RANDOM"
+     *   "datasetType": "RANDOM",
+     *   "executionMode": "PARALLEL",  // Optional: SERIAL, PARALLEL or ISOLATED
+     *   "warmupIterations": 5,        // Optional: untimed runs per cell (default 0)
+     *   "measurementIterations": 20,  // Optional: timed runs per cell (default 1)
+     *   "metricsMode": "SAMPLED",     // Optional: COUNTING (default), SAMPLED or TIMING_ONLY
+     *   "sampleInterval": 64          // Optional: operations per sample in SAMPLED mode
      * }
      * 
      * @param request Benchmark configuration
@@ -58,52 +83,122 @@ public class ExportController {
      */
     @PostMapping("/benchmark/run")
     public ResponseEntity<BenchmarkReport> runBenchmark(@RequestBody Map<String, Object> request, HttpSession session) {
+        try {
+            BenchmarkReport report = executeBenchmarkRequest(request, session.getId(), parseRunOptions(request));
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Runs a benchmark, streaming each result as soon as it is available.
+     * 
+     * Takes the same request body as /benchmark/run. Sends a 'job' event first,
+     * then one 'result' event per algorithm/dataset cell, and finally a
+     * 'complete' event with the report ID and statistics (or 'error').
+     * Closing the stream cancels the benchmark.
+     * 
+     * @param request Benchmark configuration
+     * @param session HTTP session for user isolation
+     * @return Server-Sent Events stream
+     */
+    @PostMapping(value = "/benchmark/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBenchmark(@RequestBody Map<String, Object> request, HttpSession session) {
         try {
             String sessionId = session.getId();
-            String operationType = (String) request.getOrDefault("operationType", "SORT");
+            String operationType = ((String) request.getOrDefault("operationType", "SORT")).toUpperCase();
+            BenchmarkRunOptions options = parseRunOptions(request);
             
             @SuppressWarnings("unchecked")
             List<String> algorithmNames = (List<String>) request.get("algorithmNames");
-            
             if (algorithmNames == null || algorithmNames.isEmpty()) {
                 return ResponseEntity.badRequest().build();
             }
             
-            BenchmarkReport report;
+            SseEmitter emitter = benchmarkStreamService.stream(sessionId, operationType, options,
+                runOptions -> executeBenchmarkRequest(request, sessionId, runOptions));
+            return ResponseEntity.ok(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Submits a benchmark to run in the background.
+     * 
+     * Takes the same request body as /benchmark/run but returns immediately
+     * with a job that can be polled for progress. When the job completes,
+     * its reportId points to the finished benchmark report.
+     * 
+     * @param request Benchmark configuration
+     * @param session HTTP session for user isolation
+     * @return The submitted job (202 Accepted)
+     */
+    @PostMapping("/benchmark/jobs")
+    public ResponseEntity<BenchmarkJob> submitBenchmarkJob(@RequestBody Map<String, Object> request, HttpSession session) {
+        try {
+            String sessionId = session.getId();
+            String operationType = ((String) request.getOrDefault("operationType", "SORT")).toUpperCase();
+            BenchmarkRunOptions options = parseRunOptions(request);
             
-            if ("SORT".equalsIgnoreCase(operationType)) {
-                String datasetType = (String) request.getOrDefault("datasetType", "RANDOM");
-                String dataType = (String) request.getOrDefault("dataType", "INTEGER");
-                
-                if (request.containsKey("datasetSizes")) {
-                    @SuppressWarnings("unchecked")
-                    List<Integer> datasetSizes = (List<Integer>) request.get("datasetSizes");
-                    report = benchmarkService.runSortingBenchmark(sessionId, algorithmNames, datasetSizes, datasetType, dataType);
-                } else {
-                    report = benchmarkService.runSortingBenchmark(sessionId, algorithmNames, datasetType);
-                }
-            } else {
-                String dataType = (String) request.getOrDefault("dataType", "INTEGER");
-                @SuppressWarnings("unchecked")
-                List<Integer> datasetSizes = (List<Integer>) request.getOrDefault("datasetSizes", 
-                    List.of(100, 1000, 5000));
-                
-                // Check if target is integer or string
-                if ("STRING".equalsIgnoreCase(dataType) && request.containsKey("targetString")) {
-                    String target = (String) request.get("targetString");
-                    report = benchmarkService.runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType);
-                } else {
-                    int target = (Integer) request.getOrDefault("target", 50);
-                    report = benchmarkService.runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType);
-                }
+            @SuppressWarnings("unchecked")
+            List<String> algorithmNames = (List<String>) request.get("algorithmNames");
+            if (algorithmNames == null || algorithmNames.isEmpty()) {
+                return ResponseEntity.badRequest().build();
             }
             
-            return ResponseEntity.ok(report);
+            BenchmarkJob job = benchmarkJobService.submit(sessionId, operationType, options,
+                runOptions -> executeBenchmarkRequest(request, sessionId, runOptions));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Gets the status and progress of a benchmark job.
+     * 
+     * @param id Job ID
+     * @param session HTTP session for user isolation
+     * @return Benchmark job
+     */
+    @GetMapping("/benchmark/jobs/{id}")
+    public ResponseEntity<BenchmarkJob> getBenchmarkJob(@PathVariable String id, HttpSession session) {
+        BenchmarkJob job = benchmarkJobService.getJob(session.getId(), id);
+        if (job != null) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Gets all benchmark jobs for the current session.
+     * 
+     * @param session HTTP session for user isolation
+     * @return List of all jobs in this session
+     */
+    @GetMapping("/benchmark/jobs")
+    public ResponseEntity<List<BenchmarkJob>> getAllBenchmarkJobs(HttpSession session) {
+        return ResponseEntity.ok(benchmarkJobService.getAllJobs(session.getId()));
+    }
+
+    /**
+     * Cancels a queued or running benchmark job.
+     * 
+     * @param id Job ID
+     * @param session HTTP session for user isolation
+     * @return The job, or 404 if it does not exist or has already finished
+     */
+    @DeleteMapping("/benchmark/jobs/{id}")
+    public ResponseEntity<BenchmarkJob> cancelBenchmarkJob(@PathVariable String id, HttpSession session) {
+        String sessionId = session.getId();
+        if (benchmarkJobService.cancelJob(sessionId, id)) {
+            return ResponseEntity.ok(benchmarkJobService.getJob(sessionId, id));
+        }
+        return ResponseEntity.notFound().build();
+    }
+
     /**
      * Gets a specific benchmark report.
      * 
@@ -232,6 +327,71 @@ public class ExportController {
         }
     }
 
+    /**
+     * Helper method to read execution mode, iteration counts and metrics mode from a request body.
+     */
+    private BenchmarkRunOptions parseRunOptions(Map<String, Object> request) {
+        return new BenchmarkRunOptions.Builder()
+            .mode(BenchmarkExecutor.parseMode((String) request.get("executionMode"), null))
+            .warmupIterations(readCount(request, "warmupIterations", 0))
+            .measurementIterations(readCount(request, "measurementIterations", 1))
+            .metricsMode(MetricsCollector.parseMode((String) request.get("metricsMode"), null))
+            .sampleInterval(((Number) request.getOrDefault("sampleInterval",
+                SampledMetricsCollector.DEFAULT_SAMPLE_INTERVAL)).intValue())
+            .build();
+    }
+
+    /**
+     * Reads a count from the request without wrapping: values beyond the int
+     * range saturate, so the builder's bounds checks reject them.
+     */
+    private static int readCount(Map<String, Object> request, String key, int defaultValue) {
+        long value = ((Number) request.getOrDefault(key, defaultValue)).longValue();
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    /**
+     * Helper method to run a benchmark described by a request body.
+     * Shared by the synchronous endpoint and background jobs.
+     */
+    private BenchmarkReport executeBenchmarkRequest(Map<String, Object> request, String sessionId,
+                                                    BenchmarkRunOptions options) {
+        String operationType = (String) request.getOrDefault("operationType", "SORT");
+        
+        @SuppressWarnings("unchecked")
+        List<String> algorithmNames = (List<String>) request.get("algorithmNames");
+        
+        if (algorithmNames == null || algorithmNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one algorithm is required");
+        }
+        
+        if ("SORT".equalsIgnoreCase(operationType)) {
+            String datasetType = (String) request.getOrDefault("datasetType", "RANDOM");
+            String dataType = (String) request.getOrDefault("dataType", "INTEGER");
+            
+            if (request.containsKey("datasetSizes")) {
+                @SuppressWarnings("unchecked")
+                List<Integer> datasetSizes = (List<Integer>) request.get("datasetSizes");
+                return benchmarkService.runSortingBenchmark(sessionId, algorithmNames, datasetSizes, datasetType, dataType, options);
+            }
+            return benchmarkService.runSortingBenchmark(sessionId, algorithmNames, 
+                BenchmarkService.DEFAULT_SORTING_SIZES, datasetType, "INTEGER", options);
+        }
+        
+        String dataType = (String) request.getOrDefault("dataType", "INTEGER");
+        @SuppressWarnings("unchecked")
+        List<Integer> datasetSizes = (List<Integer>) request.getOrDefault("datasetSizes", 
+            List.of(100, 1000, 5000));
+        
+        // Check if target is integer or string
+        if ("STRING".equalsIgnoreCase(dataType) && request.containsKey("targetString")) {
+            String target = (String) request.get("targetString");
+            return benchmarkService.runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType, options);
+        }
+        int target = (Integer) request.getOrDefault("target", 50);
+        return benchmarkService.runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType, options);
+    }
+
     /**
      * Helper method to convert map to AlgorithmResult.
      */
@@ -1,5 +1,7 @@
 package com.algorithmcomparison.model;
 
+import java.util.List;
+
 /**
  * Represents the result of running an algorithm on a dataset.
  * 
@@ -20,11 +22,22 @@ public class AlgorithmResult {
     private long comparisonCount;
     private long swapCount;
     private long arrayAccessCount;
+    private String metricsMode; // COUNTING, SAMPLED (estimated counts) or TIMING_ONLY (no counts)
     private long nodesVisited; // For graph-based searches
     private boolean foundTarget; // For searching algorithms
     private Integer targetIndex; // For searching algorithms
     private String complexity; // Big-O notation
-    private String resultType; // "SORT" or "SEARCH"
+    private String resultType; // "SORT", "SEARCH", or a StringQuery type ("PREFIX", "AUTOCOMPLETE", "RANGE_COUNT")
+    private MeasurementStatistics measurement; // Only set for multi-iteration runs
+    private Long indexBuildTimeNanos; // For index- and graph-based searches: time to build the index or graph (not in executionTime)
+    private Double indexBuildTimeMillis;
+    private Boolean indexCached; // For index-based searches: whether a prebuilt index or graph was reused
+    private Long matchCount; // For string queries: dataset strings matching, duplicates included
+    private List<StringMatch> matches; // For prefix and autocomplete queries
+    private List<BfsLevelStatistics> levelStatistics; // For Parallel BFS: frontier size and work per level
+    private Integer parallelism; // For parallel sorts: worker threads available
+    private String sequentialBaseline; // For parallel sorts: sequential algorithm to compute speedup against
+    private List<ThreadWorkStatistics> threadStatistics; // For parallel sorts: work done by each thread
     private long timestamp;
 
     /**
@@ -81,6 +94,11 @@ public class AlgorithmResult {
             return this;
         }
 
+        public Builder metricsMode(String metricsMode) {
+            result.metricsMode = metricsMode;
+            return this;
+        }
+
         public Builder nodesVisited(long nodesVisited) {
             result.nodesVisited = nodesVisited;
             return this;
@@ -106,6 +124,52 @@ public class AlgorithmResult {
             return this;
         }
 
+        public Builder measurement(MeasurementStatistics measurement) {
+            result.measurement = measurement;
+            return this;
+        }
+
+        public Builder indexBuildTimeNanos(long indexBuildTimeNanos) {
+            result.indexBuildTimeNanos = indexBuildTimeNanos;
+            result.indexBuildTimeMillis = indexBuildTimeNanos / 1_000_000.0;
+            return this;
+        }
+
+        public Builder indexCached(boolean indexCached) {
+            result.indexCached = indexCached;
+            return this;
+        }
+
+        public Builder matchCount(long matchCount) {
+            result.matchCount = matchCount;
+            return this;
+        }
+
+        public Builder matches(List<StringMatch> matches) {
+            result.matches = matches;
+            return this;
+        }
+
+        public Builder levelStatistics(List<BfsLevelStatistics> levelStatistics) {
+            result.levelStatistics = levelStatistics;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            result.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder sequentialBaseline(String sequentialBaseline) {
+            result.sequentialBaseline = sequentialBaseline;
+            return this;
+        }
+
+        public Builder threadStatistics(List<ThreadWorkStatistics> threadStatistics) {
+            result.threadStatistics = threadStatistics;
+            return this;
+        }
+
         public AlgorithmResult build() {
             return result;
         }
@@ -186,6 +250,14 @@ public class AlgorithmResult {
         this.arrayAccessCount = arrayAccessCount;
     }
 
+    public String getMetricsMode() {
+        return metricsMode;
+    }
+
+    public void setMetricsMode(String metricsMode) {
+        this.metricsMode = metricsMode;
+    }
+
     public long getNodesVisited() {
         return nodesVisited;
     }
@@ -226,6 +298,87 @@ public class AlgorithmResult {
         this.resultType = resultType;
     }
 
+    public MeasurementStatistics getMeasurement() {
+        return measurement;
+    }
+
+    public void setMeasurement(MeasurementStatistics measurement) {
+        this.measurement = measurement;
+    }
+
+    public Long getIndexBuildTimeNanos() {
+        return indexBuildTimeNanos;
+    }
+
+    public void setIndexBuildTimeNanos(Long indexBuildTimeNanos) {
+        this.indexBuildTimeNanos = indexBuildTimeNanos;
+        this.indexBuildTimeMillis = indexBuildTimeNanos != null ? indexBuildTimeNanos / 1_000_000.0 : null;
+    }
+
+    public Double getIndexBuildTimeMillis() {
+        return indexBuildTimeMillis;
+    }
+
+    public void setIndexBuildTimeMillis(Double indexBuildTimeMillis) {
+        this.indexBuildTimeMillis = indexBuildTimeMillis;
+    }
+
+    public Boolean getIndexCached() {
+        return indexCached;
+    }
+
+    public void setIndexCached(Boolean indexCached) {
+        this.indexCached = indexCached;
+    }
+
+    public Long getMatchCount() {
+        return matchCount;
+    }
+
+    public void setMatchCount(Long matchCount) {
+        this.matchCount = matchCount;
+    }
+
+    public List<StringMatch> getMatches() {
+        return matches;
+    }
+
+    public void setMatches(List<StringMatch> matches) {
+        this.matches = matches;
+    }
+
+    public List<BfsLevelStatistics> getLevelStatistics() {
+        return levelStatistics;
+    }
+
+    public void setLevelStatistics(List<BfsLevelStatistics> levelStatistics) {
+        this.levelStatistics = levelStatistics;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public String getSequentialBaseline() {
+        return sequentialBaseline;
+    }
+
+    public void setSequentialBaseline(String sequentialBaseline) {
+        this.sequentialBaseline = sequentialBaseline;
+    }
+
+    public List<ThreadWorkStatistics> getThreadStatistics() {
+        return threadStatistics;
+    }
+
+    public void setThreadStatistics(List<ThreadWorkStatistics> threadStatistics) {
+        this.threadStatistics = threadStatistics;
+    }
+
     public long getTimestamp() {
         return timestamp;
     }
@@ -0,0 +1,176 @@
+package com.algorithmcomparison.model;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a benchmark running asynchronously in the background.
+ *
+ * Tracks the job lifecycle and progress through the benchmark matrix so
+ * clients can poll for status instead of holding a request open.
+ * Fields are updated from benchmark threads, so all state is volatile or atomic.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class BenchmarkJob {
+
+    private final String id;
+    private final String operationType;
+    private volatile JobStatus status;
+    private volatile int totalCells;
+    private final AtomicInteger completedCells;
+    private volatile String currentAlgorithm;
+    private volatile Integer currentDatasetSize;
+    private volatile String reportId;
+    private volatile String errorMessage;
+    private final long createdTime;
+    private volatile long startTime;
+    private volatile long endTime;
+
+    /**
+     * Enum representing the lifecycle of a benchmark job.
+     */
+    public enum JobStatus {
+        PENDING,    // Queued, waiting for a free job slot
+        RUNNING,    // Benchmark matrix is executing
+        COMPLETED,  // Finished, report available via reportId
+        FAILED,     // Finished with an error, see errorMessage
+        CANCELLED   // Cancelled by the client
+    }
+
+    /**
+     * Constructor for a newly submitted job.
+     *
+     * @param operationType "SORT" or "SEARCH"
+     */
+    public BenchmarkJob(String operationType) {
+        this.id = "JOB_" + UUID.randomUUID();
+        this.operationType = operationType;
+        this.status = JobStatus.PENDING;
+        this.completedCells = new AtomicInteger();
+        this.createdTime = System.currentTimeMillis();
+    }
+
+    // Lifecycle transitions
+
+    public void markRunning() {
+        this.startTime = System.currentTimeMillis();
+        this.status = JobStatus.RUNNING;
+    }
+
+    public void markCompleted(String reportId) {
+        this.reportId = reportId;
+        finish(JobStatus.COMPLETED);
+    }
+
+    public void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finish(JobStatus.FAILED);
+    }
+
+    public void markCancelled() {
+        finish(JobStatus.CANCELLED);
+    }
+
+    private void finish(JobStatus finalStatus) {
+        this.endTime = System.currentTimeMillis();
+        this.currentAlgorithm = null;
+        this.currentDatasetSize = null;
+        this.status = finalStatus;
+    }
+
+    /**
+     * Checks whether the job has reached a final state.
+     *
+     * @return true if completed, failed or cancelled
+     */
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED || status == JobStatus.CANCELLED;
+    }
+
+    // Progress updates
+
+    public void setTotalCells(int totalCells) {
+        this.totalCells = totalCells;
+    }
+
+    public void cellStarted(String algorithmName, int datasetSize) {
+        this.currentAlgorithm = algorithmName;
+        this.currentDatasetSize = datasetSize;
+    }
+
+    public void cellCompleted() {
+        completedCells.incrementAndGet();
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOperationType() {
+        return operationType;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public int getTotalCells() {
+        return totalCells;
+    }
+
+    public int getCompletedCells() {
+        return completedCells.get();
+    }
+
+    /**
+     * Gets the fraction of cells completed.
+     *
+     * @return Progress between 0.0 and 1.0
+     */
+    public double getProgress() {
+        int total = totalCells;
+        return total > 0 ? (double) completedCells.get() / total : 0.0;
+    }
+
+    public String getCurrentAlgorithm() {
+        return currentAlgorithm;
+    }
+
+    public Integer getCurrentDatasetSize() {
+        return currentDatasetSize;
+    }
+
+    public String getReportId() {
+        return reportId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public long getCreatedTime() {
+        return createdTime;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkJob{" +
+                "id='" + id + '\'' +
+                ", status=" + status +
+                ", completedCells=" + completedCells.get() +
+                ", totalCells=" + totalCells +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.algorithmcomparison.model;
+
+/**
+ * Work done by a level-synchronous BFS on one level of the graph.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class BfsLevelStatistics {
+
+    private int level; // Distance from the root
+    private String direction; // TOP_DOWN or BOTTOM_UP, for the step that built the next frontier
+    private int frontierSize; // Nodes on this level
+    private long edgesExamined; // Edges scanned while building the next frontier
+    private long nodesVisited; // Nodes visited so far, this level included
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public BfsLevelStatistics() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param level Distance from the root
+     * @param direction TOP_DOWN or BOTTOM_UP
+     * @param frontierSize Nodes on this level
+     * @param edgesExamined Edges scanned while building the next frontier
+     * @param nodesVisited Nodes visited so far, this level included
+     */
+    public BfsLevelStatistics(int level, String direction, int frontierSize, long edgesExamined, long nodesVisited) {
+        this.level = level;
+        this.direction = direction;
+        this.frontierSize = frontierSize;
+        this.edgesExamined = edgesExamined;
+        this.nodesVisited = nodesVisited;
+    }
+
+    // Getters and Setters
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    public int getFrontierSize() {
+        return frontierSize;
+    }
+
+    public void setFrontierSize(int frontierSize) {
+        this.frontierSize = frontierSize;
+    }
+
+    public long getEdgesExamined() {
+        return edgesExamined;
+    }
+
+    public void setEdgesExamined(long edgesExamined) {
+        this.edgesExamined = edgesExamined;
+    }
+
+    public long getNodesVisited() {
+        return nodesVisited;
+    }
+
+    public void setNodesVisited(long nodesVisited) {
+        this.nodesVisited = nodesVisited;
+    }
+
+    @Override
+    public String toString() {
+        return "BfsLevelStatistics{" +
+                "level=" + level +
+                ", direction='" + direction + '\'' +
+                ", frontierSize=" + frontierSize +
+                ", edgesExamined=" + edgesExamined +
+                ", nodesVisited=" + nodesVisited +
+                '}';
+    }
+}
@@ -0,0 +1,244 @@
+package com.algorithmcomparison.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * IntStorage backed by a direct or memory-mapped buffer outside the Java heap.
+ *
+ * Values are stored in native byte order (or the order of an existing file
+ * mapped with map()) and read with absolute gets, so reads never move the
+ * buffer position and any number of threads can read at once.
+ *
+ * A MAPPED storage maps a temporary file and deletes it straight away; the
+ * mapping stays valid until the buffer is garbage collected, and the OS
+ * pages the values in and out as needed. A DIRECT storage lives in process
+ * memory and counts against -XX:MaxDirectMemorySize (by default the maximum
+ * heap size). Either way the memory is released when the storage becomes
+ * unreachable and is collected.
+ *
+ * A single buffer holds at most MAX_LENGTH (2^29 - 1) values.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public final class BufferIntStorage implements IntStorage {
+
+    /** Largest number of values a single buffer can hold. */
+    public static final int MAX_LENGTH = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final IntBuffer buffer;
+    private final Kind kind;
+    private final int length;
+
+    private BufferIntStorage(IntBuffer buffer, Kind kind, int length) {
+        this.buffer = buffer;
+        this.kind = kind;
+        this.length = length;
+    }
+
+    /**
+     * Copies values into a direct buffer.
+     *
+     * @param values The values to copy
+     * @return The storage
+     * @throws IllegalArgumentException if there are more than MAX_LENGTH values
+     */
+    public static BufferIntStorage direct(int[] values) {
+        Builder builder = direct(values.length);
+        builder.put(values, 0, values.length);
+        return builder.build();
+    }
+
+    /**
+     * Copies values into a memory-mapped temporary file.
+     *
+     * @param values The values to copy
+     * @param directory Directory for the temporary file
+     * @return The storage
+     * @throws IllegalArgumentException if there are more than MAX_LENGTH values
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static BufferIntStorage mapped(int[] values, Path directory) throws IOException {
+        Builder builder = mapped(values.length, directory);
+        builder.put(values, 0, values.length);
+        return builder.build();
+    }
+
+    /**
+     * Starts filling a direct buffer of the given length.
+     *
+     * @param length Number of values
+     * @return A builder expecting exactly length values
+     * @throws IllegalArgumentException if length is negative or above MAX_LENGTH
+     */
+    public static Builder direct(int length) {
+        return new Builder(ByteBuffer.allocateDirect(byteSize(length)), Kind.DIRECT, length);
+    }
+
+    /**
+     * Starts filling a memory-mapped temporary file of the given length.
+     *
+     * @param length Number of values
+     * @param directory Directory for the temporary file
+     * @return A builder expecting exactly length values
+     * @throws IllegalArgumentException if length is negative or above MAX_LENGTH
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static Builder mapped(int length, Path directory) throws IOException {
+        int bytes = byteSize(length);
+        Path file = Files.createTempFile(directory, "dataset-", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Builder(channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes), Kind.MAPPED, length);
+        } finally {
+            deleteMappedFile(file);
+        }
+    }
+
+    /**
+     * Maps values already stored in a file, read-only. Unlike mapped(), the
+     * file is left in place.
+     *
+     * @param file The file
+     * @param position Byte offset of the first value
+     * @param length Number of values
+     * @param order Byte order of the values in the file
+     * @return The storage
+     * @throws IllegalArgumentException if length is negative or above MAX_LENGTH
+     * @throws IOException if the file cannot be mapped
+     */
+    public static BufferIntStorage map(Path file, long position, int length, ByteOrder order) throws IOException {
+        int bytes = byteSize(length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes);
+            return new BufferIntStorage(mapping.order(order).asIntBuffer(), Kind.MAPPED, length);
+        }
+    }
+
+    private static int byteSize(int length) {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Off-heap storage holds 0 to " + MAX_LENGTH
+                + " values, got " + length);
+        }
+        return length * Integer.BYTES;
+    }
+
+    /**
+     * Removes the file behind a mapping. POSIX systems keep mapped pages
+     * after unlinking; where the file is locked while mapped, it is deleted
+     * at exit instead.
+     */
+    private static void deleteMappedFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            File leftover = file.toFile();
+            leftover.deleteOnExit();
+        }
+    }
+
+    /**
+     * Fills off-heap storage sequentially, so that values can be produced in
+     * chunks without ever holding all of them on the heap.
+     */
+    public static final class Builder {
+
+        private final IntBuffer buffer;
+        private final Kind kind;
+        private final int length;
+        private int position;
+
+        private Builder(ByteBuffer bytes, Kind kind, int length) {
+            this.buffer = bytes.order(ByteOrder.nativeOrder()).asIntBuffer();
+            this.kind = kind;
+            this.length = length;
+        }
+
+        /**
+         * Appends values.
+         *
+         * @param values Source array
+         * @param offset First value to append
+         * @param count Number of values to append
+         * @return This builder
+         * @throws IndexOutOfBoundsException if the storage would overflow
+         */
+        public Builder put(int[] values, int offset, int count) {
+            buffer.put(position, values, offset, count);
+            position += count;
+            return this;
+        }
+
+        /**
+         * Appends the same value several times.
+         *
+         * @param value The value
+         * @param count Number of copies
+         * @return This builder
+         * @throws IndexOutOfBoundsException if the storage would overflow
+         */
+        public Builder fill(int value, int count) {
+            if (count > length - position) {
+                throw new IndexOutOfBoundsException("Storage of " + length + " values is full");
+            }
+            for (int i = 0; i < count; i++) {
+                buffer.put(position++, value);
+            }
+            return this;
+        }
+
+        /**
+         * Gets the number of values still expected.
+         *
+         * @return Remaining values
+         */
+        public int remaining() {
+            return length - position;
+        }
+
+        /**
+         * Finishes the storage.
+         *
+         * @return The storage
+         * @throws IllegalStateException if fewer than length values were appended
+         */
+        public BufferIntStorage build() {
+            if (position != length) {
+                throw new IllegalStateException("Expected " + length + " values, got " + position);
+            }
+            return new BufferIntStorage(buffer, kind, length);
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int get(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public void copyTo(int srcPos, int[] dest, int destPos, int length) {
+        buffer.get(srcPos, dest, destPos, length);
+    }
+
+    @Override
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public long getOffHeapBytes() {
+        return (long) length * Integer.BYTES;
+    }
+}
@@ -0,0 +1,206 @@
+package com.algorithmcomparison.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Delta-encoded sequence of visualization steps.
+ *
+ * Holds one initial array snapshot and a list of VisualizationDelta steps.
+ * The state at step i is obtained by starting from the nearest keyframe at
+ * or before i (or the initial state) and applying the changes of the
+ * following steps up to i. Response size grows with the number of changes
+ * rather than with steps × array size.
+ *
+ * A page of a longer visualization (see slice) has the same shape:
+ * firstStep is the number of the page's first step, totalSteps the length of
+ * the whole visualization, and initialState the array state just before the
+ * page's first step.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class CompactVisualization {
+
+    private String dataType; // "INTEGER" or "STRING"
+    private int arraySize;
+    private int keyframeInterval;
+    private int firstStep;
+    private int totalSteps;
+    private Object[] initialState;
+    private List<VisualizationDelta> steps;
+
+    /**
+     * Default constructor.
+     */
+    public CompactVisualization() {
+        this.steps = new ArrayList<>();
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param dataType "INTEGER" or "STRING"
+     * @param initialState Array state at step 0
+     * @param keyframeInterval Number of steps between keyframes
+     * @param steps Delta-encoded steps
+     */
+    public CompactVisualization(String dataType, Object[] initialState, int keyframeInterval,
+                                List<VisualizationDelta> steps) {
+        this.dataType = dataType;
+        this.initialState = initialState;
+        this.arraySize = initialState != null ? initialState.length : 0;
+        this.keyframeInterval = keyframeInterval;
+        this.steps = steps;
+        this.firstStep = 0;
+        this.totalSteps = steps.size();
+    }
+
+    /**
+     * Returns a page of this visualization.
+     * 
+     * The page's initial state is rebuilt from the nearest keyframe before
+     * the page, so the cost depends on the keyframe interval and page size,
+     * not on the position within the visualization.
+     * 
+     * @param offset Index of the first step to include
+     * @param limit Maximum number of steps to include
+     * @return Page holding steps [offset, offset + limit), clamped to the available steps
+     * @throws IllegalArgumentException if offset is negative or limit is less than 1
+     */
+    public CompactVisualization slice(int offset, int limit) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("Invalid step range: offset=" + offset + ", limit=" + limit);
+        }
+        int from = Math.min(offset, steps.size());
+        int to = (int) Math.min((long) from + limit, steps.size());
+
+        CompactVisualization page = new CompactVisualization(
+            dataType, stateBefore(from), keyframeInterval, new ArrayList<>(steps.subList(from, to)));
+        page.setFirstStep(firstStep + from);
+        page.setTotalSteps(totalSteps);
+        return page;
+    }
+
+    /**
+     * Reconstructs the array state just before a step is applied.
+     * 
+     * @param index Step index (steps.size() gives the final state)
+     * @return A new array holding the state
+     */
+    public Object[] stateBefore(int index) {
+        // Find the latest keyframe before the step
+        int start = index - 1;
+        while (start >= 0 && steps.get(start).getKeyframe() == null) {
+            start--;
+        }
+        Object[] base = start >= 0 ? steps.get(start).getKeyframe() : initialState;
+        if (base == null) {
+            return new Object[0];
+        }
+        Object[] state = Arrays.copyOf(base, base.length);
+
+        for (int i = start + 1; i < index; i++) {
+            int[] indices = steps.get(i).getChangedIndices();
+            if (indices != null) {
+                Object[] values = steps.get(i).getChangedValues();
+                for (int j = 0; j < indices.length; j++) {
+                    state[indices[j]] = values[j];
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Estimates the heap retained by this visualization: the step objects,
+     * their descriptions and index arrays, and boxed values in keyframes and
+     * changes. String values are shared with the dataset and only counted as
+     * references. Used to bound the step log cache.
+     * 
+     * @return Approximate size in bytes
+     */
+    public long estimateMemoryBytes() {
+        long arrayHeader = 16;
+        long valueBytes = "INTEGER".equals(dataType) ? 4 + 16 : 4; // Reference plus boxed Integer
+        long bytes = arrayHeader + valueBytes * arraySize + 24 + arrayHeader + 4L * steps.size();
+        for (VisualizationDelta step : steps) {
+            bytes += 56; // VisualizationDelta object
+            if (step.getDescription() != null) {
+                bytes += 24 + arrayHeader + step.getDescription().length();
+            }
+            if (step.getHighlightedIndices() != null) {
+                bytes += 2 * (arrayHeader + 4L * step.getHighlightedIndices().length); // Indices and colors
+            }
+            if (step.getActiveLeft() != null) {
+                bytes += 32;
+            }
+            if (step.getChangedIndices() != null) {
+                bytes += 2 * arrayHeader + (4 + valueBytes) * step.getChangedIndices().length;
+            }
+            if (step.getKeyframe() != null) {
+                bytes += arrayHeader + valueBytes * step.getKeyframe().length;
+            }
+        }
+        return bytes;
+    }
+
+    // Getters and Setters
+
+    public String getDataType() {
+        return dataType;
+    }
+
+    public void setDataType(String dataType) {
+        this.dataType = dataType;
+    }
+
+    public int getArraySize() {
+        return arraySize;
+    }
+
+    public void setArraySize(int arraySize) {
+        this.arraySize = arraySize;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    public void setKeyframeInterval(int keyframeInterval) {
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    public Object[] getInitialState() {
+        return initialState;
+    }
+
+    public void setInitialState(Object[] initialState) {
+        this.initialState = initialState;
+    }
+
+    public List<VisualizationDelta> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<VisualizationDelta> steps) {
+        this.steps = steps;
+    }
+
+    public int getFirstStep() {
+        return firstStep;
+    }
+
+    public void setFirstStep(int firstStep) {
+        this.firstStep = firstStep;
+    }
+
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    public void setTotalSteps(int totalSteps) {
+        this.totalSteps = totalSteps;
+    }
+}
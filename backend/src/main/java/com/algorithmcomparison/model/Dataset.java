@@ -1,5 +1,9 @@
 package com.algorithmcomparison.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -9,14 +13,20 @@ import java.util.UUID;
  * A dataset contains an array of data (integers or strings) and metadata about its generation.
  * Each dataset has a unique ID for tracking and reference.
  * 
+ * Integer data is held in an IntStorage, which may keep it on the heap or
+ * off-heap (see BufferIntStorage). Code that only reads should use
+ * getIntStorage(); getData() has to copy off-heap values into a new array.
+ * getMemoryFootprintBytes() estimates what keeping the dataset costs, which
+ * the session store uses to enforce its memory budgets.
+ * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.3
  */
 public class Dataset {
     
     private String id;
     private String name;
-    private int[] data;
+    private IntStorage intStorage;
     private String[] stringData;
     private int size;
     private String type; // "RANDOM", "SORTED", "REVERSE_SORTED", "CUSTOM"
@@ -39,9 +49,19 @@ public class Dataset {
      * @param type The type of dataset (RANDOM, SORTED, REVERSE_SORTED, CUSTOM)
      */
     public Dataset(int[] data, String type) {
+        this(new HeapIntStorage(Arrays.copyOf(data, data.length)), type);
+    }
+
+    /**
+     * Constructor with integer storage and type. The storage is not copied.
+     * 
+     * @param intStorage The integer values
+     * @param type The type of dataset (RANDOM, SORTED, REVERSE_SORTED, CUSTOM)
+     */
+    public Dataset(IntStorage intStorage, String type) {
         this();
-        this.data = Arrays.copyOf(data, data.length);
-        this.size = data.length;
+        this.intStorage = intStorage;
+        this.size = intStorage.length();
         this.type = type;
         this.dataType = "INTEGER";
         this.name = type + "_INT_" + size;
@@ -104,13 +124,72 @@ public class Dataset {
         this.name = name;
     }
 
+    /**
+     * Gets the integer data as an array: the stored array itself for heap
+     * storage, or a new copy for off-heap storage.
+     * 
+     * @return The values, or null for a STRING dataset
+     */
+    @JsonIgnore
     public int[] getData() {
-        return data;
+        if (intStorage instanceof HeapIntStorage) {
+            return ((HeapIntStorage) intStorage).getArray();
+        }
+        return intStorage != null ? intStorage.toArray() : null;
+    }
+
+    /**
+     * Gets a copy of the integer data that the caller may modify. A heap
+     * array is copied; off-heap storage is copied onto the heap once, where
+     * getData() followed by a copy would copy it twice.
+     * 
+     * @return A new array, or null for a STRING dataset
+     */
+    public int[] copyData() {
+        if (intStorage instanceof HeapIntStorage) {
+            int[] array = ((HeapIntStorage) intStorage).getArray();
+            return Arrays.copyOf(array, array.length);
+        }
+        return intStorage != null ? intStorage.toArray() : null;
+    }
+
+    /**
+     * Gets the integer data for JSON responses. Off-heap data is left out so
+     * that listing datasets never copies it onto the heap; the export
+     * endpoint returns it explicitly.
+     */
+    @JsonProperty("data")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private int[] getDataForJson() {
+        return intStorage instanceof HeapIntStorage ? getData() : null;
     }
 
     public void setData(int[] data) {
-        this.data = data;
-        this.size = data != null ? data.length : 0;
+        setIntStorage(data != null ? new HeapIntStorage(data) : null);
+    }
+
+    /**
+     * Gets the integer data without copying it.
+     * 
+     * @return The storage, or null for a STRING dataset
+     */
+    @JsonIgnore
+    public IntStorage getIntStorage() {
+        return intStorage;
+    }
+
+    public void setIntStorage(IntStorage intStorage) {
+        this.intStorage = intStorage;
+        this.size = intStorage != null ? intStorage.length() : 0;
+    }
+
+    /**
+     * Gets where the integer data is kept (HEAP for STRING datasets).
+     * 
+     * @return The storage kind name
+     */
+    public String getStorageKind() {
+        return intStorage != null ? intStorage.getKind().name() : IntStorage.Kind.HEAP.name();
     }
 
     public int getSize() {
@@ -146,6 +225,39 @@ public class Dataset {
         this.size = stringData != null ? stringData.length : 0;
     }
 
+    /**
+     * Estimates the memory retained by the dataset's values: the heap array
+     * or strings, plus direct buffer memory. MAPPED values live in the page
+     * cache, which the operating system can reclaim, so they are not counted.
+     * Strings are assumed to be stored compactly (one byte per character).
+     * 
+     * @return Approximate size in bytes
+     */
+    public long getMemoryFootprintBytes() {
+        long arrayHeader = 16;
+        if (stringData != null) {
+            long stringHeader = 24 + arrayHeader; // String object plus its byte[]
+            long bytes = arrayHeader + 4L * stringData.length;
+            for (String value : stringData) {
+                if (value != null) {
+                    bytes += stringHeader + value.length();
+                }
+            }
+            return bytes;
+        }
+        if (intStorage == null) {
+            return 0;
+        }
+        switch (intStorage.getKind()) {
+            case HEAP:
+                return arrayHeader + 4L * intStorage.length();
+            case DIRECT:
+                return intStorage.getOffHeapBytes();
+            default:
+                return 0;
+        }
+    }
+
     public String getDataType() {
         return dataType;
     }
@@ -159,10 +271,12 @@ public class Dataset {
      * 
      * @return Object array representation of the data
      */
+    @JsonIgnore
     public Object[] getDataAsObjectArray() {
         if ("STRING".equals(dataType) && stringData != null) {
             return stringData;
-        } else if (data != null) {
+        } else if (intStorage != null) {
+            int[] data = getData();
             Object[] result = new Object[data.length];
             for (int i = 0; i < data.length; i++) {
                 result[i] = data[i];
@@ -184,7 +298,7 @@ public class Dataset {
             copy.setId(this.id + "_copy");
             return copy;
         } else {
-            Dataset copy = new Dataset(this.name + "_copy", Arrays.copyOf(this.data, this.data.length), this.type);
+            Dataset copy = new Dataset(this.name + "_copy", getData(), this.type);
             copy.setId(this.id + "_copy");
             return copy;
         }
@@ -198,6 +312,7 @@ public class Dataset {
                 ", size=" + size +
                 ", type='" + type + '\'' +
                 ", dataType='" + dataType + '\'' +
+                ", storageKind=" + getStorageKind() +
                 '}';
     }
 }
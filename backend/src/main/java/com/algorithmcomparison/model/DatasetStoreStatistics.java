@@ -0,0 +1,196 @@
+package com.algorithmcomparison.model;
+
+/**
+ * Snapshot of the session dataset store: its memory use, its budgets and
+ * how many datasets it has evicted or reloaded since startup. Also reports
+ * the visualization step log cache, which has its own budget.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.2
+ */
+public class DatasetStoreStatistics {
+
+    private int activeSessions; // Sessions holding at least one dataset
+    private int datasetCount; // Datasets across all sessions
+    private int spilledDatasets; // Datasets persisted to disk and not currently in memory
+    private long usedBytes; // Estimated footprint of all stored datasets
+    private long maxBytes; // Global budget (0 = unlimited)
+    private long maxBytesPerSession; // Per-session budget (0 = unlimited)
+    private long idleTimeoutMillis; // Datasets unused for this long are evicted (0 = never)
+    private long sessionBudgetEvictions; // Evicted to keep a session within its budget
+    private long globalBudgetEvictions; // Evicted to keep the store within the global budget
+    private long idleEvictions; // Evicted after the idle timeout
+    private long expiredSessions; // Sessions whose datasets were cleared when the HTTP session ended
+    private long reloadedDatasets; // Spilled datasets read back from disk
+    private int stepLogCount; // Cached visualization step logs across all sessions
+    private long stepLogBytes; // Estimated footprint of all cached step logs
+    private long maxStepLogBytes; // Step log cache budget (0 = unlimited)
+    private long stepLogEvictions; // Step logs dropped for the per-session limit or the budget
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public DatasetStoreStatistics() {
+    }
+
+    /**
+     * Gets the total number of datasets evicted (removed, or spilled to disk
+     * when persistence is enabled) for any reason.
+     *
+     * @return Eviction count
+     */
+    public long getTotalEvictions() {
+        return sessionBudgetEvictions + globalBudgetEvictions + idleEvictions;
+    }
+
+    // Getters and Setters
+
+    public int getActiveSessions() {
+        return activeSessions;
+    }
+
+    public void setActiveSessions(int activeSessions) {
+        this.activeSessions = activeSessions;
+    }
+
+    public int getDatasetCount() {
+        return datasetCount;
+    }
+
+    public void setDatasetCount(int datasetCount) {
+        this.datasetCount = datasetCount;
+    }
+
+    public int getSpilledDatasets() {
+        return spilledDatasets;
+    }
+
+    public void setSpilledDatasets(int spilledDatasets) {
+        this.spilledDatasets = spilledDatasets;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public void setUsedBytes(long usedBytes) {
+        this.usedBytes = usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytesPerSession() {
+        return maxBytesPerSession;
+    }
+
+    public void setMaxBytesPerSession(long maxBytesPerSession) {
+        this.maxBytesPerSession = maxBytesPerSession;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public long getSessionBudgetEvictions() {
+        return sessionBudgetEvictions;
+    }
+
+    public void setSessionBudgetEvictions(long sessionBudgetEvictions) {
+        this.sessionBudgetEvictions = sessionBudgetEvictions;
+    }
+
+    public long getGlobalBudgetEvictions() {
+        return globalBudgetEvictions;
+    }
+
+    public void setGlobalBudgetEvictions(long globalBudgetEvictions) {
+        this.globalBudgetEvictions = globalBudgetEvictions;
+    }
+
+    public long getIdleEvictions() {
+        return idleEvictions;
+    }
+
+    public void setIdleEvictions(long idleEvictions) {
+        this.idleEvictions = idleEvictions;
+    }
+
+    public long getExpiredSessions() {
+        return expiredSessions;
+    }
+
+    public void setExpiredSessions(long expiredSessions) {
+        this.expiredSessions = expiredSessions;
+    }
+
+    public long getReloadedDatasets() {
+        return reloadedDatasets;
+    }
+
+    public void setReloadedDatasets(long reloadedDatasets) {
+        this.reloadedDatasets = reloadedDatasets;
+    }
+
+    public int getStepLogCount() {
+        return stepLogCount;
+    }
+
+    public void setStepLogCount(int stepLogCount) {
+        this.stepLogCount = stepLogCount;
+    }
+
+    public long getStepLogBytes() {
+        return stepLogBytes;
+    }
+
+    public void setStepLogBytes(long stepLogBytes) {
+        this.stepLogBytes = stepLogBytes;
+    }
+
+    public long getMaxStepLogBytes() {
+        return maxStepLogBytes;
+    }
+
+    public void setMaxStepLogBytes(long maxStepLogBytes) {
+        this.maxStepLogBytes = maxStepLogBytes;
+    }
+
+    public long getStepLogEvictions() {
+        return stepLogEvictions;
+    }
+
+    public void setStepLogEvictions(long stepLogEvictions) {
+        this.stepLogEvictions = stepLogEvictions;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetStoreStatistics{" +
+                "activeSessions=" + activeSessions +
+                ", datasetCount=" + datasetCount +
+                ", spilledDatasets=" + spilledDatasets +
+                ", usedBytes=" + usedBytes +
+                ", maxBytes=" + maxBytes +
+                ", maxBytesPerSession=" + maxBytesPerSession +
+                ", sessionBudgetEvictions=" + sessionBudgetEvictions +
+                ", globalBudgetEvictions=" + globalBudgetEvictions +
+                ", idleEvictions=" + idleEvictions +
+                ", expiredSessions=" + expiredSessions +
+                ", reloadedDatasets=" + reloadedDatasets +
+                ", stepLogCount=" + stepLogCount +
+                ", stepLogBytes=" + stepLogBytes +
+                ", maxStepLogBytes=" + maxStepLogBytes +
+                ", stepLogEvictions=" + stepLogEvictions +
+                '}';
+    }
+}
@@ -1,115 +1,105 @@
 package com.algorithmcomparison.model;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.UUID;
 
 /**
  * Represents a graph data structure converted from an array dataset.
- * 
+ *
  * This model is used for graph-based search algorithms (DFS, BFS).
- * It supports multiple graph representations including adjacency lists.
- * 
+ *
+ * The graph is stored in compressed sparse row (CSR) form: nodes are
+ * numbered 0..n-1, and three int arrays hold everything else:
+ * - values[v]: the value stored at node v
+ * - offsets[v] .. offsets[v + 1]: the range of v's outgoing edges
+ * - targets[e]: the node an edge points to
+ * Tree edges are stored left child first. Traversals start at getRoot(),
+ * which is node 0 except for the self-balancing trees, whose root is
+ * whichever node ends up in the middle. At about 12 bytes per node this
+ * is an order of magnitude smaller than a map of node objects, and a
+ * traversal reads the arrays sequentially instead of chasing pointers.
+ *
+ * The arrays are exposed without copying for the graph searches; callers
+ * must not modify them. The reverse (incoming) edges, which bottom-up BFS
+ * steps need, are built in the same form on first request and kept.
+ *
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 2.2
  */
 public class GraphDataset {
-    
+
     private String id;
     private String sourceDatasetId;
     private GraphType graphType;
-    private Map<Integer, GraphNode> nodes;
-    private Map<Integer, List<Integer>> adjacencyList;
-    private int nodeCount;
+    private final int[] values;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int root;
+    private volatile int[][] reverseEdges; // {offsets, sources}, built on first use
 
     /**
      * Enum representing different types of graph structures.
      */
     public enum GraphType {
-        BINARY_SEARCH_TREE,  // BST structure
-        COMPLETE_BINARY_TREE, // Complete binary tree
-        LINKED_LIST           // Singly linked list
+        BINARY_SEARCH_TREE,           // BST structure, in insertion order
+        BALANCED_BINARY_SEARCH_TREE,  // BST built from sorted order, height ceil(log2(n + 1))
+        AVL_TREE,                     // BST rebalanced by AVL rotations on each insertion
+        COMPLETE_BINARY_TREE,         // Complete binary tree
+        LINKED_LIST                   // Singly linked list
     }
 
     /**
-     * Inner class representing a graph node.
+     * Constructor with the CSR arrays, rooted at node 0.
+     *
+     * @param sourceDatasetId ID of the source dataset
+     * @param graphType Type of graph structure
+     * @param values Value of each node
+     * @param offsets Edge range of each node (length values.length + 1)
+     * @param targets Target node of each edge (length offsets[values.length])
+     * @throws IllegalArgumentException if the array lengths do not match
      */
-    public static class GraphNode {
-        private int value;
-        private Integer leftChild;  // Node ID of left child (for trees)
-        private Integer rightChild; // Node ID of right child (for trees)
-        private Integer next;       // Node ID of next node (for linked list)
-        private int nodeId;
-
-        public GraphNode(int nodeId, int value) {
-            this.nodeId = nodeId;
-            this.value = value;
-        }
-
-        // Getters and Setters
-        public int getValue() {
-            return value;
-        }
-
-        public void setValue(int value) {
-            this.value = value;
-        }
-
-        public Integer getLeftChild() {
-            return leftChild;
-        }
-
-        public void setLeftChild(Integer leftChild) {
-            this.leftChild = leftChild;
-        }
-
-        public Integer getRightChild() {
-            return rightChild;
-        }
-
-        public void setRightChild(Integer rightChild) {
-            this.rightChild = rightChild;
-        }
-
-        public Integer getNext() {
-            return next;
-        }
-
-        public void setNext(Integer next) {
-            this.next = next;
-        }
-
-        public int getNodeId() {
-            return nodeId;
-        }
-
-        public void setNodeId(int nodeId) {
-            this.nodeId = nodeId;
-        }
-
-        @Override
-        public String toString() {
-            return "Node(" + nodeId + ", value=" + value + ")";
-        }
+    public GraphDataset(String sourceDatasetId, GraphType graphType, int[] values, int[] offsets, int[] targets) {
+        this(sourceDatasetId, graphType, values, offsets, targets, 0);
     }
 
     /**
-     * Default constructor.
+     * Constructor with the CSR arrays and the node traversals start from.
+     *
+     * @param sourceDatasetId ID of the source dataset
+     * @param graphType Type of graph structure
+     * @param values Value of each node
+     * @param offsets Edge range of each node (length values.length + 1)
+     * @param targets Target node of each edge (length offsets[values.length])
+     * @param root The root node (ignored for an empty graph)
+     * @throws IllegalArgumentException if the array lengths do not match or root is not a node
      */
-    public GraphDataset() {
+    public GraphDataset(String sourceDatasetId, GraphType graphType, int[] values, int[] offsets, int[] targets,
+                        int root) {
+        if (offsets.length != values.length + 1 || targets.length != offsets[values.length]) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays: " + values.length + " nodes, "
+                + offsets.length + " offsets, " + targets.length + " edges");
+        }
+        if (values.length > 0 && (root < 0 || root >= values.length)) {
+            throw new IllegalArgumentException("Root " + root + " is not one of the " + values.length + " nodes");
+        }
         this.id = UUID.randomUUID().toString();
-        this.nodes = new HashMap<>();
-        this.adjacencyList = new HashMap<>();
+        this.sourceDatasetId = sourceDatasetId;
+        this.graphType = graphType;
+        this.values = values;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.root = root;
     }
 
     /**
-     * Constructor with source dataset reference.
-     * 
+     * Creates a graph without nodes.
+     *
      * @param sourceDatasetId ID of the source dataset
      * @param graphType Type of graph structure
+     * @return The empty graph
      */
-    public GraphDataset(String sourceDatasetId, GraphType graphType) {
-        this();
-        this.sourceDatasetId = sourceDatasetId;
-        this.graphType = graphType;
+    public static GraphDataset empty(String sourceDatasetId, GraphType graphType) {
+        return new GraphDataset(sourceDatasetId, graphType, new int[0], new int[1], new int[0]);
     }
 
     // Getters and Setters
@@ -138,60 +128,118 @@ public class GraphDataset {
         this.graphType = graphType;
     }
 
-    public Map<Integer, GraphNode> getNodes() {
-        return nodes;
+    /**
+     * Gets the node traversals start from.
+     */
+    public int getRoot() {
+        return root;
     }
 
-    public void setNodes(Map<Integer, GraphNode> nodes) {
-        this.nodes = nodes;
-        this.nodeCount = nodes.size();
+    public int getNodeCount() {
+        return values.length;
     }
 
-    public Map<Integer, List<Integer>> getAdjacencyList() {
-        return adjacencyList;
+    public int getEdgeCount() {
+        return targets.length;
     }
 
-    public void setAdjacencyList(Map<Integer, List<Integer>> adjacencyList) {
-        this.adjacencyList = adjacencyList;
+    /**
+     * Gets the value of every node, indexed by node ID.
+     */
+    public int[] getValues() {
+        return values;
     }
 
-    public int getNodeCount() {
-        return nodeCount;
+    /**
+     * Gets the edge offsets: node v's edges are offsets[v] (inclusive) to offsets[v + 1].
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Gets the target node of every edge.
+     */
+    public int[] getTargets() {
+        return targets;
     }
 
-    public void setNodeCount(int nodeCount) {
-        this.nodeCount = nodeCount;
+    /**
+     * Gets the incoming edge offsets: node v's incoming edges are
+     * getReverseOffsets()[v] (inclusive) to getReverseOffsets()[v + 1].
+     */
+    public int[] getReverseOffsets() {
+        return reverseEdges()[0];
     }
 
     /**
-     * Adds a node to the graph.
-     * 
-     * @param node The node to add
+     * Gets the source node of every incoming edge.
      */
-    public void addNode(GraphNode node) {
-        nodes.put(node.getNodeId(), node);
-        adjacencyList.putIfAbsent(node.getNodeId(), new ArrayList<>());
-        this.nodeCount = nodes.size();
+    public int[] getReverseSources() {
+        return reverseEdges()[1];
+    }
+
+    private int[][] reverseEdges() {
+        int[][] reverse = reverseEdges;
+        if (reverse == null) {
+            synchronized (this) {
+                reverse = reverseEdges;
+                if (reverse == null) {
+                    reverse = transpose();
+                    reverseEdges = reverse;
+                }
+            }
+        }
+        return reverse;
     }
 
     /**
-     * Adds an edge between two nodes.
-     * 
-     * @param fromNodeId Source node ID
-     * @param toNodeId Target node ID
+     * Builds the CSR arrays of the reversed graph with a counting pass.
      */
-    public void addEdge(int fromNodeId, int toNodeId) {
-        adjacencyList.computeIfAbsent(fromNodeId, k -> new ArrayList<>()).add(toNodeId);
+    private int[][] transpose() {
+        int n = values.length;
+        int[] reverseOffsets = new int[n + 1];
+        for (int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+
+        int[] next = Arrays.copyOf(reverseOffsets, n);
+        int[] sources = new int[targets.length];
+        for (int u = 0; u < n; u++) {
+            for (int edge = offsets[u]; edge < offsets[u + 1]; edge++) {
+                sources[next[targets[edge]]++] = u;
+            }
+        }
+        return new int[][] {reverseOffsets, sources};
     }
 
     /**
-     * Gets a node by its ID.
-     * 
+     * Gets the value of a node.
+     *
      * @param nodeId The node ID
-     * @return The graph node, or null if not found
+     * @return The node's value
      */
-    public GraphNode getNode(int nodeId) {
-        return nodes.get(nodeId);
+    public int getValue(int nodeId) {
+        return values[nodeId];
+    }
+
+    /**
+     * Estimates the heap retained by the CSR arrays, including the reverse
+     * edges if they have been built.
+     *
+     * @return Approximate size in bytes
+     */
+    public long getMemoryFootprintBytes() {
+        long arrayHeader = 16;
+        long bytes = 3 * arrayHeader + 4L * (values.length + offsets.length + targets.length);
+        int[][] reverse = reverseEdges;
+        if (reverse != null) {
+            bytes += 2 * arrayHeader + 4L * (reverse[0].length + reverse[1].length);
+        }
+        return bytes;
     }
 
     @Override
@@ -200,8 +248,9 @@ public class GraphDataset {
                 "id='" + id + '\'' +
                 ", sourceDatasetId='" + sourceDatasetId + '\'' +
                 ", graphType=" + graphType +
-                ", nodeCount=" + nodeCount +
+                ", root=" + root +
+                ", nodeCount=" + getNodeCount() +
+                ", edgeCount=" + getEdgeCount() +
                 '}';
     }
 }
-
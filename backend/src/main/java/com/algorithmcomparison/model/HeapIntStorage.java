@@ -0,0 +1,58 @@
+package com.algorithmcomparison.model;
+
+/**
+ * IntStorage backed by an int[] on the Java heap.
+ *
+ * The array is wrapped without copying; the creator must not modify it
+ * afterwards.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public final class HeapIntStorage implements IntStorage {
+
+    private final int[] values;
+
+    /**
+     * Wraps an array.
+     *
+     * @param values The values (not copied)
+     */
+    public HeapIntStorage(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the wrapped array, without copying; callers must not modify it.
+     *
+     * @return The values
+     */
+    public int[] getArray() {
+        return values;
+    }
+
+    @Override
+    public int length() {
+        return values.length;
+    }
+
+    @Override
+    public int get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public void copyTo(int srcPos, int[] dest, int destPos, int length) {
+        System.arraycopy(values, srcPos, dest, destPos, length);
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.HEAP;
+    }
+
+    @Override
+    public long getOffHeapBytes() {
+        return 0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.algorithmcomparison.model;
+
+/**
+ * Read access to the values of an INTEGER dataset, wherever they are stored.
+ *
+ * Implementations:
+ * - HeapIntStorage: an int[] on the Java heap
+ * - BufferIntStorage: a direct or memory-mapped buffer outside the heap
+ *
+ * Off-heap storage does not count against the maximum heap size, and the
+ * garbage collector neither copies nor scans it, so large datasets neither
+ * limit how many others fit in memory nor lengthen GC pauses during timed
+ * runs. Reads go through get(int), which the JIT compiles to a plain
+ * bounds-checked load for both implementations.
+ *
+ * Storage is read-only once created; it is safe to read from several threads.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public interface IntStorage {
+
+    /**
+     * Where the values are kept.
+     */
+    enum Kind {
+        HEAP,   // int[] on the Java heap
+        DIRECT, // Direct ByteBuffer (limited by -XX:MaxDirectMemorySize)
+        MAPPED  // Memory-mapped temporary file, paged in and out by the OS
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return The length
+     */
+    int length();
+
+    /**
+     * Gets one value.
+     *
+     * @param index Position, 0 <= index < length()
+     * @return The value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    int get(int index);
+
+    /**
+     * Copies a range of values into an array.
+     *
+     * @param srcPos First position to copy
+     * @param dest Destination array
+     * @param destPos First position written in dest
+     * @param length Number of values to copy
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    void copyTo(int srcPos, int[] dest, int destPos, int length);
+
+    /**
+     * Copies all values into a new heap array.
+     *
+     * @return The values
+     */
+    default int[] toArray() {
+        int[] values = new int[length()];
+        copyTo(0, values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * Gets where the values are kept.
+     *
+     * @return The storage kind
+     */
+    Kind getKind();
+
+    /**
+     * Gets the memory held outside the Java heap.
+     *
+     * @return Size in bytes (0 for heap storage)
+     */
+    long getOffHeapBytes();
+}
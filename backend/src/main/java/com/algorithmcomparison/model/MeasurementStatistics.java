@@ -0,0 +1,211 @@
+package com.algorithmcomparison.model;
+
+import java.util.Arrays;
+
+/**
+ * Timing statistics for one (algorithm, dataset) cell measured over several iterations.
+ *
+ * Only measured iterations contribute; warmup iterations are run and discarded
+ * so the JIT has compiled the algorithm before timing starts. The confidence
+ * interval is a 95% interval for the mean, using Student's t distribution.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class MeasurementStatistics {
+
+    // Two-sided 95% critical values of Student's t for 1..30 degrees of freedom
+    private static final double[] T_CRITICAL_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_CRITICAL_95 = 1.960;
+
+    private int warmupIterations;
+    private int measuredIterations;
+    private double minTimeMillis;
+    private double maxTimeMillis;
+    private double meanTimeMillis;
+    private double medianTimeMillis;
+    private double p90TimeMillis;
+    private double p99TimeMillis;
+    private double stdDevMillis;
+    private double confidenceLowerMillis;
+    private double confidenceUpperMillis;
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public MeasurementStatistics() {
+    }
+
+    /**
+     * Computes statistics from measured iteration times.
+     *
+     * @param samplesNanos Execution time of each measured iteration in nanoseconds
+     * @param warmupIterations Number of warmup iterations that preceded them
+     * @return The statistics
+     * @throws IllegalArgumentException if there are no samples
+     */
+    public static MeasurementStatistics fromSamples(long[] samplesNanos, int warmupIterations) {
+        if (samplesNanos == null || samplesNanos.length == 0) {
+            throw new IllegalArgumentException("At least one measured iteration is required");
+        }
+
+        int n = samplesNanos.length;
+        double[] millis = new double[n];
+        for (int i = 0; i < n; i++) {
+            millis[i] = samplesNanos[i] / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+
+        double sum = 0.0;
+        for (double value : millis) {
+            sum += value;
+        }
+        double mean = sum / n;
+
+        double squaredDeviations = 0.0;
+        for (double value : millis) {
+            squaredDeviations += (value - mean) * (value - mean);
+        }
+        // Sample standard deviation (n - 1), zero for a single sample
+        double stdDev = n > 1 ? Math.sqrt(squaredDeviations / (n - 1)) : 0.0;
+        double halfWidth = n > 1 ? criticalValue(n - 1) * stdDev / Math.sqrt(n) : 0.0;
+
+        MeasurementStatistics stats = new MeasurementStatistics();
+        stats.warmupIterations = warmupIterations;
+        stats.measuredIterations = n;
+        stats.minTimeMillis = millis[0];
+        stats.maxTimeMillis = millis[n - 1];
+        stats.meanTimeMillis = mean;
+        stats.medianTimeMillis = percentile(millis, 50);
+        stats.p90TimeMillis = percentile(millis, 90);
+        stats.p99TimeMillis = percentile(millis, 99);
+        stats.stdDevMillis = stdDev;
+        stats.confidenceLowerMillis = mean - halfWidth;
+        stats.confidenceUpperMillis = mean + halfWidth;
+        return stats;
+    }
+
+    /**
+     * Percentile of sorted values with linear interpolation between closest ranks.
+     */
+    private static double percentile(double[] sorted, double percentile) {
+        if (sorted.length == 1) {
+            return sorted[0];
+        }
+        double rank = percentile / 100.0 * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    private static double criticalValue(int degreesOfFreedom) {
+        return degreesOfFreedom <= T_CRITICAL_95.length
+            ? T_CRITICAL_95[degreesOfFreedom - 1]
+            : Z_CRITICAL_95;
+    }
+
+    // Getters and Setters
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public void setWarmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+    }
+
+    public int getMeasuredIterations() {
+        return measuredIterations;
+    }
+
+    public void setMeasuredIterations(int measuredIterations) {
+        this.measuredIterations = measuredIterations;
+    }
+
+    public double getMinTimeMillis() {
+        return minTimeMillis;
+    }
+
+    public void setMinTimeMillis(double minTimeMillis) {
+        this.minTimeMillis = minTimeMillis;
+    }
+
+    public double getMaxTimeMillis() {
+        return maxTimeMillis;
+    }
+
+    public void setMaxTimeMillis(double maxTimeMillis) {
+        this.maxTimeMillis = maxTimeMillis;
+    }
+
+    public double getMeanTimeMillis() {
+        return meanTimeMillis;
+    }
+
+    public void setMeanTimeMillis(double meanTimeMillis) {
+        this.meanTimeMillis = meanTimeMillis;
+    }
+
+    public double getMedianTimeMillis() {
+        return medianTimeMillis;
+    }
+
+    public void setMedianTimeMillis(double medianTimeMillis) {
+        this.medianTimeMillis = medianTimeMillis;
+    }
+
+    public double getP90TimeMillis() {
+        return p90TimeMillis;
+    }
+
+    public void setP90TimeMillis(double p90TimeMillis) {
+        this.p90TimeMillis = p90TimeMillis;
+    }
+
+    public double getP99TimeMillis() {
+        return p99TimeMillis;
+    }
+
+    public void setP99TimeMillis(double p99TimeMillis) {
+        this.p99TimeMillis = p99TimeMillis;
+    }
+
+    public double getStdDevMillis() {
+        return stdDevMillis;
+    }
+
+    public void setStdDevMillis(double stdDevMillis) {
+        this.stdDevMillis = stdDevMillis;
+    }
+
+    public double getConfidenceLowerMillis() {
+        return confidenceLowerMillis;
+    }
+
+    public void setConfidenceLowerMillis(double confidenceLowerMillis) {
+        this.confidenceLowerMillis = confidenceLowerMillis;
+    }
+
+    public double getConfidenceUpperMillis() {
+        return confidenceUpperMillis;
+    }
+
+    public void setConfidenceUpperMillis(double confidenceUpperMillis) {
+        this.confidenceUpperMillis = confidenceUpperMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "MeasurementStatistics{" +
+                "measuredIterations=" + measuredIterations +
+                ", meanTimeMillis=" + String.format("%.3f", meanTimeMillis) +
+                ", medianTimeMillis=" + String.format("%.3f", medianTimeMillis) +
+                ", p99TimeMillis=" + String.format("%.3f", p99TimeMillis) +
+                ", stdDevMillis=" + String.format("%.3f", stdDevMillis) +
+                '}';
+    }
+}
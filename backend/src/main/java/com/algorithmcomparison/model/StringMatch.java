@@ -0,0 +1,68 @@
+package com.algorithmcomparison.model;
+
+/**
+ * One distinct string returned by a prefix or autocomplete query.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class StringMatch {
+
+    private String value;
+    private int count; // Occurrences in the dataset
+    private Integer firstIndex; // First position in the dataset, if the index knows it
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public StringMatch() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param value The matched string
+     * @param count Number of occurrences in the dataset
+     * @param firstIndex First position in the dataset, or null if unknown
+     */
+    public StringMatch(String value, int count, Integer firstIndex) {
+        this.value = value;
+        this.count = count;
+        this.firstIndex = firstIndex;
+    }
+
+    // Getters and Setters
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Integer getFirstIndex() {
+        return firstIndex;
+    }
+
+    public void setFirstIndex(Integer firstIndex) {
+        this.firstIndex = firstIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "StringMatch{" +
+                "value='" + value + '\'' +
+                ", count=" + count +
+                ", firstIndex=" + firstIndex +
+                '}';
+    }
+}
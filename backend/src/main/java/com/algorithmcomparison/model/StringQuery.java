@@ -0,0 +1,108 @@
+package com.algorithmcomparison.model;
+
+/**
+ * A prefix, autocomplete or lexicographic range query on a STRING dataset.
+ *
+ * - PREFIX: distinct strings starting with prefix, in lexicographic order,
+ *   at most limit of them
+ * - AUTOCOMPLETE: the limit most frequent strings starting with prefix,
+ *   ties broken lexicographically
+ * - RANGE_COUNT: number of strings s with from <= s <= to
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class StringQuery {
+
+    public enum Type { PREFIX, AUTOCOMPLETE, RANGE_COUNT }
+
+    private final Type type;
+    private final String prefix;
+    private final String from;
+    private final String to;
+    private final int limit;
+
+    private StringQuery(Type type, String prefix, String from, String to, int limit) {
+        this.type = type;
+        this.prefix = prefix;
+        this.from = from;
+        this.to = to;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a query for the distinct strings starting with a prefix.
+     *
+     * @param prefix The prefix ("" matches every string)
+     * @param limit Maximum number of strings to return
+     * @return The query
+     */
+    public static StringQuery prefix(String prefix, int limit) {
+        return new StringQuery(Type.PREFIX, requireText(prefix, "prefix"), null, null, requirePositive(limit));
+    }
+
+    /**
+     * Creates a query for the k most frequent completions of a prefix.
+     *
+     * @param prefix The prefix ("" matches every string)
+     * @param k Number of completions to return
+     * @return The query
+     */
+    public static StringQuery autocomplete(String prefix, int k) {
+        return new StringQuery(Type.AUTOCOMPLETE, requireText(prefix, "prefix"), null, null, requirePositive(k));
+    }
+
+    /**
+     * Creates a query counting the strings in an inclusive lexicographic range.
+     *
+     * @param from Lower bound (inclusive)
+     * @param to Upper bound (inclusive)
+     * @return The query
+     */
+    public static StringQuery rangeCount(String from, String to) {
+        return new StringQuery(Type.RANGE_COUNT, null, requireText(from, "from"), requireText(to, "to"), 0);
+    }
+
+    private static String requireText(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing query parameter: " + name);
+        }
+        return value;
+    }
+
+    private static int requirePositive(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Query limit must be at least 1: " + limit);
+        }
+        return limit;
+    }
+
+    // Getters
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.RANGE_COUNT
+            ? "StringQuery{type=" + type + ", from='" + from + "', to='" + to + "'}"
+            : "StringQuery{type=" + type + ", prefix='" + prefix + "', limit=" + limit + "}";
+    }
+}
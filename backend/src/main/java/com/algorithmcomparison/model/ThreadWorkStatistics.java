@@ -0,0 +1,142 @@
+package com.algorithmcomparison.model;
+
+/**
+ * Work done by one worker thread during a parallel sort.
+ *
+ * Only the sequential pieces (sorting a small run, merging or partitioning
+ * a range) are timed and counted; splitting and waiting for subtasks are not.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public class ThreadWorkStatistics {
+
+    private String threadName;
+    private int tasks; // Sequential pieces run by this thread
+    private long elementsSorted; // Elements in the runs this thread sorted
+    private long elementsMerged; // Elements this thread placed while merging
+    private long elementsPartitioned; // Elements this thread scanned while partitioning
+    private long comparisonCount;
+    private long swapCount;
+    private long busyTimeNanos; // Time spent in sequential pieces
+
+    /**
+     * Default constructor for JSON serialization.
+     */
+    public ThreadWorkStatistics() {
+    }
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param threadName Name of the worker thread
+     * @param tasks Sequential pieces run by this thread
+     * @param elementsSorted Elements in the runs this thread sorted
+     * @param elementsMerged Elements this thread placed while merging
+     * @param elementsPartitioned Elements this thread scanned while partitioning
+     * @param comparisonCount Comparisons made by this thread
+     * @param swapCount Swaps or moves made by this thread
+     * @param busyTimeNanos Time spent in sequential pieces
+     */
+    public ThreadWorkStatistics(String threadName, int tasks, long elementsSorted, long elementsMerged,
+                                long elementsPartitioned, long comparisonCount, long swapCount,
+                                long busyTimeNanos) {
+        this.threadName = threadName;
+        this.tasks = tasks;
+        this.elementsSorted = elementsSorted;
+        this.elementsMerged = elementsMerged;
+        this.elementsPartitioned = elementsPartitioned;
+        this.comparisonCount = comparisonCount;
+        this.swapCount = swapCount;
+        this.busyTimeNanos = busyTimeNanos;
+    }
+
+    /**
+     * Gets the busy time in milliseconds.
+     *
+     * @return Busy time in milliseconds
+     */
+    public double getBusyTimeMillis() {
+        return busyTimeNanos / 1_000_000.0;
+    }
+
+    // Getters and Setters
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(int tasks) {
+        this.tasks = tasks;
+    }
+
+    public long getElementsSorted() {
+        return elementsSorted;
+    }
+
+    public void setElementsSorted(long elementsSorted) {
+        this.elementsSorted = elementsSorted;
+    }
+
+    public long getElementsMerged() {
+        return elementsMerged;
+    }
+
+    public void setElementsMerged(long elementsMerged) {
+        this.elementsMerged = elementsMerged;
+    }
+
+    public long getElementsPartitioned() {
+        return elementsPartitioned;
+    }
+
+    public void setElementsPartitioned(long elementsPartitioned) {
+        this.elementsPartitioned = elementsPartitioned;
+    }
+
+    public long getComparisonCount() {
+        return comparisonCount;
+    }
+
+    public void setComparisonCount(long comparisonCount) {
+        this.comparisonCount = comparisonCount;
+    }
+
+    public long getSwapCount() {
+        return swapCount;
+    }
+
+    public void setSwapCount(long swapCount) {
+        this.swapCount = swapCount;
+    }
+
+    public long getBusyTimeNanos() {
+        return busyTimeNanos;
+    }
+
+    public void setBusyTimeNanos(long busyTimeNanos) {
+        this.busyTimeNanos = busyTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadWorkStatistics{" +
+                "threadName='" + threadName + '\'' +
+                ", tasks=" + tasks +
+                ", elementsSorted=" + elementsSorted +
+                ", elementsMerged=" + elementsMerged +
+                ", elementsPartitioned=" + elementsPartitioned +
+                ", comparisonCount=" + comparisonCount +
+                ", swapCount=" + swapCount +
+                ", busyTimeNanos=" + busyTimeNanos +
+                '}';
+    }
+}
@@ -0,0 +1,153 @@
+package com.algorithmcomparison.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents a single step in a delta-encoded visualization.
+ *
+ * Instead of the full array state, a delta only carries the elements that
+ * changed since the previous step (usually the two swapped indices or one
+ * set index). Every few steps a keyframe with the full array state is
+ * included so a client can jump to any step without replaying from the start.
+ *
+ * For REGION steps only the highlighted indices inside the active region are
+ * stored; everything outside [activeLeft, activeRight] is implicitly GREY.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VisualizationDelta {
+
+    private int stepNumber;
+    private String operation;
+    private String description;
+    private int[] highlightedIndices;
+    private String[] colors;
+    private Integer activeLeft;
+    private Integer activeRight;
+    private int[] changedIndices;   // Indices whose value changed since the previous step
+    private Object[] changedValues; // New values, parallel to changedIndices
+    private Object[] keyframe;      // Full array state, only on keyframe steps
+
+    /**
+     * Default constructor.
+     */
+    public VisualizationDelta() {
+    }
+
+    /**
+     * Constructor with step number and operation.
+     *
+     * @param stepNumber The step number in the visualization sequence
+     * @param operation Type of operation being performed
+     * @param description Human-readable description of the step
+     */
+    public VisualizationDelta(int stepNumber, String operation, String description) {
+        this.stepNumber = stepNumber;
+        this.operation = operation;
+        this.description = description;
+    }
+
+    /**
+     * Checks whether this step carries a full array state.
+     *
+     * @return true if this is a keyframe
+     */
+    public boolean hasKeyframe() {
+        return keyframe != null;
+    }
+
+    // Getters and Setters
+
+    public int getStepNumber() {
+        return stepNumber;
+    }
+
+    public void setStepNumber(int stepNumber) {
+        this.stepNumber = stepNumber;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int[] getHighlightedIndices() {
+        return highlightedIndices;
+    }
+
+    public void setHighlightedIndices(int[] highlightedIndices) {
+        this.highlightedIndices = highlightedIndices;
+    }
+
+    public String[] getColors() {
+        return colors;
+    }
+
+    public void setColors(String[] colors) {
+        this.colors = colors;
+    }
+
+    public Integer getActiveLeft() {
+        return activeLeft;
+    }
+
+    public void setActiveLeft(Integer activeLeft) {
+        this.activeLeft = activeLeft;
+    }
+
+    public Integer getActiveRight() {
+        return activeRight;
+    }
+
+    public void setActiveRight(Integer activeRight) {
+        this.activeRight = activeRight;
+    }
+
+    public int[] getChangedIndices() {
+        return changedIndices;
+    }
+
+    public void setChangedIndices(int[] changedIndices) {
+        this.changedIndices = changedIndices;
+    }
+
+    public Object[] getChangedValues() {
+        return changedValues;
+    }
+
+    public void setChangedValues(Object[] changedValues) {
+        this.changedValues = changedValues;
+    }
+
+    public Object[] getKeyframe() {
+        return keyframe;
+    }
+
+    public void setKeyframe(Object[] keyframe) {
+        this.keyframe = keyframe;
+    }
+
+    @Override
+    public String toString() {
+        return "VisualizationDelta{" +
+                "stepNumber=" + stepNumber +
+                ", operation='" + operation + '\'' +
+                ", description='" + description + '\'' +
+                ", changes=" + (changedIndices != null ? changedIndices.length : 0) +
+                ", keyframe=" + hasKeyframe() +
+                '}';
+    }
+}
@@ -0,0 +1,251 @@
+package com.algorithmcomparison.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Executes the cells of a benchmark matrix (algorithm x dataset).
+ *
+ * Supported execution modes:
+ * - SERIAL: cells run one after another on the calling thread (default)
+ * - PARALLEL: cells are fanned out over a bounded, shared worker pool
+ * - ISOLATED: cells run one after another while no other benchmark cell
+ *   runs anywhere on the server, so timings are not disturbed by other
+ *   benchmarks competing for CPU
+ *
+ * Every cell, in any mode and whether run directly or as a background job,
+ * holds the read side of a fair read-write lock; an ISOLATED run holds the
+ * write side for its whole duration. An ISOLATED run therefore waits for the
+ * cells already running to finish, other runs pause between cells until it
+ * is done, and isolated runs are served in arrival order.
+ *
+ * Results are always returned in the order the cells were submitted, so
+ * reports look the same regardless of the mode used.
+ *
+ * Configuration (application.properties):
+ * - benchmark.execution.mode: default mode when a request does not specify one
+ * - benchmark.execution.pool-size: worker count for PARALLEL mode (0 = number of CPUs)
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+@Service
+public class BenchmarkExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkExecutor.class);
+
+    /**
+     * Enum representing how benchmark cells are scheduled.
+     */
+    public enum Mode {
+        SERIAL,
+        PARALLEL,
+        ISOLATED
+    }
+
+    private final Mode defaultMode;
+    private final int poolSize;
+    private final ExecutorService workerPool;
+
+    // Cells hold the read lock, ISOLATED runs the write lock. Fair, so a waiting
+    // isolated run is not starved by a steady stream of cells.
+    private final ReentrantReadWriteLock isolationLock = new ReentrantReadWriteLock(true);
+
+    /**
+     * Constructor with configuration injection.
+     *
+     * @param defaultMode Mode used when a request does not specify one
+     * @param poolSize Number of worker threads for PARALLEL mode (0 = number of CPUs)
+     */
+    public BenchmarkExecutor(@Value("${benchmark.execution.mode:SERIAL}") String defaultMode,
+                             @Value("${benchmark.execution.pool-size:0}") int poolSize) {
+        this.defaultMode = parseMode(defaultMode, Mode.SERIAL);
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.workerPool = Executors.newFixedThreadPool(this.poolSize, new WorkerThreadFactory());
+        logger.info("Benchmark executor initialized - default mode: {}, pool size: {}",
+                   this.defaultMode, this.poolSize);
+    }
+
+    /**
+     * Executes all cells and returns their results in submission order.
+     *
+     * Cells are expected to handle their own errors; a cell that throws anyway
+     * is logged and contributes a null entry. Interrupting the calling thread
+     * cancels the run: remaining cells are skipped or interrupted.
+     *
+     * @param cells The benchmark cells to run
+     * @param mode Execution mode, or null to use the configured default
+     * @return Results in the same order as the cells
+     * @throws CancellationException if the run is interrupted
+     */
+    public <T> List<T> execute(List<Callable<T>> cells, Mode mode) {
+        Mode effectiveMode = mode != null ? mode : defaultMode;
+
+        switch (effectiveMode) {
+            case PARALLEL:
+                return executeParallel(cells);
+            case ISOLATED:
+                return executeIsolated(cells);
+            case SERIAL:
+            default:
+                return executeSerial(cells);
+        }
+    }
+
+    /**
+     * Parses an execution mode name, falling back to the given default.
+     *
+     * @param name Mode name (case-insensitive), may be null
+     * @param fallback Mode to use if the name is missing
+     * @return The parsed mode
+     * @throws IllegalArgumentException if the name is not a known mode
+     */
+    public static Mode parseMode(String name, Mode fallback) {
+        if (name == null || name.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Mode.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown benchmark execution mode: " + name);
+        }
+    }
+
+    public Mode getDefaultMode() {
+        return defaultMode;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Shuts down the worker pool when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    // ==================== Execution Strategies ====================
+
+    private <T> List<T> executeSerial(List<Callable<T>> cells) {
+        List<T> results = new ArrayList<>(cells.size());
+        for (Callable<T> cell : cells) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Benchmark interrupted");
+            }
+            results.add(runCell(cell));
+        }
+        return results;
+    }
+
+    private <T> List<T> executeIsolated(List<Callable<T>> cells) {
+        Lock writeLock = isolationLock.writeLock();
+        try {
+            writeLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Benchmark interrupted while waiting for isolation");
+        }
+        try {
+            // The write lock holder may also take the read lock, so cells run as usual
+            return executeSerial(cells);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private <T> List<T> executeParallel(List<Callable<T>> cells) {
+        List<Future<T>> futures = new ArrayList<>(cells.size());
+        for (Callable<T> cell : cells) {
+            futures.add(workerPool.submit(() -> callShared(cell)));
+        }
+
+        List<T> results = new ArrayList<>(cells.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(awaitCell(future));
+            }
+        } catch (InterruptedException e) {
+            // Caller gave up - stop the remaining cells
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Benchmark interrupted");
+        }
+        return results;
+    }
+
+    private <T> T runCell(Callable<T> cell) {
+        try {
+            return callShared(cell);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Benchmark cell failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Runs a cell holding the read lock, so it never overlaps an ISOLATED run.
+     *
+     * @throws CancellationException if interrupted while waiting for an isolated run
+     */
+    private <T> T callShared(Callable<T> cell) throws Exception {
+        Lock readLock = isolationLock.readLock();
+        try {
+            readLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Benchmark interrupted while waiting for an isolated run");
+        }
+        try {
+            return cell.call();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private <T> T awaitCell(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            // Cell was cancelled along with the run; the caller is about to see the interrupt
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("Benchmark cell failed: {}", e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Creates named daemon threads so benchmark workers are easy to spot in thread dumps.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "benchmark-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
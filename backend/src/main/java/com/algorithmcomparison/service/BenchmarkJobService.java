@@ -0,0 +1,391 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.AlgorithmResult;
+import com.algorithmcomparison.model.BenchmarkJob;
+import com.algorithmcomparison.model.BenchmarkReport;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Service for running benchmarks as asynchronous background jobs.
+ *
+ * Provides functionality for:
+ * - Submitting a benchmark and getting a job ID back immediately
+ * - Polling job progress (cells done of total, current algorithm and size)
+ * - Cooperative cancellation of running jobs
+ *
+ * Jobs run on a small dedicated pool, so long benchmarks never block request
+ * threads. Cancelling a job interrupts its thread; MetricsCollector notices the
+ * interrupt and aborts even long-running O(n²) sorts part way through.
+ *
+ * Finished jobs (completed, failed or cancelled) are dropped once they are
+ * older than the retention period, and the oldest are dropped when a
+ * session holds more than the configured number, so a long session does
+ * not accumulate jobs. Reports of dropped jobs stay available.
+ *
+ * Configuration (application.properties):
+ * - benchmark.jobs.max-concurrent: number of jobs that may run at the same time
+ * - benchmark.jobs.retention-ms: finished jobs are dropped this long after they end (0 = kept)
+ * - benchmark.jobs.max-finished-per-session: finished jobs kept per session (0 = unlimited)
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.2
+ */
+@Service
+public class BenchmarkJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkJobService.class);
+
+    // Session-based storage: sessionId -> (jobId -> BenchmarkJob)
+    private final Map<String, Map<String, BenchmarkJob>> sessionJobStore = new ConcurrentHashMap<>();
+
+    // Running or queued jobs: jobId -> Future
+    private final Map<String, Future<?>> activeJobs = new ConcurrentHashMap<>();
+
+    // Callbacks waiting for their job to finish: jobId -> callback. Removed when
+    // fired, so each runs once even if cancellation races with the job thread
+    private final Map<String, Consumer<BenchmarkJob>> finishCallbacks = new ConcurrentHashMap<>();
+
+    private final ExecutorService jobPool;
+    private final long retentionMillis;
+    private final int maxFinishedPerSession;
+
+    /**
+     * Constructor with configuration injection.
+     *
+     * @param maxConcurrentJobs Number of jobs that may run at the same time
+     * @param retentionMillis Finished jobs are dropped this long after they end (0 = kept until the session ends)
+     * @param maxFinishedPerSession Finished jobs kept per session, oldest dropped first (0 = unlimited)
+     */
+    public BenchmarkJobService(@Value("${benchmark.jobs.max-concurrent:2}") int maxConcurrentJobs,
+                               @Value("${benchmark.jobs.retention-ms:3600000}") long retentionMillis,
+                               @Value("${benchmark.jobs.max-finished-per-session:50}") int maxFinishedPerSession) {
+        this.retentionMillis = Math.max(0, retentionMillis);
+        this.maxFinishedPerSession = Math.max(0, maxFinishedPerSession);
+        AtomicInteger counter = new AtomicInteger();
+        this.jobPool = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), runnable -> {
+            Thread thread = new Thread(runnable, "benchmark-job-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a benchmark to run in the background.
+     *
+     * @param sessionId The user's session ID
+     * @param operationType "SORT" or "SEARCH"
+     * @param options Run options; the job installs its own progress listener
+     * @param benchmark Runs the benchmark with the given options and returns its report
+     * @return The newly created job (initially PENDING)
+     */
+    public BenchmarkJob submit(String sessionId, String operationType, BenchmarkRunOptions options,
+                               Function<BenchmarkRunOptions, BenchmarkReport> benchmark) {
+        return submit(sessionId, operationType, options, null, benchmark);
+    }
+
+    /**
+     * Submits a benchmark to run in the background, forwarding its progress
+     * to an additional listener (e.g. to stream results to the client).
+     *
+     * @param sessionId The user's session ID
+     * @param operationType "SORT" or "SEARCH"
+     * @param options Run options; the job installs its own progress listener
+     * @param observer Listener notified after the job's own progress is updated, may be null
+     * @param benchmark Runs the benchmark with the given options and returns its report
+     * @return The newly created job (initially PENDING)
+     */
+    public BenchmarkJob submit(String sessionId, String operationType, BenchmarkRunOptions options,
+                               BenchmarkProgressListener observer,
+                               Function<BenchmarkRunOptions, BenchmarkReport> benchmark) {
+        return submit(sessionId, operationType, options, observer, null, benchmark);
+    }
+
+    /**
+     * Submits a benchmark to run in the background, forwarding its progress
+     * to an additional listener and reporting when the job finishes.
+     *
+     * The finish callback runs exactly once, after the job has reached its
+     * final status - including for a job cancelled before it ever started,
+     * whose benchmark function is then never called.
+     *
+     * @param sessionId The user's session ID
+     * @param operationType "SORT" or "SEARCH"
+     * @param options Run options; the job installs its own progress listener
+     * @param observer Listener notified after the job's own progress is updated, may be null
+     * @param onFinished Called with the job once it is completed, failed or cancelled, may be null
+     * @param benchmark Runs the benchmark with the given options and returns its report
+     * @return The newly created job (initially PENDING)
+     */
+    public BenchmarkJob submit(String sessionId, String operationType, BenchmarkRunOptions options,
+                               BenchmarkProgressListener observer, Consumer<BenchmarkJob> onFinished,
+                               Function<BenchmarkRunOptions, BenchmarkReport> benchmark) {
+        BenchmarkJob job = new BenchmarkJob(operationType);
+        Map<String, BenchmarkJob> sessionStore = getSessionStore(sessionId);
+        sessionStore.put(job.getId(), job);
+        limitFinishedJobs(sessionStore);
+        if (onFinished != null) {
+            finishCallbacks.put(job.getId(), onFinished);
+        }
+
+        BenchmarkRunOptions jobOptions = new BenchmarkRunOptions.Builder(options)
+            .progressListener(new JobProgressListener(job, observer))
+            .build();
+
+        Future<?> future = jobPool.submit(() -> runJob(job, jobOptions, benchmark));
+        activeJobs.put(job.getId(), future);
+
+        // The job may already have finished before its future was registered
+        if (job.isFinished()) {
+            activeJobs.remove(job.getId());
+        }
+        return job;
+    }
+
+    /**
+     * Retrieves a job by ID from the user's session.
+     *
+     * @param sessionId The user's session ID
+     * @param jobId The job ID
+     * @return BenchmarkJob if found, null otherwise
+     */
+    public BenchmarkJob getJob(String sessionId, String jobId) {
+        Map<String, BenchmarkJob> sessionStore = sessionJobStore.get(sessionId);
+        if (sessionStore == null) {
+            return null;
+        }
+        return sessionStore.get(jobId);
+    }
+
+    /**
+     * Gets all jobs for a user's session.
+     *
+     * @param sessionId The user's session ID
+     * @return List of all jobs in this session
+     */
+    public List<BenchmarkJob> getAllJobs(String sessionId) {
+        Map<String, BenchmarkJob> sessionStore = sessionJobStore.get(sessionId);
+        if (sessionStore == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(sessionStore.values());
+    }
+
+    /**
+     * Cancels a queued or running job.
+     *
+     * A running job is interrupted and stops at its next cancellation check;
+     * its status becomes CANCELLED once the benchmark thread has unwound.
+     *
+     * @param sessionId The user's session ID
+     * @param jobId The job ID
+     * @return true if the job was found and still active, false otherwise
+     */
+    public boolean cancelJob(String sessionId, String jobId) {
+        BenchmarkJob job = getJob(sessionId, jobId);
+        if (job == null || job.isFinished()) {
+            return false;
+        }
+
+        Future<?> future = activeJobs.remove(jobId);
+        if (future != null) {
+            future.cancel(true);
+        }
+
+        // A job cancelled before it started never runs, so finish it here
+        if (job.getStatus() == BenchmarkJob.JobStatus.PENDING) {
+            job.markCancelled();
+            fireFinished(job);
+        }
+        return true;
+    }
+
+    /**
+     * Cancels and removes all jobs for a specific session.
+     * Called when a session expires.
+     *
+     * @param sessionId The session ID to clear
+     */
+    public void clearSessionJobs(String sessionId) {
+        Map<String, BenchmarkJob> sessionStore = sessionJobStore.remove(sessionId);
+        if (sessionStore != null) {
+            for (BenchmarkJob job : sessionStore.values()) {
+                Future<?> future = activeJobs.remove(job.getId());
+                if (future != null) {
+                    future.cancel(true);
+                }
+                if (job.getStatus() == BenchmarkJob.JobStatus.PENDING) {
+                    job.markCancelled();
+                    fireFinished(job);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops finished jobs that ended longer ago than the retention period.
+     * Runs every minute. Session maps are left in place, even when empty,
+     * so a concurrent submit never adds a job to a map that was just removed;
+     * clearSessionJobs removes them when the session ends.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void pruneFinishedJobs() {
+        if (retentionMillis == 0) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        int pruned = 0;
+        for (Map<String, BenchmarkJob> sessionStore : sessionJobStore.values()) {
+            for (BenchmarkJob job : sessionStore.values()) {
+                if (job.isFinished() && job.getEndTime() < cutoff && sessionStore.remove(job.getId(), job)) {
+                    pruned++;
+                }
+            }
+        }
+        if (pruned > 0) {
+            logger.info("Pruned {} finished benchmark jobs", pruned);
+        }
+    }
+
+    /**
+     * Gets the number of jobs that are queued or running.
+     *
+     * @return Active job count
+     */
+    public int getActiveJobCount() {
+        return activeJobs.size();
+    }
+
+    /**
+     * Interrupts all jobs when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        jobPool.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Map<String, BenchmarkJob> getSessionStore(String sessionId) {
+        return sessionJobStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Drops the oldest finished jobs of a session beyond the per-session limit.
+     * Queued and running jobs are never dropped.
+     */
+    private void limitFinishedJobs(Map<String, BenchmarkJob> sessionStore) {
+        if (maxFinishedPerSession == 0) {
+            return;
+        }
+        List<BenchmarkJob> finished = new ArrayList<>();
+        for (BenchmarkJob job : sessionStore.values()) {
+            if (job.isFinished()) {
+                finished.add(job);
+            }
+        }
+        int excess = finished.size() - maxFinishedPerSession;
+        if (excess <= 0) {
+            return;
+        }
+        finished.sort(Comparator.comparingLong(BenchmarkJob::getEndTime));
+        for (int i = 0; i < excess; i++) {
+            sessionStore.remove(finished.get(i).getId(), finished.get(i));
+        }
+    }
+
+    private void runJob(BenchmarkJob job, BenchmarkRunOptions options,
+                        Function<BenchmarkRunOptions, BenchmarkReport> benchmark) {
+        try {
+            if (Thread.currentThread().isInterrupted()) {
+                job.markCancelled();
+                return;
+            }
+            job.markRunning();
+            BenchmarkReport report = benchmark.apply(options);
+            if (Thread.currentThread().isInterrupted()) {
+                job.markCancelled();
+            } else {
+                job.markCompleted(report.getId());
+            }
+        } catch (CancellationException e) {
+            job.markCancelled();
+        } catch (Exception e) {
+            logger.error("Benchmark job {} failed: {}", job.getId(), e.getMessage());
+            job.markFailed(e.getMessage());
+        } finally {
+            activeJobs.remove(job.getId());
+            logger.info("Benchmark job {} finished with status {}", job.getId(), job.getStatus());
+            fireFinished(job);
+        }
+    }
+
+    /**
+     * Runs the job's finish callback, if it has one that has not run yet.
+     */
+    private void fireFinished(BenchmarkJob job) {
+        Consumer<BenchmarkJob> callback = finishCallbacks.remove(job.getId());
+        if (callback == null) {
+            return;
+        }
+        try {
+            callback.accept(job);
+        } catch (RuntimeException e) {
+            logger.warn("Finish callback of benchmark job {} failed: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Feeds benchmark progress into a job, then into the optional observer.
+     */
+    private static class JobProgressListener implements BenchmarkProgressListener {
+        private final BenchmarkJob job;
+        private final BenchmarkProgressListener observer;
+
+        JobProgressListener(BenchmarkJob job, BenchmarkProgressListener observer) {
+            this.job = job;
+            this.observer = observer;
+        }
+
+        @Override
+        public void onRunStarted(int totalCells) {
+            job.setTotalCells(totalCells);
+            if (observer != null) {
+                observer.onRunStarted(totalCells);
+            }
+        }
+
+        @Override
+        public void onCellStarted(String algorithmName, int datasetSize) {
+            job.cellStarted(algorithmName, datasetSize);
+            if (observer != null) {
+                observer.onCellStarted(algorithmName, datasetSize);
+            }
+        }
+
+        @Override
+        public void onCellCompleted(String algorithmName, int datasetSize, AlgorithmResult result) {
+            job.cellCompleted();
+            if (observer != null) {
+                observer.onCellCompleted(algorithmName, datasetSize, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.AlgorithmResult;
+
+/**
+ * Callback interface for observing a benchmark run cell by cell.
+ * 
+ * Methods may be called from benchmark worker threads, so implementations
+ * must be thread-safe when the run uses PARALLEL execution mode.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public interface BenchmarkProgressListener {
+
+    /**
+     * Called once before any cell runs.
+     * 
+     * @param totalCells Number of (algorithm, dataset) cells in the run
+     */
+    default void onRunStarted(int totalCells) {
+    }
+
+    /**
+     * Called when a cell starts executing.
+     * 
+     * @param algorithmName The algorithm being run
+     * @param datasetSize Size of the dataset it runs on
+     */
+    default void onCellStarted(String algorithmName, int datasetSize) {
+    }
+
+    /**
+     * Called when a cell finishes, successfully or not.
+     * 
+     * @param algorithmName The algorithm that was run
+     * @param datasetSize Size of the dataset it ran on
+     * @param result The cell result, or null if the cell failed
+     */
+    default void onCellCompleted(String algorithmName, int datasetSize, AlgorithmResult result) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.util.MetricsCollector;
+import com.algorithmcomparison.util.SampledMetricsCollector;
+
+/**
+ * Options controlling how a benchmark run is executed and observed.
+ * 
+ * Use the Builder to create instances; unset options fall back to the
+ * configured defaults. Iteration counts are bounded, since each one reruns
+ * the whole benchmark matrix and keeps one timing per iteration.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public class BenchmarkRunOptions {
+
+    /** Maximum number of warmup iterations per cell. */
+    public static final int MAX_WARMUP_ITERATIONS = 50;
+
+    /** Maximum number of measured iterations per cell. */
+    public static final int MAX_MEASUREMENT_ITERATIONS = 100;
+
+    private static final BenchmarkProgressListener NO_OP_LISTENER = new BenchmarkProgressListener() { };
+
+    private BenchmarkExecutor.Mode mode;
+    private BenchmarkProgressListener progressListener = NO_OP_LISTENER;
+    private int warmupIterations = 0;
+    private int measurementIterations = 1;
+    private MetricsCollector.Mode metricsMode = MetricsCollector.Mode.COUNTING;
+    private int sampleInterval = SampledMetricsCollector.DEFAULT_SAMPLE_INTERVAL;
+
+    /**
+     * Gets options with every setting at its default.
+     * 
+     * @return Default options
+     */
+    public static BenchmarkRunOptions defaults() {
+        return new BenchmarkRunOptions();
+    }
+
+    /**
+     * Builder pattern for creating BenchmarkRunOptions instances.
+     */
+    public static class Builder {
+        private BenchmarkRunOptions options = new BenchmarkRunOptions();
+
+        public Builder() {
+        }
+
+        /**
+         * Creates a builder starting from existing options.
+         * 
+         * @param base Options to copy
+         */
+        public Builder(BenchmarkRunOptions base) {
+            options.mode = base.mode;
+            options.progressListener = base.progressListener;
+            options.warmupIterations = base.warmupIterations;
+            options.measurementIterations = base.measurementIterations;
+            options.metricsMode = base.metricsMode;
+            options.sampleInterval = base.sampleInterval;
+        }
+
+        public Builder mode(BenchmarkExecutor.Mode mode) {
+            options.mode = mode;
+            return this;
+        }
+
+        public Builder progressListener(BenchmarkProgressListener progressListener) {
+            options.progressListener = progressListener != null ? progressListener : NO_OP_LISTENER;
+            return this;
+        }
+
+        public Builder warmupIterations(int warmupIterations) {
+            if (warmupIterations < 0) {
+                throw new IllegalArgumentException("Warmup iterations cannot be negative: " + warmupIterations);
+            }
+            if (warmupIterations > MAX_WARMUP_ITERATIONS) {
+                throw new IllegalArgumentException("At most " + MAX_WARMUP_ITERATIONS
+                    + " warmup iterations are allowed: " + warmupIterations);
+            }
+            options.warmupIterations = warmupIterations;
+            return this;
+        }
+
+        public Builder measurementIterations(int measurementIterations) {
+            if (measurementIterations < 1) {
+                throw new IllegalArgumentException("At least one measurement iteration is required: " + measurementIterations);
+            }
+            if (measurementIterations > MAX_MEASUREMENT_ITERATIONS) {
+                throw new IllegalArgumentException("At most " + MAX_MEASUREMENT_ITERATIONS
+                    + " measurement iterations are allowed: " + measurementIterations);
+            }
+            options.measurementIterations = measurementIterations;
+            return this;
+        }
+
+        public Builder metricsMode(MetricsCollector.Mode metricsMode) {
+            options.metricsMode = metricsMode != null ? metricsMode : MetricsCollector.Mode.COUNTING;
+            return this;
+        }
+
+        public Builder sampleInterval(int sampleInterval) {
+            if (sampleInterval < 1) {
+                throw new IllegalArgumentException("Sample interval must be at least 1: " + sampleInterval);
+            }
+            options.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        public BenchmarkRunOptions build() {
+            return options;
+        }
+    }
+
+    /**
+     * Gets the execution mode.
+     * 
+     * @return The mode, or null to use the configured default
+     */
+    public BenchmarkExecutor.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the progress listener.
+     * 
+     * @return The listener (never null)
+     */
+    public BenchmarkProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Gets the number of untimed warmup iterations run per cell.
+     * 
+     * @return Warmup iterations (0 = no warmup)
+     */
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    /**
+     * Gets the number of timed iterations run per cell.
+     * 
+     * @return Measurement iterations (1 = single run)
+     */
+    public int getMeasurementIterations() {
+        return measurementIterations;
+    }
+
+    /**
+     * Gets the metrics mode: exact counts, sampled counts or timing only.
+     * 
+     * @return The metrics mode
+     */
+    public MetricsCollector.Mode getMetricsMode() {
+        return metricsMode;
+    }
+
+    /**
+     * Gets the number of operations per sample in SAMPLED metrics mode.
+     * 
+     * @return The sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Creates a fresh metrics collector for one algorithm execution.
+     * Warmup and measured iterations use the same implementation, so the
+     * JIT sees a single collector type at every call site.
+     * 
+     * @return A new collector for the configured metrics mode
+     */
+    public MetricsCollector newMetricsCollector() {
+        return MetricsCollector.create(metricsMode, sampleInterval);
+    }
+}
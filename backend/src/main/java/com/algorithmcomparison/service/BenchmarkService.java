@@ -4,10 +4,16 @@ import com.algorithmcomparison.model.AlgorithmResult;
 import com.algorithmcomparison.model.BenchmarkReport;
 import com.algorithmcomparison.model.BenchmarkReport.BenchmarkStatistics;
 import com.algorithmcomparison.model.Dataset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -18,33 +24,60 @@ import java.util.stream.Collectors;
  * - Collecting statistical summaries (min, max, avg, median)
  * - Generating benchmark reports
  * - Analyzing algorithm scalability
+ * - Running the benchmark matrix serially, in parallel or isolated (see BenchmarkExecutor)
+ * - Warmup and multi-iteration measurement per cell (see BenchmarkRunOptions), giving
+ *   per-cell mean, median, p90, p99, stddev and confidence interval
+ * - Counting, sampled or timing-only metrics collection (see MetricsCollector.Mode)
+ * 
+ * Reports are also saved to the SessionFileStore when persistence is
+ * enabled. After a restart, a session's saved reports are read back the
+ * first time any of its reports is requested.
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.2
  */
 @Service
 public class BenchmarkService {
 
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkService.class);
+
+    /**
+     * Dataset sizes used when a sorting benchmark does not specify any.
+     */
+    public static final List<Integer> DEFAULT_SORTING_SIZES = List.of(10, 100, 1000, 5000);
+
     private final DatasetService datasetService;
     private final SortingService sortingService;
     private final SearchingService searchingService;
+    private final BenchmarkExecutor benchmarkExecutor;
+    private final SessionFileStore fileStore;
 
     // In-memory storage for benchmark reports (session-based)
     private final Map<String, Map<String, BenchmarkReport>> sessionReportStore = new ConcurrentHashMap<>();
 
+    // Reports saved before the last restart and not yet read back: sessionId -> report IDs
+    private final Map<String, List<String>> unloadedReports = new ConcurrentHashMap<>();
+
     /**
      * Constructor with dependency injection.
      * 
      * @param datasetService Service for dataset management
      * @param sortingService Service for sorting algorithms
      * @param searchingService Service for searching algorithms
+     * @param benchmarkExecutor Executor for the benchmark matrix cells
+     * @param fileStore Store that persists reports (may be disabled)
      */
     public BenchmarkService(DatasetService datasetService, 
                            SortingService sortingService,
-                           SearchingService searchingService) {
+                           SearchingService searchingService,
+                           BenchmarkExecutor benchmarkExecutor,
+                           SessionFileStore fileStore) {
         this.datasetService = datasetService;
         this.sortingService = sortingService;
         this.searchingService = searchingService;
+        this.benchmarkExecutor = benchmarkExecutor;
+        this.fileStore = fileStore;
+        this.unloadedReports.putAll(fileStore.listReports());
     }
 
     /**
@@ -62,44 +95,32 @@ public class BenchmarkService {
                                               List<Integer> datasetSizes,
                                               String datasetType,
                                               String dataType) {
-        BenchmarkReport report = new BenchmarkReport("Sorting Benchmark - " + datasetType + " (" + dataType + ")");
-        
-        // Generate datasets for each size with benchmark naming
-        List<String> datasetIds = new ArrayList<>();
-        for (int size : datasetSizes) {
-            Dataset dataset = datasetService.generateBenchmarkDataset(sessionId, datasetType, size, dataType);
-            datasetIds.add(dataset.getId());
-        }
-
-        // Run each algorithm on each dataset
-        for (String algorithmName : algorithmNames) {
-            for (String datasetId : datasetIds) {
-                try {
-                    // Use default ascending order for benchmarks
-                    AlgorithmResult result = sortingService.executeSortingAlgorithm(sessionId, datasetId, algorithmName, "ASCENDING");
-                    report.addResult(result);
-                } catch (Exception e) {
-                    System.err.println("Benchmark error for " + algorithmName + ": " + e.getMessage());
-                }
-            }
-        }
+        return runSortingBenchmark(sessionId, algorithmNames, datasetSizes, datasetType, dataType, BenchmarkRunOptions.defaults());
+    }
 
-        // Calculate statistics for each algorithm
-        for (String algorithmName : algorithmNames) {
-            BenchmarkStatistics stats = calculateStatistics(report.getResults(), algorithmName);
-            // Only add statistics if the algorithm had successful runs
-            if (stats.getRunsCount() > 0) {
-                report.addStatistics(stats);
-            }
-        }
+    /**
+     * Runs a comprehensive benchmark for sorting algorithms with explicit run options.
+     * 
+     * @param sessionId The user's session ID
+     * @param algorithmNames List of algorithms to benchmark
+     * @param datasetSizes List of dataset sizes to test
+     * @param datasetType Type of dataset (RANDOM, SORTED, REVERSE_SORTED)
+     * @param dataType Data type (INTEGER or STRING)
+     * @param options Execution mode, iterations and progress listener for the run
+     * @return BenchmarkReport with all results and statistics
+     */
+    public BenchmarkReport runSortingBenchmark(String sessionId, List<String> algorithmNames, 
+                                              List<Integer> datasetSizes,
+                                              String datasetType,
+                                              String dataType,
+                                              BenchmarkRunOptions options) {
+        BenchmarkReport report = new BenchmarkReport("Sorting Benchmark - " + datasetType + " (" + dataType + ")");
+        List<Dataset> datasets = generateBenchmarkDatasets(sessionId, datasetSizes, datasetType, dataType);
 
-        report.setEndTime(System.currentTimeMillis());
-        
-        // Store report in session-based store
-        Map<String, BenchmarkReport> sessionStore = sessionReportStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
-        sessionStore.put(report.getId(), report);
-        
-        return report;
+        // Use default ascending order for benchmarks
+        return runMatrix(sessionId, report, algorithmNames, datasets, options,
+            (algorithmName, datasetId) -> sortingService.executeSortingAlgorithm(
+                sessionId, datasetId, algorithmName, "ASCENDING", options));
     }
 
     /**
@@ -111,8 +132,7 @@ public class BenchmarkService {
      * @return BenchmarkReport
      */
     public BenchmarkReport runSortingBenchmark(String sessionId, List<String> algorithmNames, String datasetType) {
-        List<Integer> defaultSizes = Arrays.asList(10, 100, 1000, 5000);
-        return runSortingBenchmark(sessionId, algorithmNames, defaultSizes, datasetType, "INTEGER");
+        return runSortingBenchmark(sessionId, algorithmNames, DEFAULT_SORTING_SIZES, datasetType, "INTEGER");
     }
 
     /**
@@ -144,44 +164,31 @@ public class BenchmarkService {
                                                  List<Integer> datasetSizes,
                                                  int target,
                                                  String dataType) {
-        BenchmarkReport report = new BenchmarkReport("Searching Benchmark (" + dataType + ")");
-
-        // Generate datasets for each size with benchmark naming
-        List<String> datasetIds = new ArrayList<>();
-        for (int size : datasetSizes) {
-            Dataset dataset = datasetService.generateBenchmarkDataset(sessionId, "RANDOM", size, dataType);
-            datasetIds.add(dataset.getId());
-        }
-
-        // Run each algorithm on each dataset
-        for (String algorithmName : algorithmNames) {
-            for (String datasetId : datasetIds) {
-                try {
-                    AlgorithmResult result = searchingService.executeSearchingAlgorithm(
-                        sessionId, datasetId, algorithmName, target);
-                    report.addResult(result);
-                } catch (Exception e) {
-                    System.err.println("Benchmark error for " + algorithmName + ": " + e.getMessage());
-                }
-            }
-        }
+        return runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType, BenchmarkRunOptions.defaults());
+    }
 
-        // Calculate statistics
-        for (String algorithmName : algorithmNames) {
-            BenchmarkStatistics stats = calculateStatistics(report.getResults(), algorithmName);
-            // Only add statistics if the algorithm had successful runs
-            if (stats.getRunsCount() > 0) {
-                report.addStatistics(stats);
-            }
-        }
+    /**
+     * Runs a comprehensive benchmark for searching algorithms (INTEGER) with explicit run options.
+     * 
+     * @param sessionId The user's session ID
+     * @param algorithmNames List of algorithms to benchmark
+     * @param datasetSizes List of dataset sizes to test
+     * @param target Target value to search for
+     * @param dataType Data type (INTEGER or STRING)
+     * @param options Execution mode, iterations and progress listener for the run
+     * @return BenchmarkReport
+     */
+    public BenchmarkReport runSearchingBenchmark(String sessionId, List<String> algorithmNames,
+                                                 List<Integer> datasetSizes,
+                                                 int target,
+                                                 String dataType,
+                                                 BenchmarkRunOptions options) {
+        BenchmarkReport report = new BenchmarkReport("Searching Benchmark (" + dataType + ")");
+        List<Dataset> datasets = generateBenchmarkDatasets(sessionId, datasetSizes, "RANDOM", dataType);
 
-        report.setEndTime(System.currentTimeMillis());
-        
-        // Store report in session-based store
-        Map<String, BenchmarkReport> sessionStore = sessionReportStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
-        sessionStore.put(report.getId(), report);
-        
-        return report;
+        return runMatrix(sessionId, report, algorithmNames, datasets, options,
+            (algorithmName, datasetId) -> searchingService.executeSearchingAlgorithm(
+                sessionId, datasetId, algorithmName, target, options));
     }
 
     /**
@@ -198,29 +205,115 @@ public class BenchmarkService {
                                                  List<Integer> datasetSizes,
                                                  String target,
                                                  String dataType) {
+        return runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, dataType, BenchmarkRunOptions.defaults());
+    }
+
+    /**
+     * Runs a comprehensive benchmark for searching algorithms (STRING) with explicit run options.
+     * 
+     * @param sessionId The user's session ID
+     * @param algorithmNames List of algorithms to benchmark
+     * @param datasetSizes List of dataset sizes to test
+     * @param target Target string to search for
+     * @param dataType Data type (should be STRING)
+     * @param options Execution mode, iterations and progress listener for the run
+     * @return BenchmarkReport
+     */
+    public BenchmarkReport runSearchingBenchmark(String sessionId, List<String> algorithmNames,
+                                                 List<Integer> datasetSizes,
+                                                 String target,
+                                                 String dataType,
+                                                 BenchmarkRunOptions options) {
         BenchmarkReport report = new BenchmarkReport("Searching Benchmark (" + dataType + ")");
+        List<Dataset> datasets = generateBenchmarkDatasets(sessionId, datasetSizes, "RANDOM", dataType);
+
+        return runMatrix(sessionId, report, algorithmNames, datasets, options,
+            (algorithmName, datasetId) -> searchingService.executeSearchingAlgorithm(
+                sessionId, datasetId, algorithmName, target, options));
+    }
 
-        // Generate datasets for each size with benchmark naming
-        List<String> datasetIds = new ArrayList<>();
+    /**
+     * Runs a benchmark for searching algorithms (backwards compatible, INTEGER only).
+     * 
+     * @param sessionId The user's session ID
+     * @param algorithmNames List of algorithms to benchmark
+     * @param datasetSizes List of dataset sizes to test
+     * @param target Target value to search for
+     * @return BenchmarkReport
+     */
+    public BenchmarkReport runSearchingBenchmark(String sessionId, List<String> algorithmNames,
+                                                 List<Integer> datasetSizes,
+                                                 int target) {
+        return runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, "INTEGER");
+    }
+
+    /**
+     * Generates one benchmark dataset per requested size.
+     * 
+     * @param sessionId The user's session ID
+     * @param datasetSizes Sizes to generate
+     * @param datasetType Type of dataset (RANDOM, SORTED, REVERSE_SORTED)
+     * @param dataType Data type (INTEGER or STRING)
+     * @return The generated datasets, in size order
+     */
+    private List<Dataset> generateBenchmarkDatasets(String sessionId, List<Integer> datasetSizes,
+                                                    String datasetType, String dataType) {
+        List<Dataset> datasets = new ArrayList<>();
         for (int size : datasetSizes) {
-            Dataset dataset = datasetService.generateBenchmarkDataset(sessionId, "RANDOM", size, dataType);
-            datasetIds.add(dataset.getId());
+            datasets.add(datasetService.generateBenchmarkDataset(sessionId, datasetType, size, dataType));
         }
+        return datasets;
+    }
 
-        // Run each algorithm on each dataset
+    /**
+     * Runs every (algorithm, dataset) cell through the benchmark executor and
+     * merges the results into the report.
+     * 
+     * Cells are submitted algorithm-major, so the report lists results in the
+     * same order regardless of execution mode. A cell interrupted by
+     * cancellation aborts the whole run instead of being recorded as a failure.
+     * 
+     * @param sessionId The user's session ID
+     * @param report The report to fill
+     * @param algorithmNames Algorithms to run
+     * @param datasets Datasets to run them on
+     * @param options Execution mode, iterations and progress listener for the run
+     * @param cellRunner Runs a single (algorithm, dataset ID) cell
+     * @return The completed report, also stored in the session store
+     */
+    private BenchmarkReport runMatrix(String sessionId, BenchmarkReport report,
+                                      List<String> algorithmNames, List<Dataset> datasets,
+                                      BenchmarkRunOptions options,
+                                      BiFunction<String, String, AlgorithmResult> cellRunner) {
+        BenchmarkProgressListener listener = options.getProgressListener();
+
+        List<Callable<AlgorithmResult>> cells = new ArrayList<>();
         for (String algorithmName : algorithmNames) {
-            for (String datasetId : datasetIds) {
-                try {
-                    AlgorithmResult result = searchingService.executeSearchingAlgorithm(
-                        sessionId, datasetId, algorithmName, target);
-                    report.addResult(result);
-                } catch (Exception e) {
-                    System.err.println("Benchmark error for " + algorithmName + ": " + e.getMessage());
-                }
+            for (Dataset dataset : datasets) {
+                cells.add(() -> {
+                    listener.onCellStarted(algorithmName, dataset.getSize());
+                    AlgorithmResult result = null;
+                    try {
+                        result = cellRunner.apply(algorithmName, dataset.getId());
+                    } catch (CancellationException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        System.err.println("Benchmark error for " + algorithmName + ": " + e.getMessage());
+                    }
+                    listener.onCellCompleted(algorithmName, dataset.getSize(), result);
+                    return result;
+                });
+            }
+        }
+
+        listener.onRunStarted(cells.size());
+        for (AlgorithmResult result : benchmarkExecutor.execute(cells, options.getMode())) {
+            if (result != null) {
+                report.addResult(result);
             }
         }
 
-        // Calculate statistics
+        // Calculate statistics for each algorithm
         for (String algorithmName : algorithmNames) {
             BenchmarkStatistics stats = calculateStatistics(report.getResults(), algorithmName);
             // Only add statistics if the algorithm had successful runs
@@ -234,25 +327,15 @@ public class BenchmarkService {
         // Store report in session-based store
         Map<String, BenchmarkReport> sessionStore = sessionReportStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
         sessionStore.put(report.getId(), report);
+        try {
+            fileStore.saveReport(sessionId, report);
+        } catch (IOException e) {
+            logger.warn("Could not persist benchmark report {}", report.getId(), e);
+        }
         
         return report;
     }
 
-    /**
-     * Runs a benchmark for searching algorithms (backwards compatible, INTEGER only).
-     * 
-     * @param sessionId The user's session ID
-     * @param algorithmNames List of algorithms to benchmark
-     * @param datasetSizes List of dataset sizes to test
-     * @param target Target value to search for
-     * @return BenchmarkReport
-     */
-    public BenchmarkReport runSearchingBenchmark(String sessionId, List<String> algorithmNames,
-                                                 List<Integer> datasetSizes,
-                                                 int target) {
-        return runSearchingBenchmark(sessionId, algorithmNames, datasetSizes, target, "INTEGER");
-    }
-
     /**
      * Calculates statistical summary for an algorithm's benchmark results.
      * 
@@ -355,7 +438,7 @@ public class BenchmarkService {
      * @return BenchmarkReport if found, null otherwise
      */
     public BenchmarkReport getReport(String sessionId, String reportId) {
-        Map<String, BenchmarkReport> sessionStore = sessionReportStore.get(sessionId);
+        Map<String, BenchmarkReport> sessionStore = getSessionStore(sessionId);
         if (sessionStore == null) {
             return null;
         }
@@ -369,7 +452,7 @@ public class BenchmarkService {
      * @return List of all reports in this session
      */
     public List<BenchmarkReport> getAllReports(String sessionId) {
-        Map<String, BenchmarkReport> sessionStore = sessionReportStore.get(sessionId);
+        Map<String, BenchmarkReport> sessionStore = getSessionStore(sessionId);
         if (sessionStore == null) {
             return new ArrayList<>();
         }
@@ -384,18 +467,60 @@ public class BenchmarkService {
      * @return true if deleted, false if not found
      */
     public boolean deleteReport(String sessionId, String reportId) {
-        Map<String, BenchmarkReport> sessionStore = sessionReportStore.get(sessionId);
-        if (sessionStore == null) {
+        Map<String, BenchmarkReport> sessionStore = getSessionStore(sessionId);
+        if (sessionStore == null || sessionStore.remove(reportId) == null) {
             return false;
         }
-        return sessionStore.remove(reportId) != null;
+        fileStore.delete(List.of(reportId));
+        return true;
+    }
+
+    /**
+     * Gets a session's report store, first reading back any reports saved
+     * for it before the last restart.
+     * 
+     * @param sessionId The user's session ID
+     * @return The session's reports, or null if it has none
+     */
+    private Map<String, BenchmarkReport> getSessionStore(String sessionId) {
+        if (unloadedReports.containsKey(sessionId)) {
+            synchronized (unloadedReports) {
+                List<String> reportIds = unloadedReports.remove(sessionId);
+                if (reportIds != null) {
+                    Map<String, BenchmarkReport> sessionStore =
+                        sessionReportStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
+                    for (String reportId : reportIds) {
+                        try {
+                            BenchmarkReport report = fileStore.loadReport(reportId);
+                            if (report != null) {
+                                sessionStore.putIfAbsent(reportId, report);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            logger.warn("Could not read benchmark report {}", reportId, e);
+                        }
+                    }
+                }
+            }
+        }
+        return sessionReportStore.get(sessionId);
     }
 
     /**
      * Clears all stored benchmark reports across all sessions.
      */
     public void clearAllReports() {
-        sessionReportStore.clear();
+        List<String> reportIds = new ArrayList<>();
+        for (String sessionId : new ArrayList<>(sessionReportStore.keySet())) {
+            Map<String, BenchmarkReport> sessionStore = sessionReportStore.remove(sessionId);
+            if (sessionStore != null) {
+                reportIds.addAll(sessionStore.keySet());
+            }
+        }
+        synchronized (unloadedReports) {
+            unloadedReports.values().forEach(reportIds::addAll);
+            unloadedReports.clear();
+        }
+        fileStore.delete(reportIds);
     }
 
     /**
@@ -405,7 +530,18 @@ public class BenchmarkService {
      * @param sessionId The session ID to clear
      */
     public void clearSessionReports(String sessionId) {
-        sessionReportStore.remove(sessionId);
+        List<String> reportIds = new ArrayList<>();
+        Map<String, BenchmarkReport> sessionStore = sessionReportStore.remove(sessionId);
+        if (sessionStore != null) {
+            reportIds.addAll(sessionStore.keySet());
+        }
+        synchronized (unloadedReports) {
+            List<String> unloaded = unloadedReports.remove(sessionId);
+            if (unloaded != null) {
+                reportIds.addAll(unloaded);
+            }
+        }
+        fileStore.delete(reportIds);
     }
 
     /**
@@ -417,6 +553,9 @@ public class BenchmarkService {
     public int getTotalReportCount() {
         return sessionReportStore.values().stream()
             .mapToInt(Map::size)
+            .sum()
+            + unloadedReports.values().stream()
+            .mapToInt(List::size)
             .sum();
     }
 }
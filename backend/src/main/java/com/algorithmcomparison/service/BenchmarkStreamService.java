@@ -0,0 +1,208 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.AlgorithmResult;
+import com.algorithmcomparison.model.BenchmarkJob;
+import com.algorithmcomparison.model.BenchmarkReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Service for streaming benchmark results to the client over Server-Sent Events.
+ *
+ * The benchmark runs as a background job (see BenchmarkJobService) and each
+ * AlgorithmResult is pushed as soon as its cell finishes, so the client can
+ * render incrementally instead of waiting for the whole report.
+ *
+ * Events sent, in order:
+ * - job: the submitted BenchmarkJob (its ID can be used to cancel the run)
+ * - result: one AlgorithmResult per completed cell
+ * - complete: report summary and statistics, without the individual results
+ *   already streamed
+ * - error: sent instead of complete if the run fails or is cancelled
+ *
+ * The closing event is sent when the job reaches its final status, so a
+ * job cancelled while still queued closes its stream too.
+ *
+ * If the client disconnects, the underlying job is cancelled. Open streams
+ * receive a heartbeat comment periodically so a disconnect is noticed even
+ * while a single slow cell is running.
+ *
+ * Configuration (application.properties):
+ * - benchmark.stream.timeout-ms: maximum lifetime of a stream
+ * - benchmark.stream.heartbeat-ms: interval between heartbeat comments
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+@Service
+public class BenchmarkStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkStreamService.class);
+
+    private final BenchmarkJobService benchmarkJobService;
+    private final long streamTimeoutMillis;
+
+    // Open streams: emitter -> action cancelling its job
+    private final Map<SseEmitter, Runnable> activeStreams = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param benchmarkJobService Service running the benchmark in the background
+     * @param streamTimeoutMillis Maximum lifetime of a stream in milliseconds
+     */
+    public BenchmarkStreamService(BenchmarkJobService benchmarkJobService,
+                                  @Value("${benchmark.stream.timeout-ms:1800000}") long streamTimeoutMillis) {
+        this.benchmarkJobService = benchmarkJobService;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+    }
+
+    /**
+     * Starts a benchmark and returns an emitter streaming its results.
+     *
+     * @param sessionId The user's session ID
+     * @param operationType "SORT" or "SEARCH"
+     * @param options Run options (mode, iterations) for the benchmark
+     * @param benchmark Runs the benchmark with the given options and returns its report
+     * @return Emitter to return from the controller
+     */
+    public SseEmitter stream(String sessionId, String operationType, BenchmarkRunOptions options,
+                             Function<BenchmarkRunOptions, BenchmarkReport> benchmark) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        AtomicReference<BenchmarkJob> jobRef = new AtomicReference<>();
+
+        Runnable cancelJob = () -> {
+            BenchmarkJob job = jobRef.get();
+            if (job != null) {
+                benchmarkJobService.cancelJob(sessionId, job.getId());
+            }
+        };
+        activeStreams.put(emitter, cancelJob);
+        emitter.onCompletion(() -> activeStreams.remove(emitter));
+        emitter.onTimeout(cancelJob);
+        emitter.onError(error -> cancelJob.run());
+
+        BenchmarkProgressListener streamer = new BenchmarkProgressListener() {
+            @Override
+            public void onCellCompleted(String algorithmName, int datasetSize, AlgorithmResult result) {
+                if (result != null && !send(emitter, "result", result)) {
+                    cancelJob.run();
+                }
+            }
+        };
+
+        AtomicReference<BenchmarkReport> reportRef = new AtomicReference<>();
+
+        // Hold the emitter while submitting so the 'job' event is always sent first;
+        // events from the job thread wait in send() until it is out
+        synchronized (emitter) {
+            BenchmarkJob job = benchmarkJobService.submit(sessionId, operationType, options, streamer,
+                finishedJob -> finish(emitter, finishedJob, reportRef.get()),
+                runOptions -> {
+                    BenchmarkReport report = benchmark.apply(runOptions);
+                    reportRef.set(report);
+                    return report;
+                });
+            jobRef.set(job);
+            send(emitter, "job", job);
+        }
+        return emitter;
+    }
+
+    /**
+     * Sends a heartbeat comment to every open stream, cancelling the jobs
+     * of clients that have disconnected.
+     */
+    @Scheduled(fixedRateString = "${benchmark.stream.heartbeat-ms:10000}")
+    public void sendHeartbeats() {
+        activeStreams.forEach((emitter, cancelJob) -> {
+            synchronized (emitter) {
+                if (!activeStreams.containsKey(emitter)) {
+                    return; // Closed while waiting for the lock
+                }
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    activeStreams.remove(emitter);
+                    cancelJob.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the number of open benchmark streams.
+     *
+     * @return Active stream count
+     */
+    public int getActiveStreamCount() {
+        return activeStreams.size();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Sends one event, returning false if the client has gone away.
+     */
+    private boolean send(SseEmitter emitter, String eventName, Object data) {
+        synchronized (emitter) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Benchmark stream closed while sending '{}': {}", eventName, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Sends the closing event for a job's final status and completes the stream.
+     */
+    private void finish(SseEmitter emitter, BenchmarkJob job, BenchmarkReport report) {
+        if (job.getStatus() == BenchmarkJob.JobStatus.COMPLETED && report != null) {
+            send(emitter, "complete", summarize(report));
+        } else if (job.getStatus() == BenchmarkJob.JobStatus.FAILED) {
+            send(emitter, "error", Map.of("message", String.valueOf(job.getErrorMessage())));
+        } else {
+            send(emitter, "error", Map.of("message", "Benchmark cancelled"));
+        }
+        close(emitter);
+    }
+
+    /**
+     * Completes a stream. Deregistering first, under the emitter lock, stops a
+     * concurrent heartbeat from mistaking the closed stream for a disconnect.
+     */
+    private void close(SseEmitter emitter) {
+        synchronized (emitter) {
+            activeStreams.remove(emitter);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Builds the final event payload. Results are left out since the client
+     * has already received each of them as a 'result' event.
+     */
+    private Map<String, Object> summarize(BenchmarkReport report) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("reportId", report.getId());
+        summary.put("reportName", report.getReportName());
+        summary.put("totalRuns", report.getTotalRuns());
+        summary.put("totalDurationMillis", report.getTotalDurationMillis());
+        summary.put("statistics", report.getStatistics());
+        return summary;
+    }
+}
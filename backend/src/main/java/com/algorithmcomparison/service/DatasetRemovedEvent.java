@@ -0,0 +1,44 @@
+package com.algorithmcomparison.service;
+
+/**
+ * Application event published by DatasetService when a dataset is removed
+ * from a session (deleted, or cleared along with its session).
+ *
+ * Services that cache data derived from a dataset (e.g. search indexes)
+ * listen for it to drop their entries.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class DatasetRemovedEvent {
+
+    private final String sessionId;
+    private final String datasetId;
+
+    /**
+     * Creates an event for a removed dataset.
+     *
+     * @param sessionId Session the dataset belonged to
+     * @param datasetId ID of the removed dataset
+     */
+    public DatasetRemovedEvent(String sessionId, String datasetId) {
+        this.sessionId = sessionId;
+        this.datasetId = datasetId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getDatasetId() {
+        return datasetId;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetRemovedEvent{" +
+                "sessionId='" + sessionId + '\'' +
+                ", datasetId='" + datasetId + '\'' +
+                '}';
+    }
+}
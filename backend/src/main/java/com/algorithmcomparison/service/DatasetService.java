@@ -1,13 +1,26 @@
 package com.algorithmcomparison.service;
 
+import com.algorithmcomparison.model.BufferIntStorage;
 import com.algorithmcomparison.model.Dataset;
 import com.algorithmcomparison.model.DatasetCharacteristics;
+import com.algorithmcomparison.model.DatasetStoreStatistics;
 import com.algorithmcomparison.model.AlgorithmRecommendation;
+import com.algorithmcomparison.model.HeapIntStorage;
+import com.algorithmcomparison.model.IntStorage;
 import com.algorithmcomparison.util.DatasetGenerator;
 import com.algorithmcomparison.util.DatasetAnalyzer;
 import com.algorithmcomparison.util.AlgorithmRecommendationEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,28 +35,317 @@ import java.util.concurrent.ConcurrentHashMap;
  * 
  * Each user session has its own isolated dataset storage.
  * Datasets are automatically cleaned up when sessions expire.
+ * A DatasetRemovedEvent is published for every dataset that is removed,
+ * and a DatasetUnloadedEvent for every dataset that is spilled (see below),
+ * so caches of derived data can be invalidated.
+ * 
+ * The store is bounded by the estimated footprint of its datasets
+ * (Dataset.getMemoryFootprintBytes()): storing a dataset first evicts the
+ * session's least recently used datasets until the session is within
+ * dataset.store.max-bytes-per-session, then the least recently used datasets
+ * of any session until the store is within dataset.store.max-bytes.
+ * Datasets not read for dataset.store.idle-timeout-ms are evicted as well.
+ * 
+ * When persistence is enabled (see SessionFileStore), every stored dataset
+ * is also written to disk. Evicting such a dataset only drops its values
+ * from memory ("spilling" it); the next getDataset() reads them back. At
+ * startup only the store's index is read, so every persisted dataset
+ * starts out spilled.
+ * 
+ * INTEGER datasets with at least dataset.storage.offheap-threshold elements
+ * are stored off-heap (dataset.storage.offheap-kind: DIRECT or MAPPED), so
+ * large datasets do not fill the heap; requests may also choose a storage
+ * kind explicitly.
  * 
  * @author Algorithm Comparison Team
- * @version 2.0
+ * @version 2.3
  */
 @Service
 public class DatasetService {
 
-    // Session-based storage: sessionId -> (datasetId -> Dataset)
-    // Using ConcurrentHashMap for thread-safety
-    private final Map<String, Map<String, Dataset>> sessionDatasetStore = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(DatasetService.class);
+
+    // Session-based storage: sessionId -> datasets of that session, in creation order
+    // The store, the LRU list and all byte and eviction counts are guarded by storeLock
+    private final Map<String, SessionDatasets> sessionDatasetStore = new HashMap<>();
+
+    // Every dataset held in memory, least recently used first: lruKey(sessionId, datasetId) -> entry
+    private final LinkedHashMap<String, StoredDataset> leastRecentlyUsed = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object storeLock = new Object();
+    private long totalBytes;
+    private long sessionBudgetEvictions;
+    private long globalBudgetEvictions;
+    private long idleEvictions;
+    private long expiredSessions;
+    private long reloads;
     
     // Benchmark dataset counter per session: sessionId -> counter
     private final Map<String, Integer> sessionBenchmarkCounters = new ConcurrentHashMap<>();
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionFileStore fileStore;
+    private final int offHeapThreshold;
+    private final IntStorage.Kind offHeapKind;
+    private final String storageDirectory;
+    private final long maxBytes; // 0 = unlimited
+    private final long maxBytesPerSession; // 0 = unlimited
+    private final long idleTimeoutMillis; // 0 = never
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param eventPublisher Publisher for DatasetRemovedEvent and DatasetUnloadedEvent
+     * @param fileStore Store that persists datasets (may be disabled)
+     * @param offHeapThreshold Element count from which INTEGER datasets go off-heap (negative = never)
+     * @param offHeapKind Storage kind for those datasets (DIRECT or MAPPED)
+     * @param storageDirectory Directory for MAPPED files (empty = java.io.tmpdir)
+     * @param maxBytes Budget for all stored datasets (0 = half the maximum heap, negative = unlimited)
+     * @param maxBytesPerSession Budget for one session's datasets (0 = a quarter of maxBytes, negative = unlimited)
+     * @param idleTimeoutMillis Datasets not read for this long are evicted (0 or negative = never)
+     */
+    public DatasetService(ApplicationEventPublisher eventPublisher,
+                          SessionFileStore fileStore,
+                          @Value("${dataset.storage.offheap-threshold:-1}") int offHeapThreshold,
+                          @Value("${dataset.storage.offheap-kind:MAPPED}") String offHeapKind,
+                          @Value("${dataset.storage.directory:}") String storageDirectory,
+                          @Value("${dataset.store.max-bytes:0}") long maxBytes,
+                          @Value("${dataset.store.max-bytes-per-session:0}") long maxBytesPerSession,
+                          @Value("${dataset.store.idle-timeout-ms:3600000}") long idleTimeoutMillis) {
+        this.eventPublisher = eventPublisher;
+        this.fileStore = fileStore;
+        this.offHeapThreshold = offHeapThreshold;
+        this.offHeapKind = parseStorageKind(offHeapKind);
+        this.storageDirectory = storageDirectory;
+        this.maxBytes = maxBytes == 0 ? Runtime.getRuntime().maxMemory() / 2 : Math.max(maxBytes, 0);
+        this.maxBytesPerSession = maxBytesPerSession == 0 ? this.maxBytes / 4 : Math.max(maxBytesPerSession, 0);
+        this.idleTimeoutMillis = Math.max(idleTimeoutMillis, 0);
+
+        // Persisted datasets are listed from the index and loaded on first use
+        fileStore.describeDatasets().forEach((sessionId, summaries) -> {
+            SessionDatasets session = new SessionDatasets();
+            for (Dataset summary : summaries) {
+                session.datasets.put(summary.getId(), new StoredDataset(sessionId, summary));
+            }
+            sessionDatasetStore.put(sessionId, session);
+        });
+    }
+
+    /**
+     * Parses a storage kind name.
+     * 
+     * @param name HEAP, DIRECT or MAPPED (case-insensitive)
+     * @return The storage kind
+     * @throws IllegalArgumentException if the name is not a known kind
+     */
+    public static IntStorage.Kind parseStorageKind(String name) {
+        try {
+            return IntStorage.Kind.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown storage kind: " + name
+                + ". Use one of " + Arrays.toString(IntStorage.Kind.values()));
+        }
+    }
+
+    /**
+     * Decides whether INTEGER values go off-heap.
+     * 
+     * @param size Number of values
+     * @param requested Storage kind, or null to choose by the off-heap threshold
+     * @return true for DIRECT or MAPPED storage
+     */
+    private boolean isOffHeap(int size, IntStorage.Kind requested) {
+        if (requested != null) {
+            return requested != IntStorage.Kind.HEAP;
+        }
+        return offHeapKind != IntStorage.Kind.HEAP && offHeapThreshold >= 0 && size >= offHeapThreshold;
+    }
+
     /**
-     * Gets or creates a dataset store for a session.
+     * Moves integer values into the storage selected for them. Heap storage
+     * wraps the array without copying, so callers must hand over ownership.
+     * 
+     * @param data The values
+     * @param requested Storage kind, or null to choose by the off-heap threshold
+     * @return The storage
+     * @throws IllegalStateException if a mapped file cannot be created
+     */
+    private IntStorage createIntStorage(int[] data, IntStorage.Kind requested) {
+        if (!isOffHeap(data.length, requested)) {
+            return new HeapIntStorage(data);
+        }
+        return createStorageBuilder(data.length, requested).put(data, 0, data.length).build();
+    }
+
+    /**
+     * Allocates off-heap storage to be filled sequentially.
+     * 
+     * @param size Number of values
+     * @param requested DIRECT or MAPPED, or null for the configured off-heap kind
+     * @return The builder
+     * @throws IllegalStateException if a mapped file cannot be created
+     */
+    private BufferIntStorage.Builder createStorageBuilder(int size, IntStorage.Kind requested) {
+        IntStorage.Kind kind = requested != null ? requested : offHeapKind;
+        if (kind != IntStorage.Kind.MAPPED) {
+            return BufferIntStorage.direct(size);
+        }
+        try {
+            Path directory = storageDirectory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"))
+                : Files.createDirectories(Paths.get(storageDirectory));
+            return BufferIntStorage.mapped(size, directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not map dataset file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stores a dataset in a session, evicting least recently used datasets
+     * until the session and the whole store are within their budgets. The
+     * new dataset itself is never evicted.
      * 
      * @param sessionId The session ID
-     * @return Map of datasets for this session
+     * @param dataset The dataset to store
+     * @throws IllegalArgumentException if the dataset alone exceeds a budget
+     */
+    private void store(String sessionId, Dataset dataset) {
+        long bytes = dataset.getMemoryFootprintBytes();
+        long budget = Math.min(maxBytes > 0 ? maxBytes : Long.MAX_VALUE,
+                               maxBytesPerSession > 0 ? maxBytesPerSession : Long.MAX_VALUE);
+        if (bytes > budget) {
+            throw new IllegalArgumentException("Dataset needs about " + bytes / (1024 * 1024)
+                + " MB, more than the " + budget / (1024 * 1024) + " MB a session may hold");
+        }
+        boolean persisted = persist(sessionId, dataset);
+
+        List<StoredDataset> evicted = new ArrayList<>();
+        synchronized (storeLock) {
+            StoredDataset entry = new StoredDataset(sessionId, dataset, bytes, persisted);
+            SessionDatasets session = sessionDatasetStore.computeIfAbsent(sessionId, k -> new SessionDatasets());
+            session.datasets.put(entry.datasetId, entry);
+            session.bytes += bytes;
+            totalBytes += bytes;
+            leastRecentlyUsed.put(entry.key, entry);
+            enforceBudgets(entry, session, evicted);
+        }
+        publishEvicted(evicted);
+    }
+
+    /**
+     * Writes a dataset to the file store. A dataset that cannot be written
+     * is still kept in memory, it just cannot be spilled.
+     * 
+     * @return true if the dataset is on disk
+     */
+    private boolean persist(String sessionId, Dataset dataset) {
+        if (!fileStore.isEnabled()) {
+            return false;
+        }
+        try {
+            fileStore.saveDataset(sessionId, dataset);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not persist dataset {}: {}", dataset.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Evicts least recently used datasets until the entry's session and then
+     * the whole store are within budget, never evicting the entry itself.
+     * Datasets without a footprint (MAPPED) are skipped, as evicting them
+     * frees nothing. Must be called with storeLock held.
+     */
+    private void enforceBudgets(StoredDataset keep, SessionDatasets session, List<StoredDataset> evicted) {
+        Iterator<StoredDataset> candidates = leastRecentlyUsed.values().iterator();
+        while (maxBytesPerSession > 0 && session.bytes > maxBytesPerSession && candidates.hasNext()) {
+            StoredDataset candidate = candidates.next();
+            if (candidate != keep && candidate.bytes > 0 && candidate.sessionId.equals(keep.sessionId)) {
+                candidates.remove();
+                evict(candidate, evicted);
+                sessionBudgetEvictions++;
+            }
+        }
+        candidates = leastRecentlyUsed.values().iterator();
+        while (maxBytes > 0 && totalBytes > maxBytes && candidates.hasNext()) {
+            StoredDataset candidate = candidates.next();
+            if (candidate != keep && candidate.bytes > 0) {
+                candidates.remove();
+                evict(candidate, evicted);
+                globalBudgetEvictions++;
+            }
+        }
+    }
+
+    /**
+     * Drops an entry that has been taken off the LRU list from memory: a
+     * persisted dataset is spilled and stays listed, any other dataset is
+     * removed. Either way the entry is added to evicted, so publishEvicted()
+     * can announce it. Must be called with storeLock held.
+     */
+    private void evict(StoredDataset entry, List<StoredDataset> evicted) {
+        evicted.add(entry);
+        if (!entry.persisted) {
+            detach(entry);
+            return;
+        }
+        SessionDatasets session = sessionDatasetStore.get(entry.sessionId);
+        session.bytes -= entry.bytes;
+        totalBytes -= entry.bytes;
+        entry.bytes = 0;
+        entry.dataset = null;
+    }
+
+    /**
+     * Removes an entry from its session and the byte counts (not from the
+     * LRU list). Must be called with storeLock held.
      */
-    private Map<String, Dataset> getSessionStore(String sessionId) {
-        return sessionDatasetStore.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
+    private void detach(StoredDataset entry) {
+        SessionDatasets session = sessionDatasetStore.get(entry.sessionId);
+        if (session == null || session.datasets.remove(entry.datasetId) == null) {
+            return;
+        }
+        session.bytes -= entry.bytes;
+        totalBytes -= entry.bytes;
+        if (session.datasets.isEmpty()) {
+            sessionDatasetStore.remove(entry.sessionId);
+        }
+    }
+
+    /**
+     * Finds a stored entry, held in memory or not. Must be called with
+     * storeLock held.
+     */
+    private StoredDataset find(String sessionId, String datasetId) {
+        SessionDatasets session = sessionDatasetStore.get(sessionId);
+        return session != null ? session.datasets.get(datasetId) : null;
+    }
+
+    /**
+     * Evicts datasets that have not been read within the idle timeout.
+     * Runs every minute; the LRU list is in access order, so the sweep stops
+     * at the first dataset that is still in use.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleDatasets() {
+        if (idleTimeoutMillis == 0) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        List<StoredDataset> evicted = new ArrayList<>();
+        synchronized (storeLock) {
+            Iterator<StoredDataset> candidates = leastRecentlyUsed.values().iterator();
+            while (candidates.hasNext()) {
+                StoredDataset candidate = candidates.next();
+                if (candidate.lastAccessMillis >= cutoff) {
+                    break;
+                }
+                candidates.remove();
+                evict(candidate, evicted);
+                idleEvictions++;
+            }
+        }
+        publishEvicted(evicted);
     }
     
     /**
@@ -68,6 +370,33 @@ public class DatasetService {
      * @return Generated dataset
      */
     public Dataset generateDataset(String sessionId, String type, int size, int minValue, int maxValue, String dataType) {
+        return generateDataset(sessionId, type, size, minValue, maxValue, dataType, null);
+    }
+
+    /**
+     * Generates a new dataset, choosing where its integer values are stored.
+     * 
+     * @param sessionId The user's session ID
+     * @param type Dataset type: RANDOM, SORTED, or REVERSE_SORTED
+     * @param size Number of elements
+     * @param minValue Minimum value range (for integers)
+     * @param maxValue Maximum value range (for integers)
+     * @param dataType Data type: INTEGER or STRING
+     * @param storageKind Storage for INTEGER data, or null to choose by size
+     * @return Generated dataset
+     */
+    public Dataset generateDataset(String sessionId, String type, int size, int minValue, int maxValue, String dataType,
+                                   IntStorage.Kind storageKind) {
+        Dataset dataset = createDataset(type, size, minValue, maxValue, dataType, storageKind);
+        store(sessionId, dataset);
+        return dataset;
+    }
+
+    /**
+     * Generates a dataset without storing it.
+     */
+    private Dataset createDataset(String type, int size, int minValue, int maxValue, String dataType,
+                                  IntStorage.Kind storageKind) {
         Dataset dataset;
         
         if ("STRING".equalsIgnoreCase(dataType)) {
@@ -85,6 +414,12 @@ public class DatasetService {
                     break;
             }
             dataset = new Dataset(data, type.toUpperCase());
+        } else if (isOffHeap(size, storageKind)
+                && DatasetGenerator.canGenerateInto(type, minValue, maxValue)) {
+            // Generate straight into off-heap storage, never holding the whole dataset on the heap
+            BufferIntStorage.Builder builder = createStorageBuilder(size, storageKind);
+            DatasetGenerator.generateInto(builder, type, minValue, maxValue);
+            dataset = new Dataset(builder.build(), type.toUpperCase());
         } else {
             // Default to INTEGER
             int[] data;
@@ -100,11 +435,9 @@ public class DatasetService {
                     data = DatasetGenerator.generateRandom(size, minValue, maxValue);
                     break;
             }
-            dataset = new Dataset(data, type.toUpperCase());
+            // The generated array is not shared, so it is stored without another copy
+            dataset = new Dataset(createIntStorage(data, storageKind), type.toUpperCase());
         }
-
-        Map<String, Dataset> sessionStore = getSessionStore(sessionId);
-        sessionStore.put(dataset.getId(), dataset);
         return dataset;
     }
 
@@ -145,7 +478,7 @@ public class DatasetService {
      * @return Generated dataset with benchmark naming
      */
     public Dataset generateBenchmarkDataset(String sessionId, String type, int size, String dataType) {
-        Dataset dataset = generateDataset(sessionId, type, size, 1, 10000, dataType);
+        Dataset dataset = createDataset(type, size, 1, 10000, dataType, null);
         
         // Get sequence number for this session
         int sequence = getNextBenchmarkSequence(sessionId);
@@ -155,10 +488,7 @@ public class DatasetService {
         String benchmarkName = String.format("Benchmark #%d %s_%s - Size %d", sequence, type, dataTypeLabel, size);
         dataset.setName(benchmarkName);
         
-        // Re-store the dataset with updated name
-        Map<String, Dataset> sessionStore = getSessionStore(sessionId);
-        sessionStore.put(dataset.getId(), dataset);
-        
+        store(sessionId, dataset);
         return dataset;
     }
 
@@ -184,10 +514,10 @@ public class DatasetService {
      */
     public Dataset storeCustomDataset(String sessionId, int[] data, String name) {
         String datasetName = (name != null && !name.isEmpty()) ? name : "CUSTOM";
-        Dataset dataset = new Dataset(datasetName, data, "CUSTOM");
+        Dataset dataset = new Dataset(createIntStorage(Arrays.copyOf(data, data.length), null), "CUSTOM");
+        dataset.setName(datasetName);
         
-        Map<String, Dataset> sessionStore = getSessionStore(sessionId);
-        sessionStore.put(dataset.getId(), dataset);
+        store(sessionId, dataset);
         return dataset;
     }
 
@@ -203,38 +533,86 @@ public class DatasetService {
         String datasetName = (name != null && !name.isEmpty()) ? name : "CUSTOM";
         Dataset dataset = new Dataset(datasetName, data, "CUSTOM");
         
-        Map<String, Dataset> sessionStore = getSessionStore(sessionId);
-        sessionStore.put(dataset.getId(), dataset);
+        store(sessionId, dataset);
         return dataset;
     }
 
     /**
-     * Retrieves a dataset by ID from the user's session.
+     * Retrieves a dataset by ID from the user's session, marking it as
+     * recently used. A spilled dataset is read back from disk, which may
+     * evict others.
      * 
      * @param sessionId The user's session ID
      * @param datasetId The dataset ID
      * @return Dataset if found, null otherwise
      */
     public Dataset getDataset(String sessionId, String datasetId) {
-        Map<String, Dataset> sessionStore = sessionDatasetStore.get(sessionId);
-        if (sessionStore == null) {
+        StoredDataset entry;
+        synchronized (storeLock) {
+            entry = find(sessionId, datasetId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.dataset != null) {
+                leastRecentlyUsed.get(entry.key);
+                entry.lastAccessMillis = System.currentTimeMillis();
+                return entry.dataset;
+            }
+        }
+
+        // Read outside the lock, so other sessions are not held up by the disk
+        Dataset loaded;
+        try {
+            loaded = fileStore.loadDataset(datasetId);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not reload dataset {}: {}", datasetId, e.getMessage());
+            return null;
+        }
+        if (loaded == null) {
             return null;
         }
-        return sessionStore.get(datasetId);
+
+        Dataset dataset;
+        List<StoredDataset> evicted = new ArrayList<>();
+        synchronized (storeLock) {
+            if (find(sessionId, datasetId) != entry) {
+                return null; // Deleted while loading
+            }
+            if (entry.dataset == null) {
+                SessionDatasets session = sessionDatasetStore.get(sessionId);
+                entry.dataset = loaded;
+                entry.bytes = loaded.getMemoryFootprintBytes();
+                session.bytes += entry.bytes;
+                totalBytes += entry.bytes;
+                reloads++;
+                enforceBudgets(entry, session, evicted);
+            }
+            leastRecentlyUsed.put(entry.key, entry);
+            entry.lastAccessMillis = System.currentTimeMillis();
+            dataset = entry.dataset;
+        }
+        publishEvicted(evicted);
+        return dataset;
     }
 
     /**
-     * Gets all stored datasets for a user's session.
+     * Gets all stored datasets for a user's session. Listing does not count
+     * as use for eviction, and spilled datasets are listed without values.
      * 
      * @param sessionId The user's session ID
      * @return List of all datasets in this session
      */
     public List<Dataset> getAllDatasets(String sessionId) {
-        Map<String, Dataset> sessionStore = sessionDatasetStore.get(sessionId);
-        if (sessionStore == null) {
-            return new ArrayList<>();
+        synchronized (storeLock) {
+            SessionDatasets session = sessionDatasetStore.get(sessionId);
+            List<Dataset> datasets = new ArrayList<>();
+            if (session != null) {
+                for (StoredDataset entry : session.datasets.values()) {
+                    datasets.add(entry.dataset != null ? entry.dataset : entry.summary);
+                }
+            }
+            return datasets;
         }
-        return new ArrayList<>(sessionStore.values());
     }
 
     /**
@@ -245,11 +623,20 @@ public class DatasetService {
      * @return true if deleted, false if not found
      */
     public boolean deleteDataset(String sessionId, String datasetId) {
-        Map<String, Dataset> sessionStore = sessionDatasetStore.get(sessionId);
-        if (sessionStore == null) {
-            return false;
+        StoredDataset entry;
+        synchronized (storeLock) {
+            entry = find(sessionId, datasetId);
+            if (entry == null) {
+                return false;
+            }
+            leastRecentlyUsed.remove(entry.key);
+            detach(entry);
+        }
+        if (entry.persisted) {
+            fileStore.delete(List.of(datasetId));
         }
-        return sessionStore.remove(datasetId) != null;
+        eventPublisher.publishEvent(new DatasetRemovedEvent(sessionId, datasetId));
+        return true;
     }
 
     /**
@@ -278,7 +665,7 @@ public class DatasetService {
             return DatasetAnalyzer.analyze(dataset.getStringData());
         } else {
             // Verify integer data is not null
-            if (dataset.getData() == null) {
+            if (dataset.getIntStorage() == null) {
                 throw new IllegalStateException(
                     "Dataset '" + dataset.getName() + "' has no data to analyze."
                 );
@@ -306,20 +693,82 @@ public class DatasetService {
     }
 
     /**
-     * Clears all datasets for a specific session.
+     * Clears all datasets for a specific session. Called when the HTTP
+     * session expires or is invalidated.
      * 
      * @param sessionId The user's session ID
      */
     public void clearSessionDatasets(String sessionId) {
-        sessionDatasetStore.remove(sessionId);
+        List<StoredDataset> removed = new ArrayList<>();
+        synchronized (storeLock) {
+            SessionDatasets session = sessionDatasetStore.remove(sessionId);
+            if (session != null) {
+                for (StoredDataset entry : session.datasets.values()) {
+                    leastRecentlyUsed.remove(entry.key);
+                    removed.add(entry);
+                }
+                totalBytes -= session.bytes;
+                expiredSessions++;
+            }
+        }
         sessionBenchmarkCounters.remove(sessionId);
+        deletePersisted(removed);
+        publishRemoved(removed);
     }
 
     /**
      * Clears all stored datasets (admin function).
      */
     public void clearAllDatasets() {
-        sessionDatasetStore.clear();
+        List<StoredDataset> removed = new ArrayList<>();
+        synchronized (storeLock) {
+            for (SessionDatasets session : sessionDatasetStore.values()) {
+                removed.addAll(session.datasets.values());
+            }
+            leastRecentlyUsed.clear();
+            sessionDatasetStore.clear();
+            totalBytes = 0;
+        }
+        deletePersisted(removed);
+        publishRemoved(removed);
+    }
+
+    /**
+     * Deletes the files of removed entries from the file store.
+     */
+    private void deletePersisted(List<StoredDataset> removed) {
+        List<String> datasetIds = new ArrayList<>();
+        for (StoredDataset entry : removed) {
+            if (entry.persisted) {
+                datasetIds.add(entry.datasetId);
+            }
+        }
+        fileStore.delete(datasetIds);
+    }
+
+    /**
+     * Publishes a DatasetRemovedEvent for every removed entry. Called
+     * without storeLock, so listeners cannot block the store.
+     */
+    private void publishRemoved(List<StoredDataset> removed) {
+        for (StoredDataset entry : removed) {
+            eventPublisher.publishEvent(new DatasetRemovedEvent(entry.sessionId, entry.datasetId));
+        }
+    }
+
+    /**
+     * Publishes a DatasetUnloadedEvent for every evicted entry that was
+     * spilled and a DatasetRemovedEvent for every other one. Called without
+     * storeLock, so listeners cannot block the store.
+     */
+    private void publishEvicted(List<StoredDataset> evicted) {
+        for (StoredDataset entry : evicted) {
+            if (entry.persisted) {
+                eventPublisher.publishEvent(new DatasetUnloadedEvent(entry.sessionId, entry.datasetId));
+            } else {
+                eventPublisher.publishEvent(new DatasetRemovedEvent(entry.sessionId, entry.datasetId));
+            }
+        }
     }
 
     /**
@@ -329,8 +778,10 @@ public class DatasetService {
      * @return Dataset count for this session
      */
     public int getDatasetCount(String sessionId) {
-        Map<String, Dataset> sessionStore = sessionDatasetStore.get(sessionId);
-        return sessionStore != null ? sessionStore.size() : 0;
+        synchronized (storeLock) {
+            SessionDatasets session = sessionDatasetStore.get(sessionId);
+            return session != null ? session.datasets.size() : 0;
+        }
     }
 
     /**
@@ -339,7 +790,9 @@ public class DatasetService {
      * @return Number of sessions with datasets
      */
     public int getActiveSessionCount() {
-        return sessionDatasetStore.size();
+        synchronized (storeLock) {
+            return sessionDatasetStore.size();
+        }
     }
 
     /**
@@ -348,9 +801,101 @@ public class DatasetService {
      * @return Total dataset count
      */
     public int getTotalDatasetCount() {
-        return sessionDatasetStore.values().stream()
-                .mapToInt(Map::size)
-                .sum();
+        synchronized (storeLock) {
+            return countDatasets();
+        }
+    }
+
+    private int countDatasets() {
+        int count = 0;
+        for (SessionDatasets session : sessionDatasetStore.values()) {
+            count += session.datasets.size();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the store's memory use, budgets and eviction counts.
+     * 
+     * @return Statistics snapshot
+     */
+    public DatasetStoreStatistics getStoreStatistics() {
+        DatasetStoreStatistics statistics = new DatasetStoreStatistics();
+        synchronized (storeLock) {
+            statistics.setActiveSessions(sessionDatasetStore.size());
+            int datasetCount = countDatasets();
+            statistics.setDatasetCount(datasetCount);
+            statistics.setSpilledDatasets(datasetCount - leastRecentlyUsed.size());
+            statistics.setUsedBytes(totalBytes);
+            statistics.setSessionBudgetEvictions(sessionBudgetEvictions);
+            statistics.setGlobalBudgetEvictions(globalBudgetEvictions);
+            statistics.setIdleEvictions(idleEvictions);
+            statistics.setExpiredSessions(expiredSessions);
+            statistics.setReloadedDatasets(reloads);
+        }
+        statistics.setMaxBytes(maxBytes);
+        statistics.setMaxBytesPerSession(maxBytesPerSession);
+        statistics.setIdleTimeoutMillis(idleTimeoutMillis);
+        return statistics;
     }
-}
 
+    private static String lruKey(String sessionId, String datasetId) {
+        return sessionId + '/' + datasetId;
+    }
+
+    /**
+     * A stored dataset with its estimated footprint. While spilled, dataset
+     * is null, bytes is 0 and summary stands in for it in listings.
+     */
+    private static final class StoredDataset {
+        private final String key;
+        private final String sessionId;
+        private final String datasetId;
+        private final boolean persisted;
+        private final Dataset summary; // Metadata without values, for persisted datasets
+        private Dataset dataset;
+        private long bytes;
+        private long lastAccessMillis;
+
+        private StoredDataset(String sessionId, Dataset dataset, long bytes, boolean persisted) {
+            this.key = lruKey(sessionId, dataset.getId());
+            this.sessionId = sessionId;
+            this.datasetId = dataset.getId();
+            this.persisted = persisted;
+            this.summary = persisted ? summarize(dataset) : null;
+            this.dataset = dataset;
+            this.bytes = bytes;
+            this.lastAccessMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Creates a spilled entry for a dataset listed in the file store.
+         */
+        private StoredDataset(String sessionId, Dataset summary) {
+            this.key = lruKey(sessionId, summary.getId());
+            this.sessionId = sessionId;
+            this.datasetId = summary.getId();
+            this.persisted = true;
+            this.summary = summary;
+        }
+
+        private static Dataset summarize(Dataset dataset) {
+            Dataset summary = new Dataset();
+            summary.setId(dataset.getId());
+            summary.setName(dataset.getName());
+            summary.setType(dataset.getType());
+            summary.setDataType(dataset.getDataType());
+            summary.setSize(dataset.getSize());
+            summary.setCreatedTimestamp(dataset.getCreatedTimestamp());
+            return summary;
+        }
+    }
+
+    /**
+     * The datasets of one session and their total footprint.
+     */
+    private static final class SessionDatasets {
+        private final Map<String, StoredDataset> datasets = new LinkedHashMap<>();
+        private long bytes;
+    }
+}
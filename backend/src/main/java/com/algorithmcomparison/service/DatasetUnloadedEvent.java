@@ -0,0 +1,46 @@
+package com.algorithmcomparison.service;
+
+/**
+ * Application event published by DatasetService when a persisted dataset is
+ * spilled: its values are dropped from memory but it stays in the session
+ * and is read back from disk on next use, as a new Dataset object.
+ *
+ * Caches holding data derived from the dataset listen for it as well as for
+ * DatasetRemovedEvent, since their entries can no longer be reused and would
+ * otherwise keep the spilled values reachable.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class DatasetUnloadedEvent {
+
+    private final String sessionId;
+    private final String datasetId;
+
+    /**
+     * Creates an event for a spilled dataset.
+     *
+     * @param sessionId Session the dataset belongs to
+     * @param datasetId ID of the spilled dataset
+     */
+    public DatasetUnloadedEvent(String sessionId, String datasetId) {
+        this.sessionId = sessionId;
+        this.datasetId = datasetId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getDatasetId() {
+        return datasetId;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetUnloadedEvent{" +
+                "sessionId='" + sessionId + '\'' +
+                ", datasetId='" + datasetId + '\'' +
+                '}';
+    }
+}
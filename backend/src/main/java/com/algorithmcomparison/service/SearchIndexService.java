@@ -0,0 +1,273 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.algorithm.searching.TrieIndex;
+import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
+import com.algorithmcomparison.util.GraphConverter;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Service caching prebuilt search indexes per dataset.
+ *
+ * The kinds of index kept are:
+ * - a TrieIndex of a STRING dataset, used by Trie Search
+ * - a sorted copy of a STRING dataset, used by Binary Search
+ * - a GraphDataset per GraphType of an INTEGER dataset, used by the graph searches
+ *
+ * An index is built on first use and then reused by every query on the
+ * same dataset, so repeated lookups do not pay for construction again.
+ * Entries are keyed by dataset ID and index kind and only reused while they
+ * were built from the same Dataset object; they are dropped when the dataset
+ * is removed (DatasetRemovedEvent) or spilled to disk (DatasetUnloadedEvent),
+ * or when the cache is full (least recently used first).
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.2
+ */
+@Service
+public class SearchIndexService {
+
+    private static final String TRIE = "trie";
+    private static final String SORTED = "sorted";
+    private static final String GRAPH = "graph:";
+
+    private final int maxEntries;
+
+    // "datasetId|kind" -> cached index, in access order for LRU eviction
+    private final Map<String, CachedIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Builds in progress per dataset ID, so evict() can stop them from being cached.
+    // Guarded by the indexes lock.
+    private final Map<String, List<PendingBuild>> pendingBuilds = new HashMap<>();
+
+    /**
+     * Constructor with configuration.
+     *
+     * @param maxEntries Maximum number of cached indexes
+     */
+    public SearchIndexService(@Value("${search.index.max-entries:16}") int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Gets the Trie index for a dataset, building it on first use.
+     *
+     * @param dataset A STRING dataset
+     * @param buildMetrics Collector charged with the build if one is needed
+     * @return The index with its build time and whether it came from the cache
+     * @throws IllegalArgumentException if the dataset has no string data
+     */
+    public IndexLookup<TrieIndex> getTrieIndex(Dataset dataset, MetricsCollector buildMetrics) {
+        return getIndex(dataset, TRIE, buildMetrics,
+            (source, metrics) -> TrieIndex.build(requireStrings(source), metrics));
+    }
+
+    /**
+     * Gets an ascending sorted copy of a dataset's strings, sorting on first use.
+     * Null entries are left out. Callers must not modify the returned array.
+     *
+     * @param dataset A STRING dataset
+     * @param buildMetrics Collector charged with the sort if one is needed
+     * @return The sorted strings with their sort time and whether they came from the cache
+     * @throws IllegalArgumentException if the dataset has no string data
+     */
+    public IndexLookup<String[]> getSortedStrings(Dataset dataset, MetricsCollector buildMetrics) {
+        return getIndex(dataset, SORTED, buildMetrics, (source, metrics) -> {
+            String[] data = requireStrings(source);
+            String[] sorted = Arrays.stream(data).filter(Objects::nonNull).toArray(String[]::new);
+            metrics.recordArrayAccess(data.length);
+            Arrays.sort(sorted, (a, b) -> {
+                metrics.recordComparison(1);
+                return a.compareTo(b);
+            });
+            return sorted;
+        });
+    }
+
+    /**
+     * Gets a graph converted from a dataset, converting on first use.
+     *
+     * @param dataset An INTEGER dataset
+     * @param graphType The graph structure
+     * @param buildMetrics Collector timing the conversion if one is needed
+     * @return The graph with its conversion time and whether it came from the cache
+     * @throws IllegalArgumentException if the dataset has no integer data
+     */
+    public IndexLookup<GraphDataset> getGraph(Dataset dataset, GraphType graphType, MetricsCollector buildMetrics) {
+        return getIndex(dataset, GRAPH + graphType, buildMetrics, (source, metrics) -> {
+            if (source.getIntStorage() == null) {
+                throw new IllegalArgumentException("Graph conversion requires an INTEGER dataset: " + source.getId());
+            }
+            return GraphConverter.convert(source.getId(), source.getData(), graphType);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> IndexLookup<T> getIndex(Dataset dataset, String kind, MetricsCollector buildMetrics,
+                                        BiFunction<Dataset, MetricsCollector, T> builder) {
+        String key = dataset.getId() + "|" + kind;
+
+        PendingBuild pending = new PendingBuild();
+        synchronized (indexes) {
+            CachedIndex cached = indexes.get(key);
+            if (cached != null && cached.dataset == dataset) {
+                return new IndexLookup<>((T) cached.index, cached.buildTimeNanos, true);
+            }
+            pendingBuilds.computeIfAbsent(dataset.getId(), k -> new ArrayList<>()).add(pending);
+        }
+
+        // Build outside the lock; a concurrent build of the same dataset is harmless
+        CachedIndex built;
+        try {
+            buildMetrics.startTiming();
+            T index = builder.apply(dataset, buildMetrics);
+            buildMetrics.stopTiming();
+            built = new CachedIndex(dataset, index, buildMetrics.getExecutionTimeNanos());
+        } finally {
+            synchronized (indexes) {
+                List<PendingBuild> builds = pendingBuilds.get(dataset.getId());
+                builds.remove(pending);
+                if (builds.isEmpty()) {
+                    pendingBuilds.remove(dataset.getId());
+                }
+            }
+        }
+
+        synchronized (indexes) {
+            // A dataset removed or spilled during the build must not come back into the cache
+            if (!pending.evicted) {
+                indexes.put(key, built);
+                Iterator<String> eldest = indexes.keySet().iterator();
+                while (indexes.size() > maxEntries) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return new IndexLookup<>((T) built.index, built.buildTimeNanos, false);
+    }
+
+    private static String[] requireStrings(Dataset dataset) {
+        if (dataset.getStringData() == null) {
+            throw new IllegalArgumentException("Search index requires a STRING dataset: " + dataset.getId());
+        }
+        return dataset.getStringData();
+    }
+
+    /**
+     * Drops every cached index of a dataset. Indexes of the dataset that are
+     * still being built are returned to their caller but not cached.
+     *
+     * @param datasetId The dataset ID
+     */
+    public void evict(String datasetId) {
+        String prefix = datasetId + "|";
+        synchronized (indexes) {
+            indexes.keySet().removeIf(key -> key.startsWith(prefix));
+            List<PendingBuild> builds = pendingBuilds.get(datasetId);
+            if (builds != null) {
+                builds.forEach(build -> build.evicted = true);
+            }
+        }
+    }
+
+    /**
+     * Drops the indexes of a removed dataset.
+     *
+     * @param event The removal event
+     */
+    @EventListener
+    public void onDatasetRemoved(DatasetRemovedEvent event) {
+        evict(event.getDatasetId());
+    }
+
+    /**
+     * Drops the indexes of a spilled dataset. They were built from the Dataset
+     * object that was dropped, so they could not be reused after a reload.
+     *
+     * @param event The unload event
+     */
+    @EventListener
+    public void onDatasetUnloaded(DatasetUnloadedEvent event) {
+        evict(event.getDatasetId());
+    }
+
+    /**
+     * Gets the number of cached indexes.
+     *
+     * @return The cache size
+     */
+    public int getCachedIndexCount() {
+        synchronized (indexes) {
+            return indexes.size();
+        }
+    }
+
+    /**
+     * Result of an index lookup.
+     *
+     * @param <T> The index type
+     */
+    public static final class IndexLookup<T> {
+        private final T index;
+        private final long buildTimeNanos;
+        private final boolean cached;
+
+        private IndexLookup(T index, long buildTimeNanos, boolean cached) {
+            this.index = index;
+            this.buildTimeNanos = buildTimeNanos;
+            this.cached = cached;
+        }
+
+        public T getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the time the index took to build, even if it was built by an earlier request.
+         */
+        public long getBuildTimeNanos() {
+            return buildTimeNanos;
+        }
+
+        /**
+         * Checks whether the index was reused from the cache rather than built now.
+         */
+        public boolean isCached() {
+            return cached;
+        }
+    }
+
+    private static final class CachedIndex {
+        private final Dataset dataset;
+        private final Object index;
+        private final long buildTimeNanos;
+
+        private CachedIndex(Dataset dataset, Object index, long buildTimeNanos) {
+            this.dataset = dataset;
+            this.index = index;
+            this.buildTimeNanos = buildTimeNanos;
+        }
+    }
+
+    /**
+     * An index build in progress, marked when its dataset is evicted meanwhile.
+     */
+    private static final class PendingBuild {
+        private boolean evicted;
+    }
+}
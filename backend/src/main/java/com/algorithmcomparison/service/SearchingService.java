@@ -2,11 +2,17 @@ package com.algorithmcomparison.service;
 
 import com.algorithmcomparison.algorithm.searching.*;
 import com.algorithmcomparison.model.AlgorithmResult;
+import com.algorithmcomparison.model.BfsLevelStatistics;
 import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.IntStorage;
+import com.algorithmcomparison.model.MeasurementStatistics;
+import com.algorithmcomparison.model.StringQuery;
 import com.algorithmcomparison.util.MetricsCollector;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 /**
  * Service for executing searching algorithms and collecting results.
@@ -16,6 +22,8 @@ import java.util.*;
  * - Comparing multiple searching algorithms
  * - Factory pattern for algorithm instantiation
  * - Handling both array-based and graph-based searches
+ * - Prefix, autocomplete and range queries on STRING datasets
+ * - Reusing prebuilt indexes per STRING dataset (SearchIndexService)
  * 
  * @author Algorithm Comparison Team
  * @version 1.0
@@ -24,14 +32,17 @@ import java.util.*;
 public class SearchingService {
 
     private final DatasetService datasetService;
+    private final SearchIndexService searchIndexService;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param datasetService Service for dataset management
+     * @param searchIndexService Cache of prebuilt search indexes per dataset
      */
-    public SearchingService(DatasetService datasetService) {
+    public SearchingService(DatasetService datasetService, SearchIndexService searchIndexService) {
         this.datasetService = datasetService;
+        this.searchIndexService = searchIndexService;
     }
 
     /**
@@ -46,6 +57,28 @@ public class SearchingService {
      * @throws UnsupportedOperationException if dataset type is not INTEGER
      */
     public AlgorithmResult executeSearchingAlgorithm(String sessionId, String datasetId, String algorithmName, int target) {
+        return executeSearchingAlgorithm(sessionId, datasetId, algorithmName, target, BenchmarkRunOptions.defaults());
+    }
+
+    /**
+     * Executes a searching algorithm repeatedly for stable timing measurements.
+     * 
+     * Warmup iterations run first and are discarded. Any sorted copy or graph
+     * required by the algorithm is prepared once, outside all timed regions.
+     * Off-heap datasets are otherwise searched in place. With more
+     * than one iteration the result's execution time is the median, and the
+     * full distribution is attached as MeasurementStatistics. The options'
+     * metrics mode selects the MetricsCollector implementation.
+     * 
+     * @param sessionId Session ID for user isolation
+     * @param datasetId ID of the dataset to search
+     * @param algorithmName Name of the searching algorithm
+     * @param target Value to search for
+     * @param options Warmup/measurement iterations and metrics mode
+     * @return AlgorithmResult with performance metrics
+     */
+    public AlgorithmResult executeSearchingAlgorithm(String sessionId, String datasetId, String algorithmName, int target,
+                                                     BenchmarkRunOptions options) {
         // Get dataset
         Dataset dataset = datasetService.getDataset(sessionId, datasetId);
         if (dataset == null) {
@@ -60,7 +93,8 @@ public class SearchingService {
             );
         }
 
-        if (dataset.getData() == null) {
+        IntStorage storage = dataset.getIntStorage();
+        if (storage == null) {
             throw new IllegalStateException("Dataset has no data to search");
         }
 
@@ -70,13 +104,21 @@ public class SearchingService {
             throw new IllegalArgumentException("Unknown searching algorithm: " + algorithmName);
         }
 
+        // Graph searches reuse the dataset's converted graph
+        if (algorithm instanceof GraphSearchAlgorithm) {
+            return executeGraphSearch((GraphSearchAlgorithm) algorithm, target, dataset, options);
+        }
+
         // For binary search, verify array is sorted
         if (algorithm.requiresSortedArray()) {
-            int[] dataCopy = Arrays.copyOf(dataset.getData(), dataset.getData().length);
+            int[] dataCopy = storage.toArray();
             Arrays.sort(dataCopy);
-            return executeSearch(algorithm, dataCopy, target, dataset);
+            return executeSearch(algorithm, dataCopy, target, dataset, options);
+        } else if (storage.getKind() != IntStorage.Kind.HEAP) {
+            // Read off-heap data in place through the storage accessor
+            return measureSearch(algorithm, dataset, options, metrics -> algorithm.search(storage, target, metrics));
         } else {
-            return executeSearch(algorithm, dataset.getData(), target, dataset);
+            return executeSearch(algorithm, dataset.getData(), target, dataset, options);
         }
     }
 
@@ -87,34 +129,52 @@ public class SearchingService {
      * @param data The data to search
      * @param target The target value
      * @param dataset The original dataset
+     * @param options Warmup/measurement iterations and metrics mode
      * @return AlgorithmResult with metrics
      */
     private AlgorithmResult executeSearch(SearchingAlgorithm algorithm, int[] data, 
-                                         int target, Dataset dataset) {
-        // Create metrics collector
-        MetricsCollector metrics = new MetricsCollector();
-
-        // Execute algorithm with timing
-        metrics.startTiming();
-        int resultIndex = algorithm.search(data, target, metrics);
-        metrics.stopTiming();
+                                         int target, Dataset dataset,
+                                         BenchmarkRunOptions options) {
+        return measureSearch(algorithm, dataset, options, metrics -> algorithm.search(data, target, metrics));
+    }
 
-        // Build and return result
-        AlgorithmResult result = new AlgorithmResult.Builder()
-                .algorithmName(algorithm.getName())
-                .datasetId(dataset.getId())
-                .datasetName(dataset.getName())
-                .datasetSize(dataset.getSize())
-                .executionTimeNanos(metrics.getExecutionTimeNanos())
-                .comparisonCount(metrics.getComparisonCount())
-                .arrayAccessCount(metrics.getArrayAccessCount())
-                .foundTarget(resultIndex != -1)
-                .targetIndex(resultIndex != -1 ? resultIndex : null)
-                .nodesVisited(metrics.getArrayAccessCount()) // For graph searches
-                .complexity(algorithm.getTimeComplexity())
-                .resultType("SEARCH")
-                .build();
-        
+    /**
+     * Helper method to run a graph search against the dataset's converted graph.
+     * 
+     * The graph is converted on first use (or reused) outside the timed region.
+     * Its conversion time is reported as the index build time, so the execution
+     * time covers only the traversal. Parallel BFS also reports its per-level
+     * frontier statistics.
+     * 
+     * @param algorithm The graph search algorithm
+     * @param target The target value
+     * @param dataset The INTEGER dataset
+     * @param options Warmup/measurement iterations and metrics mode
+     * @return AlgorithmResult with traversal metrics and graph construction time
+     */
+    private AlgorithmResult executeGraphSearch(GraphSearchAlgorithm algorithm, int target, Dataset dataset,
+                                               BenchmarkRunOptions options) {
+        SearchIndexService.IndexLookup<GraphDataset> lookup =
+            searchIndexService.getGraph(dataset, algorithm.getGraphType(), options.newMetricsCollector());
+        GraphDataset graph = lookup.getIndex();
+
+        AlgorithmResult result;
+        if (algorithm instanceof ParallelBreadthFirstSearch) {
+            // Keep the level statistics of the last measured run
+            ParallelBreadthFirstSearch parallelBfs = (ParallelBreadthFirstSearch) algorithm;
+            int[] sources = {graph.getRoot()};
+            List<BfsLevelStatistics> levels = new ArrayList<>();
+            result = measureSearch(algorithm, dataset, options, metrics -> {
+                levels.clear();
+                return parallelBfs.search(graph, sources, target, metrics, levels);
+            });
+            result.setLevelStatistics(levels);
+        } else {
+            result = measureSearch(algorithm, dataset, options,
+                metrics -> algorithm.search(graph, target, metrics));
+        }
+        result.setIndexBuildTimeNanos(lookup.getBuildTimeNanos());
+        result.setIndexCached(lookup.isCached());
         return result;
     }
 
@@ -130,6 +190,22 @@ public class SearchingService {
      * @throws UnsupportedOperationException if algorithm doesn't support STRING datasets
      */
     public AlgorithmResult executeSearchingAlgorithm(String sessionId, String datasetId, String algorithmName, String target) {
+        return executeSearchingAlgorithm(sessionId, datasetId, algorithmName, target, BenchmarkRunOptions.defaults());
+    }
+
+    /**
+     * Executes a searching algorithm on a STRING dataset repeatedly for stable
+     * timing measurements. See the INTEGER variant for details.
+     * 
+     * @param sessionId Session ID for user isolation
+     * @param datasetId ID of the dataset to search
+     * @param algorithmName Name of the searching algorithm
+     * @param target String value to search for
+     * @param options Warmup/measurement iterations and metrics mode
+     * @return AlgorithmResult with performance metrics
+     */
+    public AlgorithmResult executeSearchingAlgorithm(String sessionId, String datasetId, String algorithmName, String target,
+                                                     BenchmarkRunOptions options) {
         // Get dataset
         Dataset dataset = datasetService.getDataset(sessionId, datasetId);
         if (dataset == null) {
@@ -162,13 +238,18 @@ public class SearchingService {
             throw new IllegalArgumentException("Unknown searching algorithm: " + algorithmName);
         }
 
+        // Trie Search reuses the dataset's prebuilt index
+        if (algorithm instanceof TrieSearch) {
+            return executeIndexedTrieSearch((TrieSearch) algorithm, target, dataset, options);
+        }
+
         // For binary search, verify array is sorted
         if (algorithm.requiresSortedArray()) {
             String[] dataCopy = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
             Arrays.sort(dataCopy);
-            return executeSearch(algorithm, dataCopy, target, dataset);
+            return executeSearch(algorithm, dataCopy, target, dataset, options);
         } else {
-            return executeSearch(algorithm, dataset.getStringData(), target, dataset);
+            return executeSearch(algorithm, dataset.getStringData(), target, dataset, options);
         }
     }
 
@@ -179,17 +260,68 @@ public class SearchingService {
      * @param data The string data to search
      * @param target The target string value
      * @param dataset The original dataset
+     * @param options Warmup/measurement iterations and metrics mode
      * @return AlgorithmResult with metrics
      */
     private AlgorithmResult executeSearch(SearchingAlgorithm algorithm, String[] data, 
-                                         String target, Dataset dataset) {
-        // Create metrics collector
-        MetricsCollector metrics = new MetricsCollector();
+                                         String target, Dataset dataset,
+                                         BenchmarkRunOptions options) {
+        return measureSearch(algorithm, dataset, options, metrics -> algorithm.search(data, target, metrics));
+    }
 
-        // Execute algorithm with timing
-        metrics.startTiming();
-        int resultIndex = algorithm.search(data, target, metrics);
-        metrics.stopTiming();
+    /**
+     * Helper method to run Trie Search against the dataset's prebuilt index.
+     * 
+     * The index is built on first use (or reused) outside the timed region.
+     * Its build time is reported separately, so the execution time covers
+     * only the O(m) lookup.
+     * 
+     * @param algorithm The Trie Search algorithm
+     * @param target The target string value
+     * @param dataset The STRING dataset
+     * @param options Warmup/measurement iterations and metrics mode
+     * @return AlgorithmResult with lookup metrics and index build time
+     */
+    private AlgorithmResult executeIndexedTrieSearch(TrieSearch algorithm, String target, Dataset dataset,
+                                                     BenchmarkRunOptions options) {
+        SearchIndexService.IndexLookup<TrieIndex> lookup =
+            searchIndexService.getTrieIndex(dataset, options.newMetricsCollector());
+        TrieIndex index = lookup.getIndex();
+
+        AlgorithmResult result = measureSearch(algorithm, dataset, options,
+            metrics -> algorithm.search(index, target, metrics));
+        result.setIndexBuildTimeNanos(lookup.getBuildTimeNanos());
+        result.setIndexCached(lookup.isCached());
+        return result;
+    }
+
+    /**
+     * Helper method to run a search with warmup and measured iterations and collect metrics.
+     * Searches do not modify the data, so every iteration reuses it.
+     * 
+     * @param algorithm The searching algorithm (for name and complexity)
+     * @param dataset The original dataset
+     * @param options Warmup/measurement iterations and metrics mode
+     * @param search Runs one search with the given collector and returns the found index
+     * @return AlgorithmResult with metrics
+     */
+    private AlgorithmResult measureSearch(SearchingAlgorithm algorithm, Dataset dataset,
+                                          BenchmarkRunOptions options, ToIntFunction<MetricsCollector> search) {
+        int warmupIterations = options.getWarmupIterations();
+        for (int i = 0; i < warmupIterations; i++) {
+            search.applyAsInt(options.newMetricsCollector());
+        }
+
+        long[] samplesNanos = new long[Math.max(1, options.getMeasurementIterations())];
+        MetricsCollector metrics = null;
+        int resultIndex = -1;
+        for (int i = 0; i < samplesNanos.length; i++) {
+            metrics = options.newMetricsCollector();
+            metrics.startTiming();
+            resultIndex = search.applyAsInt(metrics);
+            metrics.stopTiming();
+            samplesNanos[i] = metrics.getExecutionTimeNanos();
+        }
 
         // Build and return result
         AlgorithmResult result = new AlgorithmResult.Builder()
@@ -200,16 +332,172 @@ public class SearchingService {
                 .executionTimeNanos(metrics.getExecutionTimeNanos())
                 .comparisonCount(metrics.getComparisonCount())
                 .arrayAccessCount(metrics.getArrayAccessCount())
+                .metricsMode(metrics.getMode().name())
                 .foundTarget(resultIndex != -1)
                 .targetIndex(resultIndex != -1 ? resultIndex : null)
-                .nodesVisited(metrics.getArrayAccessCount())
+                .nodesVisited(metrics.getArrayAccessCount()) // For graph searches
                 .complexity(algorithm.getTimeComplexity())
                 .resultType("SEARCH")
                 .build();
         
+        if (warmupIterations > 0 || samplesNanos.length > 1) {
+            attachMeasurement(result, samplesNanos, warmupIterations);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a prefix, autocomplete or range query on a STRING dataset.
+     * 
+     * Trie Search answers from the dataset's TrieIndex and Binary Search
+     * from a sorted copy of its strings. Both indexes are built on first use
+     * and cached; their build time is reported separately from the query time.
+     * 
+     * @param sessionId Session ID for user isolation
+     * @param datasetId ID of the STRING dataset
+     * @param algorithmName "Trie Search" or "Binary Search"
+     * @param query The query
+     * @param options Warmup/measurement iterations and metrics mode
+     * @return AlgorithmResult with the matches, match count and metrics
+     * @throws IllegalArgumentException if dataset not found or algorithm unknown
+     * @throws UnsupportedOperationException if the dataset is not STRING or the
+     *         algorithm does not support these queries
+     */
+    public AlgorithmResult executeStringQuery(String sessionId, String datasetId, String algorithmName,
+                                              StringQuery query, BenchmarkRunOptions options) {
+        Dataset dataset = getQueryableDataset(sessionId, datasetId);
+
+        SearchingAlgorithm algorithm = createSearchingAlgorithm(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Unknown searching algorithm: " + algorithmName);
+        }
+
+        MetricsCollector buildMetrics = options.newMetricsCollector();
+        if (algorithm instanceof TrieSearch) {
+            return executeStringQuery((TrieSearch) algorithm,
+                searchIndexService.getTrieIndex(dataset, buildMetrics), query, dataset, options);
+        }
+        if (algorithm instanceof BinarySearch) {
+            return executeStringQuery((BinarySearch) algorithm,
+                searchIndexService.getSortedStrings(dataset, buildMetrics), query, dataset, options);
+        }
+        throw new UnsupportedOperationException(
+            algorithm.getName() + " does not support prefix, autocomplete or range queries. " +
+            "Please use Trie Search or Binary Search.");
+    }
+
+    /**
+     * Runs the same STRING query with several algorithms on one dataset.
+     * 
+     * @param sessionId Session ID for user isolation
+     * @param datasetId ID of the STRING dataset
+     * @param algorithmNames List of algorithm names to compare
+     * @param query The query
+     * @return List of AlgorithmResults, one for each algorithm that supports the query
+     */
+    public List<AlgorithmResult> compareStringQuery(String sessionId, String datasetId, List<String> algorithmNames,
+                                                    StringQuery query) {
+        getQueryableDataset(sessionId, datasetId); // Fail fast instead of once per algorithm
+        List<AlgorithmResult> results = new ArrayList<>();
+
+        for (String algorithmName : algorithmNames) {
+            try {
+                results.add(executeStringQuery(sessionId, datasetId, algorithmName, query,
+                    BenchmarkRunOptions.defaults()));
+            } catch (Exception e) {
+                System.err.println("Error executing " + algorithmName + ": " + e.getMessage());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Gets a dataset that supports STRING queries.
+     */
+    private Dataset getQueryableDataset(String sessionId, String datasetId) {
+        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
+        if (dataset == null) {
+            throw new IllegalArgumentException("Dataset not found: " + datasetId);
+        }
+        if (!"STRING".equals(dataset.getDataType()) || dataset.getStringData() == null) {
+            throw new UnsupportedOperationException(
+                "Prefix, autocomplete and range queries require a STRING dataset. " +
+                "Dataset '" + dataset.getName() + "' is of type " + dataset.getDataType() + ".");
+        }
+        return dataset;
+    }
+
+    /**
+     * Helper method to run a STRING query against a prebuilt index with
+     * warmup and measured iterations and collect metrics.
+     */
+    private <I, A extends SearchingAlgorithm & StringQueryAlgorithm<I>> AlgorithmResult executeStringQuery(
+            A algorithm, SearchIndexService.IndexLookup<I> lookup, StringQuery query, Dataset dataset,
+            BenchmarkRunOptions options) {
+        I index = lookup.getIndex();
+
+        int warmupIterations = options.getWarmupIterations();
+        for (int i = 0; i < warmupIterations; i++) {
+            runQuery(algorithm, index, query, options.newMetricsCollector());
+        }
+
+        long[] samplesNanos = new long[Math.max(1, options.getMeasurementIterations())];
+        MetricsCollector metrics = null;
+        StringQueryOutcome outcome = null;
+        for (int i = 0; i < samplesNanos.length; i++) {
+            metrics = options.newMetricsCollector();
+            metrics.startTiming();
+            outcome = runQuery(algorithm, index, query, metrics);
+            metrics.stopTiming();
+            samplesNanos[i] = metrics.getExecutionTimeNanos();
+        }
+
+        AlgorithmResult result = new AlgorithmResult.Builder()
+                .algorithmName(algorithm.getName())
+                .datasetId(dataset.getId())
+                .datasetName(dataset.getName())
+                .datasetSize(dataset.getSize())
+                .executionTimeNanos(metrics.getExecutionTimeNanos())
+                .comparisonCount(metrics.getComparisonCount())
+                .arrayAccessCount(metrics.getArrayAccessCount())
+                .metricsMode(metrics.getMode().name())
+                .foundTarget(outcome.getMatchCount() > 0)
+                .matchCount(outcome.getMatchCount())
+                .matches(outcome.getMatches())
+                .complexity(algorithm.getQueryComplexity(query.getType()))
+                .resultType(query.getType().name())
+                .indexBuildTimeNanos(lookup.getBuildTimeNanos())
+                .indexCached(lookup.isCached())
+                .build();
+
+        if (warmupIterations > 0 || samplesNanos.length > 1) {
+            attachMeasurement(result, samplesNanos, warmupIterations);
+        }
         return result;
     }
 
+    private static <I> StringQueryOutcome runQuery(StringQueryAlgorithm<I> algorithm, I index, StringQuery query,
+                                                   MetricsCollector metrics) {
+        switch (query.getType()) {
+            case PREFIX:
+                return algorithm.findByPrefix(index, query.getPrefix(), query.getLimit(), metrics);
+            case AUTOCOMPLETE:
+                return algorithm.autocomplete(index, query.getPrefix(), query.getLimit(), metrics);
+            default:
+                return algorithm.countRange(index, query.getFrom(), query.getTo(), metrics);
+        }
+    }
+
+    /**
+     * Attaches multi-iteration statistics and reports the median as the execution time.
+     */
+    private void attachMeasurement(AlgorithmResult result, long[] samplesNanos, int warmupIterations) {
+        MeasurementStatistics measurement = MeasurementStatistics.fromSamples(samplesNanos, warmupIterations);
+        result.setMeasurement(measurement);
+        result.setExecutionTimeNanos(Math.round(measurement.getMedianTimeMillis() * 1_000_000.0));
+    }
+
     /**
      * Compares multiple searching algorithms on a single dataset.
      * 
@@ -329,13 +617,14 @@ public class SearchingService {
             );
         }
 
-        if (dataset.getData() == null || dataset.getData().length == 0) {
+        IntStorage storage = dataset.getIntStorage();
+        if (storage == null || storage.length() == 0) {
             return 0;
         }
 
         // Select middle element as target
-        int middleIndex = dataset.getData().length / 2;
-        return dataset.getData()[middleIndex];
+        int middleIndex = storage.length() / 2;
+        return storage.get(middleIndex);
     }
 
     /**
@@ -348,7 +637,8 @@ public class SearchingService {
             "Linear Search",
             "Binary Search",
             "Depth First Search",
-            "Breadth First Search"
+            "Breadth First Search",
+            "Parallel BFS"
         );
     }
 
@@ -359,7 +649,7 @@ public class SearchingService {
      * @param algorithmName Name of the algorithm
      * @return SearchingAlgorithm instance, or null if unknown
      */
-    private SearchingAlgorithm createSearchingAlgorithm(String algorithmName) {
+    public static SearchingAlgorithm createSearchingAlgorithm(String algorithmName) {
         switch (algorithmName.toLowerCase().replace(" ", "")) {
             case "linearsearch":
                 return new LinearSearch();
@@ -373,6 +663,9 @@ public class SearchingService {
             case "breadthfirstsearch":
             case "bfs":
                 return new BreadthFirstSearch();
+            case "parallelbfs":
+            case "parallelbreadthfirstsearch":
+                return new ParallelBreadthFirstSearch();
             default:
                 return null;
         }
@@ -400,7 +693,9 @@ public class SearchingService {
         return normalized.equals("depthfirstsearch") || 
                normalized.equals("dfs") ||
                normalized.equals("breadthfirstsearch") ||
-               normalized.equals("bfs");
+               normalized.equals("bfs") ||
+               normalized.equals("parallelbfs") ||
+               normalized.equals("parallelbreadthfirstsearch");
     }
 }
 
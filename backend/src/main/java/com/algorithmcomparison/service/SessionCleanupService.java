@@ -1,5 +1,8 @@
 package com.algorithmcomparison.service;
 
+import com.algorithmcomparison.model.DatasetStoreStatistics;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -8,26 +11,54 @@ import org.slf4j.LoggerFactory;
 /**
  * Service for cleaning up expired session data.
  * 
- * Runs periodically to monitor and cleanup session data.
- * Provides logging and statistics for memory management.
+ * Registered as an HttpSessionListener, so when an HTTP session expires or
+ * is invalidated its datasets, reports, jobs and visualizations are
+ * released. Also logs statistics periodically for memory management.
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.1
  */
 @Service
-public class SessionCleanupService {
+public class SessionCleanupService implements HttpSessionListener {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionCleanupService.class);
 
     private final DatasetService datasetService;
+    private final BenchmarkService benchmarkService;
+    private final BenchmarkJobService benchmarkJobService;
+    private final VisualizationService visualizationService;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param datasetService Service for dataset management
+     * @param benchmarkService Service holding benchmark reports
+     * @param benchmarkJobService Service holding background benchmark jobs
+     * @param visualizationService Service holding cached step logs
      */
-    public SessionCleanupService(DatasetService datasetService) {
+    public SessionCleanupService(DatasetService datasetService,
+                                 BenchmarkService benchmarkService,
+                                 BenchmarkJobService benchmarkJobService,
+                                 VisualizationService visualizationService) {
         this.datasetService = datasetService;
+        this.benchmarkService = benchmarkService;
+        this.benchmarkJobService = benchmarkJobService;
+        this.visualizationService = visualizationService;
+    }
+
+    /**
+     * Releases everything stored for a session when it ends.
+     * 
+     * @param event The session event
+     */
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        String sessionId = event.getSession().getId();
+        logger.debug("Session {} ended - clearing its data", sessionId);
+        datasetService.clearSessionDatasets(sessionId);
+        benchmarkService.clearSessionReports(sessionId);
+        benchmarkJobService.clearSessionJobs(sessionId);
+        visualizationService.clearSessionVisualizations(sessionId);
     }
 
     /**
@@ -36,16 +67,22 @@ public class SessionCleanupService {
      */
     @Scheduled(fixedRate = 600000) // Every 10 minutes
     public void logSessionStatistics() {
-        int activeSessions = datasetService.getActiveSessionCount();
-        int totalDatasets = datasetService.getTotalDatasetCount();
+        DatasetStoreStatistics statistics = visualizationService.addStepLogStatistics(datasetService.getStoreStatistics());
         
-        logger.info("Session Statistics - Active Sessions: {}, Total Datasets: {}", 
-                   activeSessions, totalDatasets);
+        logger.info("Session Statistics - Active Sessions: {}, Total Datasets: {}, Dataset Memory: {} KB of {} KB",
+                   statistics.getActiveSessions(), statistics.getDatasetCount(),
+                   statistics.getUsedBytes() / 1024, statistics.getMaxBytes() / 1024);
+        logger.info("Dataset Evictions - Session Budget: {}, Global Budget: {}, Idle: {}, Expired Sessions: {}",
+                   statistics.getSessionBudgetEvictions(), statistics.getGlobalBudgetEvictions(),
+                   statistics.getIdleEvictions(), statistics.getExpiredSessions());
+        logger.info("Visualization Step Logs: {}, Memory: {} KB of {} KB, Evictions: {}",
+                   statistics.getStepLogCount(), statistics.getStepLogBytes() / 1024,
+                   statistics.getMaxStepLogBytes() / 1024, statistics.getStepLogEvictions());
         
         // Log warning if memory usage is high
-        if (totalDatasets > 1000) {
-            logger.warn("High dataset count detected: {}. Consider session timeout adjustment.", 
-                       totalDatasets);
+        if (statistics.getGlobalBudgetEvictions() > 0) {
+            logger.warn("Datasets have been evicted to stay within dataset.store.max-bytes. "
+                       + "Consider raising it or the heap size.");
         }
     }
 
@@ -59,4 +96,3 @@ public class SessionCleanupService {
         logger.info("All sessions cleared successfully");
     }
 }
-
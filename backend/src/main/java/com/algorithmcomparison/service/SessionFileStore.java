@@ -0,0 +1,551 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.BenchmarkReport;
+import com.algorithmcomparison.model.BufferIntStorage;
+import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.model.HeapIntStorage;
+import com.algorithmcomparison.model.IntStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * File store that keeps datasets and benchmark reports across restarts.
+ *
+ * Layout under persistence.directory:
+ * - index.bin: one record per stored dataset or report, holding its
+ *   session and metadata. Startup reads only this file.
+ * - datasets/{id}.bin: the values of a dataset
+ * - reports/{id}.bin: a benchmark report
+ *
+ * Dataset files start with a 16-byte header (magic, format version, data
+ * type, element count), all little-endian like the rest of the file.
+ * INTEGER values follow as ints, so a MAPPED dataset is loaded by mapping
+ * the file in place; STRING values follow as length-prefixed UTF-8.
+ * Reports are gzip-compressed JSON, which keeps them readable as
+ * AlgorithmResult gains fields.
+ *
+ * Files are written to a temporary name and moved into place, so a crash
+ * never leaves a half-written file behind a valid index record. Records
+ * saved longer than persistence.retention-ms ago (for example those of
+ * sessions that ended while the server was down) are deleted at startup.
+ *
+ * The store is disabled when persistence.directory is empty; every method
+ * is then a no-op.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+@Service
+public class SessionFileStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionFileStore.class);
+
+    private static final int INDEX_MAGIC = 0x41434958; // "ACIX"
+    private static final int DATASET_MAGIC = 0x41434453; // "ACDS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int DATASET_HEADER_BYTES = 16;
+    private static final int CHUNK_SIZE = 1 << 16; // Values copied per I/O call
+    private static final byte DATASET_RECORD = 'D';
+    private static final byte REPORT_RECORD = 'R';
+
+    private final ObjectMapper objectMapper;
+    private final Path directory; // null when persistence is disabled
+
+    // Every stored dataset and report by ID, guarded by this
+    private final Map<String, IndexRecord> index = new LinkedHashMap<>();
+
+    /**
+     * Constructor with dependency injection. Reads the index and deletes
+     * records older than the retention period.
+     *
+     * @param objectMapper Mapper for report files
+     * @param directory Directory for the store (empty = disabled)
+     * @param retentionMillis Records saved longer ago are deleted at startup (0 or negative = kept forever)
+     * @throws IllegalStateException if the directory cannot be created
+     */
+    public SessionFileStore(ObjectMapper objectMapper,
+                            @Value("${persistence.directory:}") String directory,
+                            @Value("${persistence.retention-ms:604800000}") long retentionMillis) {
+        this.objectMapper = objectMapper;
+        if (directory.isBlank()) {
+            this.directory = null;
+            return;
+        }
+        this.directory = Paths.get(directory).toAbsolutePath();
+        try {
+            Files.createDirectories(this.directory.resolve("datasets"));
+            Files.createDirectories(this.directory.resolve("reports"));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create persistence directory: " + e.getMessage(), e);
+        }
+        loadIndex(retentionMillis);
+    }
+
+    /**
+     * Checks whether data is persisted.
+     *
+     * @return true if a persistence directory is configured
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    // Datasets
+
+    /**
+     * Writes a dataset's values and adds it to the index.
+     *
+     * @param sessionId The owning session
+     * @param dataset The dataset
+     * @throws IOException if the file cannot be written
+     */
+    public void saveDataset(String sessionId, Dataset dataset) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = datasetFile(dataset.getId());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        if ("STRING".equals(dataset.getDataType())) {
+            writeStrings(temporary, dataset.getStringData());
+        } else {
+            writeInts(temporary, dataset.getIntStorage());
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        IndexRecord record = new IndexRecord(DATASET_RECORD, dataset.getId(), sessionId, System.currentTimeMillis());
+        record.name = Objects.toString(dataset.getName(), "");
+        record.type = Objects.toString(dataset.getType(), "");
+        record.dataType = Objects.toString(dataset.getDataType(), "INTEGER");
+        record.storageKind = dataset.getStorageKind();
+        record.size = dataset.getSize();
+        record.createdTimestamp = dataset.getCreatedTimestamp();
+        putRecord(record);
+    }
+
+    /**
+     * Reads a dataset back. INTEGER values return to the storage kind they
+     * were saved from; MAPPED values are mapped from the store file.
+     *
+     * @param datasetId The dataset ID
+     * @return The dataset, or null if it is not stored
+     * @throws IOException if the file cannot be read
+     */
+    public Dataset loadDataset(String datasetId) throws IOException {
+        IndexRecord record;
+        synchronized (this) {
+            record = index.get(datasetId);
+        }
+        if (record == null || record.kind != DATASET_RECORD) {
+            return null;
+        }
+        Path file = datasetFile(datasetId);
+        Dataset dataset = describe(record);
+        if ("STRING".equals(record.dataType)) {
+            dataset.setStringData(readStrings(file, record.size));
+        } else {
+            dataset.setIntStorage(readInts(file, record.size, IntStorage.Kind.valueOf(record.storageKind)));
+        }
+        return dataset;
+    }
+
+    /**
+     * Gets the metadata of every stored dataset, without values.
+     *
+     * @return sessionId -> datasets of that session, in the order they were saved
+     */
+    public synchronized Map<String, List<Dataset>> describeDatasets() {
+        Map<String, List<Dataset>> datasets = new LinkedHashMap<>();
+        for (IndexRecord record : index.values()) {
+            if (record.kind == DATASET_RECORD) {
+                datasets.computeIfAbsent(record.sessionId, k -> new ArrayList<>()).add(describe(record));
+            }
+        }
+        return datasets;
+    }
+
+    // Reports
+
+    /**
+     * Writes a benchmark report and adds it to the index.
+     *
+     * @param sessionId The owning session
+     * @param report The report
+     * @throws IOException if the file cannot be written
+     */
+    public void saveReport(String sessionId, BenchmarkReport report) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = reportFile(report.getId());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            objectMapper.writeValue(out, report);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        putRecord(new IndexRecord(REPORT_RECORD, report.getId(), sessionId, System.currentTimeMillis()));
+    }
+
+    /**
+     * Reads a benchmark report back.
+     *
+     * @param reportId The report ID
+     * @return The report, or null if it is not stored
+     * @throws IOException if the file cannot be read
+     */
+    public BenchmarkReport loadReport(String reportId) throws IOException {
+        synchronized (this) {
+            IndexRecord record = index.get(reportId);
+            if (record == null || record.kind != REPORT_RECORD) {
+                return null;
+            }
+        }
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(reportFile(reportId))))) {
+            return objectMapper.readValue(in, BenchmarkReport.class);
+        }
+    }
+
+    /**
+     * Gets the IDs of every stored report.
+     *
+     * @return sessionId -> report IDs of that session, in the order they were saved
+     */
+    public synchronized Map<String, List<String>> listReports() {
+        Map<String, List<String>> reports = new LinkedHashMap<>();
+        for (IndexRecord record : index.values()) {
+            if (record.kind == REPORT_RECORD) {
+                reports.computeIfAbsent(record.sessionId, k -> new ArrayList<>()).add(record.id);
+            }
+        }
+        return reports;
+    }
+
+    // Removal
+
+    /**
+     * Deletes stored datasets or reports. Unknown IDs are ignored.
+     *
+     * @param ids Dataset or report IDs
+     */
+    public void delete(Collection<String> ids) {
+        if (!isEnabled() || ids.isEmpty()) {
+            return;
+        }
+        List<IndexRecord> removed = new ArrayList<>();
+        synchronized (this) {
+            for (String id : ids) {
+                IndexRecord record = index.remove(id);
+                if (record != null) {
+                    removed.add(record);
+                }
+            }
+            if (removed.isEmpty()) {
+                return;
+            }
+            writeIndex();
+        }
+        for (IndexRecord record : removed) {
+            deleteFile(fileOf(record));
+        }
+    }
+
+    // Index
+
+    private synchronized void putRecord(IndexRecord record) throws IOException {
+        index.put(record.id, record);
+        try {
+            writeIndexOrThrow();
+        } catch (IOException e) {
+            index.remove(record.id);
+            deleteFile(fileOf(record));
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites the index, logging instead of failing: a stale index only
+     * lists files that may no longer exist, which loadIndex drops.
+     */
+    private void writeIndex() {
+        try {
+            writeIndexOrThrow();
+        } catch (IOException e) {
+            logger.warn("Could not write persistence index: {}", e.getMessage());
+        }
+    }
+
+    private void writeIndexOrThrow() throws IOException {
+        Path file = directory.resolve("index.bin");
+        Path temporary = directory.resolve("index.bin.tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(index.size());
+            for (IndexRecord record : index.values()) {
+                record.write(out);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void loadIndex(long retentionMillis) {
+        Path file = directory.resolve("index.bin");
+        if (!Files.exists(file)) {
+            return;
+        }
+        long cutoff = retentionMillis > 0 ? System.currentTimeMillis() - retentionMillis : Long.MIN_VALUE;
+        List<IndexRecord> expired = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.warn("Ignoring persistence index {}: unknown format", file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                IndexRecord record = IndexRecord.read(in);
+                if (record.savedMillis < cutoff) {
+                    expired.add(record);
+                } else if (Files.exists(fileOf(record))) {
+                    index.put(record.id, record);
+                }
+            }
+        } catch (EOFException e) {
+            logger.warn("Persistence index {} is truncated; keeping {} records", file, index.size());
+        } catch (IOException e) {
+            logger.warn("Could not read persistence index {}: {}", file, e.getMessage());
+        }
+        for (IndexRecord record : expired) {
+            deleteFile(fileOf(record));
+        }
+        if (!expired.isEmpty()) {
+            writeIndex();
+        }
+        logger.info("Persistence index loaded: {} records, {} expired", index.size(), expired.size());
+    }
+
+    // Files
+
+    private void writeInts(Path file, IntStorage storage) throws IOException {
+        int length = storage.length();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(DATASET_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(DATASET_MAGIC).putInt(FORMAT_VERSION).putInt(0).putInt(length).flip();
+            writeFully(channel, header);
+
+            ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_SIZE * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int[] chunk = new int[Math.min(CHUNK_SIZE, length)];
+            for (int start = 0; start < length; start += CHUNK_SIZE) {
+                int count = Math.min(CHUNK_SIZE, length - start);
+                storage.copyTo(start, chunk, 0, count);
+                bytes.clear();
+                bytes.asIntBuffer().put(chunk, 0, count);
+                bytes.limit(count * Integer.BYTES);
+                writeFully(channel, bytes);
+            }
+        }
+    }
+
+    private IntStorage readInts(Path file, int length, IntStorage.Kind kind) throws IOException {
+        if (kind == IntStorage.Kind.MAPPED) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                checkHeader(channel, file, 0, length);
+            }
+            return BufferIntStorage.map(file, DATASET_HEADER_BYTES, length, ByteOrder.LITTLE_ENDIAN);
+        }
+        int[] heap = kind == IntStorage.Kind.HEAP ? new int[length] : null;
+        BufferIntStorage.Builder direct = kind == IntStorage.Kind.DIRECT ? BufferIntStorage.direct(length) : null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            checkHeader(channel, file, 0, length);
+            ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_SIZE * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int[] chunk = heap != null ? null : new int[Math.min(CHUNK_SIZE, length)];
+            for (int start = 0; start < length; start += CHUNK_SIZE) {
+                int count = Math.min(CHUNK_SIZE, length - start);
+                bytes.clear().limit(count * Integer.BYTES);
+                readFully(channel, bytes, file);
+                bytes.flip();
+                if (heap != null) {
+                    bytes.asIntBuffer().get(heap, start, count);
+                } else {
+                    bytes.asIntBuffer().get(chunk, 0, count);
+                    direct.put(chunk, 0, count);
+                }
+            }
+        }
+        return heap != null ? new HeapIntStorage(heap) : direct.build();
+    }
+
+    private void writeStrings(Path file, String[] values) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(Integer.reverseBytes(DATASET_MAGIC));
+            out.writeInt(Integer.reverseBytes(FORMAT_VERSION));
+            out.writeInt(Integer.reverseBytes(1));
+            out.writeInt(Integer.reverseBytes(values.length));
+            for (String value : values) {
+                if (value == null) {
+                    out.writeInt(Integer.reverseBytes(-1));
+                } else {
+                    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(Integer.reverseBytes(utf8.length));
+                    out.write(utf8);
+                }
+            }
+        }
+    }
+
+    private String[] readStrings(Path file, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            checkHeader(channel, file, 1, length);
+        }
+        String[] values = new String[length];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            in.skipNBytes(DATASET_HEADER_BYTES);
+            for (int i = 0; i < length; i++) {
+                int byteLength = Integer.reverseBytes(in.readInt());
+                if (byteLength >= 0) {
+                    byte[] utf8 = in.readNBytes(byteLength);
+                    if (utf8.length != byteLength) {
+                        throw new EOFException(file + " is truncated");
+                    }
+                    values[i] = new String(utf8, StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void checkHeader(FileChannel channel, Path file, int dataType, int length) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(DATASET_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, file);
+        header.flip();
+        if (header.getInt() != DATASET_MAGIC || header.getInt() != FORMAT_VERSION
+                || header.getInt() != dataType || header.getInt() != length) {
+            throw new IOException(file + " does not match its index record");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer bytes, Path file) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException(file + " is truncated");
+            }
+        }
+    }
+
+    private Path datasetFile(String datasetId) {
+        return directory.resolve("datasets").resolve(datasetId + ".bin");
+    }
+
+    private Path reportFile(String reportId) {
+        return directory.resolve("reports").resolve(reportId + ".bin");
+    }
+
+    private Path fileOf(IndexRecord record) {
+        return record.kind == DATASET_RECORD ? datasetFile(record.id) : reportFile(record.id);
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a dataset holding only the metadata of an index record.
+     */
+    private static Dataset describe(IndexRecord record) {
+        Dataset dataset = new Dataset();
+        dataset.setId(record.id);
+        dataset.setName(record.name);
+        dataset.setType(record.type);
+        dataset.setDataType(record.dataType);
+        dataset.setSize(record.size);
+        dataset.setCreatedTimestamp(record.createdTimestamp);
+        return dataset;
+    }
+
+    /**
+     * One entry of index.bin. Dataset records also carry the dataset's
+     * metadata, so datasets can be listed without reading their files.
+     */
+    private static final class IndexRecord {
+        private final byte kind;
+        private final String id;
+        private final String sessionId;
+        private final long savedMillis;
+        private String name = "";
+        private String type = "";
+        private String dataType = "";
+        private String storageKind = "";
+        private int size;
+        private long createdTimestamp;
+
+        private IndexRecord(byte kind, String id, String sessionId, long savedMillis) {
+            this.kind = kind;
+            this.id = id;
+            this.sessionId = sessionId;
+            this.savedMillis = savedMillis;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeByte(kind);
+            out.writeUTF(id);
+            out.writeUTF(sessionId);
+            out.writeLong(savedMillis);
+            if (kind == DATASET_RECORD) {
+                out.writeUTF(name);
+                out.writeUTF(type);
+                out.writeUTF(dataType);
+                out.writeUTF(storageKind);
+                out.writeInt(size);
+                out.writeLong(createdTimestamp);
+            }
+        }
+
+        private static IndexRecord read(DataInputStream in) throws IOException {
+            IndexRecord record = new IndexRecord(in.readByte(), in.readUTF(), in.readUTF(), in.readLong());
+            if (record.kind == DATASET_RECORD) {
+                record.name = in.readUTF();
+                record.type = in.readUTF();
+                record.dataType = in.readUTF();
+                record.storageKind = in.readUTF();
+                record.size = in.readInt();
+                record.createdTimestamp = in.readLong();
+            } else if (record.kind != REPORT_RECORD) {
+                throw new IOException("Unknown index record kind: " + record.kind);
+            }
+            return record;
+        }
+    }
+}
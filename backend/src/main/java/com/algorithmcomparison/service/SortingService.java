@@ -3,33 +3,94 @@ package com.algorithmcomparison.service;
 import com.algorithmcomparison.algorithm.sorting.*;
 import com.algorithmcomparison.model.AlgorithmResult;
 import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.model.MeasurementStatistics;
+import com.algorithmcomparison.model.ThreadWorkStatistics;
 import com.algorithmcomparison.util.MetricsCollector;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Optimized service for executing sorting algorithms with unified data type handling.
  * 
+ * Configuration (application.properties):
+ * - sorting.parallel.pool-size: ForkJoinPool size for the parallel sorts (0 = the common pool)
+ * - sorting.parallel.merge-threshold: Parallel Merge Sort ranges not split further (0 = ParallelMergeSort.DEFAULT_THRESHOLD)
+ * - sorting.parallel.sample-threshold: Parallel Sample Sort regions not split further (0 = ParallelSampleSort.DEFAULT_THRESHOLD)
+ * 
  * @author Algorithm Comparison Team
- * @version 3.0 (Highly Optimized)
+ * @version 3.3
  */
 @Service
 public class SortingService {
 
     private final DatasetService datasetService;
+    private final ForkJoinPool parallelPool;
+    private final boolean ownsParallelPool;
+    private final int parallelMergeThreshold;
+    private final int parallelSampleThreshold;
 
-    public SortingService(DatasetService datasetService) {
+    /**
+     * Constructor with dependency and configuration injection.
+     * 
+     * @param datasetService Service for dataset management
+     * @param parallelPoolSize Worker threads for the parallel sorts (0 = the common ForkJoinPool)
+     * @param parallelMergeThreshold Parallel Merge Sort threshold (0 = its default)
+     * @param parallelSampleThreshold Parallel Sample Sort threshold (0 = its default)
+     * @throws IllegalArgumentException if a threshold is set below 2
+     */
+    public SortingService(DatasetService datasetService,
+                          @Value("${sorting.parallel.pool-size:0}") int parallelPoolSize,
+                          @Value("${sorting.parallel.merge-threshold:0}") int parallelMergeThreshold,
+                          @Value("${sorting.parallel.sample-threshold:0}") int parallelSampleThreshold) {
         this.datasetService = datasetService;
+        this.ownsParallelPool = parallelPoolSize > 0;
+        this.parallelPool = ownsParallelPool ? new ForkJoinPool(parallelPoolSize) : ForkJoinPool.commonPool();
+        this.parallelMergeThreshold = parallelMergeThreshold > 0 ? parallelMergeThreshold : ParallelMergeSort.DEFAULT_THRESHOLD;
+        this.parallelSampleThreshold = parallelSampleThreshold > 0 ? parallelSampleThreshold : ParallelSampleSort.DEFAULT_THRESHOLD;
+        // Fail at startup rather than on the first parallel sort
+        new ParallelMergeSort(parallelPool, this.parallelMergeThreshold);
+        new ParallelSampleSort(parallelPool, this.parallelSampleThreshold);
+    }
+
+    /**
+     * Shuts down the parallel sorts' pool when the application stops, unless it is the common pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (ownsParallelPool) {
+            parallelPool.shutdownNow();
+        }
     }
 
     // ==================== Public API ====================
 
     public AlgorithmResult executeSortingAlgorithm(String sessionId, String datasetId, 
                                                    String algorithmName, String sortOrder) {
+        return executeSortingAlgorithm(sessionId, datasetId, algorithmName, sortOrder, BenchmarkRunOptions.defaults());
+    }
+
+    /**
+     * Executes a sorting algorithm repeatedly for stable timing measurements.
+     * 
+     * Warmup iterations run first and are discarded. Each iteration sorts a
+     * fresh copy of the dataset, taken outside the timed region. With more than
+     * one iteration the result's execution time is the median, and the full
+     * distribution is attached as MeasurementStatistics; operation counts come
+     * from the last measured iteration. The options' metrics mode selects the
+     * MetricsCollector implementation (exact, sampled or timing-only).
+     */
+    public AlgorithmResult executeSortingAlgorithm(String sessionId, String datasetId, 
+                                                   String algorithmName, String sortOrder,
+                                                   BenchmarkRunOptions options) {
+        int warmupIterations = options.getWarmupIterations();
+        int measurementIterations = options.getMeasurementIterations();
         Dataset dataset = getValidatedDataset(sessionId, datasetId);
         SortingAlgorithm algorithm = getValidatedAlgorithm(algorithmName);
         
@@ -38,7 +99,7 @@ public class SortingService {
             throw new UnsupportedOperationException(
                 algorithmName + " does not support STRING datasets. " +
                 "Dataset '" + dataset.getName() + "' is of type STRING. " +
-                "Please use: Bubble Sort, Selection Sort, Insertion Sort, Quick Sort, or Merge Sort for STRING data.");
+                "Please use: Bubble Sort, Selection Sort, Insertion Sort, Quick Sort, Intro Sort, Dual Pivot Quick Sort, Merge Sort, Bottom Up Merge Sort, Parallel Merge Sort, or Parallel Sample Sort for STRING data.");
         }
         
         boolean isDescending = "DESCENDING".equalsIgnoreCase(sortOrder);
@@ -46,10 +107,32 @@ public class SortingService {
         System.out.println("DEBUG: Executing " + algorithmName + " on dataset " + datasetId + 
                          " (type: " + dataset.getDataType() + ", order: " + sortOrder + ")");
 
-        MetricsCollector metrics = new MetricsCollector();
-        executeSort(dataset, algorithm, metrics, isDescending);
+        // Parallel sorts also report per-thread work; keep that of the last measured run
+        List<ThreadWorkStatistics> threadStatistics =
+            algorithm instanceof ParallelSortingAlgorithm ? new ArrayList<>() : null;
+
+        for (int i = 0; i < warmupIterations; i++) {
+            executeSort(dataset, algorithm, options.newMetricsCollector(), isDescending, threadStatistics);
+        }
+
+        long[] samplesNanos = new long[Math.max(1, measurementIterations)];
+        MetricsCollector metrics = null;
+        for (int i = 0; i < samplesNanos.length; i++) {
+            metrics = options.newMetricsCollector();
+            executeSort(dataset, algorithm, metrics, isDescending, threadStatistics);
+            samplesNanos[i] = metrics.getExecutionTimeNanos();
+        }
         
-        return buildResult(algorithm, dataset, metrics, isDescending);
+        AlgorithmResult result = buildResult(algorithm, dataset, metrics, isDescending);
+        if (warmupIterations > 0 || samplesNanos.length > 1) {
+            attachMeasurement(result, samplesNanos, warmupIterations);
+        }
+        if (algorithm instanceof ParallelSortingAlgorithm parallel) {
+            result.setParallelism(parallel.getParallelism());
+            result.setSequentialBaseline(parallel.getSequentialBaseline());
+            result.setThreadStatistics(threadStatistics);
+        }
+        return result;
     }
 
     public List<AlgorithmResult> compareAlgorithms(String sessionId, String datasetId, 
@@ -68,7 +151,9 @@ public class SortingService {
 
     public List<String> getAvailableAlgorithms() {
         return Arrays.asList("Bubble Sort", "Selection Sort", "Insertion Sort", 
-                           "Quick Sort", "Merge Sort", "Heap Sort", "Shell Sort", "Counting Sort");
+                           "Quick Sort", "Intro Sort", "Dual Pivot Quick Sort", "Parallel Sample Sort",
+                           "Merge Sort", "Bottom Up Merge Sort", "Parallel Merge Sort",
+                           "Heap Sort", "Shell Sort", "Counting Sort");
     }
 
     public boolean verifySorted(int[] array) {
@@ -83,23 +168,42 @@ public class SortingService {
     /**
      * Unified sort execution for both String and Integer datasets.
      * Uses strategy pattern to eliminate code duplication.
+     * 
+     * @param threadStatistics For a ParallelSortingAlgorithm, replaced by this run's per-thread work (else null)
      */
     private void executeSort(Dataset dataset, SortingAlgorithm algorithm, 
-                            MetricsCollector metrics, boolean isDescending) {
+                            MetricsCollector metrics, boolean isDescending,
+                            List<ThreadWorkStatistics> threadStatistics) {
+        ParallelSortingAlgorithm parallel = threadStatistics != null ? (ParallelSortingAlgorithm) algorithm : null;
+        if (parallel != null) {
+            threadStatistics.clear();
+        }
         if ("STRING".equals(dataset.getDataType())) {
             executeSortForType(
-                dataset.getStringData(),
+                copyArray(dataset.getStringData()),
                 "string data",
-                data -> algorithm.sort(data, metrics),
+                data -> {
+                    if (parallel != null) {
+                        parallel.sort(data, metrics, threadStatistics);
+                    } else {
+                        algorithm.sort(data, metrics);
+                    }
+                },
                 this::reverseArray,
                 metrics,
                 isDescending
             );
         } else {
             executeSortForType(
-                dataset.getData(),
+                dataset.copyData(),
                 "data",
-                data -> algorithm.sort(data, metrics),
+                data -> {
+                    if (parallel != null) {
+                        parallel.sort(data, metrics, threadStatistics);
+                    } else {
+                        algorithm.sort(data, metrics);
+                    }
+                },
                 this::reverseArray,
                 metrics,
                 isDescending
@@ -112,15 +216,14 @@ public class SortingService {
      * Eliminates duplication between String and Integer handling.
      * 
      * @param <T> Array type (int[] or String[])
+     * @param dataCopy Copy of the dataset's values owned by this run; sorted in place
      */
-    private <T> void executeSortForType(T originalData, String dataTypeName,
+    private <T> void executeSortForType(T dataCopy, String dataTypeName,
                                         Consumer<T> sortOperation,
                                         Consumer<T> reverseOperation,
                                         MetricsCollector metrics,
                                         boolean isDescending) {
-        validateData(originalData, dataTypeName);
-        
-        T dataCopy = copyArray(originalData);
+        validateData(dataCopy, dataTypeName);
         
         metrics.startTiming();
         try {
@@ -151,7 +254,7 @@ public class SortingService {
         }
 
     private SortingAlgorithm getValidatedAlgorithm(String algorithmName) {
-        SortingAlgorithm algorithm = createSortingAlgorithm(algorithmName);
+        SortingAlgorithm algorithm = createConfiguredAlgorithm(algorithmName);
         if (algorithm == null) {
             throw new IllegalArgumentException("Unknown sorting algorithm: " + algorithmName);
         }
@@ -166,9 +269,10 @@ public class SortingService {
 
     @SuppressWarnings("unchecked")
     private <T> T copyArray(T original) {
-        if (original instanceof int[] intArray) {
-            return (T) Arrays.copyOf(intArray, intArray.length);
-        } else if (original instanceof String[] stringArray) {
+        if (original == null) {
+            return null;
+        }
+        if (original instanceof String[] stringArray) {
             return (T) Arrays.copyOf(stringArray, stringArray.length);
         }
         throw new IllegalArgumentException("Unsupported array type");
@@ -210,18 +314,39 @@ public class SortingService {
             .comparisonCount(metrics.getComparisonCount())
             .swapCount(metrics.getSwapCount())
             .arrayAccessCount(metrics.getArrayAccessCount())
+            .metricsMode(metrics.getMode().name())
             .complexity(algorithm.getTimeComplexity())
             .resultType("SORT")
             .build();
     }
 
-    private SortingAlgorithm createSortingAlgorithm(String algorithmName) {
+    private void attachMeasurement(AlgorithmResult result, long[] samplesNanos, int warmupIterations) {
+        MeasurementStatistics measurement = MeasurementStatistics.fromSamples(samplesNanos, warmupIterations);
+        result.setMeasurement(measurement);
+        result.setExecutionTimeNanos(Math.round(measurement.getMedianTimeMillis() * 1_000_000.0));
+    }
+
+    /**
+     * Factory method to create sorting algorithm instances by name.
+     * Also used by the JMH benchmarks, so every registered algorithm is benchmarkable.
+     * Parallel sorts get their default pool and threshold; the service itself
+     * uses the configured ones (sorting.parallel.*).
+     * 
+     * @param algorithmName Name of the algorithm (case and spaces ignored)
+     * @return SortingAlgorithm instance, or null if unknown
+     */
+    public static SortingAlgorithm createSortingAlgorithm(String algorithmName) {
         return switch (algorithmName.toLowerCase().replace(" ", "")) {
             case "bubblesort" -> new BubbleSort();
             case "selectionsort" -> new SelectionSort();
             case "insertionsort" -> new InsertionSort();
             case "quicksort" -> new QuickSort();
+            case "introsort" -> new QuickSort(QuickSort.Variant.INTROSORT);
+            case "dualpivotquicksort" -> new DualPivotQuickSort();
+            case "parallelsamplesort" -> new ParallelSampleSort();
             case "mergesort" -> new MergeSort();
+            case "bottomupmergesort" -> new MergeSort(MergeSort.Strategy.BOTTOM_UP, MergeSort.DEFAULT_INSERTION_CUTOFF);
+            case "parallelmergesort" -> new ParallelMergeSort();
             case "heapsort" -> new HeapSort();
             case "shellsort" -> new ShellSort();
             case "countingsort" -> new CountingSort();
@@ -229,6 +354,21 @@ public class SortingService {
         };
     }
 
+    /**
+     * Creates a sorting algorithm by name, running the parallel sorts on the
+     * configured pool with the configured thresholds.
+     * 
+     * @param algorithmName Name of the algorithm (case and spaces ignored)
+     * @return SortingAlgorithm instance, or null if unknown
+     */
+    private SortingAlgorithm createConfiguredAlgorithm(String algorithmName) {
+        return switch (algorithmName.toLowerCase().replace(" ", "")) {
+            case "parallelsamplesort" -> new ParallelSampleSort(parallelPool, parallelSampleThreshold);
+            case "parallelmergesort" -> new ParallelMergeSort(parallelPool, parallelMergeThreshold);
+            default -> createSortingAlgorithm(algorithmName);
+        };
+    }
+
     private void reverseArray(int[] array) {
         for (int i = 0, j = array.length - 1; i < j; i++, j--) {
             int temp = array[i];
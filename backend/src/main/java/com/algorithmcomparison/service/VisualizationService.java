@@ -1,15 +1,23 @@
 package com.algorithmcomparison.service;
 
+import com.algorithmcomparison.model.CompactVisualization;
+import com.algorithmcomparison.model.DatasetStoreStatistics;
 import com.algorithmcomparison.model.VisualizationStep;
 import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.algorithm.sorting.AbstractSortingAlgorithm;
 import com.algorithmcomparison.algorithm.sorting.BubbleSort;
 import com.algorithmcomparison.algorithm.sorting.InsertionSort;
 import com.algorithmcomparison.algorithm.sorting.SelectionSort;
 import com.algorithmcomparison.algorithm.sorting.MergeSort;
+import com.algorithmcomparison.algorithm.searching.AbstractSearchingAlgorithm;
 import com.algorithmcomparison.algorithm.searching.LinearSearch;
 import com.algorithmcomparison.algorithm.searching.BinarySearch;
+import com.algorithmcomparison.util.CountingMetricsCollector;
 import com.algorithmcomparison.util.MetricsCollector;
 import com.algorithmcomparison.util.StepCollector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -20,23 +28,48 @@ import java.util.*;
  * This service calls the actual algorithm implementations with a StepCollector
  * to gather visualization steps. No algorithm logic is duplicated here.
  * 
- * Supports both sorting and searching algorithms.
+ * Supports both sorting and searching algorithms. Steps can be returned as
+ * full array snapshots or delta-encoded (CompactVisualization).
+ * 
+ * Compact step logs are cached per session for paging. The cache is bounded
+ * by visualization.step-cache.max-per-session and, across all sessions, by
+ * the estimated footprint of its logs (visualization.step-cache.max-bytes);
+ * the least recently used logs are dropped to stay within it.
  * 
  * @author Algorithm Comparison Team
- * @version 2.0
+ * @version 2.2
  */
 @Service
 public class VisualizationService {
 
     private final DatasetService datasetService;
+    private final int maxStepLogsPerSession;
+    private final long maxStepLogBytes; // 0 = unlimited
+    private final long stepLogIdleTimeoutMillis;
+
+    // Cached step logs per session, keyed by dataset/algorithm/order/target (LRU order).
+    // Guarded by stepLogLock, as are the counters below.
+    private final Map<String, LinkedHashMap<String, CachedStepLog>> sessionStepLogs = new HashMap<>();
+    private final Object stepLogLock = new Object();
+    private long stepLogBytes;
+    private long stepLogEvictions;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param datasetService Service for dataset management
+     * @param maxStepLogsPerSession Step logs kept per session before the least recently used is dropped
+     * @param maxStepLogBytes Budget for the step logs of all sessions (0 = a quarter of the maximum heap, negative = unlimited)
+     * @param stepLogIdleTimeoutMillis Time after which an unused step log is dropped
      */
-    public VisualizationService(DatasetService datasetService) {
+    public VisualizationService(DatasetService datasetService,
+                                @Value("${visualization.step-cache.max-per-session:4}") int maxStepLogsPerSession,
+                                @Value("${visualization.step-cache.max-bytes:0}") long maxStepLogBytes,
+                                @Value("${visualization.step-cache.idle-timeout-ms:900000}") long stepLogIdleTimeoutMillis) {
         this.datasetService = datasetService;
+        this.maxStepLogsPerSession = Math.max(1, maxStepLogsPerSession);
+        this.maxStepLogBytes = maxStepLogBytes == 0 ? Runtime.getRuntime().maxMemory() / 4 : Math.max(maxStepLogBytes, 0);
+        this.stepLogIdleTimeoutMillis = stepLogIdleTimeoutMillis;
     }
 
     /**
@@ -50,37 +83,9 @@ public class VisualizationService {
      * @throws IllegalArgumentException if dataset not found
      */
     public List<VisualizationStep> visualizeBubbleSort(String sessionId, String datasetId) {
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
-        }
-
-        // Create collectors
-        MetricsCollector metrics = new MetricsCollector();
-        StepCollector stepCollector = new StepCollector();
-        
-        // Call the actual BubbleSort algorithm with step collection
-        BubbleSort bubbleSort = new BubbleSort();
-        
-        // Handle both INTEGER and STRING datasets
-        if ("STRING".equals(dataset.getDataType())) {
-            if (dataset.getStringData() == null) {
-                throw new IllegalStateException("Dataset has no string data to visualize");
-            }
-            // Create a copy of the data to avoid modifying the original
-            String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
-            bubbleSort.sortWithSteps(array, metrics, stepCollector);
-        } else {
-            if (dataset.getData() == null) {
-                throw new IllegalStateException("Dataset has no data to visualize");
-            }
-            // Create a copy of the data to avoid modifying the original
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            bubbleSort.sortWithSteps(array, metrics, stepCollector);
-        }
-        
-        // Return the collected steps
-        return stepCollector.getSteps();
+        Dataset dataset = getDataset(sessionId, datasetId);
+        checkSize(dataset, getMaxVisualizationSize());
+        return collectSortSteps(dataset, new BubbleSort()).getSteps();
     }
 
     /**
@@ -91,322 +96,354 @@ public class VisualizationService {
      * @param algorithmName The algorithm name
      * @param target Optional target value for search algorithms (null for sorting)
      * @param sortOrder "ASCENDING" or "DESCENDING" for sorting algorithms
-     * @return List of visualization steps
-     * @throws IllegalArgumentException if dataset not found or too large
-     * @throws UnsupportedOperationException if dataset type is not INTEGER
+     * @return List of visualization steps with full array snapshots
+     * @throws IllegalArgumentException if dataset not found or larger than getMaxVisualizationSize()
      */
     public List<VisualizationStep> visualizeAlgorithm(String sessionId, String datasetId, String algorithmName, String target, String sortOrder) {
-        boolean isDescending = "DESCENDING".equalsIgnoreCase(sortOrder);
-        
-        // Get dataset and check size
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
-        }
-        
-        // Check dataset size limit for visualization
-        int maxSize = getMaxVisualizationSize();
-        if (dataset.getSize() > maxSize) {
-            throw new IllegalArgumentException(
-                "Dataset too large for visualization (" + dataset.getSize() + " elements). " +
-                "Maximum recommended size is " + maxSize + " elements. " +
-                "Large datasets generate too many visualization steps and may cause performance issues."
-            );
-        }
-        
-        // Check if algorithm has full visualization support
-        if (algorithmName.equalsIgnoreCase("Bubble Sort")) {
-            List<VisualizationStep> steps = visualizeBubbleSort(sessionId, datasetId);
-            if (isDescending) {
-                reverseVisualizationSteps(steps);
-            }
-            return steps;
-        } else if (algorithmName.equalsIgnoreCase("Insertion Sort")) {
-            List<VisualizationStep> steps = visualizeInsertionSort(sessionId, datasetId);
-            if (isDescending) {
-                reverseVisualizationSteps(steps);
-            }
-            return steps;
-        } else if (algorithmName.equalsIgnoreCase("Selection Sort")) {
-            List<VisualizationStep> steps = visualizeSelectionSort(sessionId, datasetId);
-            if (isDescending) {
-                reverseVisualizationSteps(steps);
-            }
-            return steps;
-        } else if (algorithmName.equalsIgnoreCase("Merge Sort")) {
-            List<VisualizationStep> steps = visualizeMergeSort(sessionId, datasetId);
-            if (isDescending) {
-                reverseVisualizationSteps(steps);
+        Dataset dataset = getDataset(sessionId, datasetId);
+        // Every step is expanded into a full snapshot, so keep the small limit here
+        checkSize(dataset, getMaxVisualizationSize());
+        return collectSteps(dataset, algorithmName, target, sortOrder).getSteps();
+    }
+
+    /**
+     * Generates delta-encoded visualization steps for a generic algorithm.
+     * 
+     * Same steps as visualizeAlgorithm, but each step only carries the array
+     * elements that changed, with periodic keyframes.
+     * 
+     * @param sessionId The user's session ID
+     * @param datasetId The dataset ID
+     * @param algorithmName The algorithm name
+     * @param target Optional target value for search algorithms (null for sorting)
+     * @param sortOrder "ASCENDING" or "DESCENDING" for sorting algorithms
+     * @return Compact visualization
+     * @throws IllegalArgumentException if dataset not found or larger than getMaxCompactVisualizationSize()
+     */
+    public CompactVisualization visualizeAlgorithmCompact(String sessionId, String datasetId, String algorithmName,
+                                                          String target, String sortOrder) {
+        return getStepLog(sessionId, datasetId, algorithmName, target, sortOrder);
+    }
+
+    /**
+     * Gets a page of delta-encoded visualization steps.
+     * 
+     * The algorithm runs once per (dataset, algorithm, order, target) and its
+     * compact step log is cached in the session, so later pages are served
+     * without re-running it. Each page is self-contained: its initial state
+     * is the array just before its first step. Used by the frontend
+     * visualizer to fetch steps as the animation plays.
+     * 
+     * @param sessionId The user's session ID
+     * @param datasetId The dataset ID
+     * @param algorithmName The algorithm name
+     * @param target Optional target value for search algorithms (null for sorting)
+     * @param sortOrder "ASCENDING" or "DESCENDING" for sorting algorithms
+     * @param offset Index of the first step to return
+     * @param limit Maximum number of steps to return
+     * @return Page of the compact visualization
+     * @throws IllegalArgumentException if dataset not found, larger than getMaxCompactVisualizationSize(),
+     *         or the range is invalid
+     */
+    public CompactVisualization getVisualizationSteps(String sessionId, String datasetId, String algorithmName,
+                                                      String target, String sortOrder, int offset, int limit) {
+        return getStepLog(sessionId, datasetId, algorithmName, target, sortOrder).slice(offset, limit);
+    }
+
+    /**
+     * Drops all cached step logs of a session.
+     * 
+     * @param sessionId The user's session ID
+     */
+    public void clearSessionVisualizations(String sessionId) {
+        synchronized (stepLogLock) {
+            LinkedHashMap<String, CachedStepLog> logs = sessionStepLogs.remove(sessionId);
+            if (logs != null) {
+                for (CachedStepLog log : logs.values()) {
+                    stepLogBytes -= log.bytes;
+                }
             }
-            return steps;
-        } else if (algorithmName.equalsIgnoreCase("Linear Search")) {
-            return visualizeLinearSearch(sessionId, datasetId, target);
-        } else if (algorithmName.equalsIgnoreCase("Binary Search")) {
-            return visualizeBinarySearch(sessionId, datasetId, target);
         }
+    }
 
-        // Return basic visualization for other algorithms (only initial and final states)
-        List<VisualizationStep> steps = new ArrayList<>();
-        
-        // Handle both INTEGER and STRING datasets for basic visualization
-        if ("STRING".equals(dataset.getDataType())) {
-            if (dataset.getStringData() == null) {
-                throw new IllegalStateException("Dataset has no string data to visualize");
-            }
-            
-            // Initial state
-            VisualizationStep initialStep = new VisualizationStep(0, dataset.getStringData(), "INIT");
-            initialStep.setDescription("Initial state - " + algorithmName);
-            steps.add(initialStep);
+    /**
+     * Drops the cached step logs of a removed dataset.
+     * 
+     * @param event The removal event
+     */
+    @EventListener
+    public void onDatasetRemoved(DatasetRemovedEvent event) {
+        evictDataset(event.getSessionId(), event.getDatasetId());
+    }
 
-            // Sorted state (assuming algorithm completes successfully)
-            String[] sortedArray = new String[dataset.getStringData().length];
-            System.arraycopy(dataset.getStringData(), 0, sortedArray, 0, dataset.getStringData().length);
-            Arrays.sort(sortedArray);
-            
-            // Reverse if descending
-            if (isDescending) {
-                reverseArray(sortedArray);
+    /**
+     * Drops the cached step logs of a spilled dataset, which could not be
+     * reused after a reload and would keep its values in memory.
+     * 
+     * @param event The unload event
+     */
+    @EventListener
+    public void onDatasetUnloaded(DatasetUnloadedEvent event) {
+        evictDataset(event.getSessionId(), event.getDatasetId());
+    }
+
+    private void evictDataset(String sessionId, String datasetId) {
+        String prefix = datasetId + "|";
+        synchronized (stepLogLock) {
+            LinkedHashMap<String, CachedStepLog> logs = sessionStepLogs.get(sessionId);
+            if (logs == null) {
+                return;
             }
-            
-            VisualizationStep finalStep = new VisualizationStep(1, sortedArray, "COMPLETE");
-            finalStep.setDescription(algorithmName + " complete" + (isDescending ? " (descending)" : ""));
-            steps.add(finalStep);
-        } else {
-            if (dataset.getData() == null) {
-                throw new IllegalStateException("Dataset has no data to visualize");
+            Iterator<Map.Entry<String, CachedStepLog>> iterator = logs.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedStepLog> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    stepLogBytes -= entry.getValue().bytes;
+                    iterator.remove();
+                }
             }
-            
-            // Initial state
-            VisualizationStep initialStep = new VisualizationStep(0, dataset.getData(), "INIT");
-            initialStep.setDescription("Initial state - " + algorithmName);
-            steps.add(initialStep);
-
-            // Sorted state (assuming algorithm completes successfully)
-            int[] sortedArray = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            Arrays.sort(sortedArray);
-            
-            // Reverse if descending
-            if (isDescending) {
-                reverseArray(sortedArray);
+            if (logs.isEmpty()) {
+                sessionStepLogs.remove(sessionId);
             }
-            
-            VisualizationStep finalStep = new VisualizationStep(1, sortedArray, "COMPLETE");
-            finalStep.setDescription(algorithmName + " complete" + (isDescending ? " (descending)" : ""));
-            steps.add(finalStep);
         }
-
-        return steps;
     }
-    
+
     /**
-     * Reverses all array states in visualization steps for descending order.
-     * Also adjusts highlighted indices to match the reversed positions.
-     * 
-     * @param steps List of visualization steps to reverse
+     * Drops step logs that have not been used for the configured idle timeout.
+     * Runs every minute.
      */
-    private void reverseVisualizationSteps(List<VisualizationStep> steps) {
-        for (VisualizationStep step : steps) {
-            Object[] arrayState = step.getArrayState();
-            if (arrayState != null && arrayState.length > 0) {
-                int arrayLength = arrayState.length;
-                
-                // Reverse the array state
-                reverseArrayState(arrayState);
-                
-                // Reverse the highlighted indices to match new positions
-                List<Integer> oldIndices = step.getHighlightedIndices();
-                if (oldIndices != null && !oldIndices.isEmpty()) {
-                    List<Integer> newIndices = new ArrayList<>();
-                    
-                    for (int oldIndex : oldIndices) {
-                        // Calculate the reversed index: newIndex = arrayLength - 1 - oldIndex
-                        int newIndex = arrayLength - 1 - oldIndex;
-                        newIndices.add(newIndex);
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleStepLogs() {
+        long cutoff = System.currentTimeMillis() - stepLogIdleTimeoutMillis;
+        synchronized (stepLogLock) {
+            for (LinkedHashMap<String, CachedStepLog> logs : sessionStepLogs.values()) {
+                Iterator<CachedStepLog> iterator = logs.values().iterator();
+                while (iterator.hasNext()) {
+                    CachedStepLog log = iterator.next();
+                    if (log.lastAccessMillis < cutoff) {
+                        iterator.remove();
+                        stepLogBytes -= log.bytes;
                     }
-                    
-                    step.setHighlightedIndices(newIndices);
                 }
             }
+            sessionStepLogs.values().removeIf(Map::isEmpty);
         }
     }
-    
+
     /**
-     * Reverses an Object array in place.
+     * Adds the step log cache's memory use and budget to store statistics.
      * 
-     * @param array Array to reverse
+     * @param statistics Statistics to fill in (usually from DatasetService.getStoreStatistics())
+     * @return The same statistics object
      */
-    private void reverseArrayState(Object[] array) {
-        int left = 0;
-        int right = array.length - 1;
-        while (left < right) {
-            Object temp = array[left];
-            array[left] = array[right];
-            array[right] = temp;
-            left++;
-            right--;
+    public DatasetStoreStatistics addStepLogStatistics(DatasetStoreStatistics statistics) {
+        synchronized (stepLogLock) {
+            int count = 0;
+            for (LinkedHashMap<String, CachedStepLog> logs : sessionStepLogs.values()) {
+                count += logs.size();
+            }
+            statistics.setStepLogCount(count);
+            statistics.setStepLogBytes(stepLogBytes);
+            statistics.setStepLogEvictions(stepLogEvictions);
         }
+        statistics.setMaxStepLogBytes(maxStepLogBytes);
+        return statistics;
     }
-    
+
     /**
-     * Reverses an integer array in place.
+     * Gets the cached step log for a visualization, running the algorithm on a miss.
      * 
-     * @param array Array to reverse
+     * An entry is only reused while it was built from the same Dataset object,
+     * so replaced or deleted datasets never serve stale steps. The algorithm
+     * runs outside the cache lock; if two requests miss at the same time
+     * both run it and the later result replaces the earlier one.
+     * 
+     * @throws IllegalArgumentException if the step log alone exceeds the cache budget
      */
-    private void reverseArray(int[] array) {
-        int left = 0;
-        int right = array.length - 1;
-        while (left < right) {
-            int temp = array[left];
-            array[left] = array[right];
-            array[right] = temp;
-            left++;
-            right--;
+    private CompactVisualization getStepLog(String sessionId, String datasetId, String algorithmName,
+                                            String target, String sortOrder) {
+        Dataset dataset = getDataset(sessionId, datasetId);
+        checkSize(dataset, getMaxCompactVisualizationSize());
+        String key = datasetId + "|" + algorithmName.toLowerCase() + "|" 
+            + ("DESCENDING".equalsIgnoreCase(sortOrder) ? "DESC" : "ASC") + "|" 
+            + (target != null ? target : "");
+
+        synchronized (stepLogLock) {
+            LinkedHashMap<String, CachedStepLog> logs = sessionStepLogs.get(sessionId);
+            CachedStepLog cached = logs != null ? logs.get(key) : null;
+            if (cached != null && cached.dataset == dataset) {
+                cached.lastAccessMillis = System.currentTimeMillis();
+                return cached.steps;
+            }
+        }
+
+        CompactVisualization steps = collectSteps(dataset, algorithmName, target, sortOrder).getCompactSteps();
+        long bytes = steps.estimateMemoryBytes();
+        if (maxStepLogBytes > 0 && bytes > maxStepLogBytes) {
+            throw new IllegalArgumentException("Visualization needs about " + bytes / (1024 * 1024)
+                + " MB, more than the step log cache allows (" + maxStepLogBytes / (1024 * 1024)
+                + " MB). Use a smaller dataset.");
+        }
+
+        CachedStepLog cached = new CachedStepLog(dataset, steps, bytes);
+        synchronized (stepLogLock) {
+            LinkedHashMap<String, CachedStepLog> logs = sessionStepLogs.computeIfAbsent(sessionId,
+                k -> new LinkedHashMap<>(16, 0.75f, true));
+            CachedStepLog previous = logs.put(key, cached);
+            if (previous != null) {
+                stepLogBytes -= previous.bytes;
+            }
+            stepLogBytes += bytes;
+
+            // Keep only the most recently used logs of the session
+            Iterator<CachedStepLog> eldest = logs.values().iterator();
+            while (logs.size() > maxStepLogsPerSession) {
+                stepLogBytes -= eldest.next().bytes;
+                eldest.remove();
+                stepLogEvictions++;
+            }
+            evictForBudget(cached);
         }
+        return steps;
     }
-    
+
     /**
-     * Reverses a string array in place.
+     * Drops the least recently used step logs of any session until the cache
+     * is within its byte budget. Must be called holding stepLogLock.
      * 
-     * @param array Array to reverse
+     * @param keep Log that was just added and must stay cached
      */
-    private void reverseArray(String[] array) {
-        int left = 0;
-        int right = array.length - 1;
-        while (left < right) {
-            String temp = array[left];
-            array[left] = array[right];
-            array[right] = temp;
-            left++;
-            right--;
+    private void evictForBudget(CachedStepLog keep) {
+        while (maxStepLogBytes > 0 && stepLogBytes > maxStepLogBytes) {
+            LinkedHashMap<String, CachedStepLog> oldestLogs = null;
+            String oldestKey = null;
+            long oldestAccess = Long.MAX_VALUE;
+            for (LinkedHashMap<String, CachedStepLog> logs : sessionStepLogs.values()) {
+                for (Map.Entry<String, CachedStepLog> entry : logs.entrySet()) {
+                    if (entry.getValue() != keep && entry.getValue().lastAccessMillis < oldestAccess) {
+                        oldestLogs = logs;
+                        oldestKey = entry.getKey();
+                        oldestAccess = entry.getValue().lastAccessMillis;
+                    }
+                }
+            }
+            if (oldestLogs == null) {
+                return;
+            }
+            stepLogBytes -= oldestLogs.remove(oldestKey).bytes;
+            stepLogEvictions++;
         }
+        sessionStepLogs.values().removeIf(Map::isEmpty);
     }
 
     /**
-     * Generates visualization steps for Insertion Sort algorithm.
-     * 
-     * @param sessionId The user's session ID
-     * @param datasetId The dataset ID
-     * @return List of visualization steps
+     * Runs the requested algorithm with a StepCollector.
      */
-    private List<VisualizationStep> visualizeInsertionSort(String sessionId, String datasetId) {
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
+    private StepCollector collectSteps(Dataset dataset, String algorithmName, String target, String sortOrder) {
+        boolean isDescending = "DESCENDING".equalsIgnoreCase(sortOrder);
+        
+        // Check if algorithm has full visualization support
+        AbstractSortingAlgorithm sortingAlgorithm = null;
+        if (algorithmName.equalsIgnoreCase("Bubble Sort")) {
+            sortingAlgorithm = new BubbleSort();
+        } else if (algorithmName.equalsIgnoreCase("Insertion Sort")) {
+            sortingAlgorithm = new InsertionSort();
+        } else if (algorithmName.equalsIgnoreCase("Selection Sort")) {
+            sortingAlgorithm = new SelectionSort();
+        } else if (algorithmName.equalsIgnoreCase("Merge Sort")) {
+            sortingAlgorithm = new MergeSort();
+        } else if (algorithmName.equalsIgnoreCase("Bottom Up Merge Sort")) {
+            sortingAlgorithm = new MergeSort(MergeSort.Strategy.BOTTOM_UP, MergeSort.DEFAULT_INSERTION_CUTOFF);
+        } else if (algorithmName.equalsIgnoreCase("Linear Search")) {
+            return collectSearchSteps(dataset, new LinearSearch(), target, false);
+        } else if (algorithmName.equalsIgnoreCase("Binary Search")) {
+            return collectSearchSteps(dataset, new BinarySearch(), target, true);
         }
 
-        MetricsCollector metrics = new MetricsCollector();
-        StepCollector stepCollector = new StepCollector();
-        
-        InsertionSort insertionSort = new InsertionSort();
-        
-        // Handle both INTEGER and STRING datasets
-        if ("STRING".equals(dataset.getDataType())) {
-            if (dataset.getStringData() == null) {
-                throw new IllegalStateException("Dataset has no string data to visualize");
-            }
-            String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
-            insertionSort.sortWithSteps(array, metrics, stepCollector);
-        } else {
-            if (dataset.getData() == null) {
-                throw new IllegalStateException("Dataset has no data to visualize");
+        if (sortingAlgorithm != null) {
+            StepCollector stepCollector = collectSortSteps(dataset, sortingAlgorithm);
+            if (isDescending) {
+                stepCollector.mirror();
             }
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            insertionSort.sortWithSteps(array, metrics, stepCollector);
+            return stepCollector;
         }
-        
-        return stepCollector.getSteps();
+
+        // Return basic visualization for other algorithms (only initial and final states)
+        return collectBasicSteps(dataset, algorithmName, isDescending);
     }
 
     /**
-     * Generates visualization steps for Selection Sort algorithm.
+     * Checks the dataset size limit for visualization.
      * 
-     * @param sessionId The user's session ID
-     * @param datasetId The dataset ID
-     * @return List of visualization steps
+     * @throws IllegalArgumentException if the dataset has more than maxSize elements
      */
-    private List<VisualizationStep> visualizeSelectionSort(String sessionId, String datasetId) {
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
-        }
-
-        MetricsCollector metrics = new MetricsCollector();
-        StepCollector stepCollector = new StepCollector();
-        
-        SelectionSort selectionSort = new SelectionSort();
-        
-        // Handle both INTEGER and STRING datasets
-        if ("STRING".equals(dataset.getDataType())) {
-            if (dataset.getStringData() == null) {
-                throw new IllegalStateException("Dataset has no string data to visualize");
-            }
-            String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
-            selectionSort.sortWithSteps(array, metrics, stepCollector);
-        } else {
-            if (dataset.getData() == null) {
-                throw new IllegalStateException("Dataset has no data to visualize");
-            }
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            selectionSort.sortWithSteps(array, metrics, stepCollector);
+    private void checkSize(Dataset dataset, int maxSize) {
+        if (dataset.getSize() > maxSize) {
+            throw new IllegalArgumentException(
+                "Dataset too large for visualization (" + dataset.getSize() + " elements). " +
+                "Maximum recommended size is " + maxSize + " elements. " +
+                "Large datasets generate too many visualization steps and may cause performance issues."
+            );
         }
-        
-        return stepCollector.getSteps();
     }
 
     /**
-     * Generates visualization steps for Merge Sort algorithm.
+     * Looks up a dataset in the user's session.
      * 
-     * @param sessionId The user's session ID
-     * @param datasetId The dataset ID
-     * @return List of visualization steps
+     * @throws IllegalArgumentException if dataset not found
      */
-    private List<VisualizationStep> visualizeMergeSort(String sessionId, String datasetId) {
+    private Dataset getDataset(String sessionId, String datasetId) {
         Dataset dataset = datasetService.getDataset(sessionId, datasetId);
         if (dataset == null) {
             throw new IllegalArgumentException("Dataset not found: " + datasetId);
         }
+        return dataset;
+    }
 
-        MetricsCollector metrics = new MetricsCollector();
+    /**
+     * Generates visualization steps for a sorting algorithm with step support.
+     * 
+     * @param dataset The dataset (not modified)
+     * @param algorithm The sorting algorithm
+     * @return Collector holding the recorded steps
+     */
+    private StepCollector collectSortSteps(Dataset dataset, AbstractSortingAlgorithm algorithm) {
+        MetricsCollector metrics = new CountingMetricsCollector();
         StepCollector stepCollector = new StepCollector();
         
-        MergeSort mergeSort = new MergeSort();
-        
         // Handle both INTEGER and STRING datasets
         if ("STRING".equals(dataset.getDataType())) {
             if (dataset.getStringData() == null) {
                 throw new IllegalStateException("Dataset has no string data to visualize");
             }
+            // Create a copy of the data to avoid modifying the original
             String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
-            mergeSort.sortWithSteps(array, metrics, stepCollector);
+            algorithm.sortWithSteps(array, metrics, stepCollector);
         } else {
-            if (dataset.getData() == null) {
+            // Create a copy of the data to avoid modifying the original
+            int[] array = dataset.copyData();
+            if (array == null) {
                 throw new IllegalStateException("Dataset has no data to visualize");
             }
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            mergeSort.sortWithSteps(array, metrics, stepCollector);
+            algorithm.sortWithSteps(array, metrics, stepCollector);
         }
         
-        return stepCollector.getSteps();
+        return stepCollector;
     }
 
     /**
-     * Generates visualization steps for Linear Search algorithm.
+     * Generates visualization steps for a searching algorithm with step support.
      * 
-     * @param sessionId The user's session ID
-     * @param datasetId The dataset ID
+     * @param dataset The dataset (not modified)
+     * @param algorithm The searching algorithm
      * @param target Optional target value to search for (if null, uses middle element)
-     * @return List of visualization steps
+     * @param sortFirst Whether the algorithm needs sorted data (e.g. Binary Search)
+     * @return Collector holding the recorded steps
      */
-    private List<VisualizationStep> visualizeLinearSearch(String sessionId, String datasetId, String target) {
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
-        }
-
-        MetricsCollector metrics = new MetricsCollector();
+    private StepCollector collectSearchSteps(Dataset dataset, AbstractSearchingAlgorithm algorithm,
+                                             String target, boolean sortFirst) {
+        MetricsCollector metrics = new CountingMetricsCollector();
         StepCollector stepCollector = new StepCollector();
-        LinearSearch linearSearch = new LinearSearch();
         
         // Handle both INTEGER and STRING datasets
         if ("STRING".equals(dataset.getDataType())) {
@@ -414,15 +451,21 @@ public class VisualizationService {
                 throw new IllegalStateException("Dataset has no string data to visualize");
             }
             String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
+            if (sortFirst) {
+                Arrays.sort(array);
+            }
             // Use provided target or default to middle element
             String searchTarget = (target != null && !target.isEmpty()) ? target : 
                                  (array.length > 0 ? array[array.length / 2] : "");
-            linearSearch.searchWithSteps(array, searchTarget, metrics, stepCollector);
+            algorithm.searchWithSteps(array, searchTarget, metrics, stepCollector);
         } else {
-            if (dataset.getData() == null) {
+            int[] array = dataset.copyData();
+            if (array == null) {
                 throw new IllegalStateException("Dataset has no data to visualize");
             }
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
+            if (sortFirst) {
+                Arrays.sort(array);
+            }
             // Parse target as integer or use default to middle element
             int searchTarget;
             if (target != null && !target.isEmpty()) {
@@ -435,75 +478,129 @@ public class VisualizationService {
             } else {
                 searchTarget = array.length > 0 ? array[array.length / 2] : 0;
             }
-            linearSearch.searchWithSteps(array, searchTarget, metrics, stepCollector);
+            algorithm.searchWithSteps(array, searchTarget, metrics, stepCollector);
         }
         
-        return stepCollector.getSteps();
+        return stepCollector;
     }
 
     /**
-     * Generates visualization steps for Binary Search algorithm.
+     * Generates a basic visualization (initial and sorted state) for algorithms
+     * without step-by-step support.
      * 
-     * @param sessionId The user's session ID
-     * @param datasetId The dataset ID
-     * @param target Optional target value to search for (if null, uses middle element of sorted array)
-     * @return List of visualization steps
+     * @param dataset The dataset (not modified)
+     * @param algorithmName The algorithm name, used in descriptions
+     * @param isDescending Whether the final state is sorted in descending order
+     * @return Collector holding the two steps
      */
-    private List<VisualizationStep> visualizeBinarySearch(String sessionId, String datasetId, String target) {
-        Dataset dataset = datasetService.getDataset(sessionId, datasetId);
-        if (dataset == null) {
-            throw new IllegalArgumentException("Dataset not found: " + datasetId);
-        }
-
-        MetricsCollector metrics = new MetricsCollector();
+    private StepCollector collectBasicSteps(Dataset dataset, String algorithmName, boolean isDescending) {
         StepCollector stepCollector = new StepCollector();
-        BinarySearch binarySearch = new BinarySearch();
+        String completeMessage = algorithmName + " complete" + (isDescending ? " (descending)" : "");
         
-        // Handle both INTEGER and STRING datasets
+        // Handle both INTEGER and STRING datasets for basic visualization
         if ("STRING".equals(dataset.getDataType())) {
             if (dataset.getStringData() == null) {
                 throw new IllegalStateException("Dataset has no string data to visualize");
             }
             String[] array = Arrays.copyOf(dataset.getStringData(), dataset.getStringData().length);
-            // Sort the array for binary search
+            stepCollector.recordInitial(array, "Initial state - " + algorithmName);
+            
+            // Sorted state (assuming algorithm completes successfully)
             Arrays.sort(array);
-            // Use provided target or default to middle element of sorted array
-            String searchTarget = (target != null && !target.isEmpty()) ? target : 
-                                 (array.length > 0 ? array[array.length / 2] : "");
-            binarySearch.searchWithSteps(array, searchTarget, metrics, stepCollector);
+            if (isDescending) {
+                reverseArray(array);
+            }
+            stepCollector.recordComplete(array, completeMessage);
         } else {
-            if (dataset.getData() == null) {
+            int[] array = dataset.copyData();
+            if (array == null) {
                 throw new IllegalStateException("Dataset has no data to visualize");
             }
-            int[] array = Arrays.copyOf(dataset.getData(), dataset.getData().length);
-            // Sort the array for binary search
+            stepCollector.recordInitial(array, "Initial state - " + algorithmName);
+            
+            // Sorted state (assuming algorithm completes successfully)
             Arrays.sort(array);
-            // Parse target as integer or use default to middle element of sorted array
-            int searchTarget;
-            if (target != null && !target.isEmpty()) {
-                try {
-                    searchTarget = Integer.parseInt(target);
-                } catch (NumberFormatException e) {
-                    // If parsing fails, use middle element
-                    searchTarget = array.length > 0 ? array[array.length / 2] : 0;
-                }
-            } else {
-                searchTarget = array.length > 0 ? array[array.length / 2] : 0;
+            if (isDescending) {
+                reverseArray(array);
             }
-            binarySearch.searchWithSteps(array, searchTarget, metrics, stepCollector);
+            stepCollector.recordComplete(array, completeMessage);
         }
         
-        return stepCollector.getSteps();
+        return stepCollector;
+    }
+    
+    /**
+     * Reverses an integer array in place.
+     * 
+     * @param array Array to reverse
+     */
+    private void reverseArray(int[] array) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left < right) {
+            int temp = array[left];
+            array[left] = array[right];
+            array[right] = temp;
+            left++;
+            right--;
+        }
+    }
+    
+    /**
+     * Reverses a string array in place.
+     * 
+     * @param array Array to reverse
+     */
+    private void reverseArray(String[] array) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left < right) {
+            String temp = array[left];
+            array[left] = array[right];
+            array[right] = temp;
+            left++;
+            right--;
+        }
     }
 
     /**
-     * Gets the maximum recommended dataset size for visualization.
-     * Large datasets produce too many steps and slow down visualization.
+     * Gets the maximum recommended dataset size for full-snapshot visualization
+     * (visualizeAlgorithm, visualizeBubbleSort).
+     * Every step carries a copy of the whole array, so memory grows with
+     * steps × array size.
      * 
      * @return Maximum recommended size
      */
     public int getMaxVisualizationSize() {
-        return 100; // Limit to 100 elements for smooth visualization
+        return 100;
     }
-}
 
+    /**
+     * Gets the maximum recommended dataset size for delta-encoded visualization
+     * (visualizeAlgorithmCompact, getVisualizationSteps).
+     * Steps only carry the changed elements, so the limit is set by step count
+     * rather than by response size per step.
+     * 
+     * @return Maximum recommended size
+     */
+    public int getMaxCompactVisualizationSize() {
+        return 1000; // Bubble Sort on 1000 elements is still under a million steps
+    }
+
+    /**
+     * Compact step log cached for one visualization.
+     */
+    private static final class CachedStepLog {
+        private final Dataset dataset;
+        private final CompactVisualization steps;
+        private final long bytes;
+        private long lastAccessMillis;
+
+        private CachedStepLog(Dataset dataset, CompactVisualization steps, long bytes) {
+            this.dataset = dataset;
+            this.steps = steps;
+            this.bytes = bytes;
+            this.lastAccessMillis = System.currentTimeMillis();
+        }
+    }
+}
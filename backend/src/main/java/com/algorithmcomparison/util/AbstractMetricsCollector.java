@@ -0,0 +1,57 @@
+package com.algorithmcomparison.util;
+
+/**
+ * Base class for MetricsCollector implementations providing wall-clock timing.
+ *
+ * Timing uses System.nanoTime() and is identical in every metrics mode, so
+ * timings from different modes are directly comparable.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public abstract class AbstractMetricsCollector implements MetricsCollector {
+
+    private long startTime;
+    private long endTime;
+    private boolean timing;
+
+    @Override
+    public void startTiming() {
+        this.startTime = System.nanoTime();
+        this.timing = true;
+    }
+
+    @Override
+    public void stopTiming() {
+        this.endTime = System.nanoTime();
+        this.timing = false;
+    }
+
+    @Override
+    public long getExecutionTimeNanos() {
+        if (timing) {
+            return System.nanoTime() - startTime;
+        }
+        return endTime - startTime;
+    }
+
+    /**
+     * Resets timing state. Subclasses resetting counters should call this too.
+     */
+    @Override
+    public void reset() {
+        this.startTime = 0;
+        this.endTime = 0;
+        this.timing = false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "comparisons=" + getComparisonCount() +
+                ", swaps=" + getSwapCount() +
+                ", arrayAccesses=" + getArrayAccessCount() +
+                ", executionTime=" + String.format("%.3f", getExecutionTimeMillis()) + "ms" +
+                '}';
+    }
+}
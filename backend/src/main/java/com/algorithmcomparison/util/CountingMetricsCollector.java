@@ -0,0 +1,296 @@
+package com.algorithmcomparison.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * MetricsCollector that counts every comparison, swap and array access exactly.
+ * 
+ * This is the default collector and the one used for step-by-step
+ * visualization and algorithm comparison, where exact counts matter.
+ * 
+ * Cancellation: every few thousand recorded operations the collector checks
+ * whether the running thread has been interrupted and, if so, throws a
+ * CancellationException. Since every algorithm reports its work here, this
+ * lets long-running sorts (e.g. Bubble Sort on large inputs) be cancelled
+ * cooperatively without adding checks to each algorithm.
+ * 
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+public class CountingMetricsCollector extends AbstractMetricsCollector {
+    
+    // Number of recorded operations between interruption checks
+    private static final int CANCELLATION_CHECK_INTERVAL = 4096;
+    
+    private long comparisonCount;
+    private long swapCount;
+    private long arrayAccessCount;
+    private int operationsSinceCheck;
+
+    /**
+     * Default constructor initializes all counters to zero.
+     */
+    public CountingMetricsCollector() {
+        this.comparisonCount = 0;
+        this.swapCount = 0;
+        this.arrayAccessCount = 0;
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.COUNTING;
+    }
+
+    /**
+     * Compares two integer values and increments the comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return negative if a < b, zero if a == b, positive if a > b
+     */
+    @Override
+    public int compare(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return Integer.compare(a, b);
+    }
+
+    /**
+     * Checks if first value is less than second and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return true if a < b
+     */
+    @Override
+    public boolean isLessThan(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return a < b;
+    }
+
+    /**
+     * Checks if first value is greater than second and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return true if a > b
+     */
+    @Override
+    public boolean isGreaterThan(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return a > b;
+    }
+
+    /**
+     * Checks if first string is greater than second (lexicographically) and increments comparison counter.
+     * 
+     * @param a First string
+     * @param b Second string
+     * @return true if a > b lexicographically
+     */
+    @Override
+    public boolean isGreaterThan(String a, String b) {
+        comparisonCount++;
+        checkCancellation();
+        return a.compareTo(b) > 0;
+    }
+
+    /**
+     * Checks if first value is less than or equal to second and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return true if a <= b
+     */
+    @Override
+    public boolean isLessThanOrEqual(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return a <= b;
+    }
+
+    /**
+     * Checks if first value is greater than or equal to second and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return true if a >= b
+     */
+    @Override
+    public boolean isGreaterThanOrEqual(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return a >= b;
+    }
+
+    /**
+     * Checks if two values are equal and increments comparison counter.
+     * 
+     * @param a First value
+     * @param b Second value
+     * @return true if a == b
+     */
+    @Override
+    public boolean isEqual(int a, int b) {
+        comparisonCount++;
+        checkCancellation();
+        return a == b;
+    }
+
+    /**
+     * Swaps two elements in an integer array and increments the swap counter.
+     * 
+     * @param array The array containing the elements
+     * @param i First index
+     * @param j Second index
+     */
+    @Override
+    public void swap(int[] array, int i, int j) {
+        swapCount++;
+        checkCancellation();
+        arrayAccessCount += 4; // 2 reads + 2 writes
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Swaps two elements in a string array and increments the swap counter.
+     * 
+     * @param array The array containing the elements
+     * @param i First index
+     * @param j Second index
+     */
+    @Override
+    public void swap(String[] array, int i, int j) {
+        swapCount++;
+        checkCancellation();
+        arrayAccessCount += 4; // 2 reads + 2 writes
+        String temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Gets an array element and increments the access counter.
+     * 
+     * @param array The array
+     * @param index The index
+     * @return The value at the index
+     */
+    @Override
+    public int get(int[] array, int index) {
+        arrayAccessCount++;
+        checkCancellation();
+        return array[index];
+    }
+
+    /**
+     * Sets an array element and increments the access counter.
+     * 
+     * @param array The array
+     * @param index The index
+     * @param value The value to set
+     */
+    @Override
+    public void set(int[] array, int index, int value) {
+        arrayAccessCount++;
+        checkCancellation();
+        array[index] = value;
+    }
+
+    /**
+     * Increments array access count without performing actual access.
+     * Useful when direct array access is unavoidable.
+     * 
+     * @param count Number of accesses to record
+     */
+    @Override
+    public void recordArrayAccess(int count) {
+        arrayAccessCount += count;
+        checkCancellation();
+    }
+
+    /**
+     * Increments comparison count without performing actual comparison.
+     * 
+     * @param count Number of comparisons to record
+     */
+    @Override
+    public void recordComparison(int count) {
+        comparisonCount += count;
+        checkCancellation();
+    }
+
+    /**
+     * Increments swap count without performing actual swap.
+     * 
+     * @param count Number of swaps to record
+     */
+    @Override
+    public void recordSwap(int count) {
+        swapCount += count;
+        checkCancellation();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.comparisonCount = 0;
+        this.swapCount = 0;
+        this.arrayAccessCount = 0;
+        this.operationsSinceCheck = 0;
+    }
+
+    /**
+     * Periodically checks whether the current thread has been interrupted.
+     * The interrupt flag is left set so callers further up can see it too.
+     * 
+     * @throws CancellationException if the current thread has been interrupted
+     */
+    private void checkCancellation() {
+        if (++operationsSinceCheck >= CANCELLATION_CHECK_INTERVAL) {
+            operationsSinceCheck = 0;
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Algorithm execution cancelled");
+            }
+        }
+    }
+
+    // Getters
+
+    /**
+     * Gets the total number of comparisons performed.
+     * 
+     * @return The comparison count
+     */
+    @Override
+    public long getComparisonCount() {
+        return comparisonCount;
+    }
+
+    /**
+     * Gets the total number of swaps performed.
+     * 
+     * @return The swap count
+     */
+    @Override
+    public long getSwapCount() {
+        return swapCount;
+    }
+
+    /**
+     * Gets the total number of array accesses.
+     * 
+     * @return The array access count
+     */
+    @Override
+    public long getArrayAccessCount() {
+        return arrayAccessCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.algorithmcomparison.util;
 
+import com.algorithmcomparison.model.BufferIntStorage;
+
 import java.util.Arrays;
 import java.util.Random;
 
@@ -10,17 +12,23 @@ import java.util.Random;
  * - Random: Randomly generated integers or strings
  * - Sorted: Pre-sorted in ascending order
  * - Reverse Sorted: Pre-sorted in descending order
+ * - Nearly Sorted: Sorted with a small percentage of random swaps
+ * - Duplicates: Values drawn from a small pool of distinct values
  * 
- * Supports both integer and string datasets.
+ * Supports both integer and string datasets. Random, sorted and reverse
+ * sorted integers can also be written straight into off-heap storage in
+ * chunks, so generating them never needs the whole dataset on the heap.
  * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 1.1
  */
 public class DatasetGenerator {
 
     private static final Random random = new Random();
     private static final int DEFAULT_MIN = 1;
     private static final int DEFAULT_MAX = 10000;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final long MAX_HISTOGRAM_RANGE = 1 << 24;
     private static final String[] SAMPLE_WORDS = {
         "apple", "banana", "cherry", "date", "elderberry", "fig", "grape", "honeydew",
         "kiwi", "lemon", "mango", "nectarine", "orange", "papaya", "quince", "raspberry",
@@ -162,6 +170,69 @@ public class DatasetGenerator {
         return data;
     }
 
+    /**
+     * Checks whether generateInto supports a dataset type and value range.
+     * 
+     * @param type RANDOM, SORTED or REVERSE_SORTED
+     * @param minValue Minimum value (inclusive)
+     * @param maxValue Maximum value (inclusive)
+     * @return true for RANDOM, and for sorted types whose range fits a histogram of 2^24 counters
+     */
+    public static boolean canGenerateInto(String type, int minValue, int maxValue) {
+        switch (type.toUpperCase()) {
+            case "RANDOM":
+                return true;
+            case "SORTED":
+            case "REVERSE_SORTED":
+                return (long) maxValue - minValue + 1 <= MAX_HISTOGRAM_RANGE;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Generates integers into off-heap storage, CHUNK_SIZE values at a time.
+     * 
+     * Draws the same random values as generateRandom. Sorted types count the
+     * drawn values in a histogram and write them back in order, which gives
+     * exactly the result of generateSorted / generateReverseSorted without
+     * holding or sorting the dataset on the heap.
+     * 
+     * @param out Storage to fill; its remaining capacity is the dataset size
+     * @param type RANDOM, SORTED or REVERSE_SORTED
+     * @param minValue Minimum value (inclusive)
+     * @param maxValue Maximum value (inclusive)
+     * @throws IllegalArgumentException if canGenerateInto(type, minValue, maxValue) is false
+     */
+    public static void generateInto(BufferIntStorage.Builder out, String type, int minValue, int maxValue) {
+        if (!canGenerateInto(type, minValue, maxValue)) {
+            throw new IllegalArgumentException("Cannot generate " + type + " data in range ["
+                + minValue + ", " + maxValue + "] off-heap");
+        }
+        int size = out.remaining();
+
+        if ("RANDOM".equalsIgnoreCase(type)) {
+            for (int done = 0; done < size; done += CHUNK_SIZE) {
+                int[] chunk = generateRandom(Math.min(CHUNK_SIZE, size - done), minValue, maxValue);
+                out.put(chunk, 0, chunk.length);
+            }
+            return;
+        }
+
+        int[] counts = new int[(int) ((long) maxValue - minValue + 1)];
+        for (int done = 0; done < size; done += CHUNK_SIZE) {
+            for (int value : generateRandom(Math.min(CHUNK_SIZE, size - done), minValue, maxValue)) {
+                counts[value - minValue]++;
+            }
+        }
+
+        boolean descending = "REVERSE_SORTED".equalsIgnoreCase(type);
+        for (int i = 0; i < counts.length; i++) {
+            int bucket = descending ? counts.length - 1 - i : i;
+            out.fill(minValue + bucket, counts[bucket]);
+        }
+    }
+
     /**
      * Reverses an array in place.
      * 
@@ -249,6 +320,45 @@ public class DatasetGenerator {
         return data;
     }
 
+    /**
+     * Generates a nearly sorted string dataset.
+     * 
+     * @param size Number of elements to generate
+     * @param swapPercentage Percentage of elements to swap (0-100)
+     * @return Nearly sorted array of strings
+     */
+    public static String[] generateNearlySortedStrings(int size, int swapPercentage) {
+        String[] data = generateSortedStrings(size);
+        
+        int swapCount = (size * swapPercentage) / 100;
+        for (int i = 0; i < swapCount; i++) {
+            swapStrings(data, random.nextInt(size), random.nextInt(size));
+        }
+        
+        return data;
+    }
+
+    /**
+     * Generates a string dataset with many duplicate values.
+     * 
+     * @param size Number of elements to generate
+     * @param uniqueValuesCount Number of unique strings
+     * @return Array of strings with many duplicates
+     */
+    public static String[] generateStringsWithDuplicates(int size, int uniqueValuesCount) {
+        if (uniqueValuesCount <= 0 || uniqueValuesCount > size) {
+            uniqueValuesCount = Math.max(1, size / 10); // Default to 10% unique
+        }
+
+        String[] pool = generateRandomStrings(uniqueValuesCount);
+        String[] data = new String[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = pool[random.nextInt(pool.length)];
+        }
+
+        return data;
+    }
+
     /**
      * Reverses a string array in place.
      * 
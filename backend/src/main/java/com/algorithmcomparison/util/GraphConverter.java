@@ -1,9 +1,10 @@
 package com.algorithmcomparison.util;
 
 import com.algorithmcomparison.model.GraphDataset;
-import com.algorithmcomparison.model.GraphDataset.GraphNode;
 import com.algorithmcomparison.model.GraphDataset.GraphType;
 
+import java.util.Arrays;
+
 /**
  * Utility class for converting array datasets to graph structures.
  * 
@@ -12,14 +13,21 @@ import com.algorithmcomparison.model.GraphDataset.GraphType;
  * 
  * Supported Conversions:
  * - Binary Search Tree (BST): Values inserted to maintain BST property
+ * - Balanced BST: Built from the values' sorted order, rooted at the median
+ * - AVL Tree: BST insertion with AVL rotations after each insertion
  * - Complete Binary Tree: Array indices map to tree structure
  * - Linked List: Sequential chain of nodes
  * 
+ * All conversions produce the CSR (offset/target array) form of GraphDataset.
+ * Node i always holds array[i], so node IDs map back to array indices.
+ * 
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 2.0
  */
 public class GraphConverter {
 
+    private static final int NO_CHILD = -1;
+
     /**
      * Converts an array to a Binary Search Tree.
      * 
@@ -30,70 +38,317 @@ public class GraphConverter {
      * 
      * Time Complexity: O(n * h) where h is the height of the tree
      * - Best case (balanced): O(n log n)
-     * - Worst case (skewed): O(n²)
+     * - Worst case (skewed, e.g. sorted input): O(n²)
+     * 
+     * Use convertToBalancedBinarySearchTree or convertToAvlTree when the
+     * input order is not random.
      * 
      * @param sourceDatasetId ID of the source dataset
      * @param array Array to convert
      * @return GraphDataset representing a BST
      */
     public static GraphDataset convertToBinarySearchTree(String sourceDatasetId, int[] array) {
-        GraphDataset graph = new GraphDataset(sourceDatasetId, GraphType.BINARY_SEARCH_TREE);
-
         if (array == null || array.length == 0) {
-            return graph;
+            return GraphDataset.empty(sourceDatasetId, GraphType.BINARY_SEARCH_TREE);
         }
 
-        // Root node is the first element
-        GraphNode root = new GraphNode(0, array[0]);
-        graph.addNode(root);
+        // Child links while building; -1 means no child. The root is the first element.
+        int[] left = new int[array.length];
+        int[] right = new int[array.length];
+        Arrays.fill(left, NO_CHILD);
+        Arrays.fill(right, NO_CHILD);
 
         // Insert remaining elements
         for (int i = 1; i < array.length; i++) {
-            insertIntoBST(graph, array[i], i);
+            insertIntoBST(array, left, right, i);
         }
 
-        return graph;
+        return fromChildLinks(sourceDatasetId, GraphType.BINARY_SEARCH_TREE, array.clone(), left, right, 0);
     }
 
     /**
      * Inserts a value into the BST maintaining BST properties.
      * 
-     * @param graph The graph dataset
-     * @param value The value to insert
-     * @param nodeId The ID for the new node
+     * @param array The values; node i holds array[i]
+     * @param left Left child of each node
+     * @param right Right child of each node
+     * @param nodeId The node to insert
      */
-    private static void insertIntoBST(GraphDataset graph, int value, int nodeId) {
-        GraphNode newNode = new GraphNode(nodeId, value);
-        GraphNode current = graph.getNode(0); // Start from root
+    private static void insertIntoBST(int[] array, int[] left, int[] right, int nodeId) {
+        int value = array[nodeId];
+        int current = 0; // Start from root
 
         // Traverse tree to find insertion point
         while (true) {
-            if (value < current.getValue()) {
+            if (value < array[current]) {
                 // Go to left subtree
-                if (current.getLeftChild() == null) {
+                if (left[current] == NO_CHILD) {
                     // Found insertion point - make new node left child
-                    current.setLeftChild(nodeId);
-                    graph.addNode(newNode);
-                    graph.addEdge(current.getNodeId(), nodeId);
-                    break;
-                } else {
-                    // Continue traversing left
-                    current = graph.getNode(current.getLeftChild());
+                    left[current] = nodeId;
+                    return;
                 }
+                current = left[current];
             } else {
                 // Go to right subtree (includes equal values)
-                if (current.getRightChild() == null) {
+                if (right[current] == NO_CHILD) {
                     // Found insertion point - make new node right child
-                    current.setRightChild(nodeId);
-                    graph.addNode(newNode);
-                    graph.addEdge(current.getNodeId(), nodeId);
-                    break;
+                    right[current] = nodeId;
+                    return;
+                }
+                current = right[current];
+            }
+        }
+    }
+
+    /**
+     * Converts an array to a height-balanced Binary Search Tree.
+     * 
+     * The node IDs are sorted by value (ties by array index), and each
+     * subtree is rooted at the middle of its range of that order, so the
+     * height is ceil(log2(n + 1)) whatever the input order. Equal values
+     * stay adjacent in order but may fall on either side of each other.
+     * 
+     * Time Complexity: O(n log n) for the sort, O(n) for the linking
+     * 
+     * @param sourceDatasetId ID of the source dataset
+     * @param array Array to convert
+     * @return GraphDataset representing a balanced BST
+     */
+    public static GraphDataset convertToBalancedBinarySearchTree(String sourceDatasetId, int[] array) {
+        if (array == null || array.length == 0) {
+            return GraphDataset.empty(sourceDatasetId, GraphType.BALANCED_BINARY_SEARCH_TREE);
+        }
+
+        int n = array.length;
+        int[] left = new int[n];
+        int[] right = new int[n];
+        int root = linkBalanced(sortedNodeIds(array), 0, n - 1, left, right);
+
+        return fromChildLinks(sourceDatasetId, GraphType.BALANCED_BINARY_SEARCH_TREE, array.clone(), left, right, root);
+    }
+
+    /**
+     * Orders node IDs by value, then by ID, with a single primitive sort.
+     * 
+     * @param array The values; node i holds array[i]
+     * @return The node IDs in sorted order
+     */
+    private static int[] sortedNodeIds(int[] array) {
+        // Value in the high half, ID (non-negative) in the low half
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = ((long) array[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] nodeIds = new int[array.length];
+        for (int i = 0; i < keys.length; i++) {
+            nodeIds[i] = (int) keys[i];
+        }
+        return nodeIds;
+    }
+
+    /**
+     * Links nodeIds[lo..hi] into a balanced subtree rooted at its middle.
+     * Recursion depth is the tree height, O(log n).
+     * 
+     * @return The subtree's root, or -1 if the range is empty
+     */
+    private static int linkBalanced(int[] nodeIds, int lo, int hi, int[] left, int[] right) {
+        if (lo > hi) {
+            return NO_CHILD;
+        }
+        int mid = (lo + hi) >>> 1;
+        int node = nodeIds[mid];
+        left[node] = linkBalanced(nodeIds, lo, mid - 1, left, right);
+        right[node] = linkBalanced(nodeIds, mid + 1, hi, left, right);
+        return node;
+    }
+
+    /**
+     * Converts an array to an AVL tree.
+     * 
+     * Elements are inserted in array order as in convertToBinarySearchTree,
+     * but after each insertion the path back to the root is rebalanced with
+     * single or double rotations, so the heights of every node's subtrees
+     * differ by at most one and the tree height stays below 1.44 log2(n + 2).
+     * The root therefore moves away from node 0 as the tree grows.
+     * 
+     * Time Complexity: O(n log n)
+     * 
+     * @param sourceDatasetId ID of the source dataset
+     * @param array Array to convert
+     * @return GraphDataset representing an AVL tree
+     */
+    public static GraphDataset convertToAvlTree(String sourceDatasetId, int[] array) {
+        if (array == null || array.length == 0) {
+            return GraphDataset.empty(sourceDatasetId, GraphType.AVL_TREE);
+        }
+
+        AvlBuilder tree = new AvlBuilder(array);
+        for (int i = 1; i < array.length; i++) {
+            tree.insert(i);
+        }
+
+        return fromChildLinks(sourceDatasetId, GraphType.AVL_TREE, array.clone(), tree.left, tree.right, tree.root);
+    }
+
+    /**
+     * AVL tree over node IDs, held in parallel arrays while building.
+     */
+    private static final class AvlBuilder {
+
+        // An AVL tree of 2^31 nodes is at most 45 levels high
+        private static final int MAX_HEIGHT = 64;
+
+        private final int[] values;
+        private final int[] left;
+        private final int[] right;
+        private final int[] height;
+        private final int[] path = new int[MAX_HEIGHT];
+        private int root;
+
+        AvlBuilder(int[] values) {
+            this.values = values;
+            this.left = new int[values.length];
+            this.right = new int[values.length];
+            this.height = new int[values.length];
+            Arrays.fill(left, NO_CHILD);
+            Arrays.fill(right, NO_CHILD);
+            height[0] = 1; // The root is the first element
+        }
+
+        /**
+         * Inserts a node (smaller values left, equal or greater right) and
+         * rebalances its ancestors bottom-up.
+         */
+        void insert(int nodeId) {
+            int value = values[nodeId];
+            int depth = 0;
+            int current = root;
+
+            // Descend to the insertion point, remembering the path
+            while (true) {
+                path[depth++] = current;
+                if (value < values[current]) {
+                    if (left[current] == NO_CHILD) {
+                        left[current] = nodeId;
+                        break;
+                    }
+                    current = left[current];
+                } else {
+                    if (right[current] == NO_CHILD) {
+                        right[current] = nodeId;
+                        break;
+                    }
+                    current = right[current];
+                }
+            }
+            height[nodeId] = 1;
+
+            // Rebalance upwards until a subtree's height is unchanged
+            for (int d = depth - 1; d >= 0; d--) {
+                int node = path[d];
+                int oldHeight = height[node];
+                int subtree = rebalance(node);
+
+                if (d == 0) {
+                    root = subtree;
+                } else if (left[path[d - 1]] == node) {
+                    left[path[d - 1]] = subtree;
                 } else {
-                    // Continue traversing right
-                    current = graph.getNode(current.getRightChild());
+                    right[path[d - 1]] = subtree;
+                }
+
+                if (subtree == node && height[node] == oldHeight) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Restores the AVL balance of a node whose subtree grew by one level.
+         *
+         * @return The root of the rebalanced subtree
+         */
+        private int rebalance(int node) {
+            updateHeight(node);
+            int balance = heightOf(left[node]) - heightOf(right[node]);
+
+            if (balance > 1) {
+                // Left-right case: rotate the left child first
+                if (heightOf(right[left[node]]) > heightOf(left[left[node]])) {
+                    left[node] = rotateLeft(left[node]);
                 }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                // Right-left case: rotate the right child first
+                if (heightOf(left[right[node]]) > heightOf(right[right[node]])) {
+                    right[node] = rotateRight(right[node]);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private int rotateRight(int node) {
+            int pivot = left[node];
+            left[node] = right[pivot];
+            right[pivot] = node;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private int rotateLeft(int node) {
+            int pivot = right[node];
+            right[node] = left[pivot];
+            left[pivot] = node;
+            updateHeight(node);
+            updateHeight(pivot);
+            return pivot;
+        }
+
+        private void updateHeight(int node) {
+            height[node] = 1 + Math.max(heightOf(left[node]), heightOf(right[node]));
+        }
+
+        private int heightOf(int node) {
+            return node == NO_CHILD ? 0 : height[node];
+        }
+    }
+
+    /**
+     * Builds the CSR form of a binary tree given as child links, left child first.
+     *
+     * @param sourceDatasetId ID of the source dataset
+     * @param graphType Type of graph structure
+     * @param values Value of each node
+     * @param left Left child of each node, or -1
+     * @param right Right child of each node, or -1
+     * @param root The root node
+     * @return GraphDataset holding the tree
+     */
+    private static GraphDataset fromChildLinks(String sourceDatasetId, GraphType graphType,
+                                               int[] values, int[] left, int[] right, int root) {
+        int n = values.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + (left[i] != NO_CHILD ? 1 : 0) + (right[i] != NO_CHILD ? 1 : 0);
+        }
+
+        int[] targets = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            int edge = offsets[i];
+            if (left[i] != NO_CHILD) {
+                targets[edge++] = left[i];
+            }
+            if (right[i] != NO_CHILD) {
+                targets[edge] = right[i];
             }
         }
+        return new GraphDataset(sourceDatasetId, graphType, values, offsets, targets, root);
     }
 
     /**
@@ -108,6 +363,9 @@ public class GraphConverter {
      * This creates a complete binary tree where all levels are filled
      * except possibly the last, which is filled from left to right.
      * 
+     * In CSR form the children of the nodes before i are nodes 1..2i, so
+     * node i's edges start at min(2i, n - 1) and edge e points to node e + 1.
+     * 
      * Time Complexity: O(n)
      * 
      * @param sourceDatasetId ID of the source dataset
@@ -115,39 +373,17 @@ public class GraphConverter {
      * @return GraphDataset representing a complete binary tree
      */
     public static GraphDataset convertToCompleteBinaryTree(String sourceDatasetId, int[] array) {
-        GraphDataset graph = new GraphDataset(sourceDatasetId, GraphType.COMPLETE_BINARY_TREE);
-
         if (array == null || array.length == 0) {
-            return graph;
-        }
-
-        // Create all nodes
-        for (int i = 0; i < array.length; i++) {
-            GraphNode node = new GraphNode(i, array[i]);
-            graph.addNode(node);
+            return GraphDataset.empty(sourceDatasetId, GraphType.COMPLETE_BINARY_TREE);
         }
 
-        // Link nodes according to complete binary tree structure
-        for (int i = 0; i < array.length; i++) {
-            GraphNode node = graph.getNode(i);
-            
-            int leftChildIndex = 2 * i + 1;
-            int rightChildIndex = 2 * i + 2;
-
-            // Set left child if it exists
-            if (leftChildIndex < array.length) {
-                node.setLeftChild(leftChildIndex);
-                graph.addEdge(i, leftChildIndex);
-            }
-
-            // Set right child if it exists
-            if (rightChildIndex < array.length) {
-                node.setRightChild(rightChildIndex);
-                graph.addEdge(i, rightChildIndex);
-            }
+        int n = array.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            offsets[i] = (int) Math.min(2L * i, n - 1);
         }
-
-        return graph;
+        return new GraphDataset(sourceDatasetId, GraphType.COMPLETE_BINARY_TREE,
+            array.clone(), offsets, sequentialTargets(n - 1));
     }
 
     /**
@@ -163,25 +399,29 @@ public class GraphConverter {
      * @return GraphDataset representing a linked list
      */
     public static GraphDataset convertToLinkedList(String sourceDatasetId, int[] array) {
-        GraphDataset graph = new GraphDataset(sourceDatasetId, GraphType.LINKED_LIST);
-
         if (array == null || array.length == 0) {
-            return graph;
+            return GraphDataset.empty(sourceDatasetId, GraphType.LINKED_LIST);
         }
 
-        // Create all nodes
-        for (int i = 0; i < array.length; i++) {
-            GraphNode node = new GraphNode(i, array[i]);
-            graph.addNode(node);
-
-            // Link to next node if not the last element
-            if (i < array.length - 1) {
-                node.setNext(i + 1);
-                graph.addEdge(i, i + 1);
-            }
+        // Node i's only edge is edge i, pointing to node i + 1; the last node has none
+        int n = array.length;
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            offsets[i] = Math.min(i, n - 1);
         }
+        return new GraphDataset(sourceDatasetId, GraphType.LINKED_LIST,
+            array.clone(), offsets, sequentialTargets(n - 1));
+    }
 
-        return graph;
+    /**
+     * Creates edge targets 1, 2, ..., edgeCount (edge e points to node e + 1).
+     */
+    private static int[] sequentialTargets(int edgeCount) {
+        int[] targets = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            targets[e] = e + 1;
+        }
+        return targets;
     }
 
     /**
@@ -196,6 +436,10 @@ public class GraphConverter {
         switch (graphType) {
             case BINARY_SEARCH_TREE:
                 return convertToBinarySearchTree(sourceDatasetId, array);
+            case BALANCED_BINARY_SEARCH_TREE:
+                return convertToBalancedBinarySearchTree(sourceDatasetId, array);
+            case AVL_TREE:
+                return convertToAvlTree(sourceDatasetId, array);
             case COMPLETE_BINARY_TREE:
                 return convertToCompleteBinaryTree(sourceDatasetId, array);
             case LINKED_LIST:
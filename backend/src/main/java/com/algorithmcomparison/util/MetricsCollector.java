@@ -1,294 +1,277 @@
 package com.algorithmcomparison.util;
 
 /**
- * Utility class for collecting algorithm performance metrics.
- * 
- * This class wraps array operations to track comparisons, swaps, and array accesses.
- * It provides a centralized way to monitor algorithm behavior without modifying
- * the core algorithm logic with counting statements.
- * 
+ * Collects algorithm performance metrics.
+ *
+ * Algorithms route their comparisons, swaps and array accesses through this
+ * interface so they can be counted without adding counting statements to the
+ * algorithm logic. Implementations trade accuracy against overhead:
+ * - COUNTING: exact counts of every operation (CountingMetricsCollector)
+ * - SAMPLED: counts are estimated from every Nth operation (SampledMetricsCollector)
+ * - TIMING_ONLY: no counting at all, only wall-clock time (NoOpMetricsCollector)
+ *
  * Usage:
  * <pre>
- * MetricsCollector metrics = new MetricsCollector();
+ * MetricsCollector metrics = MetricsCollector.create(MetricsCollector.Mode.COUNTING);
  * // Use metrics.compare() instead of direct comparisons
  * // Use metrics.swap() instead of direct swaps
  * </pre>
- * 
+ *
+ * Use a single implementation within a run: when an algorithm call site only
+ * ever sees one implementation, the JIT inlines it, and for NoOpMetricsCollector
+ * the instrumentation shrinks to the countdown of its cancellation check.
+ *
+ * Every implementation periodically checks for thread interruption and then
+ * throws a CancellationException, so any run can be cancelled part way through.
+ *
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 2.0
  */
-public class MetricsCollector {
-    
-    private long comparisonCount;
-    private long swapCount;
-    private long arrayAccessCount;
-    private long startTime;
-    private long endTime;
-    private boolean timing;
+public interface MetricsCollector {
 
     /**
-     * Default constructor initializes all counters to zero.
+     * Enum representing how much instrumentation a run pays for.
      */
-    public MetricsCollector() {
-        this.comparisonCount = 0;
-        this.swapCount = 0;
-        this.arrayAccessCount = 0;
-        this.timing = false;
+    enum Mode {
+        COUNTING,
+        SAMPLED,
+        TIMING_ONLY
     }
 
     /**
-     * Starts timing the algorithm execution.
-     * Uses System.nanoTime() for precise measurement.
+     * Creates a collector for the given mode.
+     *
+     * @param mode Metrics mode (null = COUNTING)
+     * @return A new collector
      */
-    public void startTiming() {
-        this.startTime = System.nanoTime();
-        this.timing = true;
+    static MetricsCollector create(Mode mode) {
+        return create(mode, SampledMetricsCollector.DEFAULT_SAMPLE_INTERVAL);
     }
 
     /**
-     * Stops timing the algorithm execution.
+     * Creates a collector for the given mode.
+     *
+     * @param mode Metrics mode (null = COUNTING)
+     * @param sampleInterval Operations per sample in SAMPLED mode
+     * @return A new collector
+     */
+    static MetricsCollector create(Mode mode, int sampleInterval) {
+        if (mode == null) {
+            return new CountingMetricsCollector();
+        }
+        return switch (mode) {
+            case SAMPLED -> new SampledMetricsCollector(sampleInterval);
+            case TIMING_ONLY -> new NoOpMetricsCollector();
+            case COUNTING -> new CountingMetricsCollector();
+        };
+    }
+
+    /**
+     * Parses a metrics mode name, falling back to the given default.
+     *
+     * @param name Mode name (case-insensitive), may be null
+     * @param fallback Mode to use if the name is missing
+     * @return The parsed mode
+     * @throws IllegalArgumentException if the name is not a known mode
      */
-    public void stopTiming() {
-        this.endTime = System.nanoTime();
-        this.timing = false;
+    static Mode parseMode(String name, Mode fallback) {
+        if (name == null || name.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Mode.valueOf(name.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown metrics mode: " + name);
+        }
     }
 
     /**
-     * Compares two integer values and increments the comparison counter.
-     * 
+     * Gets the mode this collector implements.
+     *
+     * @return The metrics mode
+     */
+    Mode getMode();
+
+    // Timing
+
+    /**
+     * Starts timing the algorithm execution.
+     */
+    void startTiming();
+
+    /**
+     * Stops timing the algorithm execution.
+     */
+    void stopTiming();
+
+    // Comparisons
+
+    /**
+     * Compares two integer values.
+     *
      * @param a First value
      * @param b Second value
      * @return negative if a < b, zero if a == b, positive if a > b
      */
-    public int compare(int a, int b) {
-        comparisonCount++;
-        return Integer.compare(a, b);
-    }
+    int compare(int a, int b);
 
     /**
-     * Checks if first value is less than second and increments comparison counter.
-     * 
+     * Checks if first value is less than second.
+     *
      * @param a First value
      * @param b Second value
      * @return true if a < b
      */
-    public boolean isLessThan(int a, int b) {
-        comparisonCount++;
-        return a < b;
-    }
+    boolean isLessThan(int a, int b);
 
     /**
-     * Checks if first value is greater than second and increments comparison counter.
-     * 
+     * Checks if first value is greater than second.
+     *
      * @param a First value
      * @param b Second value
      * @return true if a > b
      */
-    public boolean isGreaterThan(int a, int b) {
-        comparisonCount++;
-        return a > b;
-    }
+    boolean isGreaterThan(int a, int b);
 
     /**
-     * Checks if first string is greater than second (lexicographically) and increments comparison counter.
-     * 
+     * Checks if first string is greater than second (lexicographically).
+     *
      * @param a First string
      * @param b Second string
      * @return true if a > b lexicographically
      */
-    public boolean isGreaterThan(String a, String b) {
-        comparisonCount++;
-        return a.compareTo(b) > 0;
-    }
+    boolean isGreaterThan(String a, String b);
 
     /**
-     * Checks if first value is less than or equal to second and increments comparison counter.
-     * 
+     * Checks if first value is less than or equal to second.
+     *
      * @param a First value
      * @param b Second value
      * @return true if a <= b
      */
-    public boolean isLessThanOrEqual(int a, int b) {
-        comparisonCount++;
-        return a <= b;
-    }
+    boolean isLessThanOrEqual(int a, int b);
 
     /**
-     * Checks if first value is greater than or equal to second and increments comparison counter.
-     * 
+     * Checks if first value is greater than or equal to second.
+     *
      * @param a First value
      * @param b Second value
      * @return true if a >= b
      */
-    public boolean isGreaterThanOrEqual(int a, int b) {
-        comparisonCount++;
-        return a >= b;
-    }
+    boolean isGreaterThanOrEqual(int a, int b);
 
     /**
-     * Checks if two values are equal and increments comparison counter.
-     * 
+     * Checks if two values are equal.
+     *
      * @param a First value
      * @param b Second value
      * @return true if a == b
      */
-    public boolean isEqual(int a, int b) {
-        comparisonCount++;
-        return a == b;
-    }
+    boolean isEqual(int a, int b);
+
+    // Array operations
 
     /**
-     * Swaps two elements in an integer array and increments the swap counter.
-     * 
+     * Swaps two elements in an integer array.
+     *
      * @param array The array containing the elements
      * @param i First index
      * @param j Second index
      */
-    public void swap(int[] array, int i, int j) {
-        swapCount++;
-        arrayAccessCount += 4; // 2 reads + 2 writes
-        int temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
-    }
+    void swap(int[] array, int i, int j);
 
     /**
-     * Swaps two elements in a string array and increments the swap counter.
-     * 
+     * Swaps two elements in a string array.
+     *
      * @param array The array containing the elements
      * @param i First index
      * @param j Second index
      */
-    public void swap(String[] array, int i, int j) {
-        swapCount++;
-        arrayAccessCount += 4; // 2 reads + 2 writes
-        String temp = array[i];
-        array[i] = array[j];
-        array[j] = temp;
-    }
+    void swap(String[] array, int i, int j);
 
     /**
-     * Gets an array element and increments the access counter.
-     * 
+     * Gets an array element.
+     *
      * @param array The array
      * @param index The index
      * @return The value at the index
      */
-    public int get(int[] array, int index) {
-        arrayAccessCount++;
-        return array[index];
-    }
+    int get(int[] array, int index);
 
     /**
-     * Sets an array element and increments the access counter.
-     * 
+     * Sets an array element.
+     *
      * @param array The array
      * @param index The index
      * @param value The value to set
      */
-    public void set(int[] array, int index, int value) {
-        arrayAccessCount++;
-        array[index] = value;
-    }
+    void set(int[] array, int index, int value);
+
+    // Bulk recording
 
     /**
-     * Increments array access count without performing actual access.
+     * Records array accesses without performing them.
      * Useful when direct array access is unavoidable.
-     * 
+     *
      * @param count Number of accesses to record
      */
-    public void recordArrayAccess(int count) {
-        arrayAccessCount += count;
-    }
+    void recordArrayAccess(int count);
 
     /**
-     * Increments comparison count without performing actual comparison.
-     * 
+     * Records comparisons without performing them.
+     *
      * @param count Number of comparisons to record
      */
-    public void recordComparison(int count) {
-        comparisonCount += count;
-    }
+    void recordComparison(int count);
 
     /**
-     * Increments swap count without performing actual swap.
-     * 
+     * Records swaps without performing them.
+     *
      * @param count Number of swaps to record
      */
-    public void recordSwap(int count) {
-        swapCount += count;
-    }
+    void recordSwap(int count);
 
     /**
-     * Resets all counters to zero.
+     * Resets all counters and timing.
      */
-    public void reset() {
-        this.comparisonCount = 0;
-        this.swapCount = 0;
-        this.arrayAccessCount = 0;
-        this.startTime = 0;
-        this.endTime = 0;
-        this.timing = false;
-    }
+    void reset();
 
     // Getters
 
     /**
-     * Gets the total number of comparisons performed.
-     * 
+     * Gets the number of comparisons performed (estimated in SAMPLED mode, 0 in TIMING_ONLY mode).
+     *
      * @return The comparison count
      */
-    public long getComparisonCount() {
-        return comparisonCount;
-    }
+    long getComparisonCount();
 
     /**
-     * Gets the total number of swaps performed.
-     * 
+     * Gets the number of swaps performed (estimated in SAMPLED mode, 0 in TIMING_ONLY mode).
+     *
      * @return The swap count
      */
-    public long getSwapCount() {
-        return swapCount;
-    }
+    long getSwapCount();
 
     /**
-     * Gets the total number of array accesses.
-     * 
+     * Gets the number of array accesses (estimated in SAMPLED mode, 0 in TIMING_ONLY mode).
+     *
      * @return The array access count
      */
-    public long getArrayAccessCount() {
-        return arrayAccessCount;
-    }
+    long getArrayAccessCount();
 
     /**
      * Gets the execution time in nanoseconds.
-     * 
-     * @return The execution time, or 0 if timing hasn't been stopped
+     *
+     * @return The execution time, or the time so far if timing hasn't been stopped
      */
-    public long getExecutionTimeNanos() {
-        if (timing) {
-            return System.nanoTime() - startTime;
-        }
-        return endTime - startTime;
-    }
+    long getExecutionTimeNanos();
 
     /**
      * Gets the execution time in milliseconds.
-     * 
+     *
      * @return The execution time in milliseconds
      */
-    public double getExecutionTimeMillis() {
+    default double getExecutionTimeMillis() {
         return getExecutionTimeNanos() / 1_000_000.0;
     }
-
-    @Override
-    public String toString() {
-        return "MetricsCollector{" +
-                "comparisons=" + comparisonCount +
-                ", swaps=" + swapCount +
-                ", arrayAccesses=" + arrayAccessCount +
-                ", executionTime=" + String.format("%.3f", getExecutionTimeMillis()) + "ms" +
-                '}';
-    }
 }
-
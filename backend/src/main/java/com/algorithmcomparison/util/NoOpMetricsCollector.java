@@ -0,0 +1,180 @@
+package com.algorithmcomparison.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * MetricsCollector that counts nothing and only measures wall-clock time.
+ *
+ * Every operation performs the underlying comparison or array access and
+ * decrements one shared countdown, so once inlined by the JIT the algorithm
+ * runs with a single decrement and branch per operation. Use it for
+ * timing-only runs whose numbers should reflect the algorithm rather than the
+ * instrumentation. All counters report 0.
+ *
+ * When the countdown expires (every CANCELLATION_CHECK_INTERVAL operations,
+ * bulk record* calls counting as count operations) the collector checks
+ * whether the running thread has been interrupted, so timing-only runs can
+ * be cancelled part way through like the counting ones.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public final class NoOpMetricsCollector extends AbstractMetricsCollector {
+
+    // Number of operations between interruption checks
+    private static final int CANCELLATION_CHECK_INTERVAL = 1 << 16;
+
+    private int countdown = CANCELLATION_CHECK_INTERVAL;
+
+    @Override
+    public Mode getMode() {
+        return Mode.TIMING_ONLY;
+    }
+
+    @Override
+    public int compare(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return Integer.compare(a, b);
+    }
+
+    @Override
+    public boolean isLessThan(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a < b;
+    }
+
+    @Override
+    public boolean isGreaterThan(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a > b;
+    }
+
+    @Override
+    public boolean isGreaterThan(String a, String b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a.compareTo(b) > 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a <= b;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a >= b;
+    }
+
+    @Override
+    public boolean isEqual(int a, int b) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return a == b;
+    }
+
+    @Override
+    public void swap(int[] array, int i, int j) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    @Override
+    public void swap(String[] array, int i, int j) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        String temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    @Override
+    public int get(int[] array, int index) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        return array[index];
+    }
+
+    @Override
+    public void set(int[] array, int index, int value) {
+        if (--countdown == 0) {
+            checkCancellation();
+        }
+        array[index] = value;
+    }
+
+    @Override
+    public void recordArrayAccess(int count) {
+        if ((countdown -= count) <= 0) {
+            checkCancellation();
+        }
+    }
+
+    @Override
+    public void recordComparison(int count) {
+        if ((countdown -= count) <= 0) {
+            checkCancellation();
+        }
+    }
+
+    @Override
+    public void recordSwap(int count) {
+        if ((countdown -= count) <= 0) {
+            checkCancellation();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.countdown = CANCELLATION_CHECK_INTERVAL;
+    }
+
+    @Override
+    public long getComparisonCount() {
+        return 0;
+    }
+
+    @Override
+    public long getSwapCount() {
+        return 0;
+    }
+
+    @Override
+    public long getArrayAccessCount() {
+        return 0;
+    }
+
+    /**
+     * Restarts the countdown and checks whether the current thread has been
+     * interrupted. The interrupt flag is left set so callers further up can see it too.
+     *
+     * @throws CancellationException if the current thread has been interrupted
+     */
+    private void checkCancellation() {
+        countdown = CANCELLATION_CHECK_INTERVAL;
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Algorithm execution cancelled");
+        }
+    }
+}
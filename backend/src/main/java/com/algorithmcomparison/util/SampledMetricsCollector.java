@@ -0,0 +1,258 @@
+package com.algorithmcomparison.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * MetricsCollector that records only every Nth operation and scales it up.
+ *
+ * All operations share one countdown, so the per-operation cost is a single
+ * decrement and branch. When the countdown expires, the operation that
+ * triggered it is recorded with weight N (a swap also counts its 4 array
+ * accesses, as in CountingMetricsCollector). Counts are therefore estimates
+ * whose error shrinks with the number of operations. A bulk record* call
+ * counts as count operations against the same countdown and records every
+ * sample that falls within it, so algorithms that report their work in bulk
+ * are sampled too.
+ *
+ * The interruption check for cooperative cancellation runs on each sample.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.1
+ */
+public final class SampledMetricsCollector extends AbstractMetricsCollector {
+
+    /**
+     * Sample interval used when none is configured.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    private final int sampleInterval;
+    private int countdown;
+    private long comparisonCount;
+    private long swapCount;
+    private long arrayAccessCount;
+
+    /**
+     * Creates a collector sampling every DEFAULT_SAMPLE_INTERVAL operations.
+     */
+    public SampledMetricsCollector() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates a collector sampling every Nth operation.
+     *
+     * @param sampleInterval N, the number of operations per sample (at least 1)
+     * @throws IllegalArgumentException if sampleInterval is less than 1
+     */
+    public SampledMetricsCollector(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("Sample interval must be at least 1: " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+        this.countdown = sampleInterval;
+    }
+
+    @Override
+    public Mode getMode() {
+        return Mode.SAMPLED;
+    }
+
+    /**
+     * Gets the number of operations represented by each sample.
+     *
+     * @return The sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    @Override
+    public int compare(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return Integer.compare(a, b);
+    }
+
+    @Override
+    public boolean isLessThan(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a < b;
+    }
+
+    @Override
+    public boolean isGreaterThan(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a > b;
+    }
+
+    @Override
+    public boolean isGreaterThan(String a, String b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a.compareTo(b) > 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a <= b;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a >= b;
+    }
+
+    @Override
+    public boolean isEqual(int a, int b) {
+        if (--countdown == 0) {
+            sampleComparison();
+        }
+        return a == b;
+    }
+
+    @Override
+    public void swap(int[] array, int i, int j) {
+        if (--countdown == 0) {
+            sampleSwap();
+        }
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    @Override
+    public void swap(String[] array, int i, int j) {
+        if (--countdown == 0) {
+            sampleSwap();
+        }
+        String temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    @Override
+    public int get(int[] array, int index) {
+        if (--countdown == 0) {
+            sampleArrayAccess();
+        }
+        return array[index];
+    }
+
+    @Override
+    public void set(int[] array, int index, int value) {
+        if (--countdown == 0) {
+            sampleArrayAccess();
+        }
+        array[index] = value;
+    }
+
+    @Override
+    public void recordArrayAccess(int count) {
+        if ((countdown -= count) <= 0) {
+            arrayAccessCount += sampleBulk();
+        }
+    }
+
+    @Override
+    public void recordComparison(int count) {
+        if ((countdown -= count) <= 0) {
+            comparisonCount += sampleBulk();
+        }
+    }
+
+    @Override
+    public void recordSwap(int count) {
+        if ((countdown -= count) <= 0) {
+            swapCount += sampleBulk();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.countdown = sampleInterval;
+        this.comparisonCount = 0;
+        this.swapCount = 0;
+        this.arrayAccessCount = 0;
+    }
+
+    @Override
+    public long getComparisonCount() {
+        return comparisonCount;
+    }
+
+    @Override
+    public long getSwapCount() {
+        return swapCount;
+    }
+
+    @Override
+    public long getArrayAccessCount() {
+        return arrayAccessCount;
+    }
+
+    // ==================== Sampling ====================
+
+    private void sampleComparison() {
+        comparisonCount += sampleInterval;
+        endSample();
+    }
+
+    private void sampleSwap() {
+        swapCount += sampleInterval;
+        arrayAccessCount += 4L * sampleInterval; // 2 reads + 2 writes per swap
+        endSample();
+    }
+
+    private void sampleArrayAccess() {
+        arrayAccessCount += sampleInterval;
+        endSample();
+    }
+
+    /**
+     * Ends the samples of a bulk call that took the countdown to zero or below:
+     * one at the operation that expired the countdown and one every
+     * sampleInterval operations after it.
+     *
+     * @return The number of operations the samples represent
+     */
+    private long sampleBulk() {
+        long samples = 1 + (-(long) countdown) / sampleInterval;
+        countdown = (int) (countdown + samples * sampleInterval);
+        checkCancellation();
+        return samples * sampleInterval;
+    }
+
+    /**
+     * Restarts the countdown after a single-operation sample.
+     */
+    private void endSample() {
+        countdown = sampleInterval;
+        checkCancellation();
+    }
+
+    /**
+     * Checks whether the current thread has been interrupted. The interrupt
+     * flag is left set so callers further up can see it too.
+     *
+     * @throws CancellationException if the current thread has been interrupted
+     */
+    private void checkCancellation() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Algorithm execution cancelled");
+        }
+    }
+}
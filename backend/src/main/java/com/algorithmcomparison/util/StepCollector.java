@@ -1,365 +1,241 @@
 package com.algorithmcomparison.util;
 
+import com.algorithmcomparison.model.CompactVisualization;
+import com.algorithmcomparison.model.VisualizationDelta;
 import com.algorithmcomparison.model.VisualizationStep;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Simple utility to collect visualization steps during algorithm execution.
- * 
+ *
  * Algorithms can optionally use this to record their steps for visualization.
- * The collector just stores snapshots - it doesn't modify anything.
- * 
+ * The collector never modifies the algorithm's array.
+ *
+ * Steps are stored delta-encoded: the collector keeps a private copy of the
+ * last seen array state and, for each step, records only the indices whose
+ * values changed, plus a full keyframe every keyframeInterval steps (or every
+ * array-length steps for larger arrays, so keyframes add at most about one
+ * element per step). This keeps memory and response size proportional to the
+ * number of changes instead of steps × array size. getSteps() expands the
+ * deltas back into full snapshots for clients that need them.
+ *
+ * To keep recording O(1) per step, only the initial, complete and custom/region
+ * steps diff the whole array. Swaps and sets look only at the indices they
+ * wrote, and comparisons, checks and search results assume the array is
+ * unchanged. Algorithms must therefore record every write with recordSwap or
+ * recordSet (or a full step) before the next step; keyframes always copy the
+ * whole array, so an unrecorded write shows up at the latest at the next one.
+ *
  * Supports both sorting and searching algorithms.
- * 
+ *
  * @author Algorithm Comparison Team
- * @version 1.0
+ * @version 2.1
  */
 public class StepCollector {
-    
-    private List<VisualizationStep> steps;
+
+    /**
+     * Number of steps between full keyframes when none is configured.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    // Shared color arrays for the common highlight patterns (never modified)
+    private static final String[] RED_PAIR = {"RED", "RED"};
+    private static final String[] YELLOW_PAIR = {"YELLOW", "YELLOW"};
+    private static final String[] BLUE_SINGLE = {"BLUE"};
+    private static final String[] ORANGE_SINGLE = {"ORANGE"};
+    private static final String[] GREEN_SINGLE = {"GREEN"};
+
+    // Changed indices for steps that only read the array (never modified)
+    private static final int[] NO_CHANGES = {};
+
+    private final int keyframeInterval;
+    private final List<VisualizationDelta> steps;
     private int stepNumber;
-    
+    private int stepsSinceKeyframe;
+
+    private String dataType;
+    private Object[] initialState;
+
+    // Last recorded array state, used to compute the next delta
+    private int[] intState;
+    private String[] stringState;
+    private int[] changeBuffer;
+
     public StepCollector() {
+        this(DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a collector with a custom keyframe interval.
+     *
+     * @param keyframeInterval Number of steps between full keyframes (at least 1)
+     * @throws IllegalArgumentException if keyframeInterval is less than 1
+     */
+    public StepCollector(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1: " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
         this.steps = new ArrayList<>();
         this.stepNumber = 0;
+        this.changeBuffer = new int[16];
     }
-    
+
     /**
      * Records the initial state (for integer arrays).
      */
     public void recordInitial(int[] array, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "INIT"
-        );
-        step.setDescription(description);
-        steps.add(step);
+        newStep(array, "INIT", description);
     }
-    
+
     /**
      * Records the initial state (for string arrays).
      */
     public void recordInitial(String[] array, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "INIT"
-        );
-        step.setDescription(description);
-        steps.add(step);
+        newStep(array, "INIT", description);
     }
-    
+
     /**
      * Records a comparison (for sorting integer arrays).
      */
     public void recordCompare(int[] array, int index1, int index2, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "COMPARE"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index1, "RED");
-        step.addHighlightedIndex(index2, "RED");
-        steps.add(step);
+        highlight(newStep(array, "COMPARE", description, NO_CHANGES), new int[] {index1, index2}, RED_PAIR);
     }
-    
+
     /**
      * Records a comparison (for sorting string arrays).
      */
     public void recordCompare(String[] array, int index1, int index2, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "COMPARE"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index1, "RED");
-        step.addHighlightedIndex(index2, "RED");
-        steps.add(step);
+        highlight(newStep(array, "COMPARE", description, NO_CHANGES), new int[] {index1, index2}, RED_PAIR);
     }
-    
+
     /**
      * Records a swap for integer arrays (call AFTER the swap is done).
      */
     public void recordSwap(int[] array, int index1, int index2, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "SWAP"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index1, "YELLOW");
-        step.addHighlightedIndex(index2, "YELLOW");
-        steps.add(step);
+        int[] indices = {index1, index2};
+        highlight(newStep(array, "SWAP", description, indices), indices, YELLOW_PAIR);
     }
-    
+
     /**
      * Records a swap for string arrays (call AFTER the swap is done).
      */
     public void recordSwap(String[] array, int index1, int index2, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "SWAP"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index1, "YELLOW");
-        step.addHighlightedIndex(index2, "YELLOW");
-        steps.add(step);
+        int[] indices = {index1, index2};
+        highlight(newStep(array, "SWAP", description, indices), indices, YELLOW_PAIR);
     }
-    
+
     /**
      * Records completion for integer arrays.
      */
     public void recordComplete(int[] array, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "COMPLETE"
-        );
-        step.setDescription(description);
         // Highlight all in green
-        for (int i = 0; i < array.length; i++) {
-            step.addHighlightedIndex(i, "GREEN");
-        }
-        steps.add(step);
+        highlightAll(newStep(array, "COMPLETE", description), array.length, "GREEN");
     }
-    
+
     /**
      * Records completion for string arrays.
      */
     public void recordComplete(String[] array, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "COMPLETE"
-        );
-        step.setDescription(description);
         // Highlight all in green
-        for (int i = 0; i < array.length; i++) {
-            step.addHighlightedIndex(i, "GREEN");
-        }
-        steps.add(step);
+        highlightAll(newStep(array, "COMPLETE", description), array.length, "GREEN");
     }
-    
+
     /**
      * Records a set/insertion operation for integer arrays.
      */
     public void recordSet(int[] array, int index, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "SET"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "BLUE");
-        steps.add(step);
+        int[] indices = {index};
+        highlight(newStep(array, "SET", description, indices), indices, BLUE_SINGLE);
     }
-    
+
     /**
      * Records a set/insertion operation for string arrays.
      */
     public void recordSet(String[] array, int index, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "SET"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "BLUE");
-        steps.add(step);
+        int[] indices = {index};
+        highlight(newStep(array, "SET", description, indices), indices, BLUE_SINGLE);
     }
-    
+
     /**
      * Records a check operation (for searching) on integer arrays.
      */
     public void recordCheck(int[] array, int index, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "CHECK"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "ORANGE");
-        steps.add(step);
+        highlight(newStep(array, "CHECK", description, NO_CHANGES), new int[] {index}, ORANGE_SINGLE);
     }
-    
+
     /**
      * Records a check operation (for searching) on string arrays.
      */
     public void recordCheck(String[] array, int index, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "CHECK"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "ORANGE");
-        steps.add(step);
+        highlight(newStep(array, "CHECK", description, NO_CHANGES), new int[] {index}, ORANGE_SINGLE);
     }
-    
+
     /**
      * Records a range being examined (for binary search) on integer arrays.
      */
     public void recordRange(int[] array, int left, int right, int mid, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "RANGE"
-        );
-        step.setDescription(description);
-        // Highlight the range in light blue and the middle in orange
-        for (int i = left; i <= right; i++) {
-            step.addHighlightedIndex(i, "LIGHTBLUE");
-        }
-        step.addHighlightedIndex(mid, "ORANGE");
-        steps.add(step);
+        highlightRange(newStep(array, "RANGE", description, NO_CHANGES), left, right, mid);
     }
-    
+
     /**
      * Records a range being examined (for binary search) on string arrays.
      */
     public void recordRange(String[] array, int left, int right, int mid, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "RANGE"
-        );
-        step.setDescription(description);
-        // Highlight the range in light blue and the middle in orange
-        for (int i = left; i <= right; i++) {
-            step.addHighlightedIndex(i, "LIGHTBLUE");
-        }
-        step.addHighlightedIndex(mid, "ORANGE");
-        steps.add(step);
+        highlightRange(newStep(array, "RANGE", description, NO_CHANGES), left, right, mid);
     }
-    
+
     /**
      * Records when target is found (for searching) on integer arrays.
      */
     public void recordFound(int[] array, int index, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "FOUND"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "GREEN");
-        steps.add(step);
+        highlight(newStep(array, "FOUND", description, NO_CHANGES), new int[] {index}, GREEN_SINGLE);
     }
-    
+
     /**
      * Records when target is found (for searching) on string arrays.
      */
     public void recordFound(String[] array, int index, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "FOUND"
-        );
-        step.setDescription(description);
-        step.addHighlightedIndex(index, "GREEN");
-        steps.add(step);
+        highlight(newStep(array, "FOUND", description, NO_CHANGES), new int[] {index}, GREEN_SINGLE);
     }
-    
+
     /**
      * Records when target is not found (for searching) on integer arrays.
      */
     public void recordNotFound(int[] array, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "NOT_FOUND"
-        );
-        step.setDescription(description);
-        steps.add(step);
+        newStep(array, "NOT_FOUND", description, NO_CHANGES);
     }
-    
+
     /**
      * Records when target is not found (for searching) on string arrays.
      */
     public void recordNotFound(String[] array, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "NOT_FOUND"
-        );
-        step.setDescription(description);
-        steps.add(step);
+        newStep(array, "NOT_FOUND", description, NO_CHANGES);
     }
-    
+
     /**
      * Records a custom step with specific highlighted indices (for integer arrays).
      * Useful for divide-and-conquer algorithms like Merge Sort.
      */
     public void recordStep(int[] array, int[] highlightIndices, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "CUSTOM"
-        );
-        step.setDescription(description);
-        for (int index : highlightIndices) {
-            step.addHighlightedIndex(index, "BLUE");
-        }
-        steps.add(step);
+        highlightCustom(newStep(array, "CUSTOM", description), highlightIndices);
     }
-    
+
     /**
      * Records a custom step with specific highlighted indices (for string arrays).
      * Useful for divide-and-conquer algorithms like Merge Sort.
      */
     public void recordStep(String[] array, int[] highlightIndices, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "CUSTOM"
-        );
-        step.setDescription(description);
-        for (int index : highlightIndices) {
-            step.addHighlightedIndex(index, "BLUE");
-        }
-        steps.add(step);
+        highlightCustom(newStep(array, "CUSTOM", description), highlightIndices);
     }
-    
+
     /**
      * Records a step with active region highlighting for divide-and-conquer algorithms.
      * Elements in the active region are highlighted, others are dimmed.
-     * 
+     *
      * @param array The current array state
      * @param activeLeft Left boundary of active region (inclusive)
      * @param activeRight Right boundary of active region (inclusive)
@@ -367,68 +243,364 @@ public class StepCollector {
      * @param description Step description
      */
     public void recordRegionStep(int[] array, int activeLeft, int activeRight, int[] highlightIndices, String description) {
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            Arrays.copyOf(array, array.length), 
-            "REGION"
-        );
-        step.setDescription(description);
-        step.setActiveRegion(activeLeft, activeRight);
-        
-        // Highlight active indices in bright color
-        for (int index : highlightIndices) {
-            if (index >= activeLeft && index <= activeRight) {
-                step.addHighlightedIndex(index, "BLUE");
+        highlightRegion(newStep(array, "REGION", description), activeLeft, activeRight, highlightIndices);
+    }
+
+    /**
+     * Records a step with active region highlighting for divide-and-conquer algorithms (string arrays).
+     */
+    public void recordRegionStep(String[] array, int activeLeft, int activeRight, int[] highlightIndices, String description) {
+        highlightRegion(newStep(array, "REGION", description), activeLeft, activeRight, highlightIndices);
+    }
+
+    /**
+     * Mirrors all recorded steps (array states, highlights and active regions)
+     * so that an ascending sort is shown as a descending one.
+     * Call this after the algorithm has finished.
+     */
+    public void mirror() {
+        if (initialState == null) {
+            return;
+        }
+        int n = initialState.length;
+        reverse(initialState);
+        for (VisualizationDelta step : steps) {
+            mirrorIndices(step.getChangedIndices(), n);
+            mirrorIndices(step.getHighlightedIndices(), n);
+            if (step.getKeyframe() != null) {
+                reverse(step.getKeyframe());
+            }
+            if (step.getActiveLeft() != null && step.getActiveRight() != null) {
+                int left = step.getActiveLeft();
+                step.setActiveLeft(n - 1 - step.getActiveRight());
+                step.setActiveRight(n - 1 - left);
             }
         }
-        
-        // Mark inactive regions with grey
-        for (int i = 0; i < array.length; i++) {
-            if (i < activeLeft || i > activeRight) {
-                step.addHighlightedIndex(i, "GREY");
+        if (intState != null) {
+            for (int left = 0, right = intState.length - 1; left < right; left++, right--) {
+                int temp = intState[left];
+                intState[left] = intState[right];
+                intState[right] = temp;
             }
         }
-        
-        steps.add(step);
+        if (stringState != null) {
+            reverse(stringState);
+        }
     }
-    
+
     /**
-     * Records a step with active region highlighting for divide-and-conquer algorithms (string arrays).
+     * Gets all collected steps in delta-encoded form.
+     *
+     * @return The compact visualization (backed by this collector's steps)
      */
-    public void recordRegionStep(String[] array, int activeLeft, int activeRight, int[] highlightIndices, String description) {
-        String[] arrayCopy = new String[array.length];
-        System.arraycopy(array, 0, arrayCopy, 0, array.length);
-        
-        VisualizationStep step = new VisualizationStep(
-            stepNumber++, 
-            arrayCopy, 
-            "REGION"
-        );
-        step.setDescription(description);
-        step.setActiveRegion(activeLeft, activeRight);
-        
-        // Highlight active indices in bright color
-        for (int index : highlightIndices) {
-            if (index >= activeLeft && index <= activeRight) {
-                step.addHighlightedIndex(index, "BLUE");
+    public CompactVisualization getCompactSteps() {
+        return new CompactVisualization(dataType, initialState, effectiveKeyframeInterval(), steps);
+    }
+
+    /**
+     * Gets the number of steps between keyframes for the current array size.
+     */
+    private int effectiveKeyframeInterval() {
+        return Math.max(keyframeInterval, initialState != null ? initialState.length : 0);
+    }
+
+    /**
+     * Gets all collected steps as full array snapshots.
+     * Each call expands the deltas again, so prefer getCompactSteps() for large runs.
+     */
+    public List<VisualizationStep> getSteps() {
+        List<VisualizationStep> expanded = new ArrayList<>(steps.size());
+        if (initialState == null) {
+            return expanded;
+        }
+
+        Object[] state = Arrays.copyOf(initialState, initialState.length);
+        for (VisualizationDelta delta : steps) {
+            state = applyDelta(state, delta);
+
+            VisualizationStep step = new VisualizationStep();
+            step.setStepNumber(delta.getStepNumber());
+            step.setArrayState(Arrays.copyOf(state, state.length));
+            step.setOperation(delta.getOperation());
+            step.setDescription(delta.getDescription());
+
+            int[] indices = delta.getHighlightedIndices();
+            if (indices != null) {
+                for (int i = 0; i < indices.length; i++) {
+                    step.addHighlightedIndex(indices[i], delta.getColors()[i]);
+                }
             }
+
+            // Mark inactive regions with grey
+            if (delta.getActiveLeft() != null && delta.getActiveRight() != null) {
+                step.setActiveRegion(delta.getActiveLeft(), delta.getActiveRight());
+                for (int i = 0; i < state.length; i++) {
+                    if (i < delta.getActiveLeft() || i > delta.getActiveRight()) {
+                        step.addHighlightedIndex(i, "GREY");
+                    }
+                }
+            }
+
+            expanded.add(step);
         }
-        
-        // Mark inactive regions with grey
-        for (int i = 0; i < array.length; i++) {
-            if (i < activeLeft || i > activeRight) {
-                step.addHighlightedIndex(i, "GREY");
+        return expanded;
+    }
+
+    /**
+     * Applies one delta to an array state.
+     *
+     * @param state State after the previous step (modified in place unless replaced)
+     * @param delta The next step
+     * @return State after the step
+     */
+    private static Object[] applyDelta(Object[] state, VisualizationDelta delta) {
+        if (delta.getKeyframe() != null) {
+            return Arrays.copyOf(delta.getKeyframe(), delta.getKeyframe().length);
+        }
+        int[] indices = delta.getChangedIndices();
+        if (indices != null) {
+            Object[] values = delta.getChangedValues();
+            for (int i = 0; i < indices.length; i++) {
+                state[indices[i]] = values[i];
             }
         }
-        
+        return state;
+    }
+
+    // ==================== Delta encoding ====================
+
+    /**
+     * Starts a new step for an integer array, diffing the whole array
+     * against the previous step.
+     */
+    private VisualizationDelta newStep(int[] array, String operation, String description) {
+        return newStep(array, operation, description, null);
+    }
+
+    /**
+     * Starts a new step for an integer array, recording the elements that
+     * changed since the previous step (or a keyframe).
+     *
+     * @param changedIndices The only indices that may have changed, or null to diff the whole array
+     */
+    private VisualizationDelta newStep(int[] array, String operation, String description, int[] changedIndices) {
+        VisualizationDelta step = new VisualizationDelta(stepNumber++, operation, description);
+
+        if (intState == null || intState.length != array.length) {
+            // First step for this array: take a full snapshot
+            intState = Arrays.copyOf(array, array.length);
+            stringState = null;
+            dataType = "INTEGER";
+            stepsSinceKeyframe = 0;
+            if (initialState == null) {
+                initialState = box(intState);
+            } else {
+                step.setKeyframe(box(intState));
+            }
+        } else if (++stepsSinceKeyframe >= effectiveKeyframeInterval()) {
+            // Keyframes copy the whole array, whatever the step says changed
+            stepsSinceKeyframe = 0;
+            System.arraycopy(array, 0, intState, 0, array.length);
+            step.setKeyframe(box(intState));
+        } else {
+            int changes = 0;
+            if (changedIndices == null) {
+                for (int i = 0; i < array.length; i++) {
+                    changes = diff(array, i, changes);
+                }
+            } else {
+                for (int i : changedIndices) {
+                    changes = diff(array, i, changes);
+                }
+            }
+            if (changes > 0) {
+                Object[] values = new Object[changes];
+                for (int i = 0; i < changes; i++) {
+                    values[i] = intState[changeBuffer[i]];
+                }
+                step.setChangedIndices(Arrays.copyOf(changeBuffer, changes));
+                step.setChangedValues(values);
+            }
+        }
+
         steps.add(step);
+        return step;
     }
-    
+
     /**
-     * Gets all collected steps.
+     * Starts a new step for a string array, diffing the whole array
+     * against the previous step.
      */
-    public List<VisualizationStep> getSteps() {
-        return steps;
+    private VisualizationDelta newStep(String[] array, String operation, String description) {
+        return newStep(array, operation, description, null);
+    }
+
+    /**
+     * Starts a new step for a string array, recording the elements that
+     * changed since the previous step (or a keyframe).
+     *
+     * @param changedIndices The only indices that may have changed, or null to diff the whole array
+     */
+    private VisualizationDelta newStep(String[] array, String operation, String description, int[] changedIndices) {
+        VisualizationDelta step = new VisualizationDelta(stepNumber++, operation, description);
+
+        if (stringState == null || stringState.length != array.length) {
+            // First step for this array: take a full snapshot
+            stringState = Arrays.copyOf(array, array.length);
+            intState = null;
+            dataType = "STRING";
+            stepsSinceKeyframe = 0;
+            if (initialState == null) {
+                initialState = Arrays.copyOf(stringState, stringState.length, Object[].class);
+            } else {
+                step.setKeyframe(Arrays.copyOf(stringState, stringState.length, Object[].class));
+            }
+        } else if (++stepsSinceKeyframe >= effectiveKeyframeInterval()) {
+            // Keyframes copy the whole array, whatever the step says changed
+            stepsSinceKeyframe = 0;
+            System.arraycopy(array, 0, stringState, 0, array.length);
+            step.setKeyframe(Arrays.copyOf(stringState, stringState.length, Object[].class));
+        } else {
+            int changes = 0;
+            if (changedIndices == null) {
+                for (int i = 0; i < array.length; i++) {
+                    changes = diff(array, i, changes);
+                }
+            } else {
+                for (int i : changedIndices) {
+                    changes = diff(array, i, changes);
+                }
+            }
+            if (changes > 0) {
+                Object[] values = new Object[changes];
+                for (int i = 0; i < changes; i++) {
+                    values[i] = stringState[changeBuffer[i]];
+                }
+                step.setChangedIndices(Arrays.copyOf(changeBuffer, changes));
+                step.setChangedValues(values);
+            }
+        }
+
+        steps.add(step);
+        return step;
     }
-}
 
+    /**
+     * Copies one element into the last seen state if it changed.
+     *
+     * @return The new number of changes
+     */
+    private int diff(int[] array, int i, int changes) {
+        if (array[i] != intState[i]) {
+            intState[i] = array[i];
+            return addChange(changes, i);
+        }
+        return changes;
+    }
+
+    /**
+     * Copies one element into the last seen state if it changed.
+     *
+     * @return The new number of changes
+     */
+    private int diff(String[] array, int i, int changes) {
+        if (!Objects.equals(array[i], stringState[i])) {
+            stringState[i] = array[i];
+            return addChange(changes, i);
+        }
+        return changes;
+    }
+
+    /**
+     * Appends a changed index to the reusable change buffer.
+     *
+     * @return The new number of changes
+     */
+    private int addChange(int changes, int index) {
+        if (changes == changeBuffer.length) {
+            changeBuffer = Arrays.copyOf(changeBuffer, changes * 2);
+        }
+        changeBuffer[changes] = index;
+        return changes + 1;
+    }
+
+    // ==================== Highlighting ====================
+
+    private void highlight(VisualizationDelta step, int[] indices, String[] colors) {
+        step.setHighlightedIndices(indices);
+        step.setColors(colors);
+    }
+
+    private void highlightAll(VisualizationDelta step, int length, String color) {
+        int[] indices = new int[length];
+        String[] colors = new String[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+            colors[i] = color;
+        }
+        highlight(step, indices, colors);
+    }
+
+    private void highlightRange(VisualizationDelta step, int left, int right, int mid) {
+        // Highlight the range in light blue and the middle in orange
+        int rangeSize = Math.max(0, right - left + 1);
+        int[] indices = new int[rangeSize + 1];
+        String[] colors = new String[rangeSize + 1];
+        for (int i = 0; i < rangeSize; i++) {
+            indices[i] = left + i;
+            colors[i] = "LIGHTBLUE";
+        }
+        indices[rangeSize] = mid;
+        colors[rangeSize] = "ORANGE";
+        highlight(step, indices, colors);
+    }
+
+    private void highlightCustom(VisualizationDelta step, int[] highlightIndices) {
+        String[] colors = new String[highlightIndices.length];
+        Arrays.fill(colors, "BLUE");
+        highlight(step, Arrays.copyOf(highlightIndices, highlightIndices.length), colors);
+    }
+
+    private void highlightRegion(VisualizationDelta step, int activeLeft, int activeRight, int[] highlightIndices) {
+        step.setActiveLeft(activeLeft);
+        step.setActiveRight(activeRight);
+
+        // Highlight active indices in bright color; inactive ones are implicitly grey
+        int count = 0;
+        int[] indices = new int[highlightIndices.length];
+        for (int index : highlightIndices) {
+            if (index >= activeLeft && index <= activeRight) {
+                indices[count++] = index;
+            }
+        }
+        String[] colors = new String[count];
+        Arrays.fill(colors, "BLUE");
+        highlight(step, Arrays.copyOf(indices, count), colors);
+    }
+
+    // ==================== Helpers ====================
+
+    private static Object[] box(int[] array) {
+        Object[] boxed = new Object[array.length];
+        for (int i = 0; i < array.length; i++) {
+            boxed[i] = array[i];
+        }
+        return boxed;
+    }
+
+    private static void reverse(Object[] array) {
+        for (int left = 0, right = array.length - 1; left < right; left++, right--) {
+            Object temp = array[left];
+            array[left] = array[right];
+            array[right] = temp;
+        }
+    }
+
+    private static void mirrorIndices(int[] indices, int n) {
+        if (indices != null) {
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = n - 1 - indices[i];
+            }
+        }
+    }
+}
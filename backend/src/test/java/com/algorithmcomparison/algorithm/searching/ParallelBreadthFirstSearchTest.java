@@ -0,0 +1,135 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.model.BfsLevelStatistics;
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.GraphConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests Parallel BFS in both expansion directions, with a grain small enough
+ * that every level of the test graphs is split across several tasks.
+ *
+ * GraphConverter only builds trees, where the search stays top-down, so the
+ * bottom-up direction is exercised on random graphs with several edges per node.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class ParallelBreadthFirstSearchTest {
+
+    private final ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(new ForkJoinPool(4), 64);
+
+    @Test
+    void denseGraphSwitchesToBottomUp() {
+        GraphDataset graph = randomGraph(20_000, 8, 1_000, 1);
+        List<BfsLevelStatistics> levels = new ArrayList<>();
+
+        int found = search.search(graph, new int[] {0}, -1, new CountingMetricsCollector(), levels);
+
+        assertEquals(-1, found);
+        assertTrue(levels.stream().anyMatch(level -> "BOTTOM_UP".equals(level.getDirection())), levels.toString());
+        assertEquals(reachableCount(graph), levels.get(levels.size() - 1).getNodesVisited());
+    }
+
+    @Test
+    void denseGraphMatchesSequentialLevels() {
+        for (int seed = 0; seed < 6; seed++) {
+            // Either about one node per value, so targets lie at every depth including the
+            // bottom-up levels, or many, so most targets occur on several levels
+            int distinctValues = seed % 2 == 0 ? 20_000 : 1_000;
+            GraphDataset graph = randomGraph(20_000, 8, distinctValues, seed);
+            for (int target = 0; target < distinctValues; target += distinctValues / 20 + 1) {
+                int found = search.search(graph, new int[] {0}, target, new CountingMetricsCollector(), null);
+                assertEquals(expectedMatch(graph, target), found, "seed " + seed + ", target " + target);
+            }
+        }
+    }
+
+    @Test
+    void treeStaysTopDown() {
+        int[] array = new Random(3).ints(50_000).toArray();
+        GraphDataset graph = GraphConverter.convertToCompleteBinaryTree("tree", array);
+        List<BfsLevelStatistics> levels = new ArrayList<>();
+
+        search.search(graph, new int[] {graph.getRoot()}, array[array.length - 1], new CountingMetricsCollector(), levels);
+
+        assertTrue(levels.size() > 10);
+        for (BfsLevelStatistics level : levels.subList(0, levels.size() - 1)) {
+            assertEquals("TOP_DOWN", level.getDirection());
+        }
+    }
+
+    // Helpers
+
+    /**
+     * Builds a graph where every node has the given number of random out-edges.
+     */
+    private static GraphDataset randomGraph(int nodes, int degree, int distinctValues, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[nodes];
+        int[] offsets = new int[nodes + 1];
+        int[] targets = new int[nodes * degree];
+        for (int node = 0; node < nodes; node++) {
+            values[node] = random.nextInt(distinctValues);
+            offsets[node + 1] = offsets[node] + degree;
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                targets[edge] = random.nextInt(nodes);
+            }
+        }
+        // GraphType has no entry for general graphs; the search does not use it
+        return new GraphDataset("random", GraphType.LINKED_LIST, values, offsets, targets);
+    }
+
+    /**
+     * Gets the distance of every node from node 0, or -1 if unreachable.
+     */
+    private static int[] distances(GraphDataset graph) {
+        int[] distance = new int[graph.getNodeCount()];
+        Arrays.fill(distance, -1);
+        distance[0] = 0;
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int edge = graph.getOffsets()[node]; edge < graph.getOffsets()[node + 1]; edge++) {
+                int neighbour = graph.getTargets()[edge];
+                if (distance[neighbour] == -1) {
+                    distance[neighbour] = distance[node] + 1;
+                    queue.add(neighbour);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Gets the smallest node holding target among the matches closest to node 0.
+     */
+    private static int expectedMatch(GraphDataset graph, int target) {
+        int[] distance = distances(graph);
+        int best = -1;
+        for (int node = 0; node < distance.length; node++) {
+            if (distance[node] != -1 && graph.getValue(node) == target
+                    && (best == -1 || distance[node] < distance[best])) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    private static long reachableCount(GraphDataset graph) {
+        return Arrays.stream(distances(graph)).filter(distance -> distance != -1).count();
+    }
+}
@@ -0,0 +1,193 @@
+package com.algorithmcomparison.algorithm.searching;
+
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Correctness tests for the radix-tree TrieIndex: lookups, and the prefix,
+ * rank, range-count and top-k queries checked against a brute-force count.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class TrieIndexTest {
+
+    private static final String[] WORDS = {
+        "car", "cart", "carbon", "care", "cat", "dog", "car", "do", "cart", "car", null, "dove"
+    };
+
+    private final MetricsCollector metrics = new CountingMetricsCollector();
+
+    @Test
+    void findReturnsFirstOccurrence() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertEquals(0, index.find("car", metrics));
+        assertEquals(1, index.find("cart", metrics));
+        assertEquals(7, index.find("do", metrics));
+        assertEquals(11, index.find("dove", metrics));
+    }
+
+    @Test
+    void findMissesPrefixesExtensionsAndUnknownWords() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertEquals(-1, index.find("ca", metrics));
+        assertEquals(-1, index.find("carts", metrics));
+        assertEquals(-1, index.find("bird", metrics));
+        assertEquals(-1, index.find("", metrics));
+    }
+
+    @Test
+    void nullEntriesAreSkipped() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertEquals(11, index.getWordCount());
+        assertEquals(8, index.getDistinctCount());
+    }
+
+    @Test
+    void ranksFollowLexicographicOrder() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+        String[] expected = {"car", "carbon", "care", "cart", "cat", "do", "dog", "dove"};
+
+        for (int rank = 0; rank < expected.length; rank++) {
+            assertEquals(expected[rank], index.wordAt(rank));
+        }
+        assertEquals(3, index.countAt(0));
+        assertEquals(0, index.firstIndexAt(0));
+        assertEquals(2, index.countAt(3));
+    }
+
+    @Test
+    void unicodeAndEmptyWordsAreStoredExactly() {
+        String[] words = {"naïve", "naive", "日本", "日本語", "🚀", ""};
+        TrieIndex index = TrieIndex.build(words, metrics);
+
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(i, index.find(words[i], metrics), words[i]);
+        }
+        assertEquals(-1, index.find("日", metrics));
+    }
+
+    @Test
+    void emptyInputBuildsAnEmptyIndex() {
+        TrieIndex index = TrieIndex.build(new String[0], metrics);
+
+        assertEquals(0, index.getWordCount());
+        assertEquals(-1, index.find("anything", metrics));
+    }
+
+    @Test
+    void singleChildChainsArePathCompressed() {
+        TrieIndex index = TrieIndex.build(new String[] {"internationalization"}, metrics);
+
+        // The root and one edge holding the whole word
+        assertEquals(2, index.getNodeCount());
+    }
+
+    @Test
+    void prefixRangeCoversTheMatchingRanks() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertArrayEquals(new int[] {0, 4}, index.prefixRange("car", metrics));
+        assertArrayEquals(new int[] {0, 5}, index.prefixRange("ca", metrics));
+        assertArrayEquals(new int[] {5, 8}, index.prefixRange("do", metrics));
+        assertArrayEquals(new int[] {0, 8}, index.prefixRange("", metrics));
+        int[] none = index.prefixRange("cb", metrics);
+        assertEquals(none[0], none[1]);
+    }
+
+    @Test
+    void rankCountsSmallerWords() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertEquals(0, index.rank("car", false, metrics));
+        assertEquals(1, index.rank("car", true, metrics));
+        assertEquals(4, index.rank("cas", false, metrics));
+        assertEquals(5, index.rank("d", true, metrics));
+        assertEquals(8, index.rank("z", true, metrics));
+        assertEquals(0, index.rank("", false, metrics));
+    }
+
+    @Test
+    void countBetweenIncludesDuplicates() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        assertEquals(11, index.countBetween(0, 8));
+        assertEquals(7, index.countBetween(0, 4)); // car x3, carbon, care, cart x2
+        assertEquals(0, index.countBetween(3, 3));
+    }
+
+    @Test
+    void topRanksPicksMostFrequentFirstThenLexicographic() {
+        TrieIndex index = TrieIndex.build(WORDS, metrics);
+
+        // car x3, cart x2, then carbon and care once each
+        assertArrayEquals(new int[] {0, 3, 1}, index.topRanks(0, 4, 3, metrics));
+        assertArrayEquals(new int[] {5, 6, 7}, index.topRanks(5, 8, 10, metrics));
+        assertEquals(0, index.topRanks(2, 2, 3, metrics).length);
+    }
+
+    @Test
+    void queriesMatchBruteForceOnRandomWords() {
+        Random random = new Random(7);
+        String[] words = new String[3_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomWord(random);
+        }
+        TrieIndex index = TrieIndex.build(words, metrics);
+        TreeMap<String, Integer> counts = new TreeMap<>();
+        for (String word : words) {
+            counts.merge(word, 1, Integer::sum);
+        }
+        String[] distinct = counts.keySet().toArray(new String[0]);
+        assertEquals(distinct.length, index.getDistinctCount());
+
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomWord(random).substring(0, 1 + random.nextInt(2));
+            int[] range = index.prefixRange(prefix, metrics);
+            long expected = Arrays.stream(distinct).filter(w -> w.startsWith(prefix)).count();
+            assertEquals(expected, range[1] - range[0], "prefix " + prefix);
+            for (int r = range[0]; r < range[1]; r++) {
+                assertTrue(index.wordAt(r).startsWith(prefix));
+            }
+
+            String a = randomWord(random);
+            String b = randomWord(random);
+            String from = a.compareTo(b) <= 0 ? a : b;
+            String to = a.compareTo(b) <= 0 ? b : a;
+            long inRange = 0;
+            for (Map.Entry<String, Integer> entry : counts.subMap(from, true, to, true).entrySet()) {
+                inRange += entry.getValue();
+            }
+            int low = index.rank(from, false, metrics);
+            int high = index.rank(to, true, metrics);
+            assertEquals(inRange, index.countBetween(low, high), from + ".." + to);
+
+            int[] top = index.topRanks(range[0], range[1], 5, metrics);
+            for (int t = 1; t < top.length; t++) {
+                int before = index.countAt(top[t - 1]);
+                int after = index.countAt(top[t]);
+                assertTrue(before > after || (before == after && top[t - 1] < top[t]), "top-k order");
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
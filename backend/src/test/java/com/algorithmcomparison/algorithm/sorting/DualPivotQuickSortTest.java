@@ -0,0 +1,46 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsCorrectly;
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsInts;
+
+/**
+ * Tests Dual Pivot Quick Sort around its insertion sort threshold and on
+ * inputs where the pivots are equal or the middle part is large.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class DualPivotQuickSortTest {
+
+    private final DualPivotQuickSort sort = new DualPivotQuickSort();
+
+    @Test
+    void sorts() {
+        int threshold = DualPivotQuickSort.INSERTION_SORT_THRESHOLD;
+        assertSortsCorrectly(sort, threshold - 1, threshold, threshold + 1, 1_000, 100_000);
+    }
+
+    @Test
+    void sortsKeysEqualToThePivots() {
+        Random random = new Random(13);
+        for (int distinct = 2; distinct <= 6; distinct++) {
+            assertSortsInts(sort, random.ints(10_000, 0, distinct).toArray());
+        }
+    }
+
+    @Test
+    void sortsWhenMostKeysFallBetweenThePivots() {
+        Random random = new Random(17);
+        int[] array = new int[20_000];
+        for (int i = 0; i < array.length; i++) {
+            // A few extremes around a dense, duplicate-heavy middle band
+            int roll = random.nextInt(100);
+            array[i] = roll == 0 ? Integer.MIN_VALUE : roll == 1 ? Integer.MAX_VALUE : 1_000 + random.nextInt(20);
+        }
+        assertSortsInts(sort, array);
+    }
+}
@@ -0,0 +1,33 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsCorrectly;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the top-down and bottom-up Merge Sort strategies.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class MergeSortTest {
+
+    @Test
+    void topDownSorts() {
+        assertSortsCorrectly(new MergeSort(), 15, 16, 17, 1_000, 4_097);
+    }
+
+    @Test
+    void bottomUpSorts() {
+        MergeSort sort = new MergeSort(MergeSort.Strategy.BOTTOM_UP, MergeSort.DEFAULT_INSERTION_CUTOFF);
+
+        assertEquals("Bottom Up Merge Sort", sort.getName());
+        assertSortsCorrectly(sort, 15, 16, 17, 33, 1_000, 4_097);
+    }
+
+    @Test
+    void bottomUpSortsWithoutInsertionCutoff() {
+        assertSortsCorrectly(new MergeSort(MergeSort.Strategy.BOTTOM_UP, 1), 2, 3, 5, 1_000, 1_025);
+    }
+}
@@ -0,0 +1,66 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsCorrectly;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests Parallel Merge Sort with a threshold small enough that the test
+ * inputs are split across several tasks.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class ParallelMergeSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    void sortsWithSmallThreshold() {
+        assertSortsCorrectly(new ParallelMergeSort(pool, 2), 3, 17, 1_000);
+        assertSortsCorrectly(new ParallelMergeSort(pool, 64), 63, 64, 65, 5_000);
+    }
+
+    @Test
+    void sortsWithDefaultThreshold() {
+        assertSortsCorrectly(new ParallelMergeSort(pool, ParallelMergeSort.DEFAULT_THRESHOLD), 100_000);
+    }
+
+    @Test
+    void threadStatisticsAddUpToTheTotals() {
+        int[] array = new Random(5).ints(50_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        MetricsCollector metrics = new CountingMetricsCollector();
+        List<ThreadWorkStatistics> threads = new ArrayList<>();
+
+        new ParallelMergeSort(pool, 1_024).sort(array, metrics, threads);
+
+        assertArrayEquals(expected, array);
+        assertFalse(threads.isEmpty());
+        long comparisons = threads.stream().mapToLong(ThreadWorkStatistics::getComparisonCount).sum();
+        long sorted = threads.stream().mapToLong(ThreadWorkStatistics::getElementsSorted).sum();
+        assertEquals(metrics.getComparisonCount(), comparisons);
+        assertEquals(array.length, sorted);
+    }
+
+    @Test
+    void reportsThePoolParallelism() {
+        assertEquals(4, new ParallelMergeSort(pool, 64).getParallelism());
+    }
+
+    @Test
+    void thresholdBelowTwoIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(pool, 1));
+    }
+}
@@ -0,0 +1,93 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.model.ThreadWorkStatistics;
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsCorrectly;
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsInts;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests Parallel Sample Sort with thresholds small enough that the test
+ * inputs are distributed into buckets, including recursively.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class ParallelSampleSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    void sortsWithSmallThreshold() {
+        assertSortsCorrectly(new ParallelSampleSort(pool, 2), 3, 33, 1_000);
+        assertSortsCorrectly(new ParallelSampleSort(pool, 256), 255, 257, 20_000);
+    }
+
+    @Test
+    void sortsWithDefaultThreshold() {
+        assertSortsCorrectly(new ParallelSampleSort(pool, ParallelSampleSort.DEFAULT_THRESHOLD), 100_000);
+    }
+
+    @Test
+    void sortsSkewedKeys() {
+        Random random = new Random(9);
+        int[] skewed = new int[50_000];
+        for (int i = 0; i < skewed.length; i++) {
+            // Most keys are one value, the rest spread out: one bucket gets nearly everything
+            skewed[i] = random.nextInt(10) == 0 ? random.nextInt() : 42;
+        }
+        assertSortsInts(new ParallelSampleSort(pool, 128), skewed);
+    }
+
+    @Test
+    void sortsManyDuplicatesWithFewComparisons() {
+        ParallelSampleSort sort = new ParallelSampleSort(pool, 1_024);
+        // Regions of 33-255 elements have a single boundary, which must still split off equal keys
+        for (int n : new int[] {33, 100, 255, 100_000}) {
+            assertFewComparisons(sort, new int[n], 4);
+        }
+        assertFewComparisons(sort, new Random(21).ints(200_000, 0, 1_000).toArray(), 20);
+    }
+
+    @Test
+    void threadStatisticsAreReported() {
+        int[] array = new Random(5).ints(50_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        MetricsCollector metrics = new CountingMetricsCollector();
+        List<ThreadWorkStatistics> threads = new ArrayList<>();
+
+        new ParallelSampleSort(pool, 1_024).sort(array, metrics, threads);
+
+        assertArrayEquals(expected, array);
+        assertFalse(threads.isEmpty());
+        long comparisons = threads.stream().mapToLong(ThreadWorkStatistics::getComparisonCount).sum();
+        assertEquals(metrics.getComparisonCount(), comparisons);
+    }
+
+    private static void assertFewComparisons(ParallelSampleSort sort, int[] array, int perElement) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        MetricsCollector metrics = new CountingMetricsCollector();
+
+        sort.sort(array, metrics);
+
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisonCount() < (long) perElement * array.length,
+            "comparisons: " + metrics.getComparisonCount() + " for " + array.length + " elements");
+    }
+
+    @Test
+    void thresholdBelowTwoIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSampleSort(pool, 0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.MetricsCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.algorithmcomparison.algorithm.sorting.SortingTestSupport.assertSortsCorrectly;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the classic and introsort variants of Quick Sort.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class QuickSortTest {
+
+    @Test
+    void classicSorts() {
+        assertSortsCorrectly(new QuickSort(), 2, 100, 2_000);
+    }
+
+    @Test
+    void introsortSorts() {
+        // Around the insertion cutoff (16) and the ninther threshold (40)
+        assertSortsCorrectly(new QuickSort(QuickSort.Variant.INTROSORT), 16, 17, 39, 40, 41, 1_000, 100_000);
+    }
+
+    @Test
+    void introsortSortsManyDuplicatesWithFewComparisons() {
+        int n = 100_000;
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i % 2;
+        }
+        MetricsCollector metrics = new CountingMetricsCollector();
+
+        new QuickSort(QuickSort.Variant.INTROSORT).sort(array, metrics);
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, array);
+        // Far below the n²/4 comparisons of a partition that puts equal keys on one side
+        assertTrue(metrics.getComparisonCount() < 10L * n, "comparisons: " + metrics.getComparisonCount());
+    }
+
+    @Test
+    void introsortStaysLogLinearOnMedianOfThreeKiller() {
+        int n = 50_000;
+        int[] array = new int[n];
+        // Organ pipe: a common worst case for median-of-three pivots
+        for (int i = 0; i < n; i++) {
+            array[i] = i < n / 2 ? i : n - i;
+        }
+        MetricsCollector metrics = new CountingMetricsCollector();
+
+        new QuickSort(QuickSort.Variant.INTROSORT).sort(array, metrics);
+
+        double nLogN = n * (Math.log(n) / Math.log(2));
+        assertTrue(metrics.getComparisonCount() < 4 * nLogN, "comparisons: " + metrics.getComparisonCount());
+    }
+}
@@ -0,0 +1,104 @@
+package com.algorithmcomparison.algorithm.sorting;
+
+import com.algorithmcomparison.util.CountingMetricsCollector;
+import com.algorithmcomparison.util.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared input shapes for the sorting algorithm tests. Every input is
+ * checked against Arrays.sort.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+final class SortingTestSupport {
+
+    private SortingTestSupport() {
+    }
+
+    /**
+     * Sorts empty, tiny, random, sorted, reversed, all-equal, few-distinct
+     * and organ-pipe int arrays of each size, plus random strings.
+     *
+     * @param algorithm The algorithm under test
+     * @param sizes Array sizes to try, chosen around the algorithm's cutoffs
+     */
+    static void assertSortsCorrectly(SortingAlgorithm algorithm, int... sizes) {
+        assertSortsInts(algorithm, new int[0]);
+        assertSortsInts(algorithm, new int[] {1});
+        assertSortsInts(algorithm, new int[] {2, 1});
+        assertSortsInts(algorithm, new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, Integer.MIN_VALUE});
+
+        Random random = new Random(11);
+        for (int size : sizes) {
+            for (int[] input : intShapes(size, random)) {
+                assertSortsInts(algorithm, input);
+            }
+            assertSortsStrings(algorithm, randomStrings(size, random));
+        }
+        assertSortsStrings(algorithm, new String[0]);
+    }
+
+    static void assertSortsInts(SortingAlgorithm algorithm, int[] input) {
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+        int[] actual = input.clone();
+        MetricsCollector metrics = new CountingMetricsCollector();
+
+        algorithm.sort(actual, metrics);
+
+        assertArrayEquals(expected, actual, algorithm.getName() + " failed on " + describe(input));
+        if (input.length > 1) {
+            assertTrue(metrics.getComparisonCount() > 0, algorithm.getName() + " recorded no comparisons");
+        }
+    }
+
+    static void assertSortsStrings(SortingAlgorithm algorithm, String[] input) {
+        String[] expected = input.clone();
+        Arrays.sort(expected);
+        String[] actual = input.clone();
+
+        algorithm.sort(actual, new CountingMetricsCollector());
+
+        assertArrayEquals(expected, actual, algorithm.getName() + " failed on " + input.length + " strings");
+    }
+
+    private static int[][] intShapes(int size, Random random) {
+        int[] randomValues = random.ints(size).toArray();
+        int[] sorted = randomValues.clone();
+        Arrays.sort(sorted);
+        int[] reversed = new int[size];
+        for (int i = 0; i < size; i++) {
+            reversed[i] = sorted[size - 1 - i];
+        }
+        int[] equal = new int[size];
+        Arrays.fill(equal, 7);
+        int[] fewDistinct = random.ints(size, 0, 3).toArray();
+        int[] organPipe = new int[size];
+        for (int i = 0; i < size; i++) {
+            organPipe[i] = Math.min(i, size - 1 - i);
+        }
+        return new int[][] {randomValues, sorted, reversed, equal, fewDistinct, organPipe};
+    }
+
+    private static String[] randomStrings(int size, Random random) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            // Short words over a small alphabet, so there are many duplicates
+            char[] chars = new char[random.nextInt(5)];
+            for (int c = 0; c < chars.length; c++) {
+                chars[c] = (char) ('a' + random.nextInt(3));
+            }
+            values[i] = new String(chars);
+        }
+        return values;
+    }
+
+    private static String describe(int[] input) {
+        return input.length <= 10 ? Arrays.toString(input) : input.length + " values";
+    }
+}
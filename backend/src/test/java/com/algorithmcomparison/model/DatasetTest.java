@@ -0,0 +1,40 @@
+package com.algorithmcomparison.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the copies of integer data handed out by Dataset.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class DatasetTest {
+
+    @Test
+    void copyDataOfHeapStorageIsNotShared() {
+        Dataset dataset = new Dataset(new int[] {3, 1, 2}, "CUSTOM");
+
+        int[] copy = dataset.copyData();
+        copy[0] = 99;
+
+        assertArrayEquals(new int[] {3, 1, 2}, dataset.getData());
+        assertNotSame(dataset.getData(), dataset.copyData());
+    }
+
+    @Test
+    void copyDataOfDirectStorageHoldsTheValues() {
+        Dataset dataset = new Dataset(BufferIntStorage.direct(new int[] {5, 4, 6}), "CUSTOM");
+
+        int[] copy = dataset.copyData();
+        copy[0] = 99;
+
+        assertArrayEquals(new int[] {5, 4, 6}, dataset.copyData());
+    }
+
+    @Test
+    void copyDataOfStringDatasetIsNull() {
+        assertNull(new Dataset(new String[] {"a"}, "CUSTOM").copyData());
+    }
+}
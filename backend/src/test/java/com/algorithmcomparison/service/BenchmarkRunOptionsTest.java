@@ -0,0 +1,38 @@
+package com.algorithmcomparison.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the bounds BenchmarkRunOptions puts on iteration counts.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class BenchmarkRunOptionsTest {
+
+    @Test
+    void iterationCountsUpToTheMaximumAreAccepted() {
+        BenchmarkRunOptions options = new BenchmarkRunOptions.Builder()
+            .warmupIterations(BenchmarkRunOptions.MAX_WARMUP_ITERATIONS)
+            .measurementIterations(BenchmarkRunOptions.MAX_MEASUREMENT_ITERATIONS)
+            .build();
+
+        assertEquals(BenchmarkRunOptions.MAX_WARMUP_ITERATIONS, options.getWarmupIterations());
+        assertEquals(BenchmarkRunOptions.MAX_MEASUREMENT_ITERATIONS, options.getMeasurementIterations());
+    }
+
+    @Test
+    void iterationCountsOutOfRangeAreRejected() {
+        BenchmarkRunOptions.Builder builder = new BenchmarkRunOptions.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.warmupIterations(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.warmupIterations(BenchmarkRunOptions.MAX_WARMUP_ITERATIONS + 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.measurementIterations(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.measurementIterations(BenchmarkRunOptions.MAX_MEASUREMENT_ITERATIONS + 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.measurementIterations(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,85 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.BenchmarkJob;
+import com.algorithmcomparison.model.BenchmarkReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that benchmark streams close when their job finishes, however it finishes.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class BenchmarkStreamServiceTest {
+
+    private static final String SESSION = "session-1";
+
+    // One job slot, so a second job stays queued
+    private final BenchmarkJobService jobService = new BenchmarkJobService(1, 0, 0);
+    private final BenchmarkStreamService streamService = new BenchmarkStreamService(jobService, 60_000);
+
+    @Test
+    void streamClosesWhenItsJobCompletes() throws InterruptedException {
+        streamService.stream(SESSION, "SORT", BenchmarkRunOptions.defaults(), options -> new BenchmarkReport("r"));
+
+        awaitNoActiveStreams();
+        assertEquals(BenchmarkJob.JobStatus.COMPLETED, jobService.getAllJobs(SESSION).get(0).getStatus());
+    }
+
+    @Test
+    void streamClosesWhenItsJobFails() throws InterruptedException {
+        streamService.stream(SESSION, "SORT", BenchmarkRunOptions.defaults(), options -> {
+            throw new IllegalStateException("broken");
+        });
+
+        awaitNoActiveStreams();
+        assertEquals(BenchmarkJob.JobStatus.FAILED, jobService.getAllJobs(SESSION).get(0).getStatus());
+    }
+
+    @Test
+    void streamClosesWhenItsJobIsCancelledWhilePending() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BenchmarkJob blocker = jobService.submit(SESSION, "SORT", BenchmarkRunOptions.defaults(), options -> {
+            awaitQuietly(release);
+            return new BenchmarkReport("blocker");
+        });
+        streamService.stream(SESSION, "SORT", BenchmarkRunOptions.defaults(), options -> {
+            fail("a cancelled queued job must not run");
+            return null;
+        });
+        BenchmarkJob queued = jobService.getAllJobs(SESSION).stream()
+            .filter(job -> job != blocker)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(BenchmarkJob.JobStatus.PENDING, queued.getStatus());
+        assertEquals(1, streamService.getActiveStreamCount());
+
+        assertTrue(jobService.cancelJob(SESSION, queued.getId()));
+
+        assertEquals(BenchmarkJob.JobStatus.CANCELLED, queued.getStatus());
+        assertEquals(0, streamService.getActiveStreamCount());
+        release.countDown();
+        jobService.shutdown();
+    }
+
+    private void awaitNoActiveStreams() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streamService.getActiveStreamCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, streamService.getActiveStreamCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
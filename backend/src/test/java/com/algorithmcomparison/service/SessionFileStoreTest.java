@@ -0,0 +1,197 @@
+package com.algorithmcomparison.service;
+
+import com.algorithmcomparison.model.BufferIntStorage;
+import com.algorithmcomparison.model.Dataset;
+import com.algorithmcomparison.model.HeapIntStorage;
+import com.algorithmcomparison.model.IntStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trips through the binary dataset and index formats of SessionFileStore.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class SessionFileStoreTest {
+
+    // More than one 64K-value I/O chunk, so chunk boundaries are crossed
+    private static final int LARGE_SIZE = 150_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void heapIntsRoundTrip() throws IOException {
+        int[] values = randomInts(LARGE_SIZE);
+        IntStorage loaded = roundTrip(new HeapIntStorage(values.clone()));
+
+        assertEquals(IntStorage.Kind.HEAP, loaded.getKind());
+        assertArrayEquals(values, toArray(loaded));
+    }
+
+    @Test
+    void directIntsRoundTrip() throws IOException {
+        int[] values = randomInts(LARGE_SIZE);
+        IntStorage loaded = roundTrip(BufferIntStorage.direct(values));
+
+        assertEquals(IntStorage.Kind.DIRECT, loaded.getKind());
+        assertArrayEquals(values, toArray(loaded));
+    }
+
+    @Test
+    void mappedIntsRoundTrip() throws IOException {
+        int[] values = randomInts(LARGE_SIZE);
+        Path scratch = Files.createDirectories(directory.resolve("scratch"));
+        IntStorage loaded = roundTrip(BufferIntStorage.mapped(values, scratch));
+
+        assertEquals(IntStorage.Kind.MAPPED, loaded.getKind());
+        assertArrayEquals(values, toArray(loaded));
+    }
+
+    @Test
+    void emptyIntsRoundTrip() throws IOException {
+        IntStorage loaded = roundTrip(new HeapIntStorage(new int[0]));
+
+        assertEquals(0, loaded.length());
+    }
+
+    @Test
+    void stringsRoundTripWithUnicodeAndNulls() throws IOException {
+        String[] values = {"plain", "", null, "naïve café", "日本語", "emoji 🚀", null, "\u0000nul"};
+        Dataset dataset = new Dataset("strings", values, "CUSTOM");
+        SessionFileStore store = openStore();
+        store.saveDataset("session-1", dataset);
+
+        Dataset loaded = openStore().loadDataset(dataset.getId());
+
+        assertEquals("STRING", loaded.getDataType());
+        assertEquals("strings", loaded.getName());
+        assertArrayEquals(values, loaded.getStringData());
+    }
+
+    @Test
+    void describeDatasetsKeepsMetadataPerSession() throws IOException {
+        SessionFileStore store = openStore();
+        Dataset first = new Dataset("first", new int[] {3, 1, 2}, "RANDOM");
+        Dataset second = new Dataset("second", new String[] {"b", "a"}, "SORTED");
+        Dataset other = new Dataset("other", new int[] {7}, "CUSTOM");
+        store.saveDataset("session-1", first);
+        store.saveDataset("session-1", second);
+        store.saveDataset("session-2", other);
+
+        Map<String, List<Dataset>> described = openStore().describeDatasets();
+
+        List<Dataset> session1 = described.get("session-1");
+        assertEquals(2, session1.size());
+        assertEquals(first.getId(), session1.get(0).getId());
+        assertEquals("first", session1.get(0).getName());
+        assertEquals("RANDOM", session1.get(0).getType());
+        assertEquals(3, session1.get(0).getSize());
+        assertEquals(first.getCreatedTimestamp(), session1.get(0).getCreatedTimestamp());
+        assertEquals("STRING", session1.get(1).getDataType());
+        assertEquals(1, described.get("session-2").size());
+    }
+
+    @Test
+    void deletedDatasetIsGoneAfterRestart() throws IOException {
+        SessionFileStore store = openStore();
+        Dataset dataset = new Dataset(new int[] {1, 2, 3}, "SORTED");
+        store.saveDataset("session-1", dataset);
+        store.delete(List.of(dataset.getId()));
+
+        SessionFileStore reopened = openStore();
+
+        assertNull(reopened.loadDataset(dataset.getId()));
+        assertTrue(reopened.describeDatasets().isEmpty());
+    }
+
+    @Test
+    void truncatedIndexKeepsTheRecordsBeforeTheCut() throws IOException {
+        SessionFileStore store = openStore();
+        Dataset kept = new Dataset(new int[] {5, 4, 3}, "REVERSE_SORTED");
+        Dataset lost = new Dataset(new int[] {1, 2}, "SORTED");
+        store.saveDataset("session-1", kept);
+        store.saveDataset("session-1", lost);
+
+        Path index = directory.resolve("index.bin");
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        SessionFileStore reopened = openStore();
+
+        assertArrayEquals(new int[] {5, 4, 3}, toArray(reopened.loadDataset(kept.getId()).getIntStorage()));
+        assertNull(reopened.loadDataset(lost.getId()));
+    }
+
+    @Test
+    void indexWithUnknownFormatIsIgnored() throws IOException {
+        Files.write(directory.resolve("index.bin"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 0, 0, 0, 0});
+
+        assertTrue(openStore().describeDatasets().isEmpty());
+    }
+
+    @Test
+    void datasetFileNotMatchingItsRecordFailsToLoad() throws IOException {
+        SessionFileStore store = openStore();
+        Dataset dataset = new Dataset(new int[] {1, 2, 3, 4}, "CUSTOM");
+        store.saveDataset("session-1", dataset);
+        Files.write(directory.resolve("datasets").resolve(dataset.getId() + ".bin"), new byte[16]);
+
+        assertThrows(IOException.class, () -> openStore().loadDataset(dataset.getId()));
+    }
+
+    @Test
+    void disabledStoreDoesNothing() throws IOException {
+        SessionFileStore store = new SessionFileStore(new ObjectMapper(), "", 0);
+        Dataset dataset = new Dataset(new int[] {1}, "CUSTOM");
+        store.saveDataset("session-1", dataset);
+
+        assertFalse(store.isEnabled());
+        assertNull(store.loadDataset(dataset.getId()));
+    }
+
+    // Helpers
+
+    private SessionFileStore openStore() {
+        return new SessionFileStore(new ObjectMapper(), directory.toString(), 0);
+    }
+
+    /**
+     * Saves INTEGER storage and loads it from a freshly opened store, as after a restart.
+     */
+    private IntStorage roundTrip(IntStorage storage) throws IOException {
+        Dataset dataset = new Dataset(storage, "RANDOM");
+        openStore().saveDataset("session-1", dataset);
+        Dataset loaded = openStore().loadDataset(dataset.getId());
+        assertEquals(storage.length(), loaded.getSize());
+        return loaded.getIntStorage();
+    }
+
+    private static int[] toArray(IntStorage storage) {
+        int[] values = new int[storage.length()];
+        storage.copyTo(0, values, 0, values.length);
+        return values;
+    }
+
+    private static int[] randomInts(int size) {
+        Random random = new Random(42);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,193 @@
+package com.algorithmcomparison.util;
+
+import com.algorithmcomparison.model.GraphDataset;
+import com.algorithmcomparison.model.GraphDataset.GraphType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the CSR graphs built by GraphConverter.
+ *
+ * @author Algorithm Comparison Team
+ * @version 1.0
+ */
+class GraphConverterTest {
+
+    @Test
+    void binarySearchTreeKeepsInsertionOrderWithLeftChildFirst() {
+        int[] array = {50, 30, 70, 20, 40, 70};
+        GraphDataset graph = GraphConverter.convertToBinarySearchTree("source", array);
+
+        assertEquals(0, graph.getRoot());
+        assertArrayEquals(array, graph.getValues());
+        assertArrayEquals(new int[] {1, 2}, children(graph, 0));
+        assertArrayEquals(new int[] {3, 4}, children(graph, 1));
+        assertArrayEquals(new int[] {5}, children(graph, 2)); // Equal value goes right
+        assertEquals(5, graph.getEdgeCount());
+        assertValidSearchTree(graph);
+    }
+
+    @Test
+    void completeBinaryTreeLinksNodeToTwiceItsIndex() {
+        GraphDataset graph = GraphConverter.convertToCompleteBinaryTree("source", new int[] {9, 8, 7, 6, 5, 4});
+
+        assertArrayEquals(new int[] {1, 2}, children(graph, 0));
+        assertArrayEquals(new int[] {3, 4}, children(graph, 1));
+        assertArrayEquals(new int[] {5}, children(graph, 2));
+        assertArrayEquals(new int[0], children(graph, 3));
+        assertEquals(5, graph.getEdgeCount());
+    }
+
+    @Test
+    void linkedListLinksEachNodeToTheNext() {
+        GraphDataset graph = GraphConverter.convertToLinkedList("source", new int[] {3, 1, 2});
+
+        assertArrayEquals(new int[] {1}, children(graph, 0));
+        assertArrayEquals(new int[] {2}, children(graph, 1));
+        assertArrayEquals(new int[0], children(graph, 2));
+        assertEquals(2, graph.getEdgeCount());
+    }
+
+    @Test
+    void singleElementAndEmptyArraysConvert() {
+        for (GraphType type : GraphType.values()) {
+            GraphDataset single = GraphConverter.convert("source", new int[] {42}, type);
+            assertEquals(1, single.getNodeCount(), type.name());
+            assertEquals(0, single.getEdgeCount(), type.name());
+            assertEquals(42, single.getValue(single.getRoot()));
+
+            GraphDataset empty = GraphConverter.convert("source", new int[0], type);
+            assertEquals(0, empty.getNodeCount(), type.name());
+            assertEquals(type, empty.getGraphType());
+        }
+    }
+
+    @Test
+    void conversionDoesNotShareTheSourceArray() {
+        int[] array = {2, 1, 3};
+        GraphDataset graph = GraphConverter.convertToBinarySearchTree("source", array);
+        array[0] = 99;
+
+        assertEquals(2, graph.getValue(0));
+    }
+
+    @Test
+    void reverseEdgesMirrorTheForwardEdges() {
+        GraphDataset graph = GraphConverter.convertToBinarySearchTree("source", new int[] {5, 3, 8, 1, 4, 9});
+        int[] reverseOffsets = graph.getReverseOffsets();
+        int[] reverseSources = graph.getReverseSources();
+
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            for (int child : children(graph, node)) {
+                int[] parents = Arrays.copyOfRange(reverseSources, reverseOffsets[child], reverseOffsets[child + 1]);
+                assertArrayEquals(new int[] {node}, parents);
+            }
+        }
+        assertEquals(0, reverseOffsets[1] - reverseOffsets[0]); // The root has no parent
+    }
+
+    @Test
+    void balancedTreeHasMinimalHeightOnSortedInput() {
+        int n = 1_000;
+        GraphDataset graph = GraphConverter.convertToBalancedBinarySearchTree("source", sortedArray(n));
+
+        assertEquals(10, assertValidSearchTree(graph)); // ceil(log2(1001))
+    }
+
+    @Test
+    void avlTreeStaysBalancedOnSortedInput() {
+        int n = 1_000;
+        GraphDataset graph = GraphConverter.convertToAvlTree("source", sortedArray(n));
+
+        int height = assertValidSearchTree(graph);
+        assertTrue(height <= 1.44 * log2(n + 2), "AVL height " + height);
+        assertTrue(graph.getRoot() != 0, "rotations should move the root");
+        assertArrayEquals(sortedArray(n), graph.getValues()); // Node i still holds array[i]
+    }
+
+    @Test
+    void balancedTreesAreValidOnRandomInputWithDuplicates() {
+        Random random = new Random(3);
+        for (int round = 0; round < 20; round++) {
+            int[] array = new int[1 + random.nextInt(500)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(50);
+            }
+            double limit = 1.44 * log2(array.length + 2);
+
+            assertTrue(assertValidSearchTree(GraphConverter.convertToAvlTree("source", array)) <= limit);
+            int balancedHeight = assertValidSearchTree(
+                GraphConverter.convertToBalancedBinarySearchTree("source", array));
+            assertEquals((int) Math.ceil(log2(array.length + 1)), balancedHeight);
+            assertValidSearchTree(GraphConverter.convertToBinarySearchTree("source", array));
+        }
+    }
+
+    @Test
+    void inconsistentCsrArraysAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new GraphDataset("source", GraphType.LINKED_LIST, new int[2], new int[2], new int[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GraphDataset("source", GraphType.LINKED_LIST, new int[2], new int[] {0, 1, 2}, new int[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> new GraphDataset("source", GraphType.AVL_TREE, new int[1], new int[] {0, 0}, new int[0], 3));
+    }
+
+    // Helpers
+
+    private static int[] sortedArray(int n) {
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+        return array;
+    }
+
+    private static double log2(double x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    private static int[] children(GraphDataset graph, int node) {
+        return Arrays.copyOfRange(graph.getTargets(), graph.getOffsets()[node], graph.getOffsets()[node + 1]);
+    }
+
+    /**
+     * Checks that every node is reached exactly once from the root and that
+     * each subtree respects the search tree bounds. A lone child is taken as
+     * a left child when its value is smaller than its parent's.
+     *
+     * @return The tree height in nodes
+     */
+    static int assertValidSearchTree(GraphDataset graph) {
+        boolean[] seen = new boolean[graph.getNodeCount()];
+        int height = checkSubtree(graph, graph.getRoot(), Long.MIN_VALUE, Long.MAX_VALUE, seen);
+        for (int node = 0; node < seen.length; node++) {
+            assertTrue(seen[node], "node " + node + " is not reachable from the root");
+        }
+        assertEquals(graph.getNodeCount() - 1, graph.getEdgeCount());
+        return height;
+    }
+
+    private static int checkSubtree(GraphDataset graph, int node, long min, long max, boolean[] seen) {
+        assertFalse(seen[node], "node " + node + " is reached twice");
+        seen[node] = true;
+        int value = graph.getValue(node);
+        assertTrue(value >= min && value <= max, "node " + node + " breaks the search tree order");
+
+        int[] children = children(graph, node);
+        assertTrue(children.length <= 2, "node " + node + " has more than two children");
+        int height = 0;
+        for (int i = 0; i < children.length; i++) {
+            int child = children[i];
+            boolean isLeft = children.length == 2 ? i == 0 : graph.getValue(child) < value;
+            height = Math.max(height, isLeft
+                ? checkSubtree(graph, child, min, value, seen)
+                : checkSubtree(graph, child, value, max, seen));
+        }
+        return height + 1;
+    }
+}
@@ -497,7 +497,12 @@ function updateAlgorithmAvailability() {
             'Selection Sort': ['INTEGER', 'STRING'],
             'Insertion Sort': ['INTEGER', 'STRING'],
             'Quick Sort': ['INTEGER', 'STRING'],
+            'Intro Sort': ['INTEGER', 'STRING'],
+            'Dual Pivot Quick Sort': ['INTEGER', 'STRING'],
+            'Parallel Sample Sort': ['INTEGER', 'STRING'],
             'Merge Sort': ['INTEGER', 'STRING'],
+            'Bottom Up Merge Sort': ['INTEGER', 'STRING'],
+            'Parallel Merge Sort': ['INTEGER', 'STRING'],
             'Heap Sort': ['INTEGER'],
             'Shell Sort': ['INTEGER'],
             'Counting Sort': ['INTEGER']
@@ -507,7 +512,8 @@ function updateAlgorithmAvailability() {
             'Binary Search': ['INTEGER', 'STRING'],
             'Trie Search': ['STRING'],
             'Depth First Search': ['INTEGER'],
-            'Breadth First Search': ['INTEGER']
+            'Breadth First Search': ['INTEGER'],
+            'Parallel BFS': ['INTEGER']
         }
     };
     
@@ -796,13 +802,24 @@ async function handleRunBenchmark() {
     }
     
     const dataType = document.getElementById('data-type').value;
+    const datasetSizes = [100, 1000, 5000];
+    const expectedRuns = selectedAlgorithms.length * datasetSizes.length;
+    
+    const section = document.getElementById('benchmark-section');
+    const container = document.getElementById('benchmark-results-container');
+    container.innerHTML = benchmarking.formatStreamingProgress([], expectedRuns);
+    section.style.display = 'block';
     
     try {
-        const report = await benchmarking.runBenchmark(
+        // Render each result as soon as the server streams it
+        const report = await benchmarking.streamBenchmark(
             state.operationType,
             selectedAlgorithms,
-            [100, 1000, 5000],
-            dataType
+            datasetSizes,
+            dataType,
+            (result, results) => {
+                container.innerHTML = benchmarking.formatStreamingProgress(results, expectedRuns);
+            }
         );
         
         state.currentBenchmark = report;
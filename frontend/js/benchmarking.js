@@ -8,7 +8,7 @@ export class Benchmarking {
         this.apiBaseUrl = apiBaseUrl;
     }
 
-    async runBenchmark(operationType, algorithmNames, datasetSizes, dataType = 'INTEGER') {
+    buildRequestBody(operationType, algorithmNames, datasetSizes, dataType) {
         const requestBody = {
             operationType,
             algorithmNames,
@@ -22,6 +22,12 @@ export class Benchmarking {
             requestBody.targetString = 'apple'; // Default string target
         }
         
+        return requestBody;
+    }
+
+    async runBenchmark(operationType, algorithmNames, datasetSizes, dataType = 'INTEGER') {
+        const requestBody = this.buildRequestBody(operationType, algorithmNames, datasetSizes, dataType);
+        
         const response = await fetch(`${this.apiBaseUrl}/benchmark/run`, {
             method: 'POST',
             headers: { 'Content-Type': 'application/json' },
@@ -36,6 +42,142 @@ export class Benchmarking {
         return await response.json();
     }
 
+    /**
+     * Runs a benchmark over Server-Sent Events, calling onResult for each
+     * algorithm/dataset result as soon as the server finishes it.
+     * EventSource only supports GET, so the stream is read from fetch directly.
+     * Resolves with the full report (summary + streamed results).
+     */
+    async streamBenchmark(operationType, algorithmNames, datasetSizes, dataType = 'INTEGER', onResult = () => {}) {
+        const requestBody = this.buildRequestBody(operationType, algorithmNames, datasetSizes, dataType);
+        
+        const response = await fetch(`${this.apiBaseUrl}/benchmark/stream`, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+                'Accept': 'text/event-stream'
+            },
+            credentials: 'include', // Enable cookies for session management
+            body: JSON.stringify(requestBody)
+        });
+        
+        if (!response.ok || !response.body) {
+            throw new Error('Failed to run benchmark');
+        }
+        
+        const results = [];
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        
+        while (true) {
+            const { value, done } = await reader.read();
+            if (done) {
+                break;
+            }
+            buffer += decoder.decode(value, { stream: true });
+            
+            // Events are separated by a blank line
+            let boundary;
+            while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+                const event = this.parseEvent(buffer.slice(0, boundary));
+                buffer = buffer.slice(boundary + 2);
+                
+                if (event.name === 'result') {
+                    results.push(event.data);
+                    onResult(event.data, results);
+                } else if (event.name === 'complete') {
+                    reader.cancel();
+                    return { ...event.data, id: event.data.reportId, results };
+                } else if (event.name === 'error') {
+                    reader.cancel();
+                    throw new Error(event.data.message || 'Benchmark failed');
+                }
+            }
+        }
+        
+        throw new Error('Benchmark stream ended unexpectedly');
+    }
+
+    parseEvent(rawEvent) {
+        let name = 'message';
+        const dataLines = [];
+        
+        rawEvent.split('\n').forEach(line => {
+            if (line.startsWith('event:')) {
+                name = line.slice(6).trim();
+            } else if (line.startsWith('data:')) {
+                dataLines.push(line.slice(5));
+            }
+        });
+        
+        const rawData = dataLines.join('\n');
+        let data = rawData;
+        try {
+            data = JSON.parse(rawData);
+        } catch (e) {
+            // Not JSON, keep raw text
+        }
+        return { name, data };
+    }
+
+    formatStreamingProgress(results, expectedRuns) {
+        let html = `
+            <div class="benchmark-info">
+                <h3>Benchmark running...</h3>
+                <div class="benchmark-metadata">
+                    <p><strong>Completed Runs:</strong> ${results.length} / ${expectedRuns}</p>
+                </div>
+            </div>
+            <div class="benchmark-stats">
+        `;
+        
+        results.forEach(result => {
+            html += `
+                <div class="stat-card">
+                    <h4>${result.algorithmName}</h4>
+                    <div class="stat-row">
+                        <span>Dataset Size:</span>
+                        <span>${result.datasetSize}</span>
+                    </div>
+                    <div class="stat-row">
+                        <span>Time:</span>
+                        <span>${result.executionTimeMillis.toFixed(3)} ms</span>
+                    </div>
+                    <div class="stat-row">
+                        <span>Comparisons:</span>
+                        <span>${result.comparisonCount}</span>
+                    </div>
+                    ${this.formatMeasurement(result.measurement)}
+                </div>
+            `;
+        });
+        
+        html += '</div>';
+        return html;
+    }
+
+    formatMeasurement(measurement) {
+        // Only present when the benchmark ran with warmup or multiple iterations
+        if (!measurement) {
+            return '';
+        }
+        return `
+            <div class="stat-row">
+                <span>Mean \u00b1 SD:</span>
+                <span>${measurement.meanTimeMillis.toFixed(3)} \u00b1 ${measurement.stdDevMillis.toFixed(3)} ms</span>
+            </div>
+            <div class="stat-row">
+                <span>p90 / p99:</span>
+                <span>${measurement.p90TimeMillis.toFixed(3)} / ${measurement.p99TimeMillis.toFixed(3)} ms</span>
+            </div>
+            <div class="stat-row">
+                <span>95% CI:</span>
+                <span>${measurement.confidenceLowerMillis.toFixed(3)} \u2013 ${measurement.confidenceUpperMillis.toFixed(3)} ms</span>
+            </div>
+        `;
+    }
+
     formatBenchmarkReport(report) {
         // Extract data type from report name or dataset names
         let dataType = 'N/A';
@@ -114,12 +256,64 @@ export class Benchmarking {
                         <span>Avg Comparisons:</span>
                         <span>${stats.avgComparisons.toFixed(0)}</span>
                     </div>
+                    <div class="stat-row">
+                        <span>Avg Swaps:</span>
+                        <span>${stats.avgSwaps.toFixed(0)}</span>
+                    </div>
                 </div>
             `;
         });
         
         html += '</div>';
+        html += this.formatParallelSpeedup(report.results || []);
         return html;
     }
+
+    formatParallelSpeedup(results) {
+        // Speedup of each parallel run over its sequential baseline on the same dataset;
+        // efficiency is speedup divided by the threads available
+        const rows = results
+            .filter(result => result.parallelism && result.sequentialBaseline)
+            .map(result => {
+                const baseline = results.find(other =>
+                    other.datasetId === result.datasetId &&
+                    other.algorithmName.startsWith(result.sequentialBaseline + ' ('));
+                if (!baseline || !result.executionTimeMillis) {
+                    return null;
+                }
+                const speedup = baseline.executionTimeMillis / result.executionTimeMillis;
+                return `
+                    <tr>
+                        <td>${result.algorithmName}</td>
+                        <td>${result.datasetSize}</td>
+                        <td>${(result.threadStatistics || []).length} / ${result.parallelism}</td>
+                        <td>${speedup.toFixed(2)}x</td>
+                        <td>${(100 * speedup / result.parallelism).toFixed(1)}%</td>
+                    </tr>
+                `;
+            })
+            .filter(row => row !== null);
+        
+        if (rows.length === 0) {
+            return '';
+        }
+        return `
+            <div class="benchmark-info">
+                <h3>Parallel Speedup</h3>
+                <table class="results-table">
+                    <thead>
+                        <tr>
+                            <th>Algorithm</th>
+                            <th>Size</th>
+                            <th>Threads Used / Available</th>
+                            <th>Speedup</th>
+                            <th>Efficiency</th>
+                        </tr>
+                    </thead>
+                    <tbody>${rows.join('')}</tbody>
+                </table>
+            </div>
+        `;
+    }
 }
 
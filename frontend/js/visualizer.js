@@ -5,11 +5,143 @@
 
 import { API_BASE_URL } from './app.js';
 
+// Steps fetched per request, and pages kept in memory
+const STEP_PAGE_SIZE = 500;
+const MAX_CACHED_PAGES = 8;
+
+/**
+ * Fetches and reconstructs visualization steps from /algorithms/visualize/steps.
+ *
+ * Steps are requested in pages as playback reaches them, and the next page is
+ * prefetched so playback does not stall at page boundaries. Each page is
+ * delta-encoded: its initialState is the array just before its first step,
+ * each step carries only the changed elements, and some steps carry a full
+ * keyframe. Stepping forward applies one delta to the cached state; any
+ * other jump replays from the nearest keyframe (or page start) before it.
+ */
+class StepTrace {
+    constructor(requestBody) {
+        this.requestBody = requestBody;
+        this.pages = new Map(); // page index -> Promise of page
+        this.length = 0;
+        this.cursorPage = -1;
+        this.cursor = -1;
+        this.state = null;
+    }
+
+    async open() {
+        const firstPage = await this.loadPage(0);
+        this.length = firstPage.totalSteps;
+    }
+
+    loadPage(pageIndex) {
+        if (!this.pages.has(pageIndex)) {
+            const promise = this.fetchPage(pageIndex * STEP_PAGE_SIZE);
+            promise.catch(() => this.pages.delete(pageIndex));
+            this.pages.set(pageIndex, promise);
+
+            // Drop the oldest page when the cache is full
+            if (this.pages.size > MAX_CACHED_PAGES) {
+                const oldest = this.pages.keys().next().value;
+                this.pages.delete(oldest);
+                if (oldest === this.cursorPage) this.cursorPage = -1;
+            }
+        }
+        return this.pages.get(pageIndex);
+    }
+
+    async fetchPage(offset) {
+        const response = await fetch(`${API_BASE_URL}/algorithms/visualize/steps`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            credentials: 'include', // Enable cookies for session management
+            body: JSON.stringify({ ...this.requestBody, offset, limit: STEP_PAGE_SIZE })
+        });
+
+        if (!response.ok) {
+            const errorData = await response.json().catch(() => ({}));
+            throw new Error(errorData.error || 'Failed to load visualization');
+        }
+        return response.json();
+    }
+
+    async get(index) {
+        if (index < 0 || index >= this.length) return undefined;
+
+        const pageIndex = Math.floor(index / STEP_PAGE_SIZE);
+        const page = await this.loadPage(pageIndex);
+
+        // Prefetch the next page while this one plays
+        if ((pageIndex + 1) * STEP_PAGE_SIZE < this.length) {
+            this.loadPage(pageIndex + 1).catch(() => {});
+        }
+
+        const deltas = page.steps;
+        const local = index - page.firstStep;
+
+        // Replay from the nearest keyframe unless we can just step forward
+        const keyframeIndex = this.findKeyframe(deltas, local);
+        if (this.cursorPage !== pageIndex || this.cursor < keyframeIndex || local < this.cursor) {
+            const keyframe = keyframeIndex >= 0 ? deltas[keyframeIndex].keyframe : page.initialState;
+            this.state = keyframe.slice();
+            this.cursorPage = pageIndex;
+            this.cursor = keyframeIndex;
+        }
+        while (this.cursor < local) {
+            this.apply(deltas[++this.cursor]);
+        }
+        return this.toStep(deltas[local]);
+    }
+
+    findKeyframe(deltas, local) {
+        let i = local;
+        while (i >= 0 && !deltas[i].keyframe) i--;
+        return i;
+    }
+
+    apply(delta) {
+        if (delta.keyframe) {
+            this.state = delta.keyframe.slice();
+            return;
+        }
+        const indices = delta.changedIndices || [];
+        for (let i = 0; i < indices.length; i++) {
+            this.state[indices[i]] = delta.changedValues[i];
+        }
+    }
+
+    toStep(delta) {
+        const highlightedIndices = (delta.highlightedIndices || []).slice();
+        const colors = (delta.colors || []).slice();
+
+        // Inactive parts of a region step are implicitly grey
+        if (delta.activeLeft !== undefined && delta.activeRight !== undefined) {
+            for (let i = 0; i < this.state.length; i++) {
+                if (i < delta.activeLeft || i > delta.activeRight) {
+                    highlightedIndices.push(i);
+                    colors.push('GREY');
+                }
+            }
+        }
+
+        return {
+            stepNumber: delta.stepNumber,
+            arrayState: this.state.slice(),
+            operation: delta.operation,
+            description: delta.description,
+            highlightedIndices,
+            colors,
+            activeLeft: delta.activeLeft,
+            activeRight: delta.activeRight
+        };
+    }
+}
+
 export class Visualizer {
     constructor() {
         this.canvas = null;
         this.ctx = null;
-        this.steps = [];
+        this.steps = new StepTrace({});
         this.currentStep = 0;
         this.isPlaying = false;
         this.speed = 5;
@@ -18,7 +150,7 @@ export class Visualizer {
         // All sorting algorithms
         this.sortingAlgorithms = [
             'Bubble Sort', 'Selection Sort', 'Insertion Sort', 'Merge Sort',
-            'Quick Sort', 'Heap Sort', 'Shell Sort', 'Counting Sort'
+            'Bottom Up Merge Sort', 'Parallel Merge Sort', 'Quick Sort', 'Intro Sort', 'Dual Pivot Quick Sort', 'Parallel Sample Sort', 'Heap Sort', 'Shell Sort', 'Counting Sort'
         ];
         
         // All searching algorithms
@@ -253,7 +385,7 @@ export class Visualizer {
         const sizeMatch = datasetText.match(/\((\d+)\s+elements?\)/);
         if (sizeMatch) {
             const datasetSize = parseInt(sizeMatch[1]);
-            const maxSize = 100; // Match backend limit
+            const maxSize = 1000; // Match backend limit
             
             if (datasetSize > maxSize) {
                 alert(
@@ -290,21 +422,10 @@ export class Visualizer {
                 requestBody.sortOrder = sortOrder;
             }
             
-            // Call backend visualization API
-            const response = await fetch(`${API_BASE_URL}/algorithms/visualize`, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                credentials: 'include', // Enable cookies for session management
-                body: JSON.stringify(requestBody)
-            });
-            
-            if (!response.ok) {
-                const errorData = await response.json().catch(() => ({}));
-                const errorMessage = errorData.error || 'Failed to load visualization';
-                throw new Error(errorMessage);
-            }
-            
-            this.steps = await response.json();
+            // Open the step trace; only the first page is fetched up front
+            const steps = new StepTrace(requestBody);
+            await steps.open();
+            this.steps = steps;
             this.currentStep = 0;
             
             // Show the player, hide setup
@@ -312,7 +433,7 @@ export class Visualizer {
             document.getElementById('visualization-player').style.display = 'block';
             
             this.updateStepCounter();
-            this.drawStep(this.steps[0]);
+            await this.showStep(0);
             this.updateButtonStates(); // Initialize button states
             
         } catch (error) {
@@ -689,16 +810,34 @@ export class Visualizer {
             this.animationTimeout = null;
         }
         if (this.steps.length > 0) {
-            this.drawStep(this.steps[0]);
+            this.showStep(0);
         }
         this.updateButtonStates();
     }
 
+    /**
+     * Fetches a step (loading its page if needed) and draws it, unless the
+     * user has moved to another step in the meantime.
+     */
+    async showStep(index) {
+        try {
+            const step = await this.steps.get(index);
+            if (index === this.currentStep) {
+                this.drawStep(step);
+            }
+        } catch (error) {
+            console.error('Error loading visualization step:', error);
+            this.pause();
+            const desc = document.getElementById('visualization-description');
+            if (desc) desc.textContent = 'Error loading step: ' + error.message;
+        }
+    }
+
     stepForward() {
         this.pause();
         if (this.currentStep < this.steps.length - 1) {
             this.currentStep++;
-            this.drawStep(this.steps[this.currentStep]);
+            this.showStep(this.currentStep);
         }
     }
 
@@ -706,7 +845,7 @@ export class Visualizer {
         this.pause();
         if (this.currentStep > 0) {
             this.currentStep--;
-            this.drawStep(this.steps[this.currentStep]);
+            this.showStep(this.currentStep);
         }
     }
 
@@ -718,14 +857,15 @@ export class Visualizer {
         this.loadDatasetOptions();
     }
 
-    animate() {
+    async animate() {
         if (!this.isPlaying || this.currentStep >= this.steps.length) {
             this.isPlaying = false;
             this.updateButtonStates();
             return;
         }
         
-        this.drawStep(this.steps[this.currentStep]);
+        await this.showStep(this.currentStep);
+        if (!this.isPlaying) return; // Paused while the step was loading
         this.currentStep++;
         
         // If we reached the end, stop